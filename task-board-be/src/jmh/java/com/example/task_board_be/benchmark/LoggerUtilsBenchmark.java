@@ -0,0 +1,65 @@
+package com.example.task_board_be.benchmark;
+
+import ch.qos.logback.classic.Level;
+import com.example.task_board_be.utils.LoggerUtils;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+
+/// Confronto tra la vecchia risoluzione del chiamante (new Exception().getStackTrace()), un lookup con StackWalker
+/// e l'implementazione attuale di LoggerUtils (logger e metodo passati dal chiamante), con logger attivo e disattivato
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class LoggerUtilsBenchmark {
+    private static final StackWalker WALKER = StackWalker.getInstance();
+
+    private final Logger logger = LoggerFactory.getLogger(LoggerUtilsBenchmark.class);
+
+    @Param({"INFO", "OFF"})
+    private String level;
+
+    @Setup
+    public void setUp() {
+        ((ch.qos.logback.classic.Logger) logger).setLevel(Level.toLevel(level));
+    }
+
+    @Benchmark
+    public String legacyStackTrace() {
+        return legacyStandardLoggerMsg("start", false);
+    }
+
+    @Benchmark
+    public String stackWalker() {
+        if (!logger.isInfoEnabled()) return "";
+        StackWalker.StackFrame frame = WALKER.walk(frames -> frames.skip(1).findFirst()).orElseThrow();
+        return "[" + frame.getClassName() + "] - [" + frame.getMethodName() + "] - [START]";
+    }
+
+    @Benchmark
+    public String current() {
+        return LoggerUtils.getStandardLoggerMsg(logger, "current", "start", false);
+    }
+
+    /// Copia dell'implementazione precedente, tenuta solo come baseline
+    private static String legacyStandardLoggerMsg(String loggerPosition, boolean isExceptionLogger) {
+        StackTraceElement element = new Exception().getStackTrace()[2];
+
+        String fullClassName = element.getClassName();
+        String simpleClassName = fullClassName.substring(fullClassName.lastIndexOf(".") + 1);
+        String loggerMsg = "[" + simpleClassName + "] - [" + element.getMethodName() + "]";
+
+        if (isExceptionLogger) loggerMsg += " - [EXCEPTION]";
+
+        return switch (loggerPosition.toUpperCase()) {
+            case "START" -> loggerMsg + " - [START]";
+            case "END" -> loggerMsg + " - [END]";
+            case "PROGRESS" -> loggerMsg + " - [PROGRESS]";
+            default -> loggerMsg;
+        };
+    }
+}
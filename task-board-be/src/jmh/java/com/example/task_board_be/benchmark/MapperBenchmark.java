@@ -0,0 +1,86 @@
+package com.example.task_board_be.benchmark;
+
+import com.example.task_board_be.enums.task.TaskIcon;
+import com.example.task_board_be.enums.task.TaskStatus;
+import com.example.task_board_be.mapping.mapper.BoardMapper;
+import com.example.task_board_be.mapping.mapper.TaskMapper;
+import com.example.task_board_be.pojo.entity.Board;
+import com.example.task_board_be.pojo.entity.Task;
+import com.example.task_board_be.pojo.model.BoardModel;
+import com.example.task_board_be.pojo.model.TaskModel;
+import com.example.task_board_be.pojo.projection.TaskView;
+import com.example.task_board_be.pojo.resource.BoardResource;
+import com.example.task_board_be.pojo.resource.TaskResource;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/// Percorso di risposta del dettaglio board (entity -> model -> resource) e delle liste task,
+/// con board da 10, 1k e 50k task
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class MapperBenchmark {
+    @Param({"10", "1000", "50000"})
+    private int taskCount;
+
+    private final TaskMapper taskMapper = new TaskMapper();
+    private final BoardMapper boardMapper = new BoardMapper(taskMapper);
+
+    private Board board;
+    private List<Task> taskList;
+    private BoardModel boardModel;
+    private List<TaskView> taskViewList;
+
+    @Setup
+    public void setUp() {
+        TaskStatus[] statusArr = TaskStatus.values();
+        TaskIcon[] iconArr = TaskIcon.values();
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+        board = new Board(1L, "New Board", "Board di benchmark");
+        taskViewList = new ArrayList<>(taskCount);
+
+        for (int i = 0; i < taskCount; i++) {
+            long id = i + 1L;
+            String name = "Task " + id;
+            String description = "Descrizione della task " + id;
+            TaskStatus status = statusArr[i % statusArr.length];
+            TaskIcon icon = iconArr[i % iconArr.length];
+
+            board.addTask(new Task(id, name, description, status, icon));
+            taskViewList.add(new TaskView(id, name, description, status, icon, board.getId(), createdAt.plusSeconds(i)));
+        }
+
+        taskList = board.getTaskList();
+        boardModel = boardMapper.toModelWithCascade(board);
+    }
+
+    @Benchmark
+    public BoardModel boardToModelWithCascade() {
+        return boardMapper.toModelWithCascade(board);
+    }
+
+    /// Variante del dettaglio board con le task attive lette da query dedicata
+    @Benchmark
+    public BoardModel boardToModelWithTaskModels() {
+        return boardMapper.toModelWithCascade(board, taskMapper.toModelList(taskList));
+    }
+
+    @Benchmark
+    public BoardResource boardModelToResource() {
+        return boardMapper.toResource(boardModel);
+    }
+
+    @Benchmark
+    public List<TaskResource> taskViewsToResources() {
+        List<TaskResource> resourceList = new ArrayList<>(taskViewList.size());
+        for (TaskView taskView : taskViewList) resourceList.add(taskMapper.toResource(taskView));
+        return resourceList;
+    }
+}
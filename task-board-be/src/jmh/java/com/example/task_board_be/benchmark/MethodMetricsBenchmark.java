@@ -0,0 +1,47 @@
+package com.example.task_board_be.benchmark;
+
+import com.example.task_board_be.metrics.MethodMetricsInterceptor;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.aop.framework.ProxyFactory;
+
+import java.util.concurrent.TimeUnit;
+
+/// Costo per chiamata di MethodMetricsInterceptor (timer con istogramma Prometheus) rispetto allo stesso proxy AOP
+/// senza l'interceptor: la differenza deve restare sotto il microsecondo
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class MethodMetricsBenchmark {
+    private Target plain;
+    private Target timed;
+
+    @Setup
+    public void setUp() {
+        plain = (Target) new ProxyFactory(new Target()).getProxy();
+
+        PrometheusMeterRegistry registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        ProxyFactory factory = new ProxyFactory(new Target());
+        factory.addAdvice(new MethodMetricsInterceptor(() -> registry, MethodMetricsInterceptor.SERVICE_METRIC));
+        timed = (Target) factory.getProxy();
+    }
+
+    @Benchmark
+    public long proxyOnly() {
+        return plain.work(42L);
+    }
+
+    @Benchmark
+    public long proxyWithMetrics() {
+        return timed.work(42L);
+    }
+
+    public static class Target {
+        public long work(long value) {
+            return value * 31;
+        }
+    }
+}
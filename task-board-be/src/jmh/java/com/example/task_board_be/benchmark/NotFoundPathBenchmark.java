@@ -0,0 +1,62 @@
+package com.example.task_board_be.benchmark;
+
+import com.example.task_board_be.exception.custom.NotFoundException;
+import com.example.task_board_be.pojo.resource.ErrorResource;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.concurrent.TimeUnit;
+
+/// Percorso 404: eccezione lanciata sotto uno stack di profondità paragonabile a quello di Tomcat + Spring MVC + AOP,
+/// raccolta e trasformata nella stessa ErrorResource di GlobalExceptionHandler (log esclusi, uguali nei due casi).
+/// Confronto tra la NotFoundException con stack trace (copia della versione precedente) e quella attuale senza stack
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class NotFoundPathBenchmark {
+    @Param({"20", "150"})
+    private int depth;
+
+    @Benchmark
+    public ResponseEntity<ErrorResource> legacyWithStackTrace() {
+        try {
+            throwAt(depth, true);
+            return null;
+        } catch (LegacyNotFoundException ex) {
+            return notFound(ex);
+        }
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResource> stackless() {
+        try {
+            throwAt(depth, false);
+            return null;
+        } catch (NotFoundException ex) {
+            return notFound(ex);
+        }
+    }
+
+    private static ResponseEntity<ErrorResource> notFound(RuntimeException ex) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new ErrorResource(404, ex.getMessage()));
+    }
+
+    private static void throwAt(int remaining, boolean legacy) {
+        if (remaining > 0) {
+            throwAt(remaining - 1, legacy);
+            return;
+        }
+        if (legacy) throw new LegacyNotFoundException("board", 404L);
+        throw new NotFoundException("board", 404L);
+    }
+
+    /// Copia della versione precedente, tenuta solo come baseline
+    private static class LegacyNotFoundException extends RuntimeException {
+        LegacyNotFoundException(String resource, Object id) {
+            super(resource + " not found: id=" + id);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.task_board_be.benchmark;
+
+import com.example.task_board_be.pojo.entity.Board;
+import com.example.task_board_be.pojo.entity.Task;
+import com.example.task_board_be.pojo.entity.Tombstone;
+import com.example.task_board_be.repo.search.LikeSearchEngine;
+import com.example.task_board_be.repo.search.TextSearchEngine;
+import com.example.task_board_be.repo.search.TrigramSearchEngine;
+import com.example.task_board_be.repo.spec.BoardSpecifications;
+import com.example.task_board_be.repo.spec.TaskSpecifications;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/// Costruzione delle Specification delle liste e traduzione in Predicate Criteria di Hibernate,
+/// senza database: il SessionFactory su H2 serve solo al metamodello
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class SpecificationBenchmark {
+    @Param({"", "release notes"})
+    private String searchText;
+
+    @Param({"like", "trigram"})
+    private String engine;
+
+    private SessionFactory sessionFactory;
+    private HibernateCriteriaBuilder cb;
+    private TextSearchEngine searchEngine;
+
+    @Setup
+    public void setUp() {
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(Board.class)
+                .addAnnotatedClass(Task.class)
+                .addAnnotatedClass(Tombstone.class)
+                .setProperty("hibernate.connection.url", "jdbc:h2:mem:jmh")
+                .setProperty("hibernate.hbm2ddl.auto", "none")
+                .buildSessionFactory();
+        cb = sessionFactory.getCriteriaBuilder();
+        searchEngine = engine.equals("trigram") ? new TrigramSearchEngine() : new LikeSearchEngine();
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public Predicate tasksOfBoard() {
+        CriteriaQuery<Task> cq = cb.createQuery(Task.class);
+        Root<Task> root = cq.from(Task.class);
+
+        return TaskSpecifications
+                .filterTasksOfBoard(1L, searchEngine.matches(searchText), false)
+                .toPredicate(root, cq, cb);
+    }
+
+    @Benchmark
+    public Predicate boards() {
+        CriteriaQuery<Board> cq = cb.createQuery(Board.class);
+        Root<Board> root = cq.from(Board.class);
+
+        return BoardSpecifications
+                .filterBoards(searchEngine.matches(searchText), false)
+                .toPredicate(root, cq, cb);
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.task_board_be.benchmark;
+
+import com.example.task_board_be.mapping.assembler.TaskAssembler;
+import com.example.task_board_be.pojo.model.TaskModel;
+import com.example.task_board_be.pojo.request.CreateTaskRequest;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/// Parsing di status e icona (parseStatusOrNone/parseIconOrNone) su creazioni in blocco da 10, 1k e 50k task.
+/// mix: valori esatti, valori da normalizzare, valori non validi (ricadono su NONE passando da un'eccezione) e vuoti
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class TaskAssemblerBenchmark {
+    private static final String[][] STATUS_ICON_MIX = {
+            {"TODO", "BUG"},
+            {"in_progress", "feature"},
+            {" Done ", "Bug"},
+            {"not-a-status", "not-an-icon"},
+            {"", null}
+    };
+
+    @Param({"10", "1000", "50000"})
+    private int taskCount;
+
+    @Param({"mixed", "valid", "invalid"})
+    private String payload;
+
+    private final TaskAssembler assembler = new TaskAssembler();
+
+    private List<CreateTaskRequest> requestList;
+
+    @Setup
+    public void setUp() {
+        requestList = new ArrayList<>(taskCount);
+
+        for (int i = 0; i < taskCount; i++) {
+            String[] statusIcon = switch (payload) {
+                case "valid" -> STATUS_ICON_MIX[0];
+                case "invalid" -> STATUS_ICON_MIX[3];
+                default -> STATUS_ICON_MIX[i % STATUS_ICON_MIX.length];
+            };
+
+            requestList.add(new CreateTaskRequest("Task " + i, "Descrizione " + i, statusIcon[0], statusIcon[1], 1L));
+        }
+    }
+
+    @Benchmark
+    public List<TaskModel> assembleCreateList() {
+        List<TaskModel> modelList = new ArrayList<>(requestList.size());
+        for (CreateTaskRequest request : requestList) modelList.add(assembler.assembleModel(request));
+        return modelList;
+    }
+}
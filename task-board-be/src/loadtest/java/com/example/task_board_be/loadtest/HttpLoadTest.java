@@ -0,0 +1,284 @@
+package com.example.task_board_be.loadtest;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/// Load test end-to-end sulle API di board e task: seed via endpoint bulk, poi per ogni scenario warmup e più
+/// finestre misurate con worker a ciclo chiuso. La mediana di p50/p99/throughput delle finestre finisce in
+/// target/loadtest-result-<mode>.json e viene confrontata con src/loadtest/baseline/<mode>.json (mode = platform | virtual)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        // i log per richiesta misurerebbero la console, non l'applicazione
+        "spring.jpa.show-sql=false",
+        "logging.level.com.example.task_board_be=WARN",
+        "logging.level.org.springframework.web=WARN",
+        "logging.level.org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping=WARN"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+// ordine fisso: ogni scenario parte dallo stato (e dal JIT) lasciato dal precedente
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class HttpLoadTest {
+    private static final LoadTestSettings SETTINGS = LoadTestSettings.fromSystemProperties();
+    private static final int SEED_CHUNK_SIZE = 10_000;
+    private static final int BULK_ID_COUNT = 100;
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    private final Map<String, ScenarioResult> resultMap = new LinkedHashMap<>();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private long[] boardIdArr;
+    private long[] taskIdArr;
+    private final Map<Long, long[]> taskIdsByBoard = new HashMap<>();
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.threads.virtual.enabled", SETTINGS::virtualThreads);
+
+        if (SETTINGS.datasourceUrl() != null) {
+            registry.add("spring.datasource.url", SETTINGS::datasourceUrl);
+        } else {
+            // stand-in embedded: schema da Hibernate, le migrazioni sono solo per PostgreSQL
+            registry.add("spring.datasource.url", () -> "jdbc:h2:mem:loadtest;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+            registry.add("spring.datasource.driver-class-name", () -> "org.h2.Driver");
+            registry.add("spring.datasource.username", () -> "sa");
+            registry.add("spring.datasource.password", () -> "");
+            registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+            registry.add("spring.flyway.enabled", () -> false);
+        }
+    }
+
+    @BeforeAll
+    void seed() throws Exception {
+        logger.warn("Load test [{}]: seed di {} board x {} task", SETTINGS.mode(), SETTINGS.boards(), SETTINGS.tasksPerBoard());
+
+        for (int from = 0; from < SETTINGS.boards(); from += SEED_CHUNK_SIZE) {
+            StringJoiner body = new StringJoiner(",", "[", "]");
+            for (int i = from; i < Math.min(from + SEED_CHUNK_SIZE, SETTINGS.boards()); i++) {
+                body.add("{\"name\":\"Board " + i + "\",\"description\":\"Board di load test " + i + "\"}");
+            }
+            expectOk(send(post("/boards/bulk", body.toString(), "application/json")));
+        }
+
+        boardIdArr = jdbcTemplate.queryForList("select id from board order by id", Long.class)
+                .stream().mapToLong(Long::longValue).toArray();
+
+        StringBuilder ndjson = new StringBuilder();
+        int pending = 0;
+        for (long boardId : boardIdArr) {
+            for (int i = 0; i < SETTINGS.tasksPerBoard(); i++) {
+                ndjson.append("{\"name\":\"Task ").append(i).append("\",\"description\":\"Task di load test\",")
+                        .append("\"status\":\"TODO\",\"icon\":\"BUG\",\"boardId\":").append(boardId).append("}\n");
+                if (++pending == SEED_CHUNK_SIZE) {
+                    expectOk(send(post("/tasks/bulk", ndjson.toString(), "application/x-ndjson")));
+                    ndjson.setLength(0);
+                    pending = 0;
+                }
+            }
+        }
+        if (pending > 0) expectOk(send(post("/tasks/bulk", ndjson.toString(), "application/x-ndjson")));
+
+        Map<Long, List<Long>> grouped = new HashMap<>();
+        List<Long> taskIdList = new ArrayList<>();
+        jdbcTemplate.query("select id, board_id from task order by id", rs -> {
+            taskIdList.add(rs.getLong(1));
+            grouped.computeIfAbsent(rs.getLong(2), k -> new ArrayList<>()).add(rs.getLong(1));
+        });
+        taskIdArr = taskIdList.stream().mapToLong(Long::longValue).toArray();
+        grouped.forEach((boardId, idList) -> taskIdsByBoard.put(boardId, idList.stream().mapToLong(Long::longValue).toArray()));
+
+        assertEquals(SETTINGS.boards(), boardIdArr.length);
+        assertEquals((long) SETTINGS.boards() * SETTINGS.tasksPerBoard(), taskIdArr.length);
+    }
+
+    @Test
+    @Order(1)
+    void pageScan() throws Exception {
+        int boardPages = Math.max(1, SETTINGS.boards() / 20);
+        int taskPages = Math.max(1, SETTINGS.tasksPerBoard() / 50);
+
+        run("page-scan", (worker, iteration, random) -> switch ((int) (iteration % 3)) {
+            case 0 -> get("/boards?page=" + random.nextInt(boardPages) + "&size=20");
+            case 1 -> get("/tasks?boardId=" + randomBoard(random) + "&page=" + random.nextInt(taskPages) + "&size=50");
+            default -> get("/tasks?boardId=" + randomBoard(random) + "&withTotal=false&page=" + random.nextInt(taskPages) + "&size=50");
+        });
+    }
+
+    @Test
+    @Order(2)
+    void detailRead() throws Exception {
+        run("detail-read", (worker, iteration, random) -> (iteration % 2 == 0)
+                ? get("/boards/" + randomBoard(random))
+                : get("/tasks/" + randomTask(random)));
+    }
+
+    @Test
+    @Order(3)
+    void mixedReadWrite() throws Exception {
+        run("mixed-read-write", (worker, iteration, random) -> {
+            int dice = random.nextInt(10);
+            if (dice < 5) return get("/tasks/" + randomTask(random));
+            if (dice < 7) return get("/tasks?boardId=" + randomBoard(random) + "&size=20");
+            if (dice < 9) {
+                return put("/tasks/" + randomTask(random),
+                        "{\"name\":\"Task " + iteration + "\",\"description\":\"aggiornata\",\"status\":\"IN_PROGRESS\",\"icon\":\"FEATURE\"}");
+            }
+            return post("/tasks", "{\"name\":\"Nuova " + iteration + "\",\"description\":\"creata\",\"status\":\"TODO\"," +
+                                  "\"icon\":\"BUG\",\"boardId\":" + randomBoard(random) + "}", "application/json");
+        });
+    }
+
+    /// Ogni worker alterna archive e restore sulle task della propria board
+    @Test
+    @Order(4)
+    void bulkArchiveRestore() throws Exception {
+        run("bulk-archive-restore", (worker, iteration, random) -> {
+            long[] idArr = taskIdsByBoard.get(boardIdArr[worker % boardIdArr.length]);
+            StringJoiner idList = new StringJoiner(",", "{\"idList\":[", "]}");
+            for (int i = 0; i < Math.min(BULK_ID_COUNT, idArr.length); i++) idList.add(String.valueOf(idArr[i]));
+
+            return post((iteration % 2 == 0) ? "/tasks/archive" : "/tasks/restore", idList.toString(), "application/json");
+        });
+    }
+
+    @AfterAll
+    void compareWithBaseline() throws Exception {
+        LoadTestBaseline.write(SETTINGS.resultFile(), resultMap);
+
+        if (SETTINGS.updateBaseline()) {
+            LoadTestBaseline.write(SETTINGS.baselineFile(), resultMap);
+            logger.warn("Baseline scritta in {}", SETTINGS.baselineFile());
+            return;
+        }
+
+        // una modalità senza baseline committata non deve passare in silenzio scrivendosene una nuova
+        Map<String, ScenarioResult> baselineMap = LoadTestBaseline.read(SETTINGS.baselineFile());
+        assertFalse(baselineMap.isEmpty(), "Nessuna baseline per la modalità " + SETTINGS.mode() + " in " +
+                                           SETTINGS.baselineFile() + ": risultati in " + SETTINGS.resultFile() +
+                                           ", rieseguire con -Dloadtest.update-baseline=true per crearla");
+
+        List<String> regressionList = LoadTestBaseline.regressions(baselineMap, resultMap, SETTINGS.threshold());
+        assertTrue(regressionList.isEmpty(), "Regressioni oltre il " + (int) (SETTINGS.threshold() * 100) + "%: " + regressionList);
+    }
+
+    /// Warmup, poi `windows` finestre misurate consecutive: nel confronto vale la mediana
+    private void run(String scenario, RequestFactory factory) throws Exception {
+        runPhase(factory, SETTINGS.warmup().toNanos());
+
+        List<ScenarioResult> windowList = new ArrayList<>();
+        for (int i = 0; i < SETTINGS.windows(); i++) {
+            long start = System.nanoTime();
+            List<LatencyRecorder> recorderList = runPhase(factory, SETTINGS.duration().toNanos());
+            windowList.add(LatencyRecorder.summarize(recorderList, System.nanoTime() - start));
+            logger.warn("{} [{}] finestra {}: {}", scenario, SETTINGS.mode(), i + 1, windowList.get(i));
+        }
+        ScenarioResult result = ScenarioResult.median(windowList);
+
+        logger.warn("{} [{}]: {}", scenario, SETTINGS.mode(), result);
+        resultMap.put(scenario, result);
+        assertEquals(0, result.errors(), scenario + ": risposte con errore");
+    }
+
+    private List<LatencyRecorder> runPhase(RequestFactory factory, long durationNanos) throws Exception {
+        long deadline = System.nanoTime() + durationNanos;
+        ExecutorService executor = Executors.newFixedThreadPool(SETTINGS.workers());
+
+        try {
+            List<Future<LatencyRecorder>> futureList = new ArrayList<>();
+            for (int w = 0; w < SETTINGS.workers(); w++) {
+                int worker = w;
+                futureList.add(executor.submit(() -> {
+                    LatencyRecorder recorder = new LatencyRecorder();
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+
+                    for (long iteration = 0; System.nanoTime() < deadline; iteration++) {
+                        HttpRequest request = factory.next(worker, iteration, random);
+                        long t0 = System.nanoTime();
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        recorder.record(System.nanoTime() - t0, response.statusCode() < 400);
+                    }
+                    return recorder;
+                }));
+            }
+
+            List<LatencyRecorder> recorderList = new ArrayList<>();
+            for (Future<LatencyRecorder> future : futureList) recorderList.add(future.get());
+            return recorderList;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private long randomBoard(ThreadLocalRandom random) {
+        return boardIdArr[random.nextInt(boardIdArr.length)];
+    }
+
+    private long randomTask(ThreadLocalRandom random) {
+        return taskIdArr[random.nextInt(taskIdArr.length)];
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws Exception {
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private void expectOk(HttpResponse<String> response) {
+        assertTrue(response.statusCode() < 300, "Seed fallito: " + response.statusCode() + " " + response.body());
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(uri(path)).GET().build();
+    }
+
+    private HttpRequest post(String path, String body, String contentType) {
+        return HttpRequest.newBuilder(uri(path)).header("Content-Type", contentType)
+                .POST(HttpRequest.BodyPublishers.ofString(body)).build();
+    }
+
+    private HttpRequest put(String path, String body) {
+        return HttpRequest.newBuilder(uri(path)).header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofString(body)).build();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    @FunctionalInterface
+    private interface RequestFactory {
+        HttpRequest next(int worker, long iteration, ThreadLocalRandom random);
+    }
+}
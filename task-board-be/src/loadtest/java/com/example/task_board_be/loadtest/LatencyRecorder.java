@@ -0,0 +1,48 @@
+package com.example.task_board_be.loadtest;
+
+import java.util.Arrays;
+
+/// Latenze di un worker in un array di long che cresce al bisogno: niente boxing né lock nel ciclo di misura
+final class LatencyRecorder {
+    private long[] latencyArr = new long[1024];
+    private int size;
+    private long errors;
+
+    void record(long latencyNanos, boolean ok) {
+        if (size == latencyArr.length) latencyArr = Arrays.copyOf(latencyArr, size * 2);
+        latencyArr[size++] = latencyNanos;
+        if (!ok) errors++;
+    }
+
+    static ScenarioResult summarize(Iterable<LatencyRecorder> recorderList, long elapsedNanos) {
+        int total = 0;
+        long errors = 0;
+        for (LatencyRecorder recorder : recorderList) {
+            total += recorder.size;
+            errors += recorder.errors;
+        }
+
+        long[] allArr = new long[total];
+        int offset = 0;
+        for (LatencyRecorder recorder : recorderList) {
+            System.arraycopy(recorder.latencyArr, 0, allArr, offset, recorder.size);
+            offset += recorder.size;
+        }
+        Arrays.sort(allArr);
+
+        double throughput = total / (elapsedNanos / 1e9);
+        return new ScenarioResult(total, errors, round(throughput), round(percentileMs(allArr, 0.50)),
+                round(percentileMs(allArr, 0.99)));
+    }
+
+    /// nearest-rank
+    private static double percentileMs(long[] sortedArr, double percentile) {
+        if (sortedArr.length == 0) return 0;
+        int rank = (int) Math.ceil(percentile * sortedArr.length);
+        return sortedArr[Math.max(rank, 1) - 1] / 1e6;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
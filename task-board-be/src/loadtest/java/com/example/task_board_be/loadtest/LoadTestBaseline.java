@@ -0,0 +1,54 @@
+package com.example.task_board_be.loadtest;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/// Risultati per scenario su file JSON e confronto con la baseline committata
+final class LoadTestBaseline {
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private LoadTestBaseline() {
+    }
+
+    static Map<String, ScenarioResult> read(Path file) throws IOException {
+        if (!Files.exists(file)) return Map.of();
+        return MAPPER.readValue(file.toFile(), new TypeReference<TreeMap<String, ScenarioResult>>() {});
+    }
+
+    static void write(Path file, Map<String, ScenarioResult> resultMap) throws IOException {
+        if (file.getParent() != null) Files.createDirectories(file.getParent());
+        MAPPER.writeValue(file.toFile(), new TreeMap<>(resultMap));
+    }
+
+    /// Regressione: p99 sopra baseline * (1 + soglia) o throughput sotto baseline * (1 - soglia).
+    /// Gli scenari senza baseline non vengono confrontati
+    static List<String> regressions(Map<String, ScenarioResult> baselineMap,
+                                    Map<String, ScenarioResult> resultMap,
+                                    double threshold) {
+        List<String> regressionList = new ArrayList<>();
+
+        resultMap.forEach((scenario, result) -> {
+            ScenarioResult baseline = baselineMap.get(scenario);
+            if (baseline == null) return;
+
+            if (result.p99Ms() > baseline.p99Ms() * (1 + threshold)) {
+                regressionList.add(scenario + ": p99 " + result.p99Ms() + "ms > baseline " + baseline.p99Ms() + "ms");
+            }
+            if (result.throughput() < baseline.throughput() * (1 - threshold)) {
+                regressionList.add(scenario + ": throughput " + result.throughput() + "/s < baseline " +
+                                   baseline.throughput() + "/s");
+            }
+        });
+
+        return regressionList;
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.task_board_be.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/// Parametri del load test da system property (-Dloadtest.*), con valori di default per un giro di circa 5 minuti.
+/// Warmup e soglia vengono dal rumore misurato tra giri ripetuti (src/loadtest/virtual-threads-p99.md): con 10s il
+/// throughput cresceva ancora tra una finestra e l'altra, e la soglia deve stare sopra la differenza tra due giri
+record LoadTestSettings(int boards,
+                        int tasksPerBoard,
+                        int workers,
+                        Duration warmup,
+                        Duration duration,
+                        int windows,
+                        double threshold,
+                        boolean virtualThreads,
+                        String datasourceUrl,
+                        Path baselineFile,
+                        Path resultFile,
+                        boolean updateBaseline) {
+
+    static LoadTestSettings fromSystemProperties() {
+        boolean virtualThreads = Boolean.parseBoolean(property("virtual-threads", "false"));
+        String mode = virtualThreads ? "virtual" : "platform";
+
+        return new LoadTestSettings(
+                Integer.parseInt(property("boards", "50")),
+                Integer.parseInt(property("tasks-per-board", "200")),
+                Integer.parseInt(property("workers", "16")),
+                DurationStyle.detectAndParse(property("warmup", "30s")),
+                DurationStyle.detectAndParse(property("duration", "15s")),
+                Integer.parseInt(property("windows", "3")),
+                Double.parseDouble(property("threshold", "0.6")),
+                virtualThreads,
+                property("datasource.url", null),
+                Path.of(property("baseline-dir", "src/loadtest/baseline"), mode + ".json"),
+                Path.of(property("result", "target/loadtest-result-" + mode + ".json")),
+                Boolean.parseBoolean(property("update-baseline", "false")));
+    }
+
+    String mode() {
+        return virtualThreads ? "virtual" : "platform";
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty("loadtest." + name, defaultValue);
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.task_board_be.loadtest;
+
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+
+/// Esito di uno scenario nella finestra misurata: latenze in millisecondi, throughput in richieste al secondo
+record ScenarioResult(long requests, long errors, double throughput, double p50Ms, double p99Ms) {
+
+    /// Più finestre dello stesso scenario: richieste ed errori sommati, throughput e percentili come mediana delle
+    /// finestre, così un singolo giro rumoroso non sposta il confronto con la baseline
+    static ScenarioResult median(List<ScenarioResult> windowList) {
+        return new ScenarioResult(
+                windowList.stream().mapToLong(ScenarioResult::requests).sum(),
+                windowList.stream().mapToLong(ScenarioResult::errors).sum(),
+                median(windowList, ScenarioResult::throughput),
+                median(windowList, ScenarioResult::p50Ms),
+                median(windowList, ScenarioResult::p99Ms));
+    }
+
+    private static double median(List<ScenarioResult> windowList, ToDoubleFunction<ScenarioResult> field) {
+        double[] valueArr = windowList.stream().mapToDouble(field).sorted().toArray();
+        int middle = valueArr.length / 2;
+        if (valueArr.length % 2 == 1) return valueArr[middle];
+        return Math.round((valueArr[middle - 1] + valueArr[middle]) * 50) / 100.0;
+    }
+}
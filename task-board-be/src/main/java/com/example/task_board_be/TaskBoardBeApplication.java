@@ -2,8 +2,10 @@ package com.example.task_board_be;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class TaskBoardBeApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,131 @@
+package com.example.task_board_be.cache;
+
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/// Cache a breve TTL dei count(*) delle liste paginate, chiave (risorsa, filtro, board, archiviazione).
+/// Le voci sono raggruppate per (risorsa, board): una scrittura sulle task di una board stacca solo il suo gruppo e
+/// quello delle liste senza filtro board, le operazioni globali l'intera risorsa, senza scorrere le voci.
+/// Una lettura che si sovrappone a una scrittura trova il proprio gruppo staccato e non memorizza il risultato.
+@Component
+public class CountCache {
+    /// Gruppo delle liste senza filtro board: gli id partono da 1
+    private static final Long NO_BOARD = 0L;
+
+    private final Map<String, Map<Long, Map<Key, Entry>>> entries = new ConcurrentHashMap<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final long ttlNanos;
+    private final int maxSize;
+
+    public CountCache(@Value("${app.cache.count.ttl:5s}") Duration ttl,
+                      @Value("${app.cache.count.max-size:10000}") int maxSize) {
+        this.ttlNanos = ttl.toNanos();
+        this.maxSize = maxSize;
+    }
+
+    public long getOrCount(String resource, String filterStr, Long boardId, boolean isArchived, LongSupplier counter) {
+        if (ttlNanos <= 0) return counter.getAsLong();
+
+        // stessa normalizzazione delle Specifications: filtri equivalenti condividono la voce
+        String filterKey = StringUtils.isBlank(filterStr) ? null : filterStr.trim().toLowerCase(Locale.ROOT);
+        Long groupId = boardId == null ? NO_BOARD : boardId;
+        Key key = new Key(filterKey, isArchived);
+        long now = System.nanoTime();
+        // gruppo preso prima del count: se un'invalidazione lo stacca nel frattempo, il risultato non va in cache
+        Map<Key, Entry> group = group(resource, groupId);
+        Entry entry = group.get(key);
+
+        if (entry != null && now - entry.createdAt() < ttlNanos) return entry.count();
+
+        long count = counter.getAsLong();
+
+        if (!isAttached(resource, groupId, group)) return count;
+        if (size.get() >= maxSize) {
+            clear();
+            group = group(resource, groupId);
+        }
+        if (group.put(key, new Entry(count, now)) == null) size.incrementAndGet();
+
+        return count;
+    }
+
+    /// Scritture sulle task di alcune board: invalida quelle board e le liste senza filtro board,
+    /// subito e di nuovo dopo il commit, così una lettura avvenuta prima del commit non resta in cache
+    public void invalidate(String resource, Collection<Long> boardIdList) {
+        evict(resource, boardIdList);
+        afterCommit(() -> evict(resource, boardIdList));
+    }
+
+    /// Operazioni globali sulla risorsa, subito e dopo il commit
+    public void invalidate(String resource) {
+        evict(resource);
+        afterCommit(() -> evict(resource));
+    }
+
+    public void invalidateAll() {
+        clear();
+        afterCommit(this::clear);
+    }
+
+    private void evict(String resource, Collection<Long> boardIdList) {
+        Map<Long, Map<Key, Entry>> groupByBoard = entries.get(resource);
+        if (groupByBoard == null) return;
+
+        detach(groupByBoard.remove(NO_BOARD));
+        for (Long boardId : boardIdList) {
+            detach(groupByBoard.remove(boardId));
+        }
+    }
+
+    private void evict(String resource) {
+        Map<Long, Map<Key, Entry>> groupByBoard = entries.remove(resource);
+        if (groupByBoard != null) groupByBoard.values().forEach(this::detach);
+    }
+
+    private void detach(Map<Key, Entry> group) {
+        if (group != null) size.addAndGet(-group.size());
+    }
+
+    private Map<Key, Entry> group(String resource, Long groupId) {
+        return entries.computeIfAbsent(resource, r -> new ConcurrentHashMap<>())
+                .computeIfAbsent(groupId, b -> new ConcurrentHashMap<>());
+    }
+
+    private boolean isAttached(String resource, Long groupId, Map<Key, Entry> group) {
+        Map<Long, Map<Key, Entry>> groupByBoard = entries.get(resource);
+        return groupByBoard != null && groupByBoard.get(groupId) == group;
+    }
+
+    private void clear() {
+        entries.clear();
+        size.set(0);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return;
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private record Key(String filterStr, boolean isArchived) {
+    }
+
+    private record Entry(long count, long createdAt) {
+    }
+}
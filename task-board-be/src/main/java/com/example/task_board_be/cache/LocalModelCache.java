@@ -0,0 +1,158 @@
+package com.example.task_board_be.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/// ModelCache in memoria: LRU limitata a max-size voci, scadenza a ttl dall'inserimento.
+/// Come CountCache, una lettura che si sovrappone a un'invalidazione della stessa risorsa non memorizza il suo risultato.
+@Component
+public class LocalModelCache implements ModelCache {
+    private final Map<Key, Entry> entries;
+    private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+    private final Map<String, Counters> counters = new ConcurrentHashMap<>();
+    private final long ttlNanos;
+
+    public LocalModelCache(@Value("${app.cache.model.ttl:30s}") Duration ttl,
+                           @Value("${app.cache.model.max-size:10000}") int maxSize) {
+        this.ttlNanos = ttl.toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                boolean isFull = size() > maxSize;
+                if (isFull) counters(eldest.getKey().resource()).evictions.increment();
+                return isFull;
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T get(String resource, Long id, boolean isArchived, Supplier<T> loader) {
+        if (ttlNanos <= 0) return loader.get();
+
+        Key key = new Key(resource, id, isArchived);
+        Counters resourceCounters = counters(resource);
+        long now = System.nanoTime();
+
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+
+            if (entry != null && now - entry.createdAt() < ttlNanos) {
+                resourceCounters.hits.increment();
+                return (T) entry.value();
+            }
+
+            if (entry != null) {
+                entries.remove(key);
+                resourceCounters.evictions.increment();
+            }
+        }
+
+        resourceCounters.misses.increment();
+
+        // il loader gira fuori dal lock: letture concorrenti di id diversi non si serializzano
+        long readGeneration = generation(resource).get();
+        T value = loader.get();
+
+        synchronized (entries) {
+            if (generation(resource).get() == readGeneration) entries.put(key, new Entry(value, now));
+        }
+
+        return value;
+    }
+
+    @Override
+    public void invalidate(String resource, Collection<Long> idList) {
+        if (idList == null || idList.isEmpty()) return;
+
+        evict(resource, idList);
+        afterCommit(() -> evict(resource, idList));
+    }
+
+    @Override
+    public void invalidateAll(String resource) {
+        evictAll(resource);
+        afterCommit(() -> evictAll(resource));
+    }
+
+    @Override
+    public void invalidateAll() {
+        generations.keySet().forEach(this::invalidateAll);
+
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    @Override
+    public Stats stats(String resource) {
+        Counters resourceCounters = counters(resource);
+
+        synchronized (entries) {
+            int size = (int) entries.keySet().stream().filter(key -> key.resource().equals(resource)).count();
+
+            return new Stats(resourceCounters.hits.sum(), resourceCounters.misses.sum(),
+                    resourceCounters.evictions.sum(), size);
+        }
+    }
+
+    private void evict(String resource, Collection<Long> idList) {
+        synchronized (entries) {
+            generation(resource).incrementAndGet();
+
+            for (Long id : idList) {
+                entries.remove(new Key(resource, id, false));
+                entries.remove(new Key(resource, id, true));
+            }
+        }
+    }
+
+    private void evictAll(String resource) {
+        synchronized (entries) {
+            generation(resource).incrementAndGet();
+            entries.keySet().removeIf(key -> key.resource().equals(resource));
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return;
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private AtomicLong generation(String resource) {
+        return generations.computeIfAbsent(resource, r -> new AtomicLong());
+    }
+
+    private Counters counters(String resource) {
+        return counters.computeIfAbsent(resource, r -> new Counters());
+    }
+
+    private record Key(String resource, Long id, boolean isArchived) {
+    }
+
+    private record Entry(Object value, long createdAt) {
+    }
+
+    private static final class Counters {
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder evictions = new LongAdder();
+    }
+}
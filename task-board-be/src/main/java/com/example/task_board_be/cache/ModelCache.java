@@ -0,0 +1,31 @@
+package com.example.task_board_be.cache;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+
+/// Cache read-through dei dettagli (getEl), chiave (risorsa, id, archiviazione).
+/// I model restituiti sono condivisi tra le richieste: vanno trattati in sola lettura.
+public interface ModelCache {
+    <T> T get(String resource, Long id, boolean isArchived, Supplier<T> loader);
+
+    /// Invalida le voci attiva e archiviata degli id, subito e di nuovo dopo il commit
+    void invalidate(String resource, Collection<Long> idList);
+
+    void invalidateAll(String resource);
+
+    void invalidateAll();
+
+    Stats stats(String resource);
+
+    default void invalidate(String resource, Long id) {
+        invalidate(resource, List.of(id));
+    }
+
+    record Stats(long hits, long misses, long evictions, int size) {
+        public double hitRate() {
+            long requests = hits + misses;
+            return requests == 0 ? 0 : (double) hits / requests;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.task_board_be.configuration;
+
+import com.example.task_board_be.exception.custom.OverloadedException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/// Limita le richieste in esecuzione al numero di connessioni del pool Hikari: le altre attendono in coda FIFO
+/// sul semaforo (a costo quasi nullo con i virtual thread) invece di occupare thread in attesa di una connessione.
+/// Oltre queue-timeout la richiesta termina con 503 e Retry-After
+@Component
+public class ConcurrencyLimitInterceptor implements AsyncHandlerInterceptor {
+    private static final String PERMIT_ATTRIBUTE = ConcurrencyLimitInterceptor.class.getName() + ".permit";
+
+    private final Semaphore permits;
+    private final int maxInFlight;
+    private final Duration queueTimeout;
+
+    public ConcurrencyLimitInterceptor(
+            @Value("${app.concurrency.max-in-flight:${spring.datasource.hikari.maximum-pool-size:10}}") int maxInFlight,
+            @Value("${app.concurrency.queue-timeout:2s}") Duration queueTimeout) {
+        this.maxInFlight = maxInFlight;
+        this.queueTimeout = queueTimeout;
+        this.permits = new Semaphore(Math.max(maxInFlight, 0), true);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (maxInFlight <= 0 || request.getAttribute(PERMIT_ATTRIBUTE) != null) return true;
+
+        try {
+            if (!permits.tryAcquire(queueTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                throw new OverloadedException(queueTimeout);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new OverloadedException(queueTimeout);
+        }
+
+        request.setAttribute(PERMIT_ATTRIBUTE, Boolean.TRUE);
+        return true;
+    }
+
+    /// Le risposte asincrone (stream) non tengono il permesso per tutta la loro durata
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        release(request);
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        release(request);
+    }
+
+    public int inFlight() {
+        return maxInFlight - permits.availablePermits();
+    }
+
+    public int queued() {
+        return permits.getQueueLength();
+    }
+
+    private void release(HttpServletRequest request) {
+        if (request.getAttribute(PERMIT_ATTRIBUTE) == null) return;
+
+        request.removeAttribute(PERMIT_ATTRIBUTE);
+        permits.release();
+    }
+}
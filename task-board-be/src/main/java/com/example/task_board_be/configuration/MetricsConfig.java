@@ -0,0 +1,83 @@
+package com.example.task_board_be.configuration;
+
+import com.example.task_board_be.cache.ModelCache;
+import com.example.task_board_be.metrics.MethodMetricsInterceptor;
+import com.example.task_board_be.service.event.BoardEventService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.data.repository.Repository;
+import org.springframework.stereotype.Service;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+/// Metriche applicative esposte su /actuator/prometheus insieme a quelle di Hikari, Tomcat e http.server.requests.
+/// Gli advisor sono infrastrutturali e creati prima dei bean che avvolgono: il MeterRegistry è risolto al primo meter registrato
+@Configuration
+public class MetricsConfig {
+    private static final List<String> CACHE_RESOURCE_LIST = List.of("board", "task");
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static Advisor serviceMetricsAdvisor(ObjectProvider<MeterRegistry> registry) {
+        return new DefaultPointcutAdvisor(AnnotationMatchingPointcut.forClassAnnotation(Service.class),
+                new MethodMetricsInterceptor(registry::getObject, MethodMetricsInterceptor.SERVICE_METRIC));
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static Advisor repositoryMetricsAdvisor(ObjectProvider<MeterRegistry> registry) {
+        StaticMethodMatcherPointcut pointcut = new StaticMethodMatcherPointcut() {
+            @Override
+            public boolean matches(Method method, Class<?> targetClass) {
+                return method.getDeclaringClass() != Object.class;
+            }
+        };
+        pointcut.setClassFilter(Repository.class::isAssignableFrom);
+
+        return new DefaultPointcutAdvisor(pointcut,
+                new MethodMetricsInterceptor(registry::getObject, MethodMetricsInterceptor.REPOSITORY_METRIC));
+    }
+
+    /// Contatori di LocalModelCache per risorsa
+    @Bean
+    MeterBinder modelCacheMetrics(ModelCache modelCache) {
+        return registry -> {
+            for (String resource : CACHE_RESOURCE_LIST) {
+                FunctionCounter.builder("taskboard.cache.model.hits", modelCache, c -> c.stats(resource).hits())
+                        .tag("resource", resource).register(registry);
+                FunctionCounter.builder("taskboard.cache.model.misses", modelCache, c -> c.stats(resource).misses())
+                        .tag("resource", resource).register(registry);
+                FunctionCounter.builder("taskboard.cache.model.evictions", modelCache, c -> c.stats(resource).evictions())
+                        .tag("resource", resource).register(registry);
+                Gauge.builder("taskboard.cache.model.size", modelCache, c -> c.stats(resource).size())
+                        .tag("resource", resource).register(registry);
+            }
+        };
+    }
+
+    @Bean
+    MeterBinder concurrencyLimitMetrics(ConcurrencyLimitInterceptor limiter) {
+        return registry -> {
+            Gauge.builder("taskboard.requests.in-flight", limiter, ConcurrencyLimitInterceptor::inFlight).register(registry);
+            Gauge.builder("taskboard.requests.queued", limiter, ConcurrencyLimitInterceptor::queued).register(registry);
+        };
+    }
+
+    @Bean
+    MeterBinder boardEventMetrics(BoardEventService eventService) {
+        return registry -> Gauge.builder("taskboard.events.subscribers", eventService, BoardEventService::getSubscriberCount)
+                .register(registry);
+    }
+}
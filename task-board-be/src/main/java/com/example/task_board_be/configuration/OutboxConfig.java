@@ -0,0 +1,25 @@
+package com.example.task_board_be.configuration;
+
+import com.example.task_board_be.service.outbox.OutboxSink;
+import com.example.task_board_be.service.outbox.impl.FileOutboxSink;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import java.nio.file.Path;
+
+/// Sink dell'outbox: il file JSON lines solo col profilo local (percorso in application-local.properties).
+/// Negli altri ambienti serve un bean OutboxSink (broker, indice di ricerca): senza, il relay resta spento
+@Configuration
+public class OutboxConfig {
+
+    @Bean
+    @Profile("local")
+    @ConditionalOnMissingBean(OutboxSink.class)
+    OutboxSink fileOutboxSink(@Value("${app.outbox.file.path}") Path path, ObjectMapper objectMapper) {
+        return new FileOutboxSink(path, objectMapper);
+    }
+}
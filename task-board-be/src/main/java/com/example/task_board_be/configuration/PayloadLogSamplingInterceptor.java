@@ -0,0 +1,37 @@
+package com.example.task_board_be.configuration;
+
+import com.example.task_board_be.utils.LogPayloadUtils;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/// Marca come campionata una richiesta ogni sample-every per endpoint (la prima compresa):
+/// solo per queste LogPayloadUtils scrive i payload per intero, le altre loggano riepiloghi limitati
+@Component
+public class PayloadLogSamplingInterceptor implements HandlerInterceptor {
+    private final long sampleEvery;
+    private final Map<Method, AtomicLong> counterMap = new ConcurrentHashMap<>();
+
+    public PayloadLogSamplingInterceptor(@Value("${app.logging.payload-sample-every:100}") long sampleEvery) {
+        this.sampleEvery = sampleEvery;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (sampleEvery <= 0 || !(handler instanceof HandlerMethod handlerMethod)) return true;
+
+        long count = counterMap.computeIfAbsent(handlerMethod.getMethod(), method -> new AtomicLong())
+                .getAndIncrement();
+        if (count % sampleEvery == 0) request.setAttribute(LogPayloadUtils.SAMPLED_ATTRIBUTE, Boolean.TRUE);
+
+        return true;
+    }
+}
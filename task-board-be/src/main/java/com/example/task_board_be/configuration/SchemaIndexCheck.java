@@ -0,0 +1,80 @@
+package com.example.task_board_be.configuration;
+
+import com.example.task_board_be.utils.DatabaseUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/// Verifica all'avvio che gli indici creati dalle migrazioni (db/migration/postgresql) esistano nello schema corrente:
+/// se ne manca uno l'avvio fallisce invece di servire le liste con scansioni sequenziali. Solo su PostgreSQL
+@Component
+public class SchemaIndexCheck implements SmartInitializingSingleton {
+    public static final List<String> EXPECTED_INDEX_LIST = List.of(
+            "idx_board_archived_created",
+            "idx_task_archived_created",
+            "idx_task_board_archived_created",
+            "idx_board_archived_only",
+            "idx_task_archived_only",
+            "idx_board_default_name_index",
+            "idx_task_board_default_name_index",
+            "idx_board_updated_at",
+            "idx_task_updated_at",
+            "idx_tombstone_deleted_at",
+            "idx_board_search_trgm",
+            "idx_task_search_trgm",
+            "idx_default_name_gap_scope_start"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    public SchemaIndexCheck(JdbcTemplate jdbcTemplate,
+                            @Value("${app.schema.index-check:true}") boolean enabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!enabled || !isPostgres()) return;
+
+        List<String> missingList = findMissingIndexes();
+        if (!missingList.isEmpty()) {
+            throw new IllegalStateException("Missing indexes: " + String.join(", ", missingList) +
+                                            " (check the flyway_schema_history of the current schema)");
+        }
+
+        logger.info("Indici dello schema verificati: {}", EXPECTED_INDEX_LIST.size());
+    }
+
+    public List<String> findMissingIndexes() {
+        Set<String> presentSet = new HashSet<>(jdbcTemplate.queryForList(
+                "select indexname from pg_indexes where schemaname = current_schema()", String.class));
+
+        List<String> missingList = new ArrayList<>();
+        for (String index : EXPECTED_INDEX_LIST) {
+            if (!presentSet.contains(index)) missingList.add(index);
+        }
+        return missingList;
+    }
+
+    private boolean isPostgres() {
+        try {
+            return DatabaseUtils.isPostgres(jdbcTemplate.getDataSource());
+        } catch (MetaDataAccessException ex) {
+            logger.warn("Impossibile leggere il tipo di database, verifica degli indici saltata", ex);
+            return false;
+        }
+    }
+}
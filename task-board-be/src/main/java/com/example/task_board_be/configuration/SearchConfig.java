@@ -0,0 +1,43 @@
+package com.example.task_board_be.configuration;
+
+import com.example.task_board_be.repo.search.LikeSearchEngine;
+import com.example.task_board_be.repo.search.TextSearchEngine;
+import com.example.task_board_be.repo.search.TrigramSearchEngine;
+import com.example.task_board_be.utils.DatabaseUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.support.MetaDataAccessException;
+
+import javax.sql.DataSource;
+
+/// Motore di ricerca testuale: trigram su PostgreSQL, like su H2 e altri database (app.search.engine=auto|trigram|like)
+@Configuration
+public class SearchConfig {
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    @Bean
+    public TextSearchEngine textSearchEngine(DataSource dataSource,
+                                             @Value("${app.search.engine:auto}") String engine) {
+        boolean trigram = switch (engine) {
+            case "trigram" -> true;
+            case "like" -> false;
+            case "auto" -> isPostgres(dataSource);
+            default -> throw new IllegalArgumentException("Invalid app.search.engine: " + engine);
+        };
+
+        logger.info("Motore di ricerca: {}", trigram ? "trigram" : "like");
+        return trigram ? new TrigramSearchEngine() : new LikeSearchEngine();
+    }
+
+    private boolean isPostgres(DataSource dataSource) {
+        try {
+            return DatabaseUtils.isPostgres(dataSource);
+        } catch (MetaDataAccessException ex) {
+            logger.warn("Impossibile leggere il tipo di database, ricerca con like", ex);
+            return false;
+        }
+    }
+}
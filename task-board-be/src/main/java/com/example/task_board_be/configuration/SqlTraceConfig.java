@@ -0,0 +1,44 @@
+package com.example.task_board_be.configuration;
+
+import com.example.task_board_be.metrics.SqlTraceEndpoint;
+import com.example.task_board_be.metrics.SqlTraceRecorder;
+import com.example.task_board_be.metrics.SqlTracingDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/// Tracing SQL campionato al posto di spring.jpa.show-sql: il DataSource viene avvolto da SqlTracingDataSource
+/// e le tracce finiscono nel ring buffer letto da /actuator/sqltrace. Disattivato con app.sql-trace.enabled=false
+@Configuration
+@ConditionalOnProperty(name = "app.sql-trace.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlTraceConfig {
+
+    @Bean
+    SqlTraceRecorder sqlTraceRecorder(@Value("${app.sql-trace.capacity:2048}") int capacity,
+                                      @Value("${app.sql-trace.sample-rate:0.1}") double sampleRate) {
+        return new SqlTraceRecorder(capacity, sampleRate);
+    }
+
+    @Bean
+    SqlTraceEndpoint sqlTraceEndpoint(SqlTraceRecorder recorder) {
+        return new SqlTraceEndpoint(recorder);
+    }
+
+    @Bean
+    static BeanPostProcessor sqlTracingDataSourcePostProcessor(ObjectProvider<SqlTraceRecorder> recorder) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof SqlTracingDataSource)) {
+                    return new SqlTracingDataSource(dataSource, recorder.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+}
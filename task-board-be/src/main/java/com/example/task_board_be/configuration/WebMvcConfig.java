@@ -0,0 +1,29 @@
+package com.example.task_board_be.configuration;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+    private final ConcurrencyLimitInterceptor concurrencyLimitInterceptor;
+    private final PayloadLogSamplingInterceptor payloadLogSamplingInterceptor;
+
+    @Autowired
+    public WebMvcConfig(ConcurrencyLimitInterceptor concurrencyLimitInterceptor,
+                        PayloadLogSamplingInterceptor payloadLogSamplingInterceptor) {
+        this.concurrencyLimitInterceptor = concurrencyLimitInterceptor;
+        this.payloadLogSamplingInterceptor = payloadLogSamplingInterceptor;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(concurrencyLimitInterceptor)
+                .addPathPatterns("/**")
+                .excludePathPatterns("/actuator/**", "/swagger-ui/**", "/v3/api-docs/**");
+        registry.addInterceptor(payloadLogSamplingInterceptor)
+                .addPathPatterns("/**")
+                .excludePathPatterns("/actuator/**", "/swagger-ui/**", "/v3/api-docs/**");
+    }
+}
@@ -1,17 +1,26 @@
 package com.example.task_board_be.controller;
 
 import com.example.task_board_be.enums.BulkOperation;
+import com.example.task_board_be.exception.custom.NotFoundException;
 import com.example.task_board_be.mapping.assembler.BoardAssembler;
 import com.example.task_board_be.mapping.mapper.BoardMapper;
 import com.example.task_board_be.pojo.model.BoardModel;
+import com.example.task_board_be.pojo.projection.BoardView;
+import com.example.task_board_be.pojo.projection.EntityVersion;
 import com.example.task_board_be.pojo.request.CreateBoardRequest;
 import com.example.task_board_be.pojo.request.IdsRequest;
 import com.example.task_board_be.pojo.request.UpdateBoardRequest;
+import com.example.task_board_be.pojo.resource.BoardEventResource;
 import com.example.task_board_be.pojo.resource.BoardResource;
+import com.example.task_board_be.pojo.resource.BoardTaskCountResource;
 import com.example.task_board_be.pojo.resource.BulkResource;
 import com.example.task_board_be.pojo.resource.CascadeBulkResource;
 import com.example.task_board_be.pojo.resource.ErrorResource;
+import com.example.task_board_be.pojo.resource.SliceResource;
 import com.example.task_board_be.service.entity.BoardService;
+import com.example.task_board_be.service.event.BoardEventService;
+import com.example.task_board_be.utils.CursorUtils;
+import com.example.task_board_be.utils.LogPayloadUtils;
 import com.example.task_board_be.utils.LoggerUtils;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -22,21 +31,32 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
 import java.util.List;
+import java.util.Optional;
 
 @Tag(name = "Boards", description = "API per la gestione delle board")
 @ApiResponses(value = {
@@ -51,20 +71,23 @@ public class BoardsController {
     private final BoardMapper mapper;
     private final BoardAssembler assembler;
     private final BoardService service;
+    private final BoardEventService eventService;
 
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
 
     @Autowired
-    public BoardsController(BoardMapper mapper, BoardAssembler assembler, BoardService service) {
+    public BoardsController(BoardMapper mapper, BoardAssembler assembler, BoardService service,
+                            BoardEventService eventService) {
         this.mapper = mapper;
         this.assembler = assembler;
         this.service = service;
+        this.eventService = eventService;
     }
 
     @Operation(summary = "Lista board", description = "Filtra per isArchived e per nome (nameFilter). Paginazione e ordinamento.")
     @Parameter(name = "isArchived", description = "false = attive (default), true = archiviate",
             schema = @Schema(type = "boolean", defaultValue = "false"))
-    @Parameter(name = "nameFilter", description = "Filtro su name (contains, case-insensitive)", required = false)
+    @Parameter(name = "nameFilter", description = "Ricerca su name e description (contains, case-insensitive); i risultati sono ordinati per rilevanza, poi per sort", required = false)
     @ApiResponse(responseCode = "200", description = "OK",
             content = @Content(mediaType = "application/json",
                     array = @ArraySchema(schema = @Schema(implementation = BoardResource.class))))
@@ -77,17 +100,93 @@ public class BoardsController {
             Pageable pageable) {
 
         logger.info("{} - [PARAMS: isArchived->{} ; nameFilter->{} ; pageable->{}]",
-                LoggerUtils.getStandardLoggerMsg("start", false), isArchived, nameFilter, pageable);
+                LoggerUtils.getStandardLoggerMsg(logger, "getBoardPage", "start", false),
+                isArchived, nameFilter, pageable);
 
-        Page<BoardModel> modelPage = service.getPage(nameFilter, isArchived, pageable);
-        Page<BoardResource> resourcePage = modelPage.map(mapper::toResource);
+        Page<BoardView> viewPage = service.getPage(nameFilter, isArchived, pageable);
+        Page<BoardResource> resourcePage = viewPage.map(mapper::toResource);
 
         logger.info("{} - [RESULT: pageSize->{} ; total->{}]",
-                LoggerUtils.getStandardLoggerMsg("end", false),
+                LoggerUtils.getStandardLoggerMsg(logger, "getBoardPage", "end", false),
                 resourcePage.getNumberOfElements(), resourcePage.getTotalElements());
         return ResponseEntity.ok(resourcePage);
     }
 
+    @Operation(summary = "Lista board (senza totale)",
+            description = "Come la lista paginata ma senza count(*): restituisce solo gli elementi della pagina e hasNext. " +
+                    "Si attiva con withTotal=false.")
+    @Parameter(name = "isArchived", description = "false = attive (default), true = archiviate",
+            schema = @Schema(type = "boolean", defaultValue = "false"))
+    @Parameter(name = "nameFilter", description = "Ricerca su name e description (contains, case-insensitive); i risultati sono ordinati per rilevanza, poi per sort", required = false)
+    @Parameter(name = "withTotal", description = "false = nessun conteggio totale", required = true,
+            schema = @Schema(type = "boolean", allowableValues = "false"))
+    @ApiResponse(responseCode = "200", description = "OK",
+            content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = SliceResource.class)))
+    @GetMapping(produces = "application/json", params = {"withTotal=false", "!cursor"})
+    public ResponseEntity<SliceResource<BoardResource>> getBoardSlice(
+            @RequestParam(name = "isArchived", defaultValue = "false") boolean isArchived,
+            @RequestParam(name = "nameFilter", required = false) String nameFilter,
+            @ParameterObject
+            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC)
+            Pageable pageable) {
+
+        logger.info("{} - [PARAMS: isArchived->{} ; nameFilter->{} ; pageable->{}]",
+                LoggerUtils.getStandardLoggerMsg(logger, "getBoardSlice", "start", false),
+                isArchived, nameFilter, pageable);
+
+        Slice<BoardView> viewSlice = service.getSlice(nameFilter, isArchived, pageable);
+        List<BoardResource> resourceList = viewSlice.map(mapper::toResource).getContent();
+
+        SliceResource<BoardResource> result = new SliceResource<>(resourceList, viewSlice.getNumber(), viewSlice.hasNext());
+
+        logger.info("{} - [RESULT: result->{}]",
+                LoggerUtils.getStandardLoggerMsg(logger, "getBoardSlice", "end", false),
+                LogPayloadUtils.payload(result));
+        return ResponseEntity.ok(result);
+    }
+
+    @Operation(summary = "Lista board (cursore)",
+            description = "Variante a cursore della lista: ordinamento fisso createdAt DESC, id DESC, nessun conteggio totale. " +
+                    "Si attiva passando il parametro cursor (vuoto per la prima pagina).")
+    @Parameter(name = "isArchived", description = "false = attive (default), true = archiviate",
+            schema = @Schema(type = "boolean", defaultValue = "false"))
+    @Parameter(name = "nameFilter", description = "Ricerca su name e description (contains, case-insensitive); l'ordine resta quello del cursore", required = false)
+    @Parameter(name = "cursor", description = "Token nextCursor della risposta precedente, vuoto per la prima pagina", required = true)
+    @Parameter(name = "size", description = "Numero massimo di elementi", schema = @Schema(type = "integer", defaultValue = "20"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "OK",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = SliceResource.class))),
+            @ApiResponse(responseCode = "400", description = "Cursore o size non validi",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResource.class))),
+    })
+    @GetMapping(produces = "application/json", params = "cursor")
+    public ResponseEntity<SliceResource<BoardResource>> getBoardCursorPage(
+            @RequestParam(name = "isArchived", defaultValue = "false") boolean isArchived,
+            @RequestParam(name = "nameFilter", required = false) String nameFilter,
+            @RequestParam(name = "cursor") String cursor,
+            @RequestParam(name = "size", defaultValue = "20") @Positive @Max(2000) int size) {
+
+        logger.info("{} - [PARAMS: isArchived->{} ; nameFilter->{} ; cursor->{} ; size->{}]",
+                LoggerUtils.getStandardLoggerMsg(logger, "getBoardCursorPage", "start", false),
+                isArchived, nameFilter, cursor, size);
+
+        Window<BoardView> viewWindow = service.getWindow(nameFilter, isArchived, CursorUtils.decode(cursor), size);
+        List<BoardResource> resourceList = viewWindow.map(mapper::toResource).getContent();
+        String nextCursor = (viewWindow.hasNext())
+                ? CursorUtils.encode(viewWindow.positionAt(viewWindow.size() - 1))
+                : null;
+
+        SliceResource<BoardResource> result = new SliceResource<>(resourceList, viewWindow.hasNext(), nextCursor);
+
+        logger.info("{} - [RESULT: result->{}]",
+                LoggerUtils.getStandardLoggerMsg(logger, "getBoardCursorPage", "end", false),
+                LogPayloadUtils.payload(result));
+        return ResponseEntity.ok(result);
+    }
+
     @Operation(summary = "Ottieni board", description = "Ottiene una board per id, filtrando per stato di archiviazione.")
     @Parameter(name = "isArchived", description = "false = attiva (default), true = archiviata",
             schema = @Schema(type = "boolean", defaultValue = "false"))
@@ -98,21 +197,88 @@ public class BoardsController {
             @ApiResponse(responseCode = "404", description = "Board non trovata",
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = ErrorResource.class))),
+            @ApiResponse(responseCode = "304", description = "Board non modificata rispetto a If-None-Match / If-Modified-Since",
+                    content = @Content),
     })
     @GetMapping(value = "/{id:\\d+}", produces = "application/json")
     public ResponseEntity<BoardResource> getBoard(@PathVariable Long id,
-                                                  @RequestParam(required = false, defaultValue = "false", name = "isArchived") boolean isArchived) {
+                                                  @RequestParam(required = false, defaultValue = "false", name = "isArchived") boolean isArchived,
+                                                  WebRequest request) {
         logger.info("{} - [PARAMS: id->{} , isArchived->{}]",
-                LoggerUtils.getStandardLoggerMsg("start", false), id, isArchived);
+                LoggerUtils.getStandardLoggerMsg(logger, "getBoard", "start", false), id, isArchived);
+
+        // il probe legge solo i timestamp: con 304 il dettaglio non viene caricato né mappato
+        Optional<EntityVersion> version = service.getVersion(id, isArchived);
+        if (version.isPresent() && request.checkNotModified(version.get().eTag(), version.get().lastModified())) {
+            logger.info("{} - [RESULT: not modified -> {}]",
+                    LoggerUtils.getStandardLoggerMsg(logger, "getBoard", "end", false), version.get().eTag());
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
 
         BoardModel model = service.getEl(id, isArchived);
         BoardResource resource = mapper.toResource(model);
 
         logger.info("{} - [RESULT: result -> {}]",
-                LoggerUtils.getStandardLoggerMsg("end", false), resource);
+                LoggerUtils.getStandardLoggerMsg(logger, "getBoard", "end", false), LogPayloadUtils.payload(resource));
         return ResponseEntity.ok(resource);
     }
 
+    @Operation(summary = "Stream eventi della board", description = "Server-Sent Events con le modifiche della board e delle sue task, " +
+            "inviate dopo il commit (event: task-created, task-updated, task-archived, task-restored, task-deleted, board-updated, " +
+            "board-archived, board-restored, board-deleted, resync). Alla riconnessione l'header Last-Event-ID riprende dagli eventi " +
+            "successivi; se non sono più disponibili arriva un evento resync e il client ricarica i dati.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Stream aperto",
+                    content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+                            schema = @Schema(implementation = BoardEventResource.class))),
+            @ApiResponse(responseCode = "404", description = "Board non trovata",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResource.class))),
+    })
+    @GetMapping(value = "/{id:\\d+}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamBoardEvents(@PathVariable Long id,
+                                        @RequestHeader(name = "Last-Event-ID", required = false) Long lastEventId) {
+        logger.info("{} - [PARAMS: id->{} ; lastEventId->{}]",
+                LoggerUtils.getStandardLoggerMsg(logger, "streamBoardEvents", "start", false), id, lastEventId);
+
+        // attive o archiviate: anche il ripristino di una board archiviata è un evento
+        if (service.getVersion(id, false).isEmpty() && service.getVersion(id, true).isEmpty()) {
+            throw new NotFoundException("board", id);
+        }
+
+        SseEmitter emitter = eventService.subscribe(id, lastEventId);
+
+        logger.info(LoggerUtils.getStandardLoggerMsg(logger, "streamBoardEvents", "end", false));
+        return emitter;
+    }
+
+    @Operation(summary = "Conteggi task per board", description = "Task attive e archiviate per status delle board indicate, " +
+            "letti dai contatori materializzati senza scorrere le task (es. riepilogo sulle card della lista). " +
+            "Le board inesistenti non compaiono nella risposta.")
+    @Parameter(name = "idList", description = "Id delle board, separati da virgola (max 1000)", required = true)
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "OK",
+                    content = @Content(mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = BoardTaskCountResource.class)))),
+            @ApiResponse(responseCode = "400", description = "Lista ID vuota o non valida",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResource.class))),
+    })
+    @GetMapping(value = "/task-counts", produces = "application/json")
+    public ResponseEntity<List<BoardTaskCountResource>> getBoardTaskCountList(
+            @RequestParam(name = "idList") @NotEmpty @Size(max = 1000) List<@Positive Long> idList) {
+        logger.info("{} - [PARAMS: idList->{}]",
+                LoggerUtils.getStandardLoggerMsg(logger, "getBoardTaskCountList", "start", false),
+                LogPayloadUtils.summary(idList));
+
+        List<BoardTaskCountResource> result = mapper.toTaskCountResourceList(
+                service.getTaskCountList(idList.stream().distinct().toList()));
+
+        logger.info("{} - [RESULT: result size->{}]",
+                LoggerUtils.getStandardLoggerMsg(logger, "getBoardTaskCountList", "end", false), result.size());
+        return ResponseEntity.ok(result);
+    }
+
     @Operation(summary = "Crea una nuova board", description = "Crea una board e restituisce la board creata con ID generato.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "Board creata con successo",
@@ -125,7 +291,8 @@ public class BoardsController {
     @PostMapping(consumes = "application/json", produces = "application/json")
     public ResponseEntity<BoardResource> createBoard(@RequestBody @Valid CreateBoardRequest request) {
         logger.info("{} - [PARAMS: request->{}]",
-                LoggerUtils.getStandardLoggerMsg("start", false), request);
+                LoggerUtils.getStandardLoggerMsg(logger, "createBoard", "start", false),
+                LogPayloadUtils.payload(request));
 
         BoardModel model = assembler.assembleModel(request);
         model = service.create(model);
@@ -138,10 +305,35 @@ public class BoardsController {
             .toUri();
 
         logger.info("{} - [RESULT: response->{}]",
-                LoggerUtils.getStandardLoggerMsg("end", false), response);
+                LoggerUtils.getStandardLoggerMsg(logger, "createBoard", "end", false),
+                LogPayloadUtils.payload(response));
         return ResponseEntity.created(location).body(response);
     }
 
+    @Operation(summary = "Crea più board", description = "Crea le board in un'unica transazione con insert JDBC in batch. " +
+            "Le board senza nome ricevono nomi di default consecutivi.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Board create con successo",
+                    content = @Content(mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = BoardResource.class)))),
+            @ApiResponse(responseCode = "400", description = "Lista vuota, troppo lunga o elementi non validi",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResource.class))),
+    })
+    @PostMapping(value = "/bulk", consumes = "application/json", produces = "application/json")
+    public ResponseEntity<List<BoardResource>> createBoardList(
+            @RequestBody @NotEmpty @Size(max = 10000) List<@Valid CreateBoardRequest> requestList) {
+        logger.info("{} - [PARAMS: requestList size->{}]",
+                LoggerUtils.getStandardLoggerMsg(logger, "createBoardList", "start", false), requestList.size());
+
+        List<BoardModel> modelList = requestList.stream().map(assembler::assembleModel).toList();
+        List<BoardResource> response = mapper.toResourceList(service.createList(modelList));
+
+        logger.info("{} - [RESULT: response size->{}]",
+                LoggerUtils.getStandardLoggerMsg(logger, "createBoardList", "end", false), response.size());
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
     @Operation(summary = "Aggiorna board", description = "Aggiorna nome e descrizione della board")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Board aggiornata con successo",
@@ -158,14 +350,16 @@ public class BoardsController {
     public ResponseEntity<BoardResource> updateBoard(@PathVariable Long id,
                                                      @RequestBody @Valid UpdateBoardRequest request) {
         logger.info("{} - [PARAMS: id->{} ; request->{}]",
-                LoggerUtils.getStandardLoggerMsg("start", false), id, request);
+                LoggerUtils.getStandardLoggerMsg(logger, "updateBoard", "start", false),
+                id, LogPayloadUtils.payload(request));
 
         BoardModel model = assembler.assembleModel(request, id);
         model = service.update(model);
         BoardResource resource = mapper.toResource(model);
 
         logger.info("{} - [RESULT: result -> {}]",
-                LoggerUtils.getStandardLoggerMsg("end", false), resource);
+                LoggerUtils.getStandardLoggerMsg(logger, "updateBoard", "end", false),
+                LogPayloadUtils.payload(resource));
         return ResponseEntity.ok(resource);
     }
 
@@ -181,13 +375,14 @@ public class BoardsController {
     @DeleteMapping(value = "/archive/{id:\\d+}", produces = "application/json")
     public ResponseEntity<BoardResource> archiveBoard(@PathVariable Long id) {
         logger.info("{} - [PARAMS: id->{}]",
-                LoggerUtils.getStandardLoggerMsg("start", false), id);
+                LoggerUtils.getStandardLoggerMsg(logger, "archiveBoard", "start", false), id);
 
         BoardModel model = service.archiveEl(id);
 
         BoardResource resource = mapper.toResource(model);
         logger.info("{} - [RESULT: result -> {}]",
-                LoggerUtils.getStandardLoggerMsg("end", false), resource);
+                LoggerUtils.getStandardLoggerMsg(logger, "archiveBoard", "end", false),
+                LogPayloadUtils.payload(resource));
         return ResponseEntity.ok(resource);
     }
 
@@ -203,7 +398,8 @@ public class BoardsController {
     @PostMapping(value = "/archive", consumes = "application/json", produces = "application/json")
     public ResponseEntity<BulkResource> archiveBoardList(@RequestBody @Valid IdsRequest req) {
         logger.info("{} - [PARAMS: request->{}]",
-                LoggerUtils.getStandardLoggerMsg("start", false), req);
+                LoggerUtils.getStandardLoggerMsg(logger, "archiveBoardList", "start", false),
+                LogPayloadUtils.payload(req));
 
         List<Long> idList = req.getIdList().stream().distinct().toList();
 
@@ -212,7 +408,8 @@ public class BoardsController {
         BulkResource result = new BulkResource(BulkOperation.ARCHIVE_LIST, updatedRow);
 
         logger.info("{} - [RESULT: result -> {}]",
-                LoggerUtils.getStandardLoggerMsg("end", false), result);
+                LoggerUtils.getStandardLoggerMsg(logger, "archiveBoardList", "end", false),
+                LogPayloadUtils.payload(result));
         return ResponseEntity.ok(result);
     }
 
@@ -227,14 +424,15 @@ public class BoardsController {
     })
     @PostMapping(value = "/archive-all", produces = "application/json")
     public ResponseEntity<BulkResource> archiveBoardList() {
-        logger.info(LoggerUtils.getStandardLoggerMsg("start", false));
+        logger.info(LoggerUtils.getStandardLoggerMsg(logger, "archiveBoardList", "start", false));
 
         int updatedRow = service.archiveList();
 
         BulkResource result = new BulkResource(BulkOperation.ARCHIVE_ALL, updatedRow);
 
         logger.info("{} - [RESULT: result -> {}]",
-                LoggerUtils.getStandardLoggerMsg("end", false), result);
+                LoggerUtils.getStandardLoggerMsg(logger, "archiveBoardList", "end", false),
+                LogPayloadUtils.payload(result));
         return ResponseEntity.ok(result);
     }
 
@@ -254,13 +452,14 @@ public class BoardsController {
                                                       @RequestParam(defaultValue = "true", required = false, name = "isWithTasks") boolean isWithTasks
     ) {
         logger.info("{} - [PARAMS: id->{} ; isWithTasks -> {}]",
-                LoggerUtils.getStandardLoggerMsg("start", false), id, isWithTasks);
+                LoggerUtils.getStandardLoggerMsg(logger, "restoreBoard", "start", false), id, isWithTasks);
 
         BoardModel model = service.restoreEl(id, isWithTasks);
 
         BoardResource resource = mapper.toResource(model);
         logger.info("{} - [RESULT: result -> {}]",
-                LoggerUtils.getStandardLoggerMsg("end", false), resource);
+                LoggerUtils.getStandardLoggerMsg(logger, "restoreBoard", "end", false),
+                LogPayloadUtils.payload(resource));
         return ResponseEntity.ok(resource);
     }
 
@@ -277,7 +476,8 @@ public class BoardsController {
     public ResponseEntity<CascadeBulkResource> restoreBoardList(@RequestBody @Valid IdsRequest req,
                                                                 @RequestParam(defaultValue = "true") boolean isWithTasks) {
         logger.info("{} - [PARAMS: request->{} ; isWithTasks -> {}]",
-                LoggerUtils.getStandardLoggerMsg("start", false), req, isWithTasks);
+                LoggerUtils.getStandardLoggerMsg(logger, "restoreBoardList", "start", false),
+                LogPayloadUtils.payload(req), isWithTasks);
 
         List<Long> idList = req.getIdList().stream().distinct().toList();
 
@@ -286,7 +486,8 @@ public class BoardsController {
         CascadeBulkResource result = new CascadeBulkResource(BulkOperation.RESTORE_LIST, updatedRow, isWithTasks);
 
         logger.info("{} - [RESULT: result -> {}]",
-                LoggerUtils.getStandardLoggerMsg("end", false), result);
+                LoggerUtils.getStandardLoggerMsg(logger, "restoreBoardList", "end", false),
+                LogPayloadUtils.payload(result));
         return ResponseEntity.ok(result);
     }
 
@@ -299,13 +500,14 @@ public class BoardsController {
     @PostMapping(value = "/restore-all", produces = "application/json")
     public ResponseEntity<CascadeBulkResource> restoreBoardList(@RequestParam(defaultValue = "true") boolean isWithTasks) {
         logger.info("{} - [PARAMS: isWithTasks->{}]",
-                LoggerUtils.getStandardLoggerMsg("start", false), isWithTasks);
+                LoggerUtils.getStandardLoggerMsg(logger, "restoreBoardList", "start", false), isWithTasks);
 
         int updatedRow = service.restoreList(isWithTasks);
         CascadeBulkResource result = new CascadeBulkResource(BulkOperation.RESTORE_ALL, updatedRow, isWithTasks);
 
         logger.info("{} - [RESULT: result -> {}]",
-                LoggerUtils.getStandardLoggerMsg("end", false), result);
+                LoggerUtils.getStandardLoggerMsg(logger, "restoreBoardList", "end", false),
+                LogPayloadUtils.payload(result));
         return ResponseEntity.ok(result);
     }
 
@@ -319,11 +521,11 @@ public class BoardsController {
     @DeleteMapping("/delete/{id:\\d+}")
     public ResponseEntity<Void> deleteBoard(@PathVariable Long id) {
         logger.info("{} - [PARAMS: id->{}]",
-                LoggerUtils.getStandardLoggerMsg("start", false), id);
+                LoggerUtils.getStandardLoggerMsg(logger, "deleteBoard", "start", false), id);
 
         service.delete(id);
 
-        logger.info(LoggerUtils.getStandardLoggerMsg("end", false));
+        logger.info(LoggerUtils.getStandardLoggerMsg(logger, "deleteBoard", "end", false));
         return ResponseEntity.noContent().build();
     }
 
@@ -339,7 +541,8 @@ public class BoardsController {
     @PostMapping(value = "/delete",produces="application/json", consumes = "application/json")
     public ResponseEntity<BulkResource> deleteBoardList(@RequestBody @Valid IdsRequest req) {
         logger.info("{} - [PARAMS: request->{}]",
-                LoggerUtils.getStandardLoggerMsg("start", false), req);
+                LoggerUtils.getStandardLoggerMsg(logger, "deleteBoardList", "start", false),
+                LogPayloadUtils.payload(req));
 
         List<Long> idList = req.getIdList().stream().distinct().toList();
 
@@ -347,7 +550,8 @@ public class BoardsController {
         BulkResource result = new BulkResource(BulkOperation.DELETE_LIST, updatedRow);
 
         logger.info("{} - [RESULT: result -> {}]",
-                LoggerUtils.getStandardLoggerMsg("end", false), result);
+                LoggerUtils.getStandardLoggerMsg(logger, "deleteBoardList", "end", false),
+                LogPayloadUtils.payload(result));
         return ResponseEntity.ok(result);
     }
 
@@ -359,13 +563,13 @@ public class BoardsController {
     })
     @PostMapping(value = "/delete-all" , produces="application/json")
     public ResponseEntity<BulkResource> deleteAll() {
-        logger.info(LoggerUtils.getStandardLoggerMsg("start", false));
+        logger.info(LoggerUtils.getStandardLoggerMsg(logger, "deleteAll", "start", false));
 
         int updatedRow = service.clear();
         BulkResource result = new BulkResource(BulkOperation.DELETE_ALL, updatedRow);
 
         logger.info("{} - [RESULT: result -> {}]",
-                LoggerUtils.getStandardLoggerMsg("end", false), result);
+                LoggerUtils.getStandardLoggerMsg(logger, "deleteAll", "end", false), LogPayloadUtils.payload(result));
         return ResponseEntity.ok(result);
     }
 }
@@ -0,0 +1,99 @@
+package com.example.task_board_be.controller;
+
+import com.example.task_board_be.mapping.mapper.BoardMapper;
+import com.example.task_board_be.mapping.mapper.TaskMapper;
+import com.example.task_board_be.pojo.model.SyncModel;
+import com.example.task_board_be.pojo.resource.ErrorResource;
+import com.example.task_board_be.pojo.resource.SyncResource;
+import com.example.task_board_be.service.sync.SyncService;
+import com.example.task_board_be.utils.LogPayloadUtils;
+import com.example.task_board_be.utils.LoggerUtils;
+import com.example.task_board_be.utils.SyncTokenUtils;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Positive;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Sync", description = "API di sincronizzazione delta per i client")
+@ApiResponses(value = {
+        @ApiResponse(responseCode = "500", description = "Internal Server Error",
+                content = @Content(mediaType = "application/json",
+                        schema = @Schema(implementation = ErrorResource.class))),
+})
+@Validated
+@RestController
+@RequestMapping("sync")
+public class SyncController {
+    private final SyncService service;
+    private final BoardMapper boardMapper;
+    private final TaskMapper taskMapper;
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    @Autowired
+    public SyncController(SyncService service, BoardMapper boardMapper, TaskMapper taskMapper) {
+        this.service = service;
+        this.boardMapper = boardMapper;
+        this.taskMapper = taskMapper;
+    }
+
+    @Operation(
+            summary = "Cambiamenti dopo un watermark",
+            description = "Ritorna board e task create, modificate, archiviate o cancellate dopo since. " +
+                    "Le righe a cavallo del watermark possono ripetersi: vanno applicate in modo idempotente. " +
+                    "Con hasMore a true la pagina non contiene tutto: si richiama con il nextToken ricevuto finché " +
+                    "hasMore è false, poi il nextToken è il watermark della sincronizzazione seguente."
+    )
+    @Parameter(name = "since", description = "Timestamp ISO (es. 2025-08-22T11:45:00) o nextToken della risposta precedente",
+            required = true)
+    @Parameter(name = "size", description = "Numero massimo di elementi per pagina, sommando tutti gli elenchi",
+            schema = @Schema(type = "integer", defaultValue = "500"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Cambiamenti ottenuti con successo",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = SyncResource.class))),
+            @ApiResponse(responseCode = "400", description = "since o size non validi",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResource.class))),
+            @ApiResponse(responseCode = "410", description = "Watermark troppo vecchio: serve una sincronizzazione completa",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResource.class))),
+    })
+    @GetMapping(produces = "application/json")
+    public ResponseEntity<SyncResource> getChanges(
+            @RequestParam(name = "since") String since,
+            @RequestParam(name = "size", defaultValue = "500") @Positive @Max(2000) int size) {
+        logger.info("{} - [PARAMS: since->{} ; size->{}]",
+                LoggerUtils.getStandardLoggerMsg(logger, "getChanges", "start", false), since, size);
+
+        SyncModel model = service.getChanges(SyncTokenUtils.decode(since), size);
+        SyncResource resource = new SyncResource(
+                model.getBoardViewList().stream().map(boardMapper::toResource).toList(),
+                model.getArchivedBoardViewList().stream().map(boardMapper::toResource).toList(),
+                model.getDeletedBoardIdList(),
+                model.getTaskViewList().stream().map(taskMapper::toResource).toList(),
+                model.getArchivedTaskViewList().stream().map(taskMapper::toResource).toList(),
+                model.getDeletedTaskIdList(),
+                model.hasMore(),
+                model.hasMore() ? SyncTokenUtils.encode(model.getNextPosition()) : SyncTokenUtils.encode(model.getWatermark()));
+
+        logger.info("{} - [RESULT: resource->{}]",
+                LoggerUtils.getStandardLoggerMsg(logger, "getChanges", "end", false),
+                LogPayloadUtils.payload(resource));
+        return ResponseEntity.ok(resource);
+    }
+}
@@ -1,17 +1,28 @@
 package com.example.task_board_be.controller;
 
 import com.example.task_board_be.enums.BulkOperation;
+import com.example.task_board_be.exception.custom.NotFoundException;
 import com.example.task_board_be.mapping.assembler.TaskAssembler;
 import com.example.task_board_be.mapping.mapper.TaskMapper;
 import com.example.task_board_be.pojo.model.TaskModel;
+import com.example.task_board_be.pojo.projection.EntityVersion;
+import com.example.task_board_be.pojo.projection.TaskView;
 import com.example.task_board_be.pojo.request.CreateTaskRequest;
 import com.example.task_board_be.pojo.request.IdsRequest;
 import com.example.task_board_be.pojo.request.UpdateTaskRequest;
+import com.example.task_board_be.pojo.resource.BulkCreateResource;
 import com.example.task_board_be.pojo.resource.BulkResource;
 import com.example.task_board_be.pojo.resource.ErrorResource;
+import com.example.task_board_be.pojo.resource.SliceResource;
 import com.example.task_board_be.pojo.resource.TaskResource;
 import com.example.task_board_be.service.entity.TaskService;
+import com.example.task_board_be.utils.CursorUtils;
+import com.example.task_board_be.utils.LogPayloadUtils;
 import com.example.task_board_be.utils.LoggerUtils;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DatabindException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
@@ -20,22 +31,38 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Positive;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.MediaType;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Tag(name = "Tasks", description = "API per la gestione delle task")
 @ApiResponses(value = {
@@ -50,14 +77,23 @@ public class TasksController {
     private final TaskMapper mapper;
     private final TaskAssembler assembler;
     private final TaskService service;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    private static final int BULK_CHUNK_SIZE = 500;
+    // stesso limite di POST /boards/bulk, contando anche gli elementi scartati
+    private static final int BULK_MAX_SIZE = 10000;
 
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
 
     @Autowired
-    public TasksController(TaskMapper mapper, TaskAssembler assembler, TaskService service) {
+    public TasksController(TaskMapper mapper, TaskAssembler assembler, TaskService service,
+                           ObjectMapper objectMapper, Validator validator) {
         this.mapper = mapper;
         this.assembler = assembler;
         this.service = service;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
     }
 
     @Operation(
@@ -67,7 +103,7 @@ public class TasksController {
     @Parameter(name = "boardId", description = "Id della board", required = true)
     @Parameter(name = "isArchived", description = "false = attive (default), true = archiviate",
             schema = @Schema(type = "boolean", defaultValue = "false"))
-    @Parameter(name = "nameFilter", description = "Filtro su name (contains, case-insensitive)", required = false)
+    @Parameter(name = "nameFilter", description = "Ricerca su name e description (contains, case-insensitive); i risultati sono ordinati per rilevanza, poi per sort", required = false)
     @ApiResponse(responseCode = "200", description = "Task ottenute con successo",
             content = @Content(mediaType = "application/json",
                     array = @ArraySchema(schema = @Schema(implementation = TaskResource.class))))
@@ -81,18 +117,102 @@ public class TasksController {
             Pageable pageable) {
 
         logger.info("{} - [PARAMS: boardId->{} ; isArchived->{} ; nameFilter->{} ; pageable->{}]",
-                LoggerUtils.getStandardLoggerMsg("start", false), boardId, isArchived, nameFilter, pageable);
+                LoggerUtils.getStandardLoggerMsg(logger, "getTaskPage", "start", false),
+                boardId, isArchived, nameFilter, pageable);
 
-        Page<TaskModel> page = service.getPage(nameFilter, boardId, isArchived, pageable);
-        Page<TaskResource> resourcePage = page.map(mapper::toResource);
+        Page<TaskView> viewPage = service.getPage(nameFilter, boardId, isArchived, pageable);
+        Page<TaskResource> resourcePage = viewPage.map(mapper::toResource);
 
         logger.info("{} - [RESULT: pageSize->{} ; total->{}]",
-                LoggerUtils.getStandardLoggerMsg("end", false),
+                LoggerUtils.getStandardLoggerMsg(logger, "getTaskPage", "end", false),
                 resourcePage.getNumberOfElements(), resourcePage.getTotalElements());
 
         return ResponseEntity.ok(resourcePage);
     }
 
+    @Operation(
+            summary = "Lista task di una board (senza totale)",
+            description = "Come la lista paginata ma senza count(*): restituisce solo gli elementi della pagina e hasNext. " +
+                    "Si attiva con withTotal=false."
+    )
+    @Parameter(name = "boardId", description = "Id della board", required = true)
+    @Parameter(name = "isArchived", description = "false = attive (default), true = archiviate",
+            schema = @Schema(type = "boolean", defaultValue = "false"))
+    @Parameter(name = "nameFilter", description = "Ricerca su name e description (contains, case-insensitive); i risultati sono ordinati per rilevanza, poi per sort", required = false)
+    @Parameter(name = "withTotal", description = "false = nessun conteggio totale", required = true,
+            schema = @Schema(type = "boolean", allowableValues = "false"))
+    @ApiResponse(responseCode = "200", description = "Task ottenute con successo",
+            content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = SliceResource.class)))
+    @GetMapping(produces = "application/json", params = {"withTotal=false", "!cursor"})
+    public ResponseEntity<SliceResource<TaskResource>> getTaskSlice(
+            @RequestParam(name = "boardId") Long boardId,
+            @RequestParam(name = "isArchived", defaultValue = "false", required = false) boolean isArchived,
+            @RequestParam(name = "nameFilter", required = false) String nameFilter,
+            @ParameterObject
+            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC)
+            Pageable pageable) {
+
+        logger.info("{} - [PARAMS: boardId->{} ; isArchived->{} ; nameFilter->{} ; pageable->{}]",
+                LoggerUtils.getStandardLoggerMsg(logger, "getTaskSlice", "start", false),
+                boardId, isArchived, nameFilter, pageable);
+
+        Slice<TaskView> viewSlice = service.getSlice(nameFilter, boardId, isArchived, pageable);
+        List<TaskResource> resourceList = viewSlice.map(mapper::toResource).getContent();
+
+        SliceResource<TaskResource> result = new SliceResource<>(resourceList, viewSlice.getNumber(), viewSlice.hasNext());
+
+        logger.info("{} - [RESULT: result->{}]",
+                LoggerUtils.getStandardLoggerMsg(logger, "getTaskSlice", "end", false),
+                LogPayloadUtils.payload(result));
+        return ResponseEntity.ok(result);
+    }
+
+    @Operation(
+            summary = "Lista task di una board (cursore)",
+            description = "Variante a cursore della lista: ordinamento fisso createdAt DESC, id DESC, nessun conteggio totale. " +
+                    "Si attiva passando il parametro cursor (vuoto per la prima pagina)."
+    )
+    @Parameter(name = "boardId", description = "Id della board", required = true)
+    @Parameter(name = "isArchived", description = "false = attive (default), true = archiviate",
+            schema = @Schema(type = "boolean", defaultValue = "false"))
+    @Parameter(name = "nameFilter", description = "Ricerca su name e description (contains, case-insensitive); l'ordine resta quello del cursore", required = false)
+    @Parameter(name = "cursor", description = "Token nextCursor della risposta precedente, vuoto per la prima pagina", required = true)
+    @Parameter(name = "size", description = "Numero massimo di elementi", schema = @Schema(type = "integer", defaultValue = "20"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Task ottenute con successo",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = SliceResource.class))),
+            @ApiResponse(responseCode = "400", description = "Cursore o size non validi",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResource.class))),
+    })
+    @GetMapping(produces = "application/json", params = "cursor")
+    public ResponseEntity<SliceResource<TaskResource>> getTaskCursorPage(
+            @RequestParam(name = "boardId") Long boardId,
+            @RequestParam(name = "isArchived", defaultValue = "false", required = false) boolean isArchived,
+            @RequestParam(name = "nameFilter", required = false) String nameFilter,
+            @RequestParam(name = "cursor") String cursor,
+            @RequestParam(name = "size", defaultValue = "20") @Positive @Max(2000) int size) {
+
+        logger.info("{} - [PARAMS: boardId->{} ; isArchived->{} ; nameFilter->{} ; cursor->{} ; size->{}]",
+                LoggerUtils.getStandardLoggerMsg(logger, "getTaskCursorPage", "start", false),
+                boardId, isArchived, nameFilter, cursor, size);
+
+        Window<TaskView> viewWindow = service.getWindow(nameFilter, boardId, isArchived, CursorUtils.decode(cursor), size);
+        List<TaskResource> resourceList = viewWindow.map(mapper::toResource).getContent();
+        String nextCursor = (viewWindow.hasNext())
+                ? CursorUtils.encode(viewWindow.positionAt(viewWindow.size() - 1))
+                : null;
+
+        SliceResource<TaskResource> result = new SliceResource<>(resourceList, viewWindow.hasNext(), nextCursor);
+
+        logger.info("{} - [RESULT: result->{}]",
+                LoggerUtils.getStandardLoggerMsg(logger, "getTaskCursorPage", "end", false),
+                LogPayloadUtils.payload(result));
+        return ResponseEntity.ok(result);
+    }
+
     @Operation(summary = "Ottieni task", description = "Ottieni una task per id, filtrando per stato di archiviazione.")
     @Parameter(name = "isArchived", description = "false = attiva (default), true = archiviata",
             schema = @Schema(type = "boolean", defaultValue = "false"))
@@ -103,18 +223,29 @@ public class TasksController {
             @ApiResponse(responseCode = "404", description = "Task non trovata",
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = ErrorResource.class))),
+            @ApiResponse(responseCode = "304", description = "Task non modificata rispetto a If-None-Match / If-Modified-Since",
+                    content = @Content),
     })
     @GetMapping(value = "/{id:\\d+}", produces = "application/json")
     public ResponseEntity<TaskResource> getTask(@PathVariable Long id,
-                                                @RequestParam(name = "isArchived", defaultValue = "false", required = false) boolean isArchived) {
+                                                @RequestParam(name = "isArchived", defaultValue = "false", required = false) boolean isArchived,
+                                                WebRequest request) {
         logger.info("{} - [PARAMS: id->{}]",
-                LoggerUtils.getStandardLoggerMsg("start", false), id);
+                LoggerUtils.getStandardLoggerMsg(logger, "getTask", "start", false), id);
+
+        // il probe legge solo i timestamp: con 304 il dettaglio non viene caricato né mappato
+        Optional<EntityVersion> version = service.getVersion(id, isArchived);
+        if (version.isPresent() && request.checkNotModified(version.get().eTag(), version.get().lastModified())) {
+            logger.info("{} - [RESULT: not modified -> {}]",
+                    LoggerUtils.getStandardLoggerMsg(logger, "getTask", "end", false), version.get().eTag());
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
 
         TaskModel model = service.getEl(id, isArchived);
         TaskResource resource = mapper.toResource(model);
 
         logger.info("{} - [RESULT: response->{}]",
-                LoggerUtils.getStandardLoggerMsg("end", false), resource);
+                LoggerUtils.getStandardLoggerMsg(logger, "getTask", "end", false), LogPayloadUtils.payload(resource));
         return ResponseEntity.ok(resource);
     }
 
@@ -130,7 +261,8 @@ public class TasksController {
     @PostMapping(consumes = "application/json", produces = "application/json")
     public ResponseEntity<TaskResource> createTask(@RequestBody @Valid CreateTaskRequest request) {
         logger.info("{} - [PARAMS: request->{}]",
-                LoggerUtils.getStandardLoggerMsg("start", false), request);
+                LoggerUtils.getStandardLoggerMsg(logger, "createTask", "start", false),
+                LogPayloadUtils.payload(request));
 
         TaskModel model = assembler.assembleModel(request);
         model = service.create(model);
@@ -143,10 +275,82 @@ public class TasksController {
             .toUri();
 
         logger.info("{} - [RESULT: response->{}]",
-                LoggerUtils.getStandardLoggerMsg("end", false), response);
+                LoggerUtils.getStandardLoggerMsg(logger, "createTask", "end", false),
+                LogPayloadUtils.payload(response));
         return ResponseEntity.created(location).body(response);
     }
 
+    @Operation(summary = "Crea più task (streaming)",
+            description = "Accetta un array JSON o uno stream NDJSON di CreateTaskRequest. Il corpo è letto un elemento " +
+                    "alla volta, ogni elemento è validato singolarmente e le task valide sono scritte a blocchi di " +
+                    BULK_CHUNK_SIZE + ", ciascuno nella propria transazione. Gli elementi scartati sono riportati con la loro posizione " +
+                    "(i primi " + BulkCreateResource.MAX_ERROR_LIST_SIZE + ", il totale in failed). Oltre " + BULK_MAX_SIZE +
+                    " elementi il resto del corpo non viene letto.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Esito per elemento (create e scartate)",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = BulkCreateResource.class))),
+    })
+    @PostMapping(value = "/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE},
+            produces = "application/json")
+    public ResponseEntity<BulkCreateResource> createTaskList(InputStream body) throws IOException {
+        logger.info(LoggerUtils.getStandardLoggerMsg(logger, "createTaskList", "start", false));
+
+        BulkCreateResource result = new BulkCreateResource();
+        List<TaskModel> chunk = new ArrayList<>(BULK_CHUNK_SIZE);
+        List<Integer> chunkIndexList = new ArrayList<>(BULK_CHUNK_SIZE);
+        int index = 0;
+
+        // readValues scorre sia gli elementi di un array radice sia i valori NDJSON, senza bufferizzare il corpo
+        try (MappingIterator<CreateTaskRequest> iterator = objectMapper.readerFor(CreateTaskRequest.class).readValues(body)) {
+            while (true) {
+                CreateTaskRequest request;
+
+                try {
+                    if (!iterator.hasNextValue()) break;
+                    if (index == BULK_MAX_SIZE) {
+                        result.addError(index, "Superato il limite di " + BULK_MAX_SIZE +
+                                               " elementi: il resto del corpo è ignorato");
+                        break;
+                    }
+                    request = iterator.nextValue();
+                } catch (DatabindException ex) {
+                    // elemento con tipi non validi: l'iteratore si riallinea sul valore successivo
+                    result.addError(index++, ex.getOriginalMessage());
+                    continue;
+                } catch (JsonProcessingException ex) {
+                    // JSON malformato: la posizione nello stream non è più affidabile
+                    result.addError(index, ex.getOriginalMessage());
+                    break;
+                }
+
+                int itemIndex = index++;
+                String violations = validate(request);
+
+                if (violations != null) {
+                    result.addError(itemIndex, violations);
+                    continue;
+                }
+
+                chunk.add(assembler.assembleModel(request));
+                chunkIndexList.add(itemIndex);
+
+                if (chunk.size() == BULK_CHUNK_SIZE) {
+                    writeChunk(chunk, chunkIndexList, result);
+                    chunk.clear();
+                    chunkIndexList.clear();
+                }
+            }
+        }
+
+        writeChunk(chunk, chunkIndexList, result);
+
+        logger.info("{} - [RESULT: result->{}]",
+                LoggerUtils.getStandardLoggerMsg(logger, "createTaskList", "end", false),
+                LogPayloadUtils.payload(result));
+        return ResponseEntity.ok(result);
+    }
+
     @Operation(summary = "Aggiorna task", description = "Aggiorna nome, descrizione, stato e icona della task")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Task aggiornata con successo",
@@ -163,14 +367,16 @@ public class TasksController {
     public ResponseEntity<TaskResource> updateTask(@PathVariable Long id,
                                                    @RequestBody @Valid UpdateTaskRequest request) {
         logger.info("{} - [PARAMS: id->{} ; request->{}]",
-                LoggerUtils.getStandardLoggerMsg("start", false), id, request);
+                LoggerUtils.getStandardLoggerMsg(logger, "updateTask", "start", false),
+                id, LogPayloadUtils.payload(request));
 
         TaskModel model = assembler.assembleModel(request, id);
         model = service.update(model);
         TaskResource resource = mapper.toResource(model);
 
         logger.info("{} - [RESULT: result -> {}]",
-                LoggerUtils.getStandardLoggerMsg("end", false), resource);
+                LoggerUtils.getStandardLoggerMsg(logger, "updateTask", "end", false),
+                LogPayloadUtils.payload(resource));
         return ResponseEntity.ok(resource);
     }
 
@@ -186,13 +392,14 @@ public class TasksController {
     @DeleteMapping(value = "/archive/{id:\\d+}", produces = "application/json")
     public ResponseEntity<TaskResource> archiveTask(@PathVariable Long id) {
         logger.info("{} - [PARAMS: id->{}]",
-                LoggerUtils.getStandardLoggerMsg("start", false), id);
+                LoggerUtils.getStandardLoggerMsg(logger, "archiveTask", "start", false), id);
 
         TaskModel model = service.archiveEl(id);
         TaskResource resource = mapper.toResource(model);
 
         logger.info("{} - [RESULT: response->{}]",
-                LoggerUtils.getStandardLoggerMsg("end", false), resource);
+                LoggerUtils.getStandardLoggerMsg(logger, "archiveTask", "end", false),
+                LogPayloadUtils.payload(resource));
         return ResponseEntity.ok(resource);
     }
 
@@ -208,7 +415,8 @@ public class TasksController {
     @PostMapping(value = "/archive", consumes = "application/json", produces = "application/json")
     public ResponseEntity<BulkResource> archiveTaskList(@RequestBody @Valid IdsRequest req) {
         logger.info("{} - [PARAMS: request->{}]",
-                LoggerUtils.getStandardLoggerMsg("start", false), req);
+                LoggerUtils.getStandardLoggerMsg(logger, "archiveTaskList", "start", false),
+                LogPayloadUtils.payload(req));
 
         List<Long> idList = req.getIdList().stream().distinct().toList();
 
@@ -216,7 +424,8 @@ public class TasksController {
         BulkResource result = new BulkResource(BulkOperation.ARCHIVE_LIST , updatedRow);
 
         logger.info("{} - [RESULT: response->{}]",
-                LoggerUtils.getStandardLoggerMsg("end", false), result);
+                LoggerUtils.getStandardLoggerMsg(logger, "archiveTaskList", "end", false),
+                LogPayloadUtils.payload(result));
         return ResponseEntity.ok(result);
     }
 
@@ -232,14 +441,15 @@ public class TasksController {
     @PutMapping(value = "/restore/{id:\\d+}", produces = "application/json")
     public ResponseEntity<TaskResource> restoreTask(@PathVariable Long id) {
         logger.info("{} - [PARAMS: id->{}]",
-                LoggerUtils.getStandardLoggerMsg("start", false), id);
+                LoggerUtils.getStandardLoggerMsg(logger, "restoreTask", "start", false), id);
 
         TaskModel model = service.restoreEl(id);
 
         TaskResource resource = mapper.toResource(model);
 
         logger.info("{} - [RESULT: response->{}]",
-                LoggerUtils.getStandardLoggerMsg("end", false), resource);
+                LoggerUtils.getStandardLoggerMsg(logger, "restoreTask", "end", false),
+                LogPayloadUtils.payload(resource));
         return ResponseEntity.ok(resource);
     }
 
@@ -255,7 +465,8 @@ public class TasksController {
     @PostMapping(value = "/restore", consumes = "application/json", produces = "application/json")
     public ResponseEntity<BulkResource> restoreTaskList(@RequestBody @Valid IdsRequest req) {
         logger.info("{} - [PARAMS: request->{}]",
-                LoggerUtils.getStandardLoggerMsg("start", false), req);
+                LoggerUtils.getStandardLoggerMsg(logger, "restoreTaskList", "start", false),
+                LogPayloadUtils.payload(req));
 
         List<Long> idList = req.getIdList().stream().distinct().toList();
 
@@ -263,7 +474,8 @@ public class TasksController {
         BulkResource result = new BulkResource(BulkOperation.RESTORE_LIST , updatedRow);
 
         logger.info("{} - [RESULT: response->{}]",
-                LoggerUtils.getStandardLoggerMsg("end", false), result);
+                LoggerUtils.getStandardLoggerMsg(logger, "restoreTaskList", "end", false),
+                LogPayloadUtils.payload(result));
         return ResponseEntity.ok(result);
     }
 
@@ -277,11 +489,11 @@ public class TasksController {
     @DeleteMapping("/delete/{id:\\d+}")
     public ResponseEntity<Void> deleteTask(@PathVariable Long id) {
         logger.info("{} - [PARAMS: id->{}]",
-                LoggerUtils.getStandardLoggerMsg("start", false), id);
+                LoggerUtils.getStandardLoggerMsg(logger, "deleteTask", "start", false), id);
 
         service.delete(id);
 
-        logger.info(LoggerUtils.getStandardLoggerMsg("end", false));
+        logger.info(LoggerUtils.getStandardLoggerMsg(logger, "deleteTask", "end", false));
         return ResponseEntity.noContent().build();
     }
 
@@ -297,7 +509,8 @@ public class TasksController {
     @PostMapping(value = "/delete",produces="application/json", consumes = "application/json")
     public ResponseEntity<BulkResource> deleteTaskList(@RequestBody @Valid IdsRequest req) {
         logger.info("{} - [PARAMS: request->{}]",
-                LoggerUtils.getStandardLoggerMsg("start", false), req);
+                LoggerUtils.getStandardLoggerMsg(logger, "deleteTaskList", "start", false),
+                LogPayloadUtils.payload(req));
 
         List<Long> idList = req.getIdList().stream().distinct().toList();
 
@@ -305,7 +518,43 @@ public class TasksController {
         BulkResource result = new BulkResource(BulkOperation.DELETE_LIST , updatedRow);
 
         logger.info("{} - [RESULT: response->{}]",
-                LoggerUtils.getStandardLoggerMsg("end", false), result);
+                LoggerUtils.getStandardLoggerMsg(logger, "deleteTaskList", "end", false),
+                LogPayloadUtils.payload(result));
         return ResponseEntity.ok(result);
     }
+
+    private String validate(CreateTaskRequest request) {
+        if (request == null) return "Elemento vuoto";
+
+        Set<ConstraintViolation<CreateTaskRequest>> violationSet = validator.validate(request);
+        if (violationSet.isEmpty()) return null;
+
+        return violationSet.stream()
+                .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    /// Un blocco fallito per i dati (board inesistente, vincolo violato) viene ripetuto elemento per elemento per isolare
+    /// gli scarti; gli altri errori (connessione persa, timeout) interrompono la richiesta invece di ripetere 500 insert
+    private void writeChunk(List<TaskModel> chunk, List<Integer> chunkIndexList, BulkCreateResource result) {
+        if (chunk.isEmpty()) return;
+
+        try {
+            result.addCreated(service.createList(chunk).size());
+        } catch (NotFoundException | DataIntegrityViolationException ex) {
+            logger.warn("{} - [INFO: chunk size->{} fallito, inserimento per elemento ; cause->{}]",
+                    LoggerUtils.getStandardLoggerMsg(logger, "writeChunk", "mid", false),
+                    chunk.size(), ex.getMessage());
+
+            for (int i = 0; i < chunk.size(); i++) {
+                try {
+                    service.create(chunk.get(i));
+                    result.addCreated(1);
+                } catch (NotFoundException | DataIntegrityViolationException itemEx) {
+                    result.addError(chunkIndexList.get(i), itemEx.getMessage());
+                }
+            }
+        }
+    }
 }
@@ -0,0 +1,25 @@
+package com.example.task_board_be.enums;
+
+import java.util.Locale;
+
+/// Tipi di evento dello stream /boards/{id}/events. RESYNC: cambiamento set-based di cui non si conoscono
+/// le righe, oppure stream ripreso da un id non più disponibile; il client ricarica board e task
+public enum BoardEventType {
+    TASK_CREATED,
+    TASK_UPDATED,
+    TASK_ARCHIVED,
+    TASK_RESTORED,
+    TASK_DELETED,
+    BOARD_UPDATED,
+    BOARD_ARCHIVED,
+    BOARD_RESTORED,
+    BOARD_DELETED,
+    RESYNC;
+
+    private final String eventName = name().toLowerCase(Locale.ROOT).replace('_', '-');
+
+    /// Nome del campo "event:" SSE, es. task-created
+    public String eventName() {
+        return eventName;
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.task_board_be.enums;
 
 public enum BulkOperation {
+    CREATE_LIST,
     ARCHIVE_LIST,
     RESTORE_LIST,
     DELETE_LIST,
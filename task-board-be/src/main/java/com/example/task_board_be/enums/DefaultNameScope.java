@@ -0,0 +1,8 @@
+package com.example.task_board_be.enums;
+
+/// Insieme di righe in cui un indice di default ("New Board 3", "New Task 3") deve essere unico:
+/// tutte le board (scopeId 0) oppure le task attive di una board (scopeId = id della board)
+public enum DefaultNameScope {
+    BOARD,
+    TASK;
+}
@@ -0,0 +1,10 @@
+package com.example.task_board_be.enums;
+
+/// Operazione registrata nell'outbox per una riga di board o task
+public enum OutboxEventType {
+    CREATED,
+    UPDATED,
+    ARCHIVED,
+    RESTORED,
+    DELETED;
+}
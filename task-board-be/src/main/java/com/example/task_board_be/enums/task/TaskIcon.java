@@ -1,7 +1,10 @@
 package com.example.task_board_be.enums.task;
 
+import com.example.task_board_be.utils.EnumLookup;
 import com.fasterxml.jackson.annotation.JsonCreator;
 
+import java.util.Map;
+
 public enum TaskIcon {
     NONE,
     BUG,
@@ -11,8 +14,26 @@ public enum TaskIcon {
     TEST,
     MAINTENANCE;
 
+    private static final EnumLookup<TaskIcon> LOOKUP = new EnumLookup<>(TaskIcon.class, NONE, Map.of(
+            "bugfix", BUG,
+            "fix", BUG,
+            "feat", FEATURE,
+            "docs", DOCUMENTATION,
+            "doc", DOCUMENTATION,
+            "tests", TEST,
+            "chore", MAINTENANCE
+    ));
+
+    /// Nome o alias senza distinzione di maiuscole; l'eccezione resta solo per Jackson, che la traduce in 400
     @JsonCreator
     public static TaskIcon fromValue(String value) {
-        return TaskIcon.valueOf(value.toUpperCase());
+        TaskIcon icon = LOOKUP.findOrNull(value);
+        if (icon == null) throw new IllegalArgumentException("Unknown task icon: " + value);
+        return icon;
+    }
+
+    /// NONE per valori vuoti o sconosciuti, senza allocazioni né eccezioni
+    public static TaskIcon parseOrNone(String value) {
+        return LOOKUP.find(value);
     }
 }
@@ -1,7 +1,10 @@
 package com.example.task_board_be.enums.task;
 
+import com.example.task_board_be.utils.EnumLookup;
 import com.fasterxml.jackson.annotation.JsonCreator;
 
+import java.util.Map;
+
 public enum TaskStatus {
     NONE,
     TODO,
@@ -10,8 +13,26 @@ public enum TaskStatus {
     BLOCKED,
     CANCELED;
 
+    private static final EnumLookup<TaskStatus> LOOKUP = new EnumLookup<>(TaskStatus.class, NONE, Map.of(
+            "to do", TODO,
+            "open", TODO,
+            "doing", IN_PROGRESS,
+            "wip", IN_PROGRESS,
+            "completed", DONE,
+            "closed", DONE,
+            "cancelled", CANCELED
+    ));
+
+    /// Nome o alias senza distinzione di maiuscole; l'eccezione resta solo per Jackson, che la traduce in 400
     @JsonCreator
     public static TaskStatus fromValue(String value) {
-        return TaskStatus.valueOf(value.toUpperCase());
+        TaskStatus status = LOOKUP.findOrNull(value);
+        if (status == null) throw new IllegalArgumentException("Unknown task status: " + value);
+        return status;
+    }
+
+    /// NONE per valori vuoti o sconosciuti, senza allocazioni né eccezioni
+    public static TaskStatus parseOrNone(String value) {
+        return LOOKUP.find(value);
     }
 }
@@ -1,6 +1,9 @@
 package com.example.task_board_be.exception;
 
 import com.example.task_board_be.exception.custom.NotFoundException;
+import com.example.task_board_be.exception.custom.OverloadedException;
+import com.example.task_board_be.exception.custom.StateMismatchException;
+import com.example.task_board_be.exception.custom.SyncExpiredException;
 import com.example.task_board_be.pojo.resource.ErrorResource;
 import com.example.task_board_be.utils.LoggerUtils;
 import jakarta.servlet.http.HttpServletRequest;
@@ -9,6 +12,7 @@ import org.apache.coyote.BadRequestException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -35,13 +39,51 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ErrorResource> handleNotFound(NotFoundException ex, HttpServletRequest req) {
         logger.warn("ECCEZZIONE STATUS 404");
         logger.warn("{} - [URI:{} ; METHOD:{} ; MSG:{}]",
-                LoggerUtils.getStandardLoggerMsg("exception", true),
+                LoggerUtils.getStandardLoggerMsg(logger, "handleNotFound", "exception", true),
                 req.getRequestURI(), req.getMethod(), ex.getMessage());
 
         return ResponseEntity.status(HttpStatus.NOT_FOUND)
                 .body(new ErrorResource(404, ex.getMessage()));
     }
 
+    /* 409 dominio (entity nello stato opposto: archiviata invece che attiva o viceversa) */
+    @ExceptionHandler(StateMismatchException.class)
+    public ResponseEntity<ErrorResource> handleStateMismatch(StateMismatchException ex, HttpServletRequest req) {
+        logger.warn("ECCEZZIONE STATUS 409");
+        logger.warn("{} - [URI:{} ; METHOD:{} ; MSG:{}]",
+                LoggerUtils.getStandardLoggerMsg(logger, "handleStateMismatch", "exception", true),
+                req.getRequestURI(), req.getMethod(), ex.getMessage());
+
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(new ErrorResource(409, ex.getMessage()));
+    }
+
+    /* 410 watermark di sync più vecchio delle tombstone conservate */
+    @ExceptionHandler(SyncExpiredException.class)
+    public ResponseEntity<ErrorResource> handleSyncExpired(SyncExpiredException ex, HttpServletRequest req) {
+        logger.warn("ECCEZZIONE STATUS 410");
+        logger.warn("{} - [URI:{} ; METHOD:{} ; MSG:{}]",
+                LoggerUtils.getStandardLoggerMsg(logger, "handleSyncExpired", "exception", true),
+                req.getRequestURI(), req.getMethod(), ex.getMessage());
+
+        return ResponseEntity.status(HttpStatus.GONE)
+                .body(new ErrorResource(410, ex.getMessage()));
+    }
+
+    /* 503 coda del limitatore di concorrenza scaduta */
+    @ExceptionHandler(OverloadedException.class)
+    public ResponseEntity<ErrorResource> handleOverloaded(OverloadedException ex, HttpServletRequest req) {
+        logger.warn("ECCEZZIONE STATUS 503");
+        logger.warn("{} - [URI:{} ; METHOD:{} ; MSG:{}]",
+                LoggerUtils.getStandardLoggerMsg(logger, "handleOverloaded", "exception", true),
+                req.getRequestURI(), req.getMethod(), ex.getMessage());
+
+        long retryAfterSeconds = Math.max(1, ex.getRetryAfter().toSeconds());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(new ErrorResource(503, ex.getMessage()));
+    }
+
     /* 400 bad request esplicita dal dominio */
     @ExceptionHandler(BadRequestException.class)
     public ResponseEntity<ErrorResource> handleBadRequest(BadRequestException ex, HttpServletRequest req) {
@@ -51,7 +93,7 @@ public class GlobalExceptionHandler {
 
         logger.warn("ECCEZZIONE STATUS 400");
         logger.warn("{} - [URI:{} ; METHOD:{} ; MSG:{}]",
-                LoggerUtils.getStandardLoggerMsg("exception", true),
+                LoggerUtils.getStandardLoggerMsg(logger, "handleBadRequest", "exception", true),
                 req.getRequestURI(), req.getMethod(), msg);
 
         return ResponseEntity.badRequest().body(new ErrorResource(400, msg));
@@ -62,7 +104,7 @@ public class GlobalExceptionHandler {
         String msg = ex.getMessage() != null && !ex.getMessage().isBlank() ? ex.getMessage() : "Bad request";
         logger.warn("ECCEZZIONE STATUS 400");
         logger.warn("{} - [URI:{} ; METHOD:{} ; MSG:{}]",
-                LoggerUtils.getStandardLoggerMsg("exception", true),
+                LoggerUtils.getStandardLoggerMsg(logger, "handleIllegalArg", "exception", true),
                 req.getRequestURI(), req.getMethod(), msg);
         return ResponseEntity.badRequest().body(new ErrorResource(400, msg));
     }
@@ -81,7 +123,7 @@ public class GlobalExceptionHandler {
 
         logger.warn("ECCEZZIONE STATUS 405");
         logger.warn("{} - [URI:{} ; METHOD:{} ; ALLOWED:{} ; MSG:{}]",
-                LoggerUtils.getStandardLoggerMsg("exception", true),
+                LoggerUtils.getStandardLoggerMsg(logger, "handleMethodNotSupported", "exception", true),
                 req.getRequestURI(), req.getMethod(), allowedNames, msg);
 
         HttpMethod[] allowArray = (methods == null) ? new HttpMethod[0] : methods.toArray(new HttpMethod[0]);
@@ -98,7 +140,7 @@ public class GlobalExceptionHandler {
 
         logger.warn("ECCEZZIONE STATUS 404");
         logger.warn("{} - [URI:{} ; METHOD:{} ; MSG:{}]",
-                LoggerUtils.getStandardLoggerMsg("exception", true),
+                LoggerUtils.getStandardLoggerMsg(logger, "handleNoHandler", "exception", true),
                 req.getRequestURI(), req.getMethod(), msg);
 
         return ResponseEntity.status(HttpStatus.NOT_FOUND)
@@ -118,7 +160,7 @@ public class GlobalExceptionHandler {
 
         logger.warn("ECCEZZIONE STATUS 400");
         logger.warn("{} - [URI:{} ; METHOD:{} ; ERRORS:{}]",
-                LoggerUtils.getStandardLoggerMsg("exception", true),
+                LoggerUtils.getStandardLoggerMsg(logger, "handleMethodArgumentNotValid", "exception", true),
                 req.getRequestURI(), req.getMethod(), errors);
 
         return ResponseEntity.badRequest().body(new ErrorResource(400, msg));
@@ -132,7 +174,7 @@ public class GlobalExceptionHandler {
         String msg = "Constraint violation";
         logger.warn("ECCEZZIONE STATUS 400");
         logger.warn("{} - [URI:{} ; METHOD:{} ; ERRORS:{}]",
-                LoggerUtils.getStandardLoggerMsg("exception", true),
+                LoggerUtils.getStandardLoggerMsg(logger, "handleConstraintViolation", "exception", true),
                 req.getRequestURI(), req.getMethod(),
                 ex.getConstraintViolations().stream()
                         .map(v -> v.getPropertyPath() + ": " + v.getMessage())
@@ -149,7 +191,7 @@ public class GlobalExceptionHandler {
 
         logger.warn("ECCEZZIONE STATUS 400");
         logger.warn("{} - [URI:{} ; METHOD:{} ; MSG:{}]",
-                LoggerUtils.getStandardLoggerMsg("exception", true),
+                LoggerUtils.getStandardLoggerMsg(logger, "handleNotReadable", "exception", true),
                 req.getRequestURI(), req.getMethod(),
                 ex.getMostSpecificCause() != null ? ex.getMostSpecificCause().getMessage() : ex.getMessage());
 
@@ -165,7 +207,7 @@ public class GlobalExceptionHandler {
 
         logger.warn("ECCEZZIONE STATUS 400");
         logger.warn("{} - [URI:{} ; METHOD:{} ; MSG:{}]",
-                LoggerUtils.getStandardLoggerMsg("exception", true),
+                LoggerUtils.getStandardLoggerMsg(logger, "handleTypeMismatch", "exception", true),
                 req.getRequestURI(), req.getMethod(), msg);
 
         return ResponseEntity.badRequest().body(new ErrorResource(400, msg));
@@ -178,7 +220,7 @@ public class GlobalExceptionHandler {
 
         logger.warn("ECCEZZIONE STATUS 400");
         logger.warn("{} - [URI:{} ; METHOD:{} ; ERRORS:{}]",
-                LoggerUtils.getStandardLoggerMsg("exception", true),
+                LoggerUtils.getStandardLoggerMsg(logger, "handleBind", "exception", true),
                 req.getRequestURI(), req.getMethod(),
                 ex.getBindingResult().getFieldErrors().stream()
                         .map(fe -> fe.getField() + ": " + fe.getDefaultMessage())
@@ -195,7 +237,7 @@ public class GlobalExceptionHandler {
 
         logger.warn("ECCEZZIONE STATUS 409");
         logger.warn("{} - [URI:{} ; METHOD:{} ; MSG:{}]",
-                LoggerUtils.getStandardLoggerMsg("exception", true),
+                LoggerUtils.getStandardLoggerMsg(logger, "handleDataIntegrity", "exception", true),
                 req.getRequestURI(), req.getMethod(),
                 ex.getMostSpecificCause() != null ? ex.getMostSpecificCause().getMessage() : ex.getMessage());
 
@@ -219,7 +261,7 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ErrorResource> handleGeneric(Exception ex, HttpServletRequest req) {
         logger.error("ECCEZZIONE STATUS 500");
         logger.error("{} - [URI:{} ; METHOD:{} ; MSG:{}]",
-                LoggerUtils.getStandardLoggerMsg("exc", true),
+                LoggerUtils.getStandardLoggerMsg(logger, "handleGeneric", "exc", true),
                 req.getRequestURI(), req.getMethod(), ex.getMessage(), ex);
 
         // in prod, meglio un messaggio generico; per ora ti restituisco ex.getMessage() come avevi
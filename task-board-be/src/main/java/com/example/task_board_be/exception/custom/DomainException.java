@@ -0,0 +1,10 @@
+package com.example.task_board_be.exception.custom;
+
+/// Errori attesi del dominio (id inesistente, stato sbagliato, watermark scaduto, coda piena) che diventano una
+/// risposta 4xx/5xx già descritta dal messaggio: non catturano lo stack trace, che su questi percorsi costava più
+/// della risposta stessa e non veniva mai letto
+public abstract class DomainException extends RuntimeException{
+    protected DomainException(String message) {
+        super(message, null, false, false);
+    }
+}
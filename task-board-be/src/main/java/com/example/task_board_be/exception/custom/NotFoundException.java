@@ -1,6 +1,6 @@
 package com.example.task_board_be.exception.custom;
 
-public class NotFoundException extends RuntimeException{
+public class NotFoundException extends DomainException{
     public NotFoundException(String resource, Object id) {
         super(resource + " not found: id=" + id);
     }
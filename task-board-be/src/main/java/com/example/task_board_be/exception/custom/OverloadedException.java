@@ -0,0 +1,16 @@
+package com.example.task_board_be.exception.custom;
+
+import java.time.Duration;
+
+public class OverloadedException extends DomainException{
+    private final Duration retryAfter;
+
+    public OverloadedException(Duration retryAfter) {
+        super("Too many concurrent requests, retry later");
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -1,6 +1,6 @@
 package com.example.task_board_be.exception.custom;
 
-public class StateMismatchException extends RuntimeException{
+public class StateMismatchException extends DomainException{
     public StateMismatchException(String resource , String correctState , Long id) {
         super("The '"+resource+"' with id " + id + " is not " + correctState);
     }
@@ -0,0 +1,9 @@
+package com.example.task_board_be.exception.custom;
+
+import java.time.LocalDateTime;
+
+public class SyncExpiredException extends DomainException{
+    public SyncExpiredException(LocalDateTime since, LocalDateTime oldestTracked) {
+        super("Watermark " + since + " is older than the oldest tracked deletion (" + oldestTracked + "): full resync required");
+    }
+}
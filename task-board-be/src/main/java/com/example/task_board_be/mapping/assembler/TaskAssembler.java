@@ -6,7 +6,6 @@ import com.example.task_board_be.pojo.model.BoardModel;
 import com.example.task_board_be.pojo.model.TaskModel;
 import com.example.task_board_be.pojo.request.CreateTaskRequest;
 import com.example.task_board_be.pojo.request.UpdateTaskRequest;
-import org.apache.commons.lang3.StringUtils;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -16,8 +15,8 @@ public class TaskAssembler {
 
         taskModel.setName(request.getName());
         taskModel.setDescription(request.getDescription());
-        taskModel.setStatus(parseStatusOrNone(request.getStatus()));
-        taskModel.setIcon(parseIconOrNone(request.getIcon()));
+        taskModel.setStatus(TaskStatus.parseOrNone(request.getStatus()));
+        taskModel.setIcon(TaskIcon.parseOrNone(request.getIcon()));
 
         if (request.getBoardId() != null) {
             BoardModel boardModel = new BoardModel();
@@ -35,38 +34,10 @@ public class TaskAssembler {
         taskModel.setId(id);
         taskModel.setName(request.getName());
         taskModel.setDescription(request.getDescription());
-        taskModel.setStatus(parseStatusOrNone(request.getStatus()));
-        taskModel.setIcon(parseIconOrNone(request.getIcon()));
+        taskModel.setStatus(TaskStatus.parseOrNone(request.getStatus()));
+        taskModel.setIcon(TaskIcon.parseOrNone(request.getIcon()));
 
         return taskModel;
     }
 
-    private TaskStatus parseStatusOrNone(String raw) {
-        if (StringUtils.isBlank(raw)) return TaskStatus.NONE;
-        String s = raw.trim();
-        try {
-            return TaskStatus.fromValue(s);
-        } catch (Exception ignored) {
-            try {
-                return TaskStatus.valueOf(s.toUpperCase(java.util.Locale.ROOT));
-            } catch (IllegalArgumentException ex) {
-                return TaskStatus.NONE;
-            }
-        }
-    }
-
-    private TaskIcon parseIconOrNone(String raw) {
-        if (StringUtils.isBlank(raw)) return TaskIcon.NONE;
-        String s = raw.trim();
-        try {
-            return TaskIcon.fromValue(s);
-        } catch (Exception ignored) {
-            try {
-                return TaskIcon.valueOf(s.toUpperCase(java.util.Locale.ROOT));
-            } catch (IllegalArgumentException ex) {
-                return TaskIcon.NONE;
-            }
-        }
-    }
-
 }
@@ -3,8 +3,11 @@ package com.example.task_board_be.mapping.mapper;
 import com.example.task_board_be.pojo.entity.Board;
 import com.example.task_board_be.pojo.entity.Task;
 import com.example.task_board_be.pojo.model.BoardModel;
+import com.example.task_board_be.pojo.model.BoardTaskCountModel;
 import com.example.task_board_be.pojo.model.TaskModel;
+import com.example.task_board_be.pojo.projection.BoardView;
 import com.example.task_board_be.pojo.resource.BoardResource;
+import com.example.task_board_be.pojo.resource.BoardTaskCountResource;
 import com.example.task_board_be.pojo.resource.TaskResource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
@@ -71,9 +74,35 @@ public class BoardMapper implements GenericMapper<BoardModel , Board , BoardReso
         boardResource.setDescription(boardModel.getDescription());
         boardResource.setTaskResourceList(taskResourceList);
 
+        // solo le attive: sono quelle coperte dall'ETag del dettaglio
+        BoardTaskCountModel taskCountModel = boardModel.getTaskCountModel();
+        if (taskCountModel != null) boardResource.setTaskCountMap(taskCountModel.getTaskCountMap());
+
+        return boardResource;
+    }
+
+    /// Riga di lista: le task non fanno parte della proiezione
+    public BoardResource toResource(BoardView boardView) {
+        BoardResource boardResource = new BoardResource();
+
+        boardResource.setId(boardView.id());
+        boardResource.setName(boardView.name());
+        boardResource.setDescription(boardView.description());
+        boardResource.setTaskResourceList(List.of());
+
         return boardResource;
     }
 
+    public BoardTaskCountResource toResource(BoardTaskCountModel taskCountModel) {
+        return new BoardTaskCountResource(taskCountModel.getBoardId(), taskCountModel.getTaskCountMap(),
+                taskCountModel.getArchivedTaskCountMap());
+    }
+
+    public List<BoardTaskCountResource> toTaskCountResourceList(List<BoardTaskCountModel> taskCountModelList) {
+        if (taskCountModelList == null || taskCountModelList.isEmpty()) return List.of();
+        return taskCountModelList.stream().filter(Objects::nonNull).map(this::toResource).toList();
+    }
+
     @Override
     public List<Board> toEntityList(List<BoardModel> boardModels) {
         if (boardModels == null || boardModels.isEmpty()) return List.of();
@@ -92,6 +121,14 @@ public class BoardMapper implements GenericMapper<BoardModel , Board , BoardReso
         return boardModels.stream().filter(Objects::nonNull).map(this::toResource).toList();
     }
 
+    /// Board con le task già lette da una query dedicata (es. solo attive): non inizializza la collezione lazy
+    public BoardModel toModelWithCascade(Board board, List<TaskModel> taskModelList) {
+        BoardModel boardModel = toModel(board);
+        boardModel.setTaskModelList(taskModelList);
+
+        return boardModel;
+    }
+
     public BoardModel toModelWithCascade(Board board){
         BoardModel boardModel = new BoardModel();
 
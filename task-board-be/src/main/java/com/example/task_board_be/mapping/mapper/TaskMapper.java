@@ -2,6 +2,7 @@ package com.example.task_board_be.mapping.mapper;
 
 import com.example.task_board_be.pojo.entity.Task;
 import com.example.task_board_be.pojo.model.TaskModel;
+import com.example.task_board_be.pojo.projection.TaskView;
 import com.example.task_board_be.pojo.resource.TaskResource;
 import org.springframework.stereotype.Component;
 
@@ -46,6 +47,17 @@ public class TaskMapper implements GenericMapper<TaskModel, Task, TaskResource>
         return taskResource;
     }
 
+    public TaskResource toResource(TaskView taskView) {
+        TaskResource taskResource = new TaskResource();
+        taskResource.setId(taskView.id());
+        taskResource.setName(taskView.name());
+        taskResource.setIcon(taskView.icon());
+        taskResource.setStatus(taskView.status());
+        taskResource.setDescription(taskView.description());
+        taskResource.setBoardId(taskView.boardId());
+        return taskResource;
+    }
+
     @Override
     public List<Task> toEntityList(List<TaskModel> taskModels) {
         if (taskModels == null || taskModels.isEmpty()) return List.of();
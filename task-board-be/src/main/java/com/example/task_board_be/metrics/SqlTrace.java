@@ -0,0 +1,7 @@
+package com.example.task_board_be.metrics;
+
+import java.time.Instant;
+
+/// Esecuzione campionata di uno statement: rows = righe lette (query) o modificate (update/batch)
+public record SqlTrace(String fingerprint, long durationNanos, long rows, String caller, Instant at) {
+}
@@ -0,0 +1,90 @@
+package com.example.task_board_be.metrics;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/// /actuator/sqltrace: statement più lenti e più frequenti tra quelli ancora nel ring buffer
+/// (GET ?limit=N, default 10); DELETE svuota il buffer
+@Endpoint(id = "sqltrace")
+public class SqlTraceEndpoint {
+    private static final int DEFAULT_LIMIT = 10;
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final SqlTraceRecorder recorder;
+
+    public SqlTraceEndpoint(SqlTraceRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    @ReadOperation
+    public SqlTraceReport report(@Nullable Integer limit) {
+        int max = (limit == null || limit <= 0) ? DEFAULT_LIMIT : limit;
+        List<SqlTrace> traceList = recorder.snapshot();
+
+        List<SlowStatement> slowestList = traceList.stream()
+                .sorted(Comparator.comparingLong(SqlTrace::durationNanos).reversed())
+                .limit(max)
+                .map(t -> new SlowStatement(t.fingerprint(), t.durationNanos() / NANOS_PER_MILLI, t.rows(), t.caller(), t.at()))
+                .toList();
+
+        Map<String, Aggregate> aggregateMap = new HashMap<>();
+        for (SqlTrace trace : traceList) {
+            aggregateMap.computeIfAbsent(trace.fingerprint(), k -> new Aggregate()).add(trace);
+        }
+
+        List<FrequentStatement> frequentList = aggregateMap.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, Aggregate> e) -> e.getValue().count).reversed())
+                .limit(max)
+                .map(e -> e.getValue().toStatement(e.getKey()))
+                .toList();
+
+        return new SqlTraceReport(recorder.sampleRate(), recorder.capacity(), recorder.recorded(), traceList.size(),
+                slowestList, frequentList);
+    }
+
+    @DeleteOperation
+    public void clear() {
+        recorder.clear();
+    }
+
+    public record SqlTraceReport(double sampleRate, int capacity, long recorded, int buffered,
+                                 List<SlowStatement> slowest, List<FrequentStatement> mostFrequent) {
+    }
+
+    public record SlowStatement(String fingerprint, double durationMs, long rows, String caller, Instant at) {
+    }
+
+    public record FrequentStatement(String fingerprint, long count, double totalMs, double meanMs, double maxMs,
+                                    long rows, List<String> callerList) {
+    }
+
+    private static final class Aggregate {
+        private long count;
+        private long totalNanos;
+        private long maxNanos;
+        private long rows;
+        private final List<String> callerList = new ArrayList<>();
+
+        private void add(SqlTrace trace) {
+            count++;
+            totalNanos += trace.durationNanos();
+            maxNanos = Math.max(maxNanos, trace.durationNanos());
+            rows += trace.rows();
+            if (callerList.size() < 5 && !callerList.contains(trace.caller())) callerList.add(trace.caller());
+        }
+
+        private FrequentStatement toStatement(String fingerprint) {
+            return new FrequentStatement(fingerprint, count, totalNanos / NANOS_PER_MILLI,
+                    totalNanos / NANOS_PER_MILLI / count, maxNanos / NANOS_PER_MILLI, rows, callerList);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.task_board_be.metrics;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.regex.Pattern;
+
+/// Ring buffer in memoria degli statement SQL campionati: capacità fissa, le tracce più vecchie vengono sovrascritte.
+/// La decisione di campionamento è presa alla creazione dello statement, quelli scartati non vengono nemmeno avvolti
+public class SqlTraceRecorder {
+    private static final Pattern IN_LIST = Pattern.compile("\\?(\\s*,\\s*\\?)+");
+    private static final String PACKAGE_PREFIX = "com.example.task_board_be.";
+    private static final String SERVICE_PREFIX = PACKAGE_PREFIX + "service.";
+    private static final StackWalker WALKER = StackWalker.getInstance();
+
+    private final AtomicReferenceArray<SqlTrace> buffer;
+    private final int mask;
+    private final AtomicLong cursor = new AtomicLong();
+    private final double sampleRate;
+
+    /// capacity arrotondata alla potenza di due successiva
+    public SqlTraceRecorder(int capacity, double sampleRate) {
+        int size = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1;
+
+        this.buffer = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+        this.sampleRate = sampleRate;
+    }
+
+    public boolean shouldSample() {
+        return sampleRate >= 1.0 || (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
+
+    public void record(String sql, long durationNanos, long rows, String caller) {
+        SqlTrace trace = new SqlTrace(fingerprint(sql), durationNanos, rows, caller, Instant.now());
+        buffer.set((int) (cursor.getAndIncrement() & mask), trace);
+    }
+
+    /// Tracce presenti nel buffer, dalla più vecchia
+    public List<SqlTrace> snapshot() {
+        long end = cursor.get();
+        long start = Math.max(0, end - buffer.length());
+        List<SqlTrace> traceList = new ArrayList<>((int) (end - start));
+
+        for (long i = start; i < end; i++) {
+            SqlTrace trace = buffer.get((int) (i & mask));
+            if (trace != null) traceList.add(trace);
+        }
+        return traceList;
+    }
+
+    public void clear() {
+        for (int i = 0; i < buffer.length(); i++) buffer.set(i, null);
+    }
+
+    public long recorded() {
+        return cursor.get();
+    }
+
+    public int capacity() {
+        return buffer.length();
+    }
+
+    public double sampleRate() {
+        return sampleRate;
+    }
+
+    /// Primo metodo dei service nello stack (altrimenti il primo dell'applicazione), "Classe.metodo"
+    public String caller() {
+        return WALKER.walk(frames -> {
+            String fallback = null;
+
+            for (StackWalker.StackFrame frame : (Iterable<StackWalker.StackFrame>) frames::iterator) {
+                String className = frame.getClassName();
+                if (!className.startsWith(PACKAGE_PREFIX) || className.contains("$$")) continue;
+
+                String name = className.substring(className.lastIndexOf('.') + 1) + "." + frame.getMethodName();
+                if (className.startsWith(SERVICE_PREFIX)) return name;
+                if (fallback == null && !isTracingFrame(className)) fallback = name;
+            }
+            return fallback == null ? "-" : fallback;
+        });
+    }
+
+    /// Statement normalizzato: spazi compattati, letterali (stringhe e numeri) sostituiti da ?, liste IN di
+    /// lunghezza variabile ridotte a "?, ..." così che la stessa query con parametri diversi conti una volta sola
+    public static String fingerprint(String sql) {
+        if (sql == null) return "";
+
+        StringBuilder sb = new StringBuilder(sql.length());
+        boolean isSpace = false;
+
+        for (int i = 0; i < sql.length(); i++) {
+            char c = sql.charAt(i);
+
+            if (Character.isWhitespace(c)) {
+                isSpace = true;
+                continue;
+            }
+            if (isSpace && !sb.isEmpty()) sb.append(' ');
+            isSpace = false;
+
+            if (c == '\'') {
+                // letterale stringa, '' è l'apice escapato
+                i++;
+                while (i < sql.length() && !(sql.charAt(i) == '\'' && (i + 1 >= sql.length() || sql.charAt(i + 1) != '\''))) {
+                    if (sql.charAt(i) == '\'') i++;
+                    i++;
+                }
+                sb.append('?');
+            } else if (Character.isDigit(c) && (sb.isEmpty() || !isIdentifierPart(sb.charAt(sb.length() - 1)))) {
+                while (i + 1 < sql.length() && (Character.isDigit(sql.charAt(i + 1)) || sql.charAt(i + 1) == '.')) i++;
+                sb.append('?');
+            } else {
+                sb.append(c);
+            }
+        }
+
+        return IN_LIST.matcher(sb).replaceAll("?, ...");
+    }
+
+    private static boolean isTracingFrame(String className) {
+        String topLevel = className.contains("$") ? className.substring(0, className.indexOf('$')) : className;
+
+        return topLevel.equals(SqlTraceRecorder.class.getName()) || topLevel.equals(SqlTracingDataSource.class.getName());
+    }
+
+    private static boolean isIdentifierPart(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '$';
+    }
+}
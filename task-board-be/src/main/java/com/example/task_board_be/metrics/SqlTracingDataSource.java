@@ -0,0 +1,176 @@
+package com.example.task_board_be.metrics;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/// DataSource che misura gli statement campionati da SqlTraceRecorder: durata dell'esecuzione, righe
+/// (contate scorrendo il ResultSet per le query, dal valore di ritorno per update e batch) e metodo chiamante.
+/// Gli statement non campionati sono restituiti senza proxy, il costo resta nel solo prepareStatement
+public class SqlTracingDataSource extends DelegatingDataSource {
+    private final SqlTraceRecorder recorder;
+
+    public SqlTracingDataSource(DataSource target, SqlTraceRecorder recorder) {
+        super(target);
+        this.recorder = recorder;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(super.getConnection(username, password));
+    }
+
+    private Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+                new ConnectionHandler(connection));
+    }
+
+    private static Object invokeTarget(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    private final class ConnectionHandler implements InvocationHandler {
+        private final Connection target;
+
+        private ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = invokeTarget(target, method, args);
+
+            if (result instanceof Statement statement && recorder.shouldSample()) {
+                String sql = (args != null && args.length > 0 && args[0] instanceof String s) ? s : null;
+                Class<?> type = (statement instanceof CallableStatement) ? CallableStatement.class
+                        : (statement instanceof PreparedStatement) ? PreparedStatement.class : Statement.class;
+
+                return Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{type},
+                        new StatementHandler(statement, sql));
+            }
+            return result;
+        }
+    }
+
+    private final class StatementHandler implements InvocationHandler {
+        private final Statement target;
+        private final String preparedSql;
+        private String batchSql;
+        private ResultSetHandler openResultSet;
+
+        private StatementHandler(Statement target, String preparedSql) {
+            this.target = target;
+            this.preparedSql = preparedSql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+
+            if (!name.startsWith("execute")) {
+                if ("addBatch".equals(name) && args != null && args.length == 1 && batchSql == null) {
+                    batchSql = (String) args[0];
+                } else if ("close".equals(name)) {
+                    flush();
+                } else if ("getResultSet".equals(name) && openResultSet != null) {
+                    Object resultSet = invokeTarget(target, method, args);
+                    return (resultSet instanceof ResultSet rs) ? openResultSet.wrap(rs) : resultSet;
+                }
+                return invokeTarget(target, method, args);
+            }
+
+            String sql = (preparedSql != null) ? preparedSql
+                    : (args != null && args.length > 0 && args[0] instanceof String s) ? s : batchSql;
+            String caller = recorder.caller();
+
+            flush();
+            long start = System.nanoTime();
+            Object result = invokeTarget(target, method, args);
+            long durationNanos = System.nanoTime() - start;
+
+            if (result instanceof ResultSet resultSet) {
+                openResultSet = new ResultSetHandler(sql, durationNanos, caller);
+                return openResultSet.wrap(resultSet);
+            }
+            if (result instanceof Boolean hasResultSet) {
+                if (hasResultSet) openResultSet = new ResultSetHandler(sql, durationNanos, caller);
+                else recorder.record(sql, durationNanos, Math.max(target.getUpdateCount(), 0), caller);
+            } else {
+                recorder.record(sql, durationNanos, rows(result), caller);
+            }
+            batchSql = null;
+            return result;
+        }
+
+        private void flush() {
+            if (openResultSet != null) openResultSet.flush();
+            openResultSet = null;
+        }
+
+        private long rows(Object result) {
+            long rows = 0;
+
+            if (result instanceof Number count) rows = count.longValue();
+            else if (result instanceof int[] counts) for (int count : counts) rows += Math.max(count, 0);
+            else if (result instanceof long[] counts) for (long count : counts) rows += Math.max(count, 0);
+            return rows;
+        }
+    }
+
+    /// La traccia di una query è registrata alla chiusura del ResultSet (o dello statement), con le righe lette
+    private final class ResultSetHandler implements InvocationHandler {
+        private final String sql;
+        private final long durationNanos;
+        private final String caller;
+        private long rows;
+        private boolean isRecorded;
+        private ResultSet target;
+
+        private ResultSetHandler(String sql, long durationNanos, String caller) {
+            this.sql = sql;
+            this.durationNanos = durationNanos;
+            this.caller = caller;
+        }
+
+        private ResultSet wrap(ResultSet resultSet) {
+            this.target = resultSet;
+            return (ResultSet) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{ResultSet.class}, this);
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            Object result = invokeTarget(target, method, args);
+
+            if ("next".equals(name) && Boolean.TRUE.equals(result)) rows++;
+            else if ("close".equals(name)) flush();
+            return result;
+        }
+
+        private void flush() {
+            if (isRecorded) return;
+
+            isRecorded = true;
+            recorder.record(sql, durationNanos, rows, caller);
+        }
+    }
+}
@@ -17,6 +17,9 @@ public class Board extends BaseEntity{
     @Column(name = "description")
     private String description;
 
+    @Column(name = "default_name_index")
+    private Integer defaultNameIndex;
+
     @OneToMany(mappedBy = "board", cascade = CascadeType.ALL, orphanRemoval = true , fetch = FetchType.LAZY)
     private List<Task> taskList = new ArrayList<>();
 
@@ -51,6 +54,14 @@ public class Board extends BaseEntity{
         this.description = description;
     }
 
+    public Integer getDefaultNameIndex() {
+        return defaultNameIndex;
+    }
+
+    public void setDefaultNameIndex(Integer defaultNameIndex) {
+        this.defaultNameIndex = defaultNameIndex;
+    }
+
     public List<Task> getTaskList() {
         return taskList;
     }
@@ -0,0 +1,109 @@
+package com.example.task_board_be.pojo.entity;
+
+import com.example.task_board_be.enums.task.TaskStatus;
+import jakarta.persistence.*;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/// Contatore materializzato delle task di una board per (stato, archiviata). Le righe nascono con la board, una per
+/// combinazione, e vengono spostate con update incrementali nella stessa transazione delle modifiche alle task
+@Entity
+@Table(name = "board_task_count")
+@IdClass(BoardTaskCount.Key.class)
+public class BoardTaskCount {
+    @Id
+    @Column(name = "board_id")
+    private Long boardId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status")
+    private TaskStatus status;
+
+    @Id
+    @Column(name = "is_archived")
+    private boolean isArchived;
+
+    @Column(name = "task_count", nullable = false)
+    private long taskCount;
+
+    public BoardTaskCount() {
+    }
+
+    public BoardTaskCount(Long boardId, TaskStatus status, boolean isArchived, long taskCount) {
+        this.boardId = boardId;
+        this.status = status;
+        this.isArchived = isArchived;
+        this.taskCount = taskCount;
+    }
+
+    public Long getBoardId() {
+        return boardId;
+    }
+
+    public void setBoardId(Long boardId) {
+        this.boardId = boardId;
+    }
+
+    public TaskStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(TaskStatus status) {
+        this.status = status;
+    }
+
+    public boolean isArchived() {
+        return isArchived;
+    }
+
+    public void setIsArchived(boolean isArchived) {
+        this.isArchived = isArchived;
+    }
+
+    public long getTaskCount() {
+        return taskCount;
+    }
+
+    public void setTaskCount(long taskCount) {
+        this.taskCount = taskCount;
+    }
+
+    @Override
+    public String toString() {
+        return "BoardTaskCount{" +
+                "boardId=" + boardId +
+                ", status=" + status +
+                ", isArchived=" + isArchived +
+                ", taskCount=" + taskCount +
+                '}';
+    }
+
+    public static class Key implements Serializable {
+        private Long boardId;
+        private TaskStatus status;
+        private boolean isArchived;
+
+        public Key() {
+        }
+
+        public Key(Long boardId, TaskStatus status, boolean isArchived) {
+            this.boardId = boardId;
+            this.status = status;
+            this.isArchived = isArchived;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key that)) return false;
+            return isArchived == that.isArchived && Objects.equals(boardId, that.boardId) && status == that.status;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(boardId, status, isArchived);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.task_board_be.pojo.entity;
+
+import com.example.task_board_be.enums.DefaultNameScope;
+import jakarta.persistence.*;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/// Prossimo indice di default mai assegnato di uno scope. La riga fa anche da lock: chi alloca o scrive un indice
+/// la legge in PESSIMISTIC_WRITE, quindi le allocazioni dello stesso scope sono serializzate fino al commit
+@Entity
+@Table(name = "default_name_counter")
+@IdClass(DefaultNameCounter.Key.class)
+public class DefaultNameCounter {
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "scope")
+    private DefaultNameScope scope;
+
+    @Id
+    @Column(name = "scope_id")
+    private Long scopeId;
+
+    @Column(name = "next_index", nullable = false)
+    private int nextIndex;
+
+    public DefaultNameCounter() {
+    }
+
+    public DefaultNameCounter(DefaultNameScope scope, Long scopeId, int nextIndex) {
+        this.scope = scope;
+        this.scopeId = scopeId;
+        this.nextIndex = nextIndex;
+    }
+
+    public DefaultNameScope getScope() {
+        return scope;
+    }
+
+    public void setScope(DefaultNameScope scope) {
+        this.scope = scope;
+    }
+
+    public Long getScopeId() {
+        return scopeId;
+    }
+
+    public void setScopeId(Long scopeId) {
+        this.scopeId = scopeId;
+    }
+
+    public int getNextIndex() {
+        return nextIndex;
+    }
+
+    public void setNextIndex(int nextIndex) {
+        this.nextIndex = nextIndex;
+    }
+
+    @Override
+    public String toString() {
+        return "DefaultNameCounter{" +
+                "scope=" + scope +
+                ", scopeId=" + scopeId +
+                ", nextIndex=" + nextIndex +
+                '}';
+    }
+
+    public static class Key implements Serializable {
+        private DefaultNameScope scope;
+        private Long scopeId;
+
+        public Key() {
+        }
+
+        public Key(DefaultNameScope scope, Long scopeId) {
+            this.scope = scope;
+            this.scopeId = scopeId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key that)) return false;
+            return scope == that.scope && Objects.equals(scopeId, that.scopeId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(scope, scopeId);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.task_board_be.pojo.entity;
+
+import com.example.task_board_be.enums.DefaultNameScope;
+import jakarta.persistence.*;
+
+/// Intervallo di indici di default liberati (delete, archiviazione di task, rinomina) sotto il contatore dello scope.
+/// È un suggerimento, non un vincolo: gli indici ripresi da un nome esplicito restano nell'intervallo e vengono
+/// scartati all'allocazione, e righe duplicate sono innocue. Id da identity come l'outbox: niente conflitti di chiave
+/// tra insert-select concorrenti
+@Entity
+@Table(name = "default_name_gap")
+public class DefaultNameGap {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "scope", nullable = false)
+    private DefaultNameScope scope;
+
+    @Column(name = "scope_id", nullable = false)
+    private Long scopeId;
+
+    @Column(name = "start_index", nullable = false)
+    private int startIndex;
+
+    @Column(name = "end_index", nullable = false)
+    private int endIndex;
+
+    public DefaultNameGap() {
+    }
+
+    public DefaultNameGap(DefaultNameScope scope, Long scopeId, int startIndex, int endIndex) {
+        this.scope = scope;
+        this.scopeId = scopeId;
+        this.startIndex = startIndex;
+        this.endIndex = endIndex;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public DefaultNameScope getScope() {
+        return scope;
+    }
+
+    public void setScope(DefaultNameScope scope) {
+        this.scope = scope;
+    }
+
+    public Long getScopeId() {
+        return scopeId;
+    }
+
+    public void setScopeId(Long scopeId) {
+        this.scopeId = scopeId;
+    }
+
+    public int getStartIndex() {
+        return startIndex;
+    }
+
+    public void setStartIndex(int startIndex) {
+        this.startIndex = startIndex;
+    }
+
+    public int getEndIndex() {
+        return endIndex;
+    }
+
+    public void setEndIndex(int endIndex) {
+        this.endIndex = endIndex;
+    }
+
+    @Override
+    public String toString() {
+        return "DefaultNameGap{" +
+                "id=" + id +
+                ", scope=" + scope +
+                ", scopeId=" + scopeId +
+                ", startIndex=" + startIndex +
+                ", endIndex=" + endIndex +
+                '}';
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.task_board_be.pojo.entity;
+
+import com.example.task_board_be.enums.OutboxEventType;
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/// Evento compatto del change log (entità, id, operazione), scritto in insert-select nella stessa transazione
+/// della modifica e cancellato dal relay dopo l'invio. Id da identity: le righe nascono solo da insert-select,
+/// nessun batch JDBC da preservare, e l'ordine degli id è l'ordine di consegna
+@Entity
+@Table(name = "outbox_event")
+public class OutboxEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "entity_name", nullable = false)
+    private String entityName;
+
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false)
+    private OutboxEventType type;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    public OutboxEvent() {
+    }
+
+    public OutboxEvent(String entityName, Long entityId, OutboxEventType type, LocalDateTime createdAt) {
+        this.entityName = entityName;
+        this.entityId = entityId;
+        this.type = type;
+        this.createdAt = createdAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getEntityName() {
+        return entityName;
+    }
+
+    public void setEntityName(String entityName) {
+        this.entityName = entityName;
+    }
+
+    public Long getEntityId() {
+        return entityId;
+    }
+
+    public void setEntityId(Long entityId) {
+        this.entityId = entityId;
+    }
+
+    public OutboxEventType getType() {
+        return type;
+    }
+
+    public void setType(OutboxEventType type) {
+        this.type = type;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    @Override
+    public String toString() {
+        return "OutboxEvent{" +
+                "id=" + id +
+                ", entityName='" + entityName + '\'' +
+                ", entityId=" + entityId +
+                ", type=" + type +
+                ", createdAt=" + createdAt +
+                '}';
+    }
+}
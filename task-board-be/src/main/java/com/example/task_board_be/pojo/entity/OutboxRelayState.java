@@ -0,0 +1,51 @@
+package com.example.task_board_be.pojo.entity;
+
+import jakarta.persistence.*;
+
+/// Riga unica con l'ultimo id consegnato dal relay. Le righe dell'outbox vengono cancellate dopo l'invio: senza
+/// questo punto di ripresa un id mancante subito dopo l'ultimo consegnato (transazione non ancora committata)
+/// non sarebbe distinguibile da uno già inviato
+@Entity
+@Table(name = "outbox_relay_state")
+public class OutboxRelayState {
+    public static final int ID = 1;
+
+    @Id
+    @Column(name = "id")
+    private Integer id;
+
+    @Column(name = "last_event_id", nullable = false)
+    private long lastEventId;
+
+    public OutboxRelayState() {
+    }
+
+    public OutboxRelayState(long lastEventId) {
+        this.id = ID;
+        this.lastEventId = lastEventId;
+    }
+
+    public Integer getId() {
+        return id;
+    }
+
+    public void setId(Integer id) {
+        this.id = id;
+    }
+
+    public long getLastEventId() {
+        return lastEventId;
+    }
+
+    public void setLastEventId(long lastEventId) {
+        this.lastEventId = lastEventId;
+    }
+
+    @Override
+    public String toString() {
+        return "OutboxRelayState{" +
+                "id=" + id +
+                ", lastEventId=" + lastEventId +
+                '}';
+    }
+}
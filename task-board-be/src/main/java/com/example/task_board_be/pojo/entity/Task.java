@@ -16,6 +16,9 @@ public class Task extends BaseEntity{
     @Column(name = "description")
     private String description;
 
+    @Column(name = "default_name_index")
+    private Integer defaultNameIndex;
+
     @Enumerated(EnumType.STRING)
     private TaskStatus status;
 
@@ -60,6 +63,14 @@ public class Task extends BaseEntity{
         this.description = description;
     }
 
+    public Integer getDefaultNameIndex() {
+        return defaultNameIndex;
+    }
+
+    public void setDefaultNameIndex(Integer defaultNameIndex) {
+        this.defaultNameIndex = defaultNameIndex;
+    }
+
     public TaskStatus getStatus() {
         return status;
     }
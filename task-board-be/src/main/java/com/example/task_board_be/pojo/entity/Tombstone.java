@@ -0,0 +1,91 @@
+package com.example.task_board_be.pojo.entity;
+
+import jakarta.persistence.*;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/// Traccia di una riga cancellata per la sincronizzazione delta. La chiave è (entità, id):
+/// gli id arrivano da sequenza e non vengono riusati, quindi basta l'insert-select nella stessa transazione del delete
+@Entity
+@IdClass(Tombstone.Key.class)
+public class Tombstone {
+    @Id
+    @Column(name = "entity_name")
+    private String entityName;
+
+    @Id
+    @Column(name = "entity_id")
+    private Long entityId;
+
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+
+    public Tombstone() {
+    }
+
+    public Tombstone(String entityName, Long entityId, LocalDateTime deletedAt) {
+        this.entityName = entityName;
+        this.entityId = entityId;
+        this.deletedAt = deletedAt;
+    }
+
+    public String getEntityName() {
+        return entityName;
+    }
+
+    public void setEntityName(String entityName) {
+        this.entityName = entityName;
+    }
+
+    public Long getEntityId() {
+        return entityId;
+    }
+
+    public void setEntityId(Long entityId) {
+        this.entityId = entityId;
+    }
+
+    public LocalDateTime getDeletedAt() {
+        return deletedAt;
+    }
+
+    public void setDeletedAt(LocalDateTime deletedAt) {
+        this.deletedAt = deletedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "Tombstone{" +
+                "entityName='" + entityName + '\'' +
+                ", entityId=" + entityId +
+                ", deletedAt=" + deletedAt +
+                '}';
+    }
+
+    public static class Key implements Serializable {
+        private String entityName;
+        private Long entityId;
+
+        public Key() {
+        }
+
+        public Key(String entityName, Long entityId) {
+            this.entityName = entityName;
+            this.entityId = entityId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key that)) return false;
+            return Objects.equals(entityName, that.entityName) && Objects.equals(entityId, that.entityId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(entityName, entityId);
+        }
+    }
+}
@@ -7,6 +7,7 @@ public class BoardModel extends BaseModel {
     private String name;
     private String description;
     private List<TaskModel> taskModelList = new ArrayList<>();
+    private BoardTaskCountModel taskCountModel;
 
     public BoardModel() {
         super();
@@ -47,6 +48,14 @@ public class BoardModel extends BaseModel {
         this.taskModelList = taskModelList;
     }
 
+    public BoardTaskCountModel getTaskCountModel() {
+        return taskCountModel;
+    }
+
+    public void setTaskCountModel(BoardTaskCountModel taskCountModel) {
+        this.taskCountModel = taskCountModel;
+    }
+
     @Override
     public String toString() {
         return "BoardModel{" +
@@ -0,0 +1,48 @@
+package com.example.task_board_be.pojo.model;
+
+import com.example.task_board_be.enums.task.TaskStatus;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/// Conteggi materializzati di una board: un valore per ogni TaskStatus, a zero se la board non ha task in quello stato
+public class BoardTaskCountModel {
+    private final Long boardId;
+    private final Map<TaskStatus, Long> taskCountMap = newCountMap();
+    private final Map<TaskStatus, Long> archivedTaskCountMap = newCountMap();
+
+    public BoardTaskCountModel(Long boardId) {
+        this.boardId = boardId;
+    }
+
+    public Long getBoardId() {
+        return boardId;
+    }
+
+    public Map<TaskStatus, Long> getTaskCountMap() {
+        return taskCountMap;
+    }
+
+    public Map<TaskStatus, Long> getArchivedTaskCountMap() {
+        return archivedTaskCountMap;
+    }
+
+    public void put(TaskStatus status, boolean isArchived, long taskCount) {
+        (isArchived ? archivedTaskCountMap : taskCountMap).put(status, taskCount);
+    }
+
+    private static Map<TaskStatus, Long> newCountMap() {
+        Map<TaskStatus, Long> countMap = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : TaskStatus.values()) countMap.put(status, 0L);
+        return countMap;
+    }
+
+    @Override
+    public String toString() {
+        return "BoardTaskCountModel{" +
+                "boardId=" + boardId +
+                ", taskCountMap=" + taskCountMap +
+                ", archivedTaskCountMap=" + archivedTaskCountMap +
+                '}';
+    }
+}
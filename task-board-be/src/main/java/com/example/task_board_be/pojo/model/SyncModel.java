@@ -0,0 +1,83 @@
+package com.example.task_board_be.pojo.model;
+
+import com.example.task_board_be.pojo.projection.BoardView;
+import com.example.task_board_be.pojo.projection.TaskView;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/// Cambiamenti dopo un watermark: righe attive, archiviate e id cancellati per risorsa. nextPosition è valorizzata
+/// quando la pagina non contiene tutto
+public class SyncModel {
+    private final List<BoardView> boardViewList;
+    private final List<BoardView> archivedBoardViewList;
+    private final List<Long> deletedBoardIdList;
+    private final List<TaskView> taskViewList;
+    private final List<TaskView> archivedTaskViewList;
+    private final List<Long> deletedTaskIdList;
+    private final LocalDateTime watermark;
+    private final SyncPosition nextPosition;
+
+    public SyncModel(List<BoardView> boardViewList, List<BoardView> archivedBoardViewList, List<Long> deletedBoardIdList,
+                     List<TaskView> taskViewList, List<TaskView> archivedTaskViewList, List<Long> deletedTaskIdList,
+                     LocalDateTime watermark, SyncPosition nextPosition) {
+        this.boardViewList = boardViewList;
+        this.archivedBoardViewList = archivedBoardViewList;
+        this.deletedBoardIdList = deletedBoardIdList;
+        this.taskViewList = taskViewList;
+        this.archivedTaskViewList = archivedTaskViewList;
+        this.deletedTaskIdList = deletedTaskIdList;
+        this.watermark = watermark;
+        this.nextPosition = nextPosition;
+    }
+
+    public List<BoardView> getBoardViewList() {
+        return boardViewList;
+    }
+
+    public List<BoardView> getArchivedBoardViewList() {
+        return archivedBoardViewList;
+    }
+
+    public List<Long> getDeletedBoardIdList() {
+        return deletedBoardIdList;
+    }
+
+    public List<TaskView> getTaskViewList() {
+        return taskViewList;
+    }
+
+    public List<TaskView> getArchivedTaskViewList() {
+        return archivedTaskViewList;
+    }
+
+    public List<Long> getDeletedTaskIdList() {
+        return deletedTaskIdList;
+    }
+
+    public LocalDateTime getWatermark() {
+        return watermark;
+    }
+
+    public SyncPosition getNextPosition() {
+        return nextPosition;
+    }
+
+    public boolean hasMore() {
+        return nextPosition != null;
+    }
+
+    @Override
+    public String toString() {
+        return "SyncModel{" +
+                "boards=" + boardViewList.size() +
+                ", archivedBoards=" + archivedBoardViewList.size() +
+                ", deletedBoards=" + deletedBoardIdList.size() +
+                ", tasks=" + taskViewList.size() +
+                ", archivedTasks=" + archivedTaskViewList.size() +
+                ", deletedTasks=" + deletedTaskIdList.size() +
+                ", watermark=" + watermark +
+                ", nextPosition=" + nextPosition +
+                '}';
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.task_board_be.pojo.model;
+
+import java.time.LocalDateTime;
+
+/// Punto di ripresa di una sync a pagine: since e until restano quelli della prima pagina, phase è l'elenco in
+/// lettura (board attive, archiviate, cancellate, poi lo stesso per le task) e (afterTime, afterId) l'ultima riga
+/// consegnata di quell'elenco. until nullo = prima pagina, fissato dal server
+public record SyncPosition(LocalDateTime since, LocalDateTime until, int phase, LocalDateTime afterTime, Long afterId) {
+
+    public static SyncPosition start(LocalDateTime since) {
+        return new SyncPosition(since, null, 0, null, null);
+    }
+
+    public boolean isStart() {
+        return until == null;
+    }
+}
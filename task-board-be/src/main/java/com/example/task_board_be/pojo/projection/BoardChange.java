@@ -0,0 +1,11 @@
+package com.example.task_board_be.pojo.projection;
+
+import java.time.LocalDateTime;
+
+/// Board cambiata per la sync: le colonne di BoardView più updatedAt per il cursore delle pagine
+public record BoardChange(Long id, String name, String description, LocalDateTime createdAt, LocalDateTime updatedAt) {
+
+    public BoardView toView() {
+        return new BoardView(id, name, description, createdAt);
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.task_board_be.pojo.projection;
+
+import java.time.LocalDateTime;
+
+/// Riga di lista di una board: solo le colonne di BoardResource più createdAt per il cursore
+public record BoardView(Long id, String name, String description, LocalDateTime createdAt) {
+}
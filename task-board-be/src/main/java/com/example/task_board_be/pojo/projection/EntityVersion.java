@@ -0,0 +1,30 @@
+package com.example.task_board_be.pojo.projection;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+
+/// Versione di un dettaglio letta senza caricare entità: updatedAt della riga e, per le board,
+/// ultimo updatedAt e numero delle task attive incluse nella risposta
+public record EntityVersion(LocalDateTime updatedAt, LocalDateTime childUpdatedAt, Long childCount) {
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    public EntityVersion(LocalDateTime updatedAt) {
+        this(updatedAt, null, 0L);
+    }
+
+    /// ETag forte: ogni parte della risposta che può cambiare ha la sua componente
+    public String eTag() {
+        return "\"" + Long.toHexString(micros(updatedAt)) + "-" + Long.toHexString(micros(childUpdatedAt))
+                + "-" + Long.toHexString(childCount == null ? 0 : childCount) + "\"";
+    }
+
+    public long lastModified() {
+        LocalDateTime lastModified = (childUpdatedAt != null && childUpdatedAt.isAfter(updatedAt)) ? childUpdatedAt : updatedAt;
+        return lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static long micros(LocalDateTime dateTime) {
+        return dateTime == null ? 0 : ChronoUnit.MICROS.between(EPOCH, dateTime);
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.task_board_be.pojo.projection;
+
+import com.example.task_board_be.enums.task.TaskStatus;
+
+/// Task bloccata in scrittura prima di un update/delete: board e status da cui si ricavano i delta dei contatori
+/// e l'instradamento degli eventi
+public record LockedTask(Long taskId, Long boardId, TaskStatus status) {
+}
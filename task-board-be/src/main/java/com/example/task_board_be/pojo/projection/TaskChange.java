@@ -0,0 +1,15 @@
+package com.example.task_board_be.pojo.projection;
+
+import com.example.task_board_be.enums.task.TaskIcon;
+import com.example.task_board_be.enums.task.TaskStatus;
+
+import java.time.LocalDateTime;
+
+/// Task cambiata per la sync: le colonne di TaskView più updatedAt per il cursore delle pagine
+public record TaskChange(Long id, String name, String description, TaskStatus status, TaskIcon icon,
+                         Long boardId, LocalDateTime createdAt, LocalDateTime updatedAt) {
+
+    public TaskView toView() {
+        return new TaskView(id, name, description, status, icon, boardId, createdAt);
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.task_board_be.pojo.projection;
+
+import com.example.task_board_be.enums.task.TaskStatus;
+
+/// Task raggruppate per board e status: delta dei contatori delle operazioni a cascata, senza caricare gli id
+public record TaskCount(Long boardId, TaskStatus status, long taskCount) {
+}
@@ -0,0 +1,11 @@
+package com.example.task_board_be.pojo.projection;
+
+import com.example.task_board_be.enums.task.TaskIcon;
+import com.example.task_board_be.enums.task.TaskStatus;
+
+import java.time.LocalDateTime;
+
+/// Riga di lista di una task: solo le colonne di TaskResource più createdAt per il cursore
+public record TaskView(Long id, String name, String description, TaskStatus status, TaskIcon icon,
+                       Long boardId, LocalDateTime createdAt) {
+}
@@ -0,0 +1,73 @@
+package com.example.task_board_be.pojo.resource;
+
+import com.example.task_board_be.enums.BoardEventType;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Evento dello stream di una board (campo data SSE); l'id è anche il campo id SSE")
+public class BoardEventResource {
+    @Schema(description = "Id progressivo dell'evento, da reinviare come Last-Event-ID" , example = "42")
+    private long eventId;
+
+    @Schema(description = "Tipo di evento" , example = "TASK_UPDATED")
+    private BoardEventType type;
+
+    @Schema(description = "Board interessata (assente per RESYNC globali)" , example = "1")
+    private Long boardId;
+
+    @Schema(description = "Task interessate; vuota se l'operazione è set-based e gli id non sono noti" , example = "[7,8]")
+    private List<Long> taskIdList;
+
+    public BoardEventResource() {
+    }
+
+    public BoardEventResource(long eventId, BoardEventType type, Long boardId, List<Long> taskIdList) {
+        this.eventId = eventId;
+        this.type = type;
+        this.boardId = boardId;
+        this.taskIdList = taskIdList;
+    }
+
+    public long getEventId() {
+        return eventId;
+    }
+
+    public void setEventId(long eventId) {
+        this.eventId = eventId;
+    }
+
+    public BoardEventType getType() {
+        return type;
+    }
+
+    public void setType(BoardEventType type) {
+        this.type = type;
+    }
+
+    public Long getBoardId() {
+        return boardId;
+    }
+
+    public void setBoardId(Long boardId) {
+        this.boardId = boardId;
+    }
+
+    public List<Long> getTaskIdList() {
+        return taskIdList;
+    }
+
+    public void setTaskIdList(List<Long> taskIdList) {
+        this.taskIdList = taskIdList;
+    }
+
+    @Override
+    public String toString() {
+        return "BoardEventResource{" +
+                "eventId=" + eventId +
+                ", type=" + type +
+                ", boardId=" + boardId +
+                ", taskIdList=" + (taskIdList == null ? 0 : taskIdList.size()) +
+                '}';
+    }
+}
@@ -1,8 +1,10 @@
 package com.example.task_board_be.pojo.resource;
 
+import com.example.task_board_be.enums.task.TaskStatus;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.util.List;
+import java.util.Map;
 
 @Schema(description = "Risorsa di risposta per i metodi di archive/restore/delete")
 public class BoardResource {
@@ -18,6 +20,9 @@ public class BoardResource {
     @Schema(description = "Lista delle task")
     private List<TaskResource> taskResourceList;
 
+    @Schema(description = "Task attive per status, solo nel dettaglio (le archiviate da /boards/task-counts)" , example = "{\"NONE\":0,\"TODO\":12,\"IN_PROGRESS\":4,\"DONE\":30,\"BLOCKED\":0,\"CANCELED\":0}")
+    private Map<TaskStatus, Long> taskCountMap;
+
     public BoardResource() {
     }
 
@@ -63,6 +68,14 @@ public class BoardResource {
         this.taskResourceList = taskResourceList;
     }
 
+    public Map<TaskStatus, Long> getTaskCountMap() {
+        return taskCountMap;
+    }
+
+    public void setTaskCountMap(Map<TaskStatus, Long> taskCountMap) {
+        this.taskCountMap = taskCountMap;
+    }
+
     @Override
     public String toString() {
         return "BoardResource{" +
@@ -0,0 +1,60 @@
+package com.example.task_board_be.pojo.resource;
+
+import com.example.task_board_be.enums.task.TaskStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.Map;
+
+@Schema(description = "Conteggi delle task di una board per status, attive e archiviate")
+public class BoardTaskCountResource {
+    @Schema(description = "ID della board" , example = "1")
+    private Long boardId;
+
+    @Schema(description = "Task attive per status" , example = "{\"NONE\":0,\"TODO\":12,\"IN_PROGRESS\":4,\"DONE\":30,\"BLOCKED\":0,\"CANCELED\":0}")
+    private Map<TaskStatus, Long> taskCountMap;
+
+    @Schema(description = "Task archiviate per status")
+    private Map<TaskStatus, Long> archivedTaskCountMap;
+
+    public BoardTaskCountResource() {
+    }
+
+    public BoardTaskCountResource(Long boardId, Map<TaskStatus, Long> taskCountMap, Map<TaskStatus, Long> archivedTaskCountMap) {
+        this.boardId = boardId;
+        this.taskCountMap = taskCountMap;
+        this.archivedTaskCountMap = archivedTaskCountMap;
+    }
+
+    public Long getBoardId() {
+        return boardId;
+    }
+
+    public void setBoardId(Long boardId) {
+        this.boardId = boardId;
+    }
+
+    public Map<TaskStatus, Long> getTaskCountMap() {
+        return taskCountMap;
+    }
+
+    public void setTaskCountMap(Map<TaskStatus, Long> taskCountMap) {
+        this.taskCountMap = taskCountMap;
+    }
+
+    public Map<TaskStatus, Long> getArchivedTaskCountMap() {
+        return archivedTaskCountMap;
+    }
+
+    public void setArchivedTaskCountMap(Map<TaskStatus, Long> archivedTaskCountMap) {
+        this.archivedTaskCountMap = archivedTaskCountMap;
+    }
+
+    @Override
+    public String toString() {
+        return "BoardTaskCountResource{" +
+                "boardId=" + boardId +
+                ", taskCountMap=" + taskCountMap +
+                ", archivedTaskCountMap=" + archivedTaskCountMap +
+                '}';
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.task_board_be.pojo.resource;
+
+import com.example.task_board_be.enums.BulkOperation;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Esito di una creazione massiva: updatedRow = elementi creati")
+public class BulkCreateResource extends BulkResource {
+    public static final int MAX_ERROR_LIST_SIZE = 100;
+
+    @Schema(description = "Numero di elementi scartati" , example = "2")
+    private int failed;
+
+    @Schema(description = "Dettaglio dei primi " + MAX_ERROR_LIST_SIZE + " elementi scartati")
+    private List<BulkItemErrorResource> errorList = new ArrayList<>();
+
+    public BulkCreateResource() {
+        super(BulkOperation.CREATE_LIST, 0);
+    }
+
+    public void addCreated(int created) {
+        setUpdatedRow(getUpdatedRow() + created);
+    }
+
+    /// Oltre MAX_ERROR_LIST_SIZE cresce solo il conteggio: uno stream di righe non valide non allarga la risposta
+    public void addError(int index, String message) {
+        if (errorList.size() < MAX_ERROR_LIST_SIZE) errorList.add(new BulkItemErrorResource(index, message));
+        failed++;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public void setFailed(int failed) {
+        this.failed = failed;
+    }
+
+    public List<BulkItemErrorResource> getErrorList() {
+        return errorList;
+    }
+
+    public void setErrorList(List<BulkItemErrorResource> errorList) {
+        this.errorList = errorList;
+    }
+
+    @Override
+    public String toString() {
+        return "BulkCreateResource{" +
+                "failed=" + failed +
+                "} " + super.toString();
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.task_board_be.pojo.resource;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Errore su un singolo elemento di un'operazione massiva")
+public class BulkItemErrorResource {
+    @Schema(description = "Posizione dell'elemento nel corpo della richiesta (da 0)" , example = "12")
+    private int index;
+
+    @Schema(description = "Motivo dello scarto" , example = "boardId: L'id della board associata deve essere obbligatorio")
+    private String message;
+
+    public BulkItemErrorResource() {
+    }
+
+    public BulkItemErrorResource(int index, String message) {
+        this.index = index;
+        this.message = message;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    @Override
+    public String toString() {
+        return "BulkItemErrorResource{" +
+                "index=" + index +
+                ", message='" + message + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.task_board_be.pojo.resource;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Porzione di risultati senza totale (modalità cursore o withTotal=false)")
+public class SliceResource<T> {
+    @Schema(description = "Elementi della porzione")
+    private List<T> content;
+
+    @Schema(description = "Numero di elementi restituiti" , example = "20")
+    private int size;
+
+    @Schema(description = "Indica se esistono altri elementi dopo questa porzione" , example = "true")
+    private boolean hasNext;
+
+    @Schema(description = "Numero della pagina (solo modalità withTotal=false)" , example = "0")
+    private Integer number;
+
+    @Schema(description = "Token opaco da passare come cursor per ottenere la porzione successiva" , example = "MjAyNS0wOC0yMlQxMTo0NTowMHw0Mg")
+    private String nextCursor;
+
+    public SliceResource() {
+    }
+
+    public SliceResource(List<T> content, boolean hasNext, String nextCursor) {
+        this.content = content;
+        this.size = content.size();
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+    }
+
+    public SliceResource(List<T> content, int number, boolean hasNext) {
+        this.content = content;
+        this.size = content.size();
+        this.number = number;
+        this.hasNext = hasNext;
+    }
+
+    public List<T> getContent() {
+        return content;
+    }
+
+    public void setContent(List<T> content) {
+        this.content = content;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+
+    public void setHasNext(boolean hasNext) {
+        this.hasNext = hasNext;
+    }
+
+    public Integer getNumber() {
+        return number;
+    }
+
+    public void setNumber(Integer number) {
+        this.number = number;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    @Override
+    public String toString() {
+        return "SliceResource{" +
+                "size=" + size +
+                ", number=" + number +
+                ", hasNext=" + hasNext +
+                ", nextCursor='" + nextCursor + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.task_board_be.pojo.resource;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Board e task cambiate, archiviate o cancellate dopo il watermark richiesto")
+public class SyncResource {
+    @Schema(description = "Board attive create o modificate")
+    private List<BoardResource> boardList;
+
+    @Schema(description = "Board archiviate dopo il watermark")
+    private List<BoardResource> archivedBoardList;
+
+    @Schema(description = "Id delle board cancellate")
+    private List<Long> deletedBoardIdList;
+
+    @Schema(description = "Task attive create o modificate")
+    private List<TaskResource> taskList;
+
+    @Schema(description = "Task archiviate dopo il watermark")
+    private List<TaskResource> archivedTaskList;
+
+    @Schema(description = "Id delle task cancellate")
+    private List<Long> deletedTaskIdList;
+
+    @Schema(description = "true se la sincronizzazione continua: richiamare subito con nextToken")
+    private boolean hasMore;
+
+    @Schema(description = "Token opaco da passare come since alla pagina seguente o alla prossima sincronizzazione" , example = "MjAyNS0wOC0yMlQxMTo0NTowMA")
+    private String nextToken;
+
+    public SyncResource() {
+    }
+
+    public SyncResource(List<BoardResource> boardList, List<BoardResource> archivedBoardList, List<Long> deletedBoardIdList,
+                        List<TaskResource> taskList, List<TaskResource> archivedTaskList, List<Long> deletedTaskIdList,
+                        boolean hasMore, String nextToken) {
+        this.boardList = boardList;
+        this.archivedBoardList = archivedBoardList;
+        this.deletedBoardIdList = deletedBoardIdList;
+        this.taskList = taskList;
+        this.archivedTaskList = archivedTaskList;
+        this.deletedTaskIdList = deletedTaskIdList;
+        this.hasMore = hasMore;
+        this.nextToken = nextToken;
+    }
+
+    public List<BoardResource> getBoardList() {
+        return boardList;
+    }
+
+    public void setBoardList(List<BoardResource> boardList) {
+        this.boardList = boardList;
+    }
+
+    public List<BoardResource> getArchivedBoardList() {
+        return archivedBoardList;
+    }
+
+    public void setArchivedBoardList(List<BoardResource> archivedBoardList) {
+        this.archivedBoardList = archivedBoardList;
+    }
+
+    public List<Long> getDeletedBoardIdList() {
+        return deletedBoardIdList;
+    }
+
+    public void setDeletedBoardIdList(List<Long> deletedBoardIdList) {
+        this.deletedBoardIdList = deletedBoardIdList;
+    }
+
+    public List<TaskResource> getTaskList() {
+        return taskList;
+    }
+
+    public void setTaskList(List<TaskResource> taskList) {
+        this.taskList = taskList;
+    }
+
+    public List<TaskResource> getArchivedTaskList() {
+        return archivedTaskList;
+    }
+
+    public void setArchivedTaskList(List<TaskResource> archivedTaskList) {
+        this.archivedTaskList = archivedTaskList;
+    }
+
+    public List<Long> getDeletedTaskIdList() {
+        return deletedTaskIdList;
+    }
+
+    public void setDeletedTaskIdList(List<Long> deletedTaskIdList) {
+        this.deletedTaskIdList = deletedTaskIdList;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+
+    public String getNextToken() {
+        return nextToken;
+    }
+
+    public void setNextToken(String nextToken) {
+        this.nextToken = nextToken;
+    }
+
+    @Override
+    public String toString() {
+        return "SyncResource{" +
+                "boardList=" + boardList.size() +
+                ", archivedBoardList=" + archivedBoardList.size() +
+                ", deletedBoardIdList=" + deletedBoardIdList.size() +
+                ", taskList=" + taskList.size() +
+                ", archivedTaskList=" + archivedTaskList.size() +
+                ", deletedTaskIdList=" + deletedTaskIdList.size() +
+                ", hasMore=" + hasMore +
+                ", nextToken='" + nextToken + '\'' +
+                '}';
+    }
+}
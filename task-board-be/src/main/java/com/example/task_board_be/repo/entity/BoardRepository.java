@@ -1,20 +1,97 @@
 package com.example.task_board_be.repo.entity;
 
 import com.example.task_board_be.pojo.entity.Board;
+import com.example.task_board_be.pojo.projection.BoardChange;
+import com.example.task_board_be.pojo.projection.BoardView;
+import com.example.task_board_be.pojo.projection.EntityVersion;
 import com.example.task_board_be.repo.BaseRepo;
+import com.example.task_board_be.repo.fragment.BatchInsertRepo;
+import com.example.task_board_be.repo.fragment.BoardViewRepo;
 import com.example.task_board_be.repo.fragment.PurgeRepo;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface BoardRepository extends
         BaseRepo<Board , Long>,
         PurgeRepo<Board , Long> ,
+        BatchInsertRepo<Board> ,
+        BoardViewRepo ,
         JpaSpecificationExecutor<Board> {
-    @Query("select b.name from Board b where lower(b.name) like lower(concat(:prefix, '%'))")
-    List<String> findNamesByPrefix(@Param("prefix") String prefix);
+    @Query("select count(b) > 0 from Board b where b.defaultNameIndex = :index")
+    boolean existsByDefaultNameIndex(@Param("index") Integer index);
+
+    /// Solo i candidati indicati, letti dall'indice su default_name_index
+    @Query("select b.defaultNameIndex from Board b where b.defaultNameIndex in :indexes")
+    List<Integer> findDefaultNameIndexesIn(@Param("indexes") Collection<Integer> indexes);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select b from Board b where b.id = :id")
+    Optional<Board> findByIdForUpdate(@Param("id") Long id);
+
+    /// Board delle operazioni a cascata sulle task, bloccate in ordine di id prima di conteggi, outbox e update
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select b.id from Board b where b.id in :ids order by b.id")
+    List<Long> lockIdsForUpdate(@Param("ids") Collection<Long> ids);
+
+    /// Come lockIdsForUpdate per tutte le board attive
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select b.id from Board b where b.isArchived = false order by b.id")
+    List<Long> lockActiveIdsForUpdate();
+
+    /// Board delle task indicate in lettura condivisa, prima di bloccare le task: archive, restore e delete per id
+    /// non si sovrappongono a una cascata sulla stessa board, e tra loro non si bloccano
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("select b.id from Board b where b.id in (select t.board.id from Task t where t.id in :taskIds) order by b.id")
+    List<Long> lockIdsOfTasksForShare(@Param("taskIds") Collection<Long> taskIds);
+
+    /// Per gli eventi delle operazioni massive: una sola query al posto di un existsById per id
+    @Query("select b.id from Board b where b.id in :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    /// Board indicate che si trovano in isArchived, lette prima dell'update con lo stesso filtro
+    @Query("select b.id from Board b where b.id in :ids and b.isArchived = :isArchived")
+    List<Long> findIdsByState(@Param("ids") Collection<Long> ids, @Param("isArchived") boolean isArchived);
+
+    /// Probe per le GET condizionali: nessuna entità caricata, solo timestamp e conteggio
+    @Query("""
+           select new com.example.task_board_be.pojo.projection.EntityVersion(
+                  coalesce(b.updatedAt, b.createdAt),
+                  (select max(coalesce(t.updatedAt, t.createdAt))
+                   from Task t
+                   where t.board.id = b.id
+                     and t.isArchived = false),
+                  (select count(t)
+                   from Task t
+                   where t.board.id = b.id
+                     and t.isArchived = false))
+           from Board b
+           where b.id = :id
+             and b.isArchived = :isArchived
+           """)
+    Optional<EntityVersion> findVersion(@Param("id") Long id, @Param("isArchived") boolean isArchived);
+
+    /// Pagina della sync delta: righe dopo il cursore (updatedAt, id) fino a until,
+    /// range sull'indice di updated_at
+    @Query("""
+           select new com.example.task_board_be.pojo.projection.BoardChange(b.id, b.name, b.description, b.createdAt, b.updatedAt)
+           from Board b
+           where b.updatedAt between :afterTime and :until
+             and (b.updatedAt > :afterTime or b.id > :afterId)
+             and b.isArchived = :isArchived
+           order by b.updatedAt, b.id
+           """)
+    List<BoardChange> findChangesAfter(@Param("afterTime") LocalDateTime afterTime, @Param("afterId") Long afterId,
+                                       @Param("until") LocalDateTime until, @Param("isArchived") boolean isArchived,
+                                       Limit limit);
 }
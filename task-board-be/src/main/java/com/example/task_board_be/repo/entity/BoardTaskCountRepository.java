@@ -0,0 +1,98 @@
+package com.example.task_board_be.repo.entity;
+
+import com.example.task_board_be.enums.task.TaskStatus;
+import com.example.task_board_be.pojo.entity.BoardTaskCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/// I delta si applicano dopo aver bloccato le task interessate (o dopo insert e save) e prima del loro update/delete,
+/// una update per (board, status, archiviata) in ordine di chiave
+@Repository
+public interface BoardTaskCountRepository extends JpaRepository<BoardTaskCount, BoardTaskCount.Key> {
+    /// Letti dalla chiave primaria (board_id in testa), senza toccare la tabella task
+    @Query("select c from BoardTaskCount c where c.boardId in :boardIds")
+    List<BoardTaskCount> findByBoardIds(@Param("boardIds") Collection<Long> boardIds);
+
+    /// Righe a zero per le board indicate; quelle già presenti restano com'erano
+    @Modifying(flushAutomatically = true)
+    @Query("""
+           insert into BoardTaskCount (boardId, status, isArchived, taskCount)
+           select b.id, :status, :isArchived, 0
+           from Board b
+           where b.id in :boardIds
+             and not exists (select c.boardId
+                             from BoardTaskCount c
+                             where c.boardId = b.id
+                               and c.status = :status
+                               and c.isArchived = :isArchived)
+           """)
+    int insertMissing(@Param("boardIds") Collection<Long> boardIds, @Param("status") TaskStatus status,
+                      @Param("isArchived") boolean isArchived);
+
+    /// Come insertMissing per tutte le board: copre le board nate prima di un nuovo valore di TaskStatus
+    @Modifying(flushAutomatically = true)
+    @Query("""
+           insert into BoardTaskCount (boardId, status, isArchived, taskCount)
+           select b.id, :status, :isArchived, 0
+           from Board b
+           where not exists (select c.boardId
+                             from BoardTaskCount c
+                             where c.boardId = b.id
+                               and c.status = :status
+                               and c.isArchived = :isArchived)
+           """)
+    int insertMissingOfAllBoards(@Param("status") TaskStatus status, @Param("isArchived") boolean isArchived);
+
+    /// Update per chiave primaria: i delta vengono dalle task già bloccate (TaskRepository.findForUpdate) o, nelle
+    /// cascate, dal conteggio raggruppato sotto il lock delle board; nessuna subquery sulla tabella task e nessuna
+    /// modifica concorrente delle stesse task tra lettura e update
+    @Modifying(flushAutomatically = true)
+    @Query("""
+           update BoardTaskCount c
+           set c.taskCount = c.taskCount + :delta
+           where c.boardId = :boardId
+             and c.status = :status
+             and c.isArchived = :isArchived
+           """)
+    int addByKey(@Param("boardId") Long boardId, @Param("status") TaskStatus status,
+                 @Param("isArchived") boolean isArchived, @Param("delta") long delta);
+
+    /// Prima di deleteByIdsIfArchived sulle board: stesso filtro della delete
+    @Modifying(flushAutomatically = true)
+    @Query("""
+           delete from BoardTaskCount c
+           where c.boardId in (select b.id from Board b where b.id in :boardIds and b.isArchived = true)
+           """)
+    int deleteOfArchivedBoards(@Param("boardIds") Collection<Long> boardIds);
+
+    /// Prima di deleteAllByIsArchivedTrue sulle board
+    @Modifying(flushAutomatically = true)
+    @Query("""
+           delete from BoardTaskCount c
+           where c.boardId in (select b.id from Board b where b.isArchived = true)
+           """)
+    int deleteOfAllArchivedBoards();
+
+    /// Riallinea al conteggio reale solo le righe divergenti (scritture esterne all'applicazione)
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+           update BoardTaskCount c
+           set c.taskCount = (select count(t)
+                              from Task t
+                              where t.board.id = c.boardId
+                                and t.status = c.status
+                                and t.isArchived = c.isArchived)
+           where c.taskCount <> (select count(t)
+                                 from Task t
+                                 where t.board.id = c.boardId
+                                   and t.status = c.status
+                                   and t.isArchived = c.isArchived)
+           """)
+    int reconcile();
+}
@@ -0,0 +1,40 @@
+package com.example.task_board_be.repo.entity;
+
+import com.example.task_board_be.enums.DefaultNameScope;
+import com.example.task_board_be.pojo.entity.DefaultNameCounter;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Optional;
+
+@Repository
+public interface DefaultNameCounterRepository extends JpaRepository<DefaultNameCounter, DefaultNameCounter.Key> {
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from DefaultNameCounter c where c.scope = :scope and c.scopeId = :scopeId")
+    Optional<DefaultNameCounter> findForUpdate(@Param("scope") DefaultNameScope scope, @Param("scopeId") Long scopeId);
+
+    /// Dopo deleteByIdsIfArchived sulle board: contatori TASK delle board che non esistono più
+    @Modifying(flushAutomatically = true)
+    @Query("""
+           delete from DefaultNameCounter c
+           where c.scope = com.example.task_board_be.enums.DefaultNameScope.TASK
+             and c.scopeId in :boardIds
+             and not exists (select b.id from Board b where b.id = c.scopeId)
+           """)
+    int deleteOfDeletedBoards(@Param("boardIds") Collection<Long> boardIds);
+
+    /// Dopo deleteAllByIsArchivedTrue sulle board
+    @Modifying(flushAutomatically = true)
+    @Query("""
+           delete from DefaultNameCounter c
+           where c.scope = com.example.task_board_be.enums.DefaultNameScope.TASK
+             and not exists (select b.id from Board b where b.id = c.scopeId)
+           """)
+    int deleteOfAllDeletedBoards();
+}
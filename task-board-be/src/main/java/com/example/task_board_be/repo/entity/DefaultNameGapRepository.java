@@ -0,0 +1,81 @@
+package com.example.task_board_be.repo.entity;
+
+import com.example.task_board_be.enums.DefaultNameScope;
+import com.example.task_board_be.pojo.entity.DefaultNameGap;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/// Le insert-select vanno chiamate come quelle dell'outbox: prima del delete/update, con lo stesso filtro
+@Repository
+public interface DefaultNameGapRepository extends JpaRepository<DefaultNameGap, Long> {
+    /// Intervallo con l'inizio più basso, letto dall'indice (scope, scope_id, start_index)
+    @Query("""
+           select g
+           from DefaultNameGap g
+           where g.scope = :scope
+             and g.scopeId = :scopeId
+           order by g.startIndex, g.id
+           """)
+    List<DefaultNameGap> findFirst(@Param("scope") DefaultNameScope scope, @Param("scopeId") Long scopeId, Limit limit);
+
+    /// Prima di deleteByIdsIfArchived sulle board
+    @Modifying(flushAutomatically = true)
+    @Query("""
+           insert into DefaultNameGap (scope, scopeId, startIndex, endIndex)
+           select com.example.task_board_be.enums.DefaultNameScope.BOARD, 0L, b.defaultNameIndex, b.defaultNameIndex
+           from Board b
+           where b.id in :boardIds
+             and b.isArchived = true
+             and b.defaultNameIndex is not null
+           """)
+    int insertOfArchivedBoards(@Param("boardIds") Collection<Long> boardIds);
+
+    /// Prima di deleteAllByIsArchivedTrue sulle board
+    @Modifying(flushAutomatically = true)
+    @Query("""
+           insert into DefaultNameGap (scope, scopeId, startIndex, endIndex)
+           select com.example.task_board_be.enums.DefaultNameScope.BOARD, 0L, b.defaultNameIndex, b.defaultNameIndex
+           from Board b
+           where b.isArchived = true
+             and b.defaultNameIndex is not null
+           """)
+    int insertOfAllArchivedBoards();
+
+    /// Prima di archiveByIds sulle task: l'indice esce dalle task attive della board
+    @Modifying(flushAutomatically = true)
+    @Query("""
+           insert into DefaultNameGap (scope, scopeId, startIndex, endIndex)
+           select com.example.task_board_be.enums.DefaultNameScope.TASK, t.board.id, t.defaultNameIndex, t.defaultNameIndex
+           from Task t
+           where t.id in :ids
+             and t.isArchived = false
+             and t.defaultNameIndex is not null
+           """)
+    int insertOfActiveTasks(@Param("ids") Collection<Long> ids);
+
+    /// Dopo deleteByIdsIfArchived sulle board: intervalli TASK delle board che non esistono più
+    @Modifying(flushAutomatically = true)
+    @Query("""
+           delete from DefaultNameGap g
+           where g.scope = com.example.task_board_be.enums.DefaultNameScope.TASK
+             and g.scopeId in :boardIds
+             and not exists (select b.id from Board b where b.id = g.scopeId)
+           """)
+    int deleteOfDeletedBoards(@Param("boardIds") Collection<Long> boardIds);
+
+    /// Dopo deleteAllByIsArchivedTrue sulle board
+    @Modifying(flushAutomatically = true)
+    @Query("""
+           delete from DefaultNameGap g
+           where g.scope = com.example.task_board_be.enums.DefaultNameScope.TASK
+             and not exists (select b.id from Board b where b.id = g.scopeId)
+           """)
+    int deleteOfAllDeletedBoards();
+}
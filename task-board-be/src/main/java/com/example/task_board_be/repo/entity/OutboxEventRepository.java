@@ -0,0 +1,44 @@
+package com.example.task_board_be.repo.entity;
+
+import com.example.task_board_be.pojo.entity.OutboxEvent;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+    /// Prossimo batch in ordine di id dopo l'ultimo consegnato. Nessun lock sulle righe: il relay è uno solo
+    /// (lock advisory su PostgreSQL), e saltare righe bloccate vorrebbe dire consegnarle fuori ordine
+    @Query("select e from OutboxEvent e where e.id > :afterId order by e.id")
+    List<OutboxEvent> findBatchAfter(@Param("afterId") long afterId, Limit limit);
+
+    /// Righe rimaste fino all'ultimo id consegnato: ci sono solo se il loro buco è stato saltato per timeout e la
+    /// transazione ha committato dopo
+    @Query("select e from OutboxEvent e where e.id <= :upToId order by e.id")
+    List<OutboxEvent> findLateUpTo(@Param("upToId") long upToId, Limit limit);
+
+    @Query("select min(e.id) from OutboxEvent e")
+    Long findMinId();
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("delete from OutboxEvent e where e.id in :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+
+    /// Solo PostgreSQL: un relay alla volta tra tutte le istanze, lock rilasciato da commit o rollback
+    @Query(value = "select pg_try_advisory_xact_lock(:key)", nativeQuery = true)
+    boolean tryRelayLock(@Param("key") long key);
+
+    /// Solo PostgreSQL: xid oltre l'ultimo assegnato nella snapshot corrente
+    @Query(value = "select cast(cast(pg_snapshot_xmax(pg_current_snapshot()) as text) as bigint)", nativeQuery = true)
+    long findSnapshotXmax();
+
+    /// Solo PostgreSQL: xid della transazione più vecchia ancora aperta (= xmax se non ce ne sono)
+    @Query(value = "select cast(cast(pg_snapshot_xmin(pg_current_snapshot()) as text) as bigint)", nativeQuery = true)
+    long findSnapshotXmin();
+}
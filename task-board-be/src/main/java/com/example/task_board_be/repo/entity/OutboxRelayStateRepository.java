@@ -0,0 +1,9 @@
+package com.example.task_board_be.repo.entity;
+
+import com.example.task_board_be.pojo.entity.OutboxRelayState;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface OutboxRelayStateRepository extends JpaRepository<OutboxRelayState, Integer> {
+}
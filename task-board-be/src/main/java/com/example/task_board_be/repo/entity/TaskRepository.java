@@ -1,27 +1,116 @@
 package com.example.task_board_be.repo.entity;
 
 import com.example.task_board_be.pojo.entity.Task;
+import com.example.task_board_be.pojo.projection.EntityVersion;
+import com.example.task_board_be.pojo.projection.LockedTask;
+import com.example.task_board_be.pojo.projection.TaskChange;
+import com.example.task_board_be.pojo.projection.TaskCount;
+import com.example.task_board_be.pojo.projection.TaskView;
 import com.example.task_board_be.repo.BaseRepo;
-import com.example.task_board_be.repo.fragment.ArchivableRepo;
+import com.example.task_board_be.repo.fragment.BatchInsertRepo;
+import com.example.task_board_be.repo.fragment.CascadeArchivableRepo;
+import com.example.task_board_be.repo.fragment.TaskViewRepo;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface TaskRepository extends
         BaseRepo<Task, Long>,
-        ArchivableRepo<Task , Long> ,
+        CascadeArchivableRepo<Task , Long> ,
+        BatchInsertRepo<Task> ,
+        TaskViewRepo ,
         JpaSpecificationExecutor<Task> {
     @Query("""
-           select t.name
+           select count(t) > 0
            from Task t
            where t.board.id = :boardId
              and t.isArchived = false
-             and lower(t.name) like lower(concat(:prefix, '%'))
+             and t.defaultNameIndex = :index
            """)
-    List<String> findNamesByPrefixForBoard(@Param("boardId") Long boardId,
-                                           @Param("prefix") String prefix);
+    boolean existsByDefaultNameIndexForBoard(@Param("boardId") Long boardId,
+                                             @Param("index") Integer index);
+
+    /// Solo i candidati indicati, come existsByDefaultNameIndexForBoard per più indici
+    @Query("""
+           select t.defaultNameIndex
+           from Task t
+           where t.board.id = :boardId
+             and t.isArchived = false
+             and t.defaultNameIndex in :indexes
+           """)
+    List<Integer> findDefaultNameIndexesForBoardIn(@Param("boardId") Long boardId,
+                                                   @Param("indexes") Collection<Integer> indexes);
+
+    @Query("""
+           select new com.example.task_board_be.pojo.projection.EntityVersion(coalesce(t.updatedAt, t.createdAt))
+           from Task t
+           where t.id = :id
+             and t.isArchived = :isArchived
+           """)
+    Optional<EntityVersion> findVersion(@Param("id") Long id, @Param("isArchived") boolean isArchived);
+
+    /// Pagina della sync delta: righe dopo il cursore (updatedAt, id) fino a until,
+    /// range sull'indice di updated_at
+    @Query("""
+           select new com.example.task_board_be.pojo.projection.TaskChange(t.id, t.name, t.description, t.status, t.icon, t.board.id,
+                  t.createdAt, t.updatedAt)
+           from Task t
+           where t.updatedAt between :afterTime and :until
+             and (t.updatedAt > :afterTime or t.id > :afterId)
+             and t.isArchived = :isArchived
+           order by t.updatedAt, t.id
+           """)
+    List<TaskChange> findChangesAfter(@Param("afterTime") LocalDateTime afterTime, @Param("afterId") Long afterId,
+                                      @Param("until") LocalDateTime until, @Param("isArchived") boolean isArchived,
+                                      Limit limit);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t from Task t where t.id = :id")
+    Optional<Task> findByIdForUpdate(@Param("id") Long id);
+
+    /// Task indicate che si trovano in isArchived, bloccate fino al commit prima dell'update/delete con lo stesso
+    /// filtro. In ordine di id: operazioni massive concorrenti prendono i lock nello stesso ordine. Da qui il loro
+    /// stato non cambia più, quindi delta dei contatori ed eventi si ricavano da queste righe
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+           select new com.example.task_board_be.pojo.projection.LockedTask(t.id, t.board.id, t.status)
+           from Task t
+           where t.id in :ids
+             and t.isArchived = :isArchived
+           order by t.id
+           """)
+    List<LockedTask> findForUpdate(@Param("ids") Collection<Long> ids, @Param("isArchived") boolean isArchived);
+
+    /// Task archiviate delle board indicate per board e status, stesso filtro di restoreByBoardIds: le board sono
+    /// già bloccate, quindi l'insieme non cambia fino all'update
+    @Query("""
+           select new com.example.task_board_be.pojo.projection.TaskCount(t.board.id, t.status, count(t))
+           from Task t
+           where t.board.id in :boardIds
+             and t.isArchived = true
+             and t.status is not null
+           group by t.board.id, t.status
+           """)
+    List<TaskCount> countArchivedByBoardIds(@Param("boardIds") Collection<Long> boardIds);
+
+    /// Come countArchivedByBoardIds per le task archiviate delle board attive (filtro di restoreOfActiveBoards)
+    @Query("""
+           select new com.example.task_board_be.pojo.projection.TaskCount(t.board.id, t.status, count(t))
+           from Task t
+           where t.isArchived = true
+             and t.status is not null
+             and t.board.id in (select b.id from Board b where b.isArchived = false)
+           group by t.board.id, t.status
+           """)
+    List<TaskCount> countArchivedOfActiveBoards();
 }
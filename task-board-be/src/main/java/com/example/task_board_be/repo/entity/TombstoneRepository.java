@@ -0,0 +1,32 @@
+package com.example.task_board_be.repo.entity;
+
+import com.example.task_board_be.pojo.entity.Tombstone;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface TombstoneRepository extends JpaRepository<Tombstone, Tombstone.Key> {
+    /// Pagina della sync delta: tombstone dopo il cursore (deletedAt, entityId) fino a until,
+    /// range sull'indice di deleted_at
+    @Query("""
+           select t
+           from Tombstone t
+           where t.entityName = :entityName
+             and t.deletedAt between :afterTime and :until
+             and (t.deletedAt > :afterTime or t.entityId > :afterId)
+           order by t.deletedAt, t.entityId
+           """)
+    List<Tombstone> findDeletedAfter(@Param("entityName") String entityName, @Param("afterTime") LocalDateTime afterTime,
+                                     @Param("afterId") Long afterId, @Param("until") LocalDateTime until, Limit limit);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("delete from Tombstone t where t.deletedAt < :before")
+    int deleteDeletedBefore(@Param("before") LocalDateTime before);
+}
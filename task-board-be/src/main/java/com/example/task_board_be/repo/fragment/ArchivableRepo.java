@@ -1,5 +1,6 @@
 package com.example.task_board_be.repo.fragment;
 
+import com.example.task_board_be.enums.OutboxEventType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -8,27 +9,51 @@ import org.springframework.data.repository.query.Param;
 
 import java.util.Collection;
 
+/// Gli update massivi non passano da @UpdateTimestamp: updatedAt è aggiornato nella query perché gli ETag ne dipendono
 @NoRepositoryBean
 public interface ArchivableRepo<T,ID> extends JpaRepository<T , ID> {
     @Modifying(clearAutomatically = true, flushAutomatically = true)
-    @Query("update #{#entityName} e set e.isArchived = true where e.isArchived = false")
+    @Query("update #{#entityName} e set e.isArchived = true, e.updatedAt = local datetime where e.isArchived = false")
     int archiveAllActive();
 
     @Modifying(clearAutomatically = true, flushAutomatically = true)
-    @Query("update #{#entityName} e set e.isArchived = false where e.isArchived = true")
+    @Query("update #{#entityName} e set e.isArchived = false, e.updatedAt = local datetime where e.isArchived = true")
     int restoreAllArchived();
 
     @Modifying(clearAutomatically = true, flushAutomatically = true)
-    @Query("update #{#entityName} e set e.isArchived = true " +
+    @Query("update #{#entityName} e set e.isArchived = true, e.updatedAt = local datetime " +
            "where e.id in :ids and e.isArchived = false")
     int archiveByIds(@Param("ids") Collection<ID> ids);
 
     @Modifying(clearAutomatically = true, flushAutomatically = true)
-    @Query("update #{#entityName} e set e.isArchived = false " +
+    @Query("update #{#entityName} e set e.isArchived = false, e.updatedAt = local datetime " +
            "where e.id in :ids and e.isArchived = true")
     int restoreByIds(@Param("ids") Collection<ID> ids);
 
+    /// Da chiamare nella stessa transazione, prima di deleteByIdsIfArchived: la sync delta vede le righe rimosse
+    @Modifying(flushAutomatically = true)
+    @Query("insert into Tombstone (entityName, entityId, deletedAt) " +
+           "select '#{#entityName}', e.id, local datetime from #{#entityName} e " +
+           "where e.id in :ids and e.isArchived = true")
+    int insertTombstonesIfArchived(@Param("ids") Collection<ID> ids);
+
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query("delete from #{#entityName} e where e.id in :ids and e.isArchived = true")
     int deleteByIdsIfArchived(@Param("ids") Collection<ID> ids);
+
+    /// Outbox: nella stessa transazione e prima dell'update/delete, con lo stesso filtro (isArchived = stato di partenza);
+    /// dopo insert e save le righe sono attive. Il flush rende visibili le entità appena salvate
+    @Modifying(flushAutomatically = true)
+    @Query("insert into OutboxEvent (entityName, entityId, type, createdAt) " +
+           "select '#{#entityName}', e.id, :type, local datetime from #{#entityName} e " +
+           "where e.id in :ids and e.isArchived = :isArchived")
+    int insertOutboxEvents(@Param("ids") Collection<ID> ids, @Param("isArchived") boolean isArchived,
+                           @Param("type") OutboxEventType type);
+
+    /// Outbox per archiveAllActive, restoreAllArchived e deleteAllByIsArchivedTrue
+    @Modifying(flushAutomatically = true)
+    @Query("insert into OutboxEvent (entityName, entityId, type, createdAt) " +
+           "select '#{#entityName}', e.id, :type, local datetime from #{#entityName} e " +
+           "where e.isArchived = :isArchived")
+    int insertOutboxEventsByState(@Param("isArchived") boolean isArchived, @Param("type") OutboxEventType type);
 }
@@ -0,0 +1,8 @@
+package com.example.task_board_be.repo.fragment;
+
+import java.util.List;
+
+/// Inserimento massivo di entità nuove: persist a blocchi di hibernate.jdbc.batch_size, con flush e clear a ogni blocco
+public interface BatchInsertRepo<T> {
+    List<T> insertAll(List<T> entityList);
+}
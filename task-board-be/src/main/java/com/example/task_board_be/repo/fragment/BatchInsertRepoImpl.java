@@ -0,0 +1,39 @@
+package com.example.task_board_be.repo.fragment;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public class BatchInsertRepoImpl<T> implements BatchInsertRepo<T> {
+    @PersistenceContext
+    private EntityManager em;
+
+    private final int batchSize;
+
+    public BatchInsertRepoImpl(@Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int batchSize) {
+        this.batchSize = Math.max(batchSize, 1);
+    }
+
+    /// Le entità restituite sono detached: il persistence context viene svuotato a ogni blocco
+    /// per non far crescere il dirty checking con il numero di righe
+    @Transactional
+    @Override
+    public List<T> insertAll(List<T> entityList) {
+        for (int i = 0; i < entityList.size(); i++) {
+            em.persist(entityList.get(i));
+
+            if ((i + 1) % batchSize == 0) {
+                em.flush();
+                em.clear();
+            }
+        }
+
+        em.flush();
+        em.clear();
+
+        return entityList;
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.task_board_be.repo.fragment;
+
+import com.example.task_board_be.pojo.entity.Board;
+import com.example.task_board_be.pojo.projection.BoardView;
+import com.example.task_board_be.repo.search.SearchRank;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+
+/// Liste di board in proiezione BoardView, senza idratare le entità
+public interface BoardViewRepo {
+    Slice<BoardView> findViewSlice(Specification<Board> spec, Pageable p);
+    Slice<BoardView> findViewSlice(Specification<Board> spec, SearchRank<Board> rank, Pageable p);
+    Window<BoardView> findViewWindow(Specification<Board> spec, KeysetScrollPosition position, int size);
+}
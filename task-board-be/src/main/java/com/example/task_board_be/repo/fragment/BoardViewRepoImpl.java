@@ -0,0 +1,22 @@
+package com.example.task_board_be.repo.fragment;
+
+import com.example.task_board_be.pojo.entity.Board;
+import com.example.task_board_be.pojo.projection.BoardView;
+import jakarta.persistence.criteria.CompoundSelection;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Root;
+
+public class BoardViewRepoImpl extends ViewRepoSupport<Board, BoardView> implements BoardViewRepo {
+    public BoardViewRepoImpl() {
+        super(Board.class, BoardView.class, BoardView::createdAt, BoardView::id);
+    }
+
+    @Override
+    protected CompoundSelection<BoardView> select(Root<Board> root, CriteriaBuilder cb) {
+        return cb.construct(BoardView.class,
+                root.get("id"),
+                root.get("name"),
+                root.get("description"),
+                root.get("createdAt"));
+    }
+}
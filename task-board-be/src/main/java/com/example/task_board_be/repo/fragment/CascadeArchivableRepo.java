@@ -0,0 +1,42 @@
+package com.example.task_board_be.repo.fragment;
+
+import com.example.task_board_be.enums.OutboxEventType;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+
+/// Operazioni di archiviazione set-based per entità figlie di una board (relazione "board"). Le board vanno bloccate
+/// prima (BoardRepository.lockIdsForUpdate / lockActiveIdsForUpdate): chi cambia lo stato delle figlie prende le stesse
+/// righe in condivisione, quindi conteggi, outbox e update con lo stesso filtro vedono le stesse righe
+@NoRepositoryBean
+public interface CascadeArchivableRepo<T, ID> extends ArchivableRepo<T, ID> {
+    /// Outbox di restoreByBoardIds, stesso filtro
+    @Modifying(flushAutomatically = true)
+    @Query("insert into OutboxEvent (entityName, entityId, type, createdAt) " +
+           "select '#{#entityName}', e.id, :type, local datetime from #{#entityName} e " +
+           "where e.board.id in :boardIds and e.isArchived = true")
+    int insertOutboxEventsOfArchivedByBoardIds(@Param("boardIds") Collection<Long> boardIds,
+                                              @Param("type") OutboxEventType type);
+
+    /// Outbox di restoreOfActiveBoards, stesso filtro
+    @Modifying(flushAutomatically = true)
+    @Query("insert into OutboxEvent (entityName, entityId, type, createdAt) " +
+           "select '#{#entityName}', e.id, :type, local datetime from #{#entityName} e " +
+           "where e.isArchived = true " +
+           "and e.board.id in (select b.id from Board b where b.isArchived = false)")
+    int insertOutboxEventsOfArchivedOfActiveBoards(@Param("type") OutboxEventType type);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("update #{#entityName} e set e.isArchived = false, e.updatedAt = local datetime " +
+           "where e.board.id in :boardIds and e.isArchived = true")
+    int restoreByBoardIds(@Param("boardIds") Collection<Long> boardIds);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("update #{#entityName} e set e.isArchived = false, e.updatedAt = local datetime " +
+           "where e.isArchived = true " +
+           "and e.board.id in (select b.id from Board b where b.isArchived = false)")
+    int restoreOfActiveBoards();
+}
@@ -7,6 +7,11 @@ import org.springframework.data.repository.NoRepositoryBean;
 @NoRepositoryBean
 public interface PurgeRepo<T,ID> extends ArchivableRepo<T , ID> {
 
+    @Modifying(flushAutomatically = true)
+    @Query("insert into Tombstone (entityName, entityId, deletedAt) " +
+           "select '#{#entityName}', e.id, local datetime from #{#entityName} e where e.isArchived = true")
+    int insertTombstonesOfArchived();
+
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query("delete from #{#entityName} e where e.isArchived = true")
     int deleteAllByIsArchivedTrue();
@@ -0,0 +1,17 @@
+package com.example.task_board_be.repo.fragment;
+
+import com.example.task_board_be.pojo.entity.Task;
+import com.example.task_board_be.pojo.projection.TaskView;
+import com.example.task_board_be.repo.search.SearchRank;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+
+/// Liste di task in proiezione TaskView, senza idratare le entità
+public interface TaskViewRepo {
+    Slice<TaskView> findViewSlice(Specification<Task> spec, Pageable p);
+    Slice<TaskView> findViewSlice(Specification<Task> spec, SearchRank<Task> rank, Pageable p);
+    Window<TaskView> findViewWindow(Specification<Task> spec, KeysetScrollPosition position, int size);
+}
@@ -0,0 +1,26 @@
+package com.example.task_board_be.repo.fragment;
+
+import com.example.task_board_be.pojo.entity.Task;
+import com.example.task_board_be.pojo.projection.TaskView;
+import jakarta.persistence.criteria.CompoundSelection;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Root;
+
+public class TaskViewRepoImpl extends ViewRepoSupport<Task, TaskView> implements TaskViewRepo {
+    public TaskViewRepoImpl() {
+        super(Task.class, TaskView.class, TaskView::createdAt, TaskView::id);
+    }
+
+    /// board.id legge la FK dalla tabella task, senza join su board
+    @Override
+    protected CompoundSelection<TaskView> select(Root<Task> root, CriteriaBuilder cb) {
+        return cb.construct(TaskView.class,
+                root.get("id"),
+                root.get("name"),
+                root.get("description"),
+                root.get("status"),
+                root.get("icon"),
+                root.get("board").get("id"),
+                root.get("createdAt"));
+    }
+}
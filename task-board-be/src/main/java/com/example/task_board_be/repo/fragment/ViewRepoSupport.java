@@ -0,0 +1,135 @@
+package com.example.task_board_be.repo.fragment;
+
+import com.example.task_board_be.repo.search.SearchRank;
+import com.example.task_board_be.utils.CursorUtils;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CompoundSelection;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/// Base dei fragment di proiezione: la select costruisce direttamente i record View (select new),
+/// quindi nessuna entità passa dal persistence context e niente dirty checking a fine transazione
+public abstract class ViewRepoSupport<T, V> {
+    @PersistenceContext
+    private EntityManager em;
+
+    private final Class<T> entityClass;
+    private final Class<V> viewClass;
+    private final Function<V, LocalDateTime> createdAtOf;
+    private final Function<V, Long> idOf;
+
+    protected ViewRepoSupport(Class<T> entityClass, Class<V> viewClass,
+                              Function<V, LocalDateTime> createdAtOf, Function<V, Long> idOf) {
+        this.entityClass = entityClass;
+        this.viewClass = viewClass;
+        this.createdAtOf = createdAtOf;
+        this.idOf = idOf;
+    }
+
+    /// Colonne della View nell'ordine del costruttore del record
+    protected abstract CompoundSelection<V> select(Root<T> root, CriteriaBuilder cb);
+
+    /// Legge una riga in più per sapere se c'è una pagina successiva, senza count
+    public Slice<V> findViewSlice(Specification<T> spec, Pageable p) {
+        return findViewSlice(spec, null, p);
+    }
+
+    /// Con una ricerca attiva la rilevanza ordina per prima, il sort della pagina fa da spareggio
+    public Slice<V> findViewSlice(Specification<T> spec, SearchRank<T> rank, Pageable p) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<V> cq = cb.createQuery(viewClass);
+        Root<T> root = cq.from(entityClass);
+
+        cq.select(select(root, cb));
+        where(cq, cb, root, spec, null);
+
+        List<Order> orderList = new ArrayList<>();
+        if (rank != null) orderList.add(cb.desc(rank.toExpression(root, cb)));
+        orderList.addAll(QueryUtils.toOrders(p.getSort(), root, cb));
+        cq.orderBy(orderList);
+
+        TypedQuery<V> query = em.createQuery(cq);
+
+        if (p.isUnpaged()) return new SliceImpl<>(query.getResultList(), p, false);
+
+        query.setFirstResult(Math.toIntExact(p.getOffset()));
+        query.setMaxResults(p.getPageSize() + 1);
+
+        List<V> viewList = query.getResultList();
+        boolean hasNext = viewList.size() > p.getPageSize();
+
+        return new SliceImpl<>(hasNext ? viewList.subList(0, p.getPageSize()) : viewList, p, hasNext);
+    }
+
+    /// Keyset su CursorUtils.KEYSET_SORT (createdAt DESC, id DESC), solo in avanti come le finestre del fluent API
+    public Window<V> findViewWindow(Specification<T> spec, KeysetScrollPosition position, int size) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<V> cq = cb.createQuery(viewClass);
+        Root<T> root = cq.from(entityClass);
+
+        cq.select(select(root, cb));
+        where(cq, cb, root, spec, position.isInitial() ? null : after(root, cb, position.getKeys()));
+        cq.orderBy(QueryUtils.toOrders(CursorUtils.KEYSET_SORT, root, cb));
+
+        List<V> viewList = em.createQuery(cq)
+                .setMaxResults(size + 1)
+                .getResultList();
+        boolean hasNext = viewList.size() > size;
+        List<V> content = hasNext ? viewList.subList(0, size) : viewList;
+
+        return Window.from(content, index -> positionOf(content.get(index)), hasNext);
+    }
+
+    private void where(CriteriaQuery<V> cq, CriteriaBuilder cb, Root<T> root, Specification<T> spec, Predicate keyset) {
+        List<Predicate> predicateList = new ArrayList<>(2);
+
+        Predicate specPredicate = (spec == null) ? null : spec.toPredicate(root, cq, cb);
+        if (specPredicate != null) predicateList.add(specPredicate);
+        if (keyset != null) predicateList.add(keyset);
+
+        if (!predicateList.isEmpty()) cq.where(predicateList.toArray(Predicate[]::new));
+    }
+
+    /// createdAt < :createdAt or (createdAt = :createdAt and id < :id)
+    private Predicate after(Root<T> root, CriteriaBuilder cb, Map<String, ?> keys) {
+        Path<LocalDateTime> createdAt = root.get(CursorUtils.CREATED_AT);
+        Path<Long> id = root.get(CursorUtils.ID);
+        LocalDateTime lastCreatedAt = (LocalDateTime) keys.get(CursorUtils.CREATED_AT);
+        Long lastId = (Long) keys.get(CursorUtils.ID);
+
+        return cb.or(
+                cb.lessThan(createdAt, lastCreatedAt),
+                cb.and(cb.equal(createdAt, lastCreatedAt), cb.lessThan(id, lastId))
+        );
+    }
+
+    private ScrollPosition positionOf(V view) {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put(CursorUtils.CREATED_AT, createdAtOf.apply(view));
+        keys.put(CursorUtils.ID, idOf.apply(view));
+
+        return ScrollPosition.forward(keys);
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.task_board_be.repo.search;
+
+import jakarta.persistence.criteria.Expression;
+import org.springframework.data.jpa.domain.Specification;
+
+/// Fallback per H2 e database senza pg_trgm: stesso contratto del motore trigram (contains su name o description),
+/// rilevanza a gradini: nome uguale, nome che inizia col testo, nome che lo contiene, solo descrizione
+public class LikeSearchEngine implements TextSearchEngine {
+
+    @Override
+    public <T> Specification<T> matches(String searchText) {
+        String normalized = TextSearchEngine.normalize(searchText);
+        if (normalized == null) return null;
+
+        String pattern = TextSearchEngine.containsPattern(normalized);
+        return (root, cq, cb) -> cb.or(
+                cb.like(cb.lower(root.get(NAME)), pattern, '\\'),
+                cb.like(cb.lower(root.get(DESCRIPTION)), pattern, '\\')
+        );
+    }
+
+    @Override
+    public <T> SearchRank<T> rank(String searchText) {
+        String normalized = TextSearchEngine.normalize(searchText);
+        if (normalized == null) return null;
+
+        String prefixPattern = TextSearchEngine.containsPattern(normalized).substring(1);
+        String pattern = TextSearchEngine.containsPattern(normalized);
+        return (root, cb) -> {
+            Expression<String> name = cb.lower(root.get(NAME));
+            return cb.<Integer>selectCase()
+                    .when(cb.equal(name, normalized), 3)
+                    .when(cb.like(name, prefixPattern, '\\'), 2)
+                    .when(cb.like(name, pattern, '\\'), 1)
+                    .otherwise(0);
+        };
+    }
+}
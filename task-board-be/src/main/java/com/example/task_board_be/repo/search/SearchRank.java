@@ -0,0 +1,11 @@
+package com.example.task_board_be.repo.search;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Root;
+
+/// Punteggio di rilevanza di una ricerca: più alto = più rilevante, ordinato DESC prima del sort richiesto
+@FunctionalInterface
+public interface SearchRank<T> {
+    Expression<? extends Number> toExpression(Root<T> root, CriteriaBuilder cb);
+}
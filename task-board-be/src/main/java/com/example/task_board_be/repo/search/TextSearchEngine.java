@@ -0,0 +1,26 @@
+package com.example.task_board_be.repo.search;
+
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Locale;
+
+/// Ricerca testuale su name e description di board e task. Con testo vuoto entrambi i metodi restituiscono null:
+/// la Specification viene ignorata da allOf e l'ordinamento resta quello richiesto
+public interface TextSearchEngine {
+    String NAME = "name";
+    String DESCRIPTION = "description";
+
+    <T> Specification<T> matches(String searchText);
+
+    <T> SearchRank<T> rank(String searchText);
+
+    static String normalize(String searchText) {
+        return StringUtils.isBlank(searchText) ? null : searchText.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /// % e _ digitati dall'utente vanno cercati alla lettera
+    static String containsPattern(String normalized) {
+        return "%" + normalized.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.task_board_be.repo.search;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+
+/// PostgreSQL: il like '%x%' gira sull'espressione task_board_search_doc(name, description), coperta da un indice
+/// GIN gin_trgm_ops (pg_trgm), quindi niente seq scan; la rilevanza è word_similarity tra testo cercato e documento
+public class TrigramSearchEngine implements TextSearchEngine {
+    public static final String SEARCH_DOC_FUNCTION = "task_board_search_doc";
+
+    @Override
+    public <T> Specification<T> matches(String searchText) {
+        String normalized = TextSearchEngine.normalize(searchText);
+        if (normalized == null) return null;
+
+        String pattern = TextSearchEngine.containsPattern(normalized);
+        return (root, cq, cb) -> cb.like(searchDoc(root, cb), pattern, '\\');
+    }
+
+    @Override
+    public <T> SearchRank<T> rank(String searchText) {
+        String normalized = TextSearchEngine.normalize(searchText);
+        if (normalized == null) return null;
+
+        return (root, cb) -> cb.function("word_similarity", Double.class, cb.literal(normalized), searchDoc(root, cb));
+    }
+
+    private static <T> Expression<String> searchDoc(Root<T> root, CriteriaBuilder cb) {
+        return cb.function(SEARCH_DOC_FUNCTION, String.class, root.get(NAME), root.get(DESCRIPTION));
+    }
+}
@@ -1,11 +1,8 @@
 package com.example.task_board_be.repo.spec;
 
 import com.example.task_board_be.pojo.entity.Board;
-import org.apache.commons.lang3.StringUtils;
 import org.springframework.data.jpa.domain.Specification;
 
-import java.util.Locale;
-
 public final class BoardSpecifications {
     private BoardSpecifications() {}
 
@@ -13,13 +10,8 @@ public final class BoardSpecifications {
         return (root, cq, cb) -> cb.equal(root.get("isArchived"), archived);
     }
 
-    public static Specification<Board> nameContainsIgnoreCase(String searchText) {
-        if (StringUtils.isBlank(searchText)) return null;
-        String pattern = "%" + searchText.trim().toLowerCase(Locale.ROOT) + "%";
-        return (root, cq, cb) -> cb.like(cb.lower(root.get("name")), pattern);
-    }
-
-    public static Specification<Board> filterBoards(String searchText, boolean archived) {
-        return Specification.allOf(hasArchived(archived),nameContainsIgnoreCase(searchText));
+    /// textMatch arriva da TextSearchEngine.matches (null = nessun filtro testuale)
+    public static Specification<Board> filterBoards(Specification<Board> textMatch, boolean archived) {
+        return Specification.allOf(hasArchived(archived), textMatch);
     }
 }
@@ -6,6 +6,7 @@ public interface BaseService<T , ID>{
     List<T> getList(boolean isArchived);
     T getEl(ID id , boolean isArchived);
     T create(T model);
+    List<T> createList(List<T> modelList);
     T update(T model);
     int delete(ID id);
     int deleteList(List<ID> idList);
@@ -1,13 +1,21 @@
 package com.example.task_board_be.service.entity;
 
 import com.example.task_board_be.pojo.model.BoardModel;
+import com.example.task_board_be.pojo.model.BoardTaskCountModel;
+import com.example.task_board_be.pojo.projection.BoardView;
 import com.example.task_board_be.service.BaseService;
 import com.example.task_board_be.service.fragment.PageableService;
 import com.example.task_board_be.service.fragment.PurgeService;
+import com.example.task_board_be.service.fragment.VersionedService;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Component
 public interface BoardService extends BaseService<BoardModel , Long> ,
         PurgeService<BoardModel , Long>,
-        PageableService<BoardModel> {
+        PageableService<BoardView> ,
+        VersionedService<Long> {
+    List<BoardTaskCountModel> getTaskCountList(List<Long> idList);
+    int reconcileTaskCounts();
 }
@@ -1,11 +1,16 @@
 package com.example.task_board_be.service.entity;
 
 import com.example.task_board_be.pojo.model.TaskModel;
+import com.example.task_board_be.pojo.projection.TaskView;
 import com.example.task_board_be.service.BaseService;
 import com.example.task_board_be.service.fragment.ArchivableService;
 import com.example.task_board_be.service.fragment.PageableService;
+import com.example.task_board_be.service.fragment.VersionedService;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -13,11 +18,16 @@ import java.util.List;
 @Component
 public interface TaskService extends BaseService<TaskModel , Long> ,
         ArchivableService<TaskModel , Long> ,
-        PageableService<TaskModel> {
-    Page<TaskModel> getPage(String filterStr ,Long boardId, boolean isArchived , Pageable p );
+        PageableService<TaskView> ,
+        VersionedService<Long> {
+    Page<TaskView> getPage(String filterStr ,Long boardId, boolean isArchived , Pageable p );
+    Slice<TaskView> getSlice(String filterStr , Long boardId , boolean isArchived , Pageable p);
+    Window<TaskView> getWindow(String filterStr , Long boardId , boolean isArchived , KeysetScrollPosition position , int size);
     List<TaskModel> getList(Long boardId, boolean isArchived);
     TaskModel toggleStateEl(Long id , boolean isArchived);
     TaskModel restoreEl(Long id);
     int restoreList(List<Long> idList);
+    int restoreListByBoardIds(List<Long> boardIdList);
+    int restoreListOfActiveBoards();
     int toggleStateList(List<Long> idList, boolean isArchived);
 }
@@ -1,28 +1,56 @@
 package com.example.task_board_be.service.entity.impl;
 
+import com.example.task_board_be.cache.CountCache;
+import com.example.task_board_be.cache.ModelCache;
+import com.example.task_board_be.enums.BoardEventType;
+import com.example.task_board_be.enums.DefaultNameScope;
+import com.example.task_board_be.enums.OutboxEventType;
+import com.example.task_board_be.enums.task.TaskStatus;
 import com.example.task_board_be.exception.custom.NotFoundException;
 import com.example.task_board_be.exception.custom.StateMismatchException;
 import com.example.task_board_be.mapping.mapper.BoardMapper;
 import com.example.task_board_be.pojo.entity.BaseEntity;
 import com.example.task_board_be.pojo.entity.Board;
+import com.example.task_board_be.pojo.entity.BoardTaskCount;
 import com.example.task_board_be.pojo.model.BoardModel;
-import com.example.task_board_be.pojo.model.TaskModel;
+import com.example.task_board_be.pojo.model.BoardTaskCountModel;
+import com.example.task_board_be.pojo.projection.BoardView;
+import com.example.task_board_be.pojo.projection.EntityVersion;
 import com.example.task_board_be.repo.entity.BoardRepository;
+import com.example.task_board_be.repo.entity.BoardTaskCountRepository;
+import com.example.task_board_be.repo.search.TextSearchEngine;
 import com.example.task_board_be.service.entity.BoardService;
 import com.example.task_board_be.service.entity.TaskService;
+import com.example.task_board_be.service.event.BoardEventService;
+import com.example.task_board_be.service.naming.DefaultNameService;
+import com.example.task_board_be.utils.DefaultNameUtils;
+import com.example.task_board_be.utils.LogPayloadUtils;
 import com.example.task_board_be.utils.LoggerUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Objects;
+import java.util.Iterator;
 import java.util.Set;
 
 import static com.example.task_board_be.repo.spec.BoardSpecifications.filterBoards;
@@ -34,36 +62,89 @@ public class BoardServiceImpl implements BoardService {
     private final BoardMapper mapper;
 
     private final TaskService taskService;
+    private final CountCache countCache;
+    private final ModelCache modelCache;
+    private final TextSearchEngine searchEngine;
+    private final BoardTaskCountRepository taskCountRepo;
+    private final DefaultNameService defaultNameService;
+    private final BoardEventService eventService;
 
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
     private final String RESOURCE_NAME = "board";
+    private final String TASK_RESOURCE_NAME = "task";
+    private final String DEFAULT_NAME_PREFIX = "New Board";
+    private final Long DEFAULT_NAME_SCOPE_ID = 0L;
 
     @Autowired
-    public BoardServiceImpl(BoardRepository repo, BoardMapper mapper, TaskService taskService) {
+    public BoardServiceImpl(BoardRepository repo, BoardMapper mapper, TaskService taskService, CountCache countCache,
+                            ModelCache modelCache, TextSearchEngine searchEngine, BoardTaskCountRepository taskCountRepo,
+                            DefaultNameService defaultNameService, BoardEventService eventService) {
         this.repo = repo;
         this.mapper = mapper;
         this.taskService = taskService;
+        this.countCache = countCache;
+        this.modelCache = modelCache;
+        this.searchEngine = searchEngine;
+        this.taskCountRepo = taskCountRepo;
+        this.defaultNameService = defaultNameService;
+        this.eventService = eventService;
     }
 
     @Transactional(readOnly = true)
     @Override
-    public Page<BoardModel> getPage(String filterStr, boolean isArchived, Pageable p) {
+    public Page<BoardView> getPage(String filterStr, boolean isArchived, Pageable p) {
         logger.info("{} - [PARAMS: filterStr->{} , isArchived->{} ; p->{}]",
-                LoggerUtils.getStandardLoggerMsg("start", false), filterStr, isArchived, p);
+                LoggerUtils.getStandardLoggerMsg(logger, "getPage", "start", false), filterStr, isArchived, p);
 
-        Page<BoardModel> boardModelPage = repo.findAll(filterBoards(filterStr, isArchived), p).map(mapper::toModel);
+        Specification<Board> spec = filterBoards(searchEngine.matches(filterStr), isArchived);
+        List<BoardView> content = repo.findViewSlice(spec, searchEngine.rank(filterStr), p).getContent();
+
+        // il count parte solo se il totale non si deduce dalla pagina, e passa dalla cache
+        Page<BoardView> boardViewPage = PageableExecutionUtils.getPage(content, p,
+                () -> countCache.getOrCount(RESOURCE_NAME, filterStr, null, isArchived, () -> repo.count(spec)));
 
         logger.info("{} - [RESULT: pageSize->{} ; pageTotalElements->{}]",
-                LoggerUtils.getStandardLoggerMsg("end", false),
-                boardModelPage.getNumberOfElements(), boardModelPage.getTotalElements());
-        return boardModelPage;
+                LoggerUtils.getStandardLoggerMsg(logger, "getPage", "end", false),
+                boardViewPage.getNumberOfElements(), boardViewPage.getTotalElements());
+        return boardViewPage;
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public Slice<BoardView> getSlice(String filterStr, boolean isArchived, Pageable p) {
+        logger.info("{} - [PARAMS: filterStr->{} , isArchived->{} ; p->{}]",
+                LoggerUtils.getStandardLoggerMsg(logger, "getSlice", "start", false), filterStr, isArchived, p);
+
+        Slice<BoardView> boardViewSlice = repo.findViewSlice(filterBoards(searchEngine.matches(filterStr), isArchived),
+                searchEngine.rank(filterStr), p);
+
+        logger.info("{} - [RESULT: sliceSize->{} ; hasNext->{}]",
+                LoggerUtils.getStandardLoggerMsg(logger, "getSlice", "end", false),
+                boardViewSlice.getNumberOfElements(), boardViewSlice.hasNext());
+        return boardViewSlice;
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public Window<BoardView> getWindow(String filterStr, boolean isArchived, KeysetScrollPosition position, int size) {
+        logger.info("{} - [PARAMS: filterStr->{} , isArchived->{} ; position->{} ; size->{}]",
+                LoggerUtils.getStandardLoggerMsg(logger, "getWindow", "start", false),
+                filterStr, isArchived, position, size);
+
+        Window<BoardView> boardViewWindow = repo.findViewWindow(filterBoards(searchEngine.matches(filterStr), isArchived),
+                position, size);
+
+        logger.info("{} - [RESULT: windowSize->{} ; hasNext->{}]",
+                LoggerUtils.getStandardLoggerMsg(logger, "getWindow", "end", false),
+                boardViewWindow.size(), boardViewWindow.hasNext());
+        return boardViewWindow;
     }
 
     @Transactional(readOnly = true)
     @Override
     public List<BoardModel> getList(boolean isArchived) {
         logger.info("{} - [PARAMS: isArchived->{}]",
-                LoggerUtils.getStandardLoggerMsg("start", false), isArchived);
+                LoggerUtils.getStandardLoggerMsg(logger, "getList", "start", false), isArchived);
 
         List<Board> boardList = (isArchived)
                 ? repo.findAllByIsArchivedTrue().stream().toList()
@@ -71,20 +152,35 @@ public class BoardServiceImpl implements BoardService {
         List<BoardModel> boardModelList = mapper.toModelList(boardList);
 
         logger.info("{} - [RESULT: boardModelList -> {}]",
-                LoggerUtils.getStandardLoggerMsg("end", false), boardModelList);
+                LoggerUtils.getStandardLoggerMsg(logger, "getList", "end", false),
+                LogPayloadUtils.summary(boardModelList));
         return boardModelList;
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public Optional<EntityVersion> getVersion(Long id, boolean isArchived) {
+        logger.info("{} - [PARAMS: id->{} , isArchived -> {}]",
+                LoggerUtils.getStandardLoggerMsg(logger, "getVersion", "start", false), id, isArchived);
+
+        Optional<EntityVersion> version = repo.findVersion(id, isArchived);
+
+        logger.info("{} - [RESULT: version -> {}]",
+                LoggerUtils.getStandardLoggerMsg(logger, "getVersion", "end", false), version);
+        return version;
+    }
+
     @Transactional(readOnly = true)
     @Override
     public BoardModel getEl(Long id, boolean isArchived) {
         logger.info("{} - [PARAMS: id->{}]",
-                LoggerUtils.getStandardLoggerMsg("start", false), id);
+                LoggerUtils.getStandardLoggerMsg(logger, "getEl", "start", false), id);
 
-        BoardModel boardModel = mapper.toModelWithCascade(getBoard(id, isArchived));
+        BoardModel boardModel = modelCache.get(RESOURCE_NAME, id, isArchived,
+                () -> toModelWithActiveTasks(getBoard(id, isArchived)));
 
         logger.info("{} - [RESULT: boardModel -> {}]",
-                LoggerUtils.getStandardLoggerMsg("end", false), boardModel);
+                LoggerUtils.getStandardLoggerMsg(logger, "getEl", "end", false), LogPayloadUtils.payload(boardModel));
         return boardModel;
     }
 
@@ -92,43 +188,115 @@ public class BoardServiceImpl implements BoardService {
     @Override
     public BoardModel create(BoardModel boardModel) {
         logger.info("{} - [PARAMS: boardModel->{}]",
-                LoggerUtils.getStandardLoggerMsg("start", false), boardModel);
+                LoggerUtils.getStandardLoggerMsg(logger, "create", "start", false),
+                LogPayloadUtils.payload(boardModel));
 
         Board board = mapper.toEntity(boardModel);
 
         if(StringUtils.isBlank(board.getName())){
-            board.setName(getNextDefaultName());
+            int defaultNameIndex = defaultNameService.allocate(DefaultNameScope.BOARD, DEFAULT_NAME_SCOPE_ID);
+            board.setName(DefaultNameUtils.format(DEFAULT_NAME_PREFIX, defaultNameIndex));
+            board.setDefaultNameIndex(defaultNameIndex);
+        }else{
+            board.setDefaultNameIndex(DefaultNameUtils.parseIndex(DEFAULT_NAME_PREFIX, board.getName()));
+            // anche un indice scritto a mano si serializza con le allocazioni in corso
+            if (board.getDefaultNameIndex() != null) defaultNameService.lock(DefaultNameScope.BOARD, DEFAULT_NAME_SCOPE_ID);
         }
 
         board = repo.save(board);
+        repo.insertOutboxEvents(List.of(board.getId()), false, OutboxEventType.CREATED);
+        insertTaskCounts(List.of(board.getId()));
+        countCache.invalidate(RESOURCE_NAME);
 
         boardModel = mapper.toModel(board);
 
         logger.info("{} - [RESULT: boardModel -> {}]",
-                LoggerUtils.getStandardLoggerMsg("end", false), boardModel);
+                LoggerUtils.getStandardLoggerMsg(logger, "create", "end", false), LogPayloadUtils.payload(boardModel));
         return boardModel;
     }
 
+    @Transactional
+    @Override
+    public List<BoardModel> createList(List<BoardModel> boardModelList) {
+        logger.info("{} - [PARAMS: boardModelList size->{}]",
+                LoggerUtils.getStandardLoggerMsg(logger, "createList", "start", false), boardModelList.size());
+
+        if (boardModelList.isEmpty()) {
+            logger.info("{} - [RESULT: boardModelList size->{}]",
+                    LoggerUtils.getStandardLoggerMsg(logger, "createList", "end", false), 0);
+            return List.of();
+        }
+
+        List<Board> boardList = mapper.toEntityList(boardModelList);
+        List<Board> unnamedBoardList = new ArrayList<>();
+
+        for (Board board : boardList) {
+            if (StringUtils.isBlank(board.getName())) unnamedBoardList.add(board);
+            else board.setDefaultNameIndex(DefaultNameUtils.parseIndex(DEFAULT_NAME_PREFIX, board.getName()));
+        }
+
+        if (!unnamedBoardList.isEmpty()) {
+            List<Integer> reservedIndexList = boardList.stream()
+                    .map(Board::getDefaultNameIndex).filter(Objects::nonNull).toList();
+            Iterator<Integer> indexes = defaultNameService.allocateRange(DefaultNameScope.BOARD, DEFAULT_NAME_SCOPE_ID,
+                    unnamedBoardList.size(), reservedIndexList).iterator();
+
+            for (Board board : unnamedBoardList) {
+                int defaultNameIndex = indexes.next();
+                board.setName(DefaultNameUtils.format(DEFAULT_NAME_PREFIX, defaultNameIndex));
+                board.setDefaultNameIndex(defaultNameIndex);
+            }
+        } else if (boardList.stream().map(Board::getDefaultNameIndex).anyMatch(Objects::nonNull)) {
+            defaultNameService.lock(DefaultNameScope.BOARD, DEFAULT_NAME_SCOPE_ID);
+        }
+
+        boardList = repo.insertAll(boardList);
+        List<Long> idList = boardList.stream().map(Board::getId).toList();
+        repo.insertOutboxEvents(idList, false, OutboxEventType.CREATED);
+        insertTaskCounts(idList);
+        countCache.invalidate(RESOURCE_NAME);
+
+        List<BoardModel> result = mapper.toModelList(boardList);
+
+        logger.info("{} - [RESULT: boardModelList size->{}]",
+                LoggerUtils.getStandardLoggerMsg(logger, "createList", "end", false), result.size());
+        return result;
+    }
+
     @Transactional
     @Override
     public BoardModel update(BoardModel boardModel) {
         logger.info("{} - [PARAMS: boardModel->{}]",
-                LoggerUtils.getStandardLoggerMsg("start", false), boardModel);
+                LoggerUtils.getStandardLoggerMsg(logger, "update", "start", false),
+                LogPayloadUtils.payload(boardModel));
 
         Long id = boardModel.getId();
         Board board = getBoard(id, false);
 
         if (!StringUtils.isBlank(boardModel.getName())) {
+            Integer defaultNameIndex = DefaultNameUtils.parseIndex(DEFAULT_NAME_PREFIX, boardModel.getName());
+
+            // stesso lock delle create: una rinomina in "New Board N" non si incrocia con un'allocazione di N
+            if (!Objects.equals(board.getDefaultNameIndex(), defaultNameIndex)) {
+                defaultNameService.lock(DefaultNameScope.BOARD, DEFAULT_NAME_SCOPE_ID);
+                defaultNameService.release(DefaultNameScope.BOARD, DEFAULT_NAME_SCOPE_ID, board.getDefaultNameIndex());
+            }
+
             board.setName(boardModel.getName());
+            board.setDefaultNameIndex(defaultNameIndex);
         }
 
         board.setDescription(boardModel.getDescription());
         board = repo.save(board);
+        repo.insertOutboxEvents(List.of(id), false, OutboxEventType.UPDATED);
+        countCache.invalidate(RESOURCE_NAME);
+        modelCache.invalidate(RESOURCE_NAME, id);
+        eventService.publish(BoardEventType.BOARD_UPDATED, id, List.of());
 
-        boardModel = mapper.toModelWithCascade(board);
+        boardModel = toModelWithActiveTasks(board);
 
         logger.info("{} - [RESULT: boardModel->{}]",
-                LoggerUtils.getStandardLoggerMsg("end", false), boardModel);
+                LoggerUtils.getStandardLoggerMsg(logger, "update", "end", false), LogPayloadUtils.payload(boardModel));
         return boardModel;
     }
 
@@ -136,18 +304,23 @@ public class BoardServiceImpl implements BoardService {
     @Override
     public BoardModel archiveEl(Long id) {
         logger.info("{} - [PARAMS: id->{}]",
-                LoggerUtils.getStandardLoggerMsg("start", false), id);
+                LoggerUtils.getStandardLoggerMsg(logger, "archiveEl", "start", false), id);
 
+        repo.insertOutboxEvents(List.of(id), false, OutboxEventType.ARCHIVED);
         int updatedRow = repo.archiveByIds(List.of(id));
 
         checkUpdatedRow(updatedRow, id, false);
+        countCache.invalidate(RESOURCE_NAME);
+        modelCache.invalidate(RESOURCE_NAME, id);
+        eventService.publish(BoardEventType.BOARD_ARCHIVED, id, List.of());
 
         Board board = repo.findById(id).orElseThrow(() -> new IllegalArgumentException("Board" + id + "non trovata dopo l'update"));
 
-        BoardModel boardModel = mapper.toModelWithCascade(board);
+        BoardModel boardModel = toModelWithActiveTasks(board);
 
         logger.info("{} - [RESULT: boardModel->{}]",
-                LoggerUtils.getStandardLoggerMsg("end", false), boardModel);
+                LoggerUtils.getStandardLoggerMsg(logger, "archiveEl", "end", false),
+                LogPayloadUtils.payload(boardModel));
         return boardModel;
     }
 
@@ -155,37 +328,48 @@ public class BoardServiceImpl implements BoardService {
     @Override
     public int archiveList(List<Long> idList) {
         logger.info("{} - [PARAMS: idList->{}]",
-                LoggerUtils.getStandardLoggerMsg("start", false), idList);
+                LoggerUtils.getStandardLoggerMsg(logger, "archiveList", "start", false),
+                LogPayloadUtils.summary(idList));
 
         if (idList.isEmpty()) {
             logger.info("{} - [RESULT: updatedRow->{}]",
-                    LoggerUtils.getStandardLoggerMsg("end", false) , 0);
+                    LoggerUtils.getStandardLoggerMsg(logger, "archiveList", "end", false) , 0);
             return 0;
         }
 
+        List<Long> changedIdList = findChangedIdList(idList, false);
+        repo.insertOutboxEvents(idList, false, OutboxEventType.ARCHIVED);
         int updatedRow = repo.archiveByIds(idList);
+        countCache.invalidate(RESOURCE_NAME);
+        modelCache.invalidate(RESOURCE_NAME, idList);
 
         if (!isUpdatedRow(updatedRow, idList)){
             logger.info("{} - [RESULT: updatedRow->{}]",
-                    LoggerUtils.getStandardLoggerMsg("end", false) , 0);
+                    LoggerUtils.getStandardLoggerMsg(logger, "archiveList", "end", false) , 0);
             return 0;
         }
 
+        publishChanged(BoardEventType.BOARD_ARCHIVED, changedIdList);
+
         logger.info("{} - [RESULT: updatedRow->{}]",
-                LoggerUtils.getStandardLoggerMsg("end", false), updatedRow);
+                LoggerUtils.getStandardLoggerMsg(logger, "archiveList", "end", false), updatedRow);
         return updatedRow;
     }
 
     @Transactional
     @Override
     public int archiveList() {
-        logger.info(LoggerUtils.getStandardLoggerMsg("start", false));
+        logger.info(LoggerUtils.getStandardLoggerMsg(logger, "archiveList", "start", false));
 
+        repo.insertOutboxEventsByState(false, OutboxEventType.ARCHIVED);
         int updatedRow = repo.archiveAllActive();
+        countCache.invalidate(RESOURCE_NAME);
+        modelCache.invalidateAll(RESOURCE_NAME);
+        eventService.publishResync();
 
         if (!isUpdatedRow(updatedRow)){
             logger.info("{} - [RESULT: updatedRow->{}]",
-                    LoggerUtils.getStandardLoggerMsg("end", false) , 0);
+                    LoggerUtils.getStandardLoggerMsg(logger, "archiveList", "end", false) , 0);
             return 0;
         }
 
@@ -193,14 +377,14 @@ public class BoardServiceImpl implements BoardService {
 
         if (boardList.isEmpty()){
             logger.info("{} - [RESULT: updatedRow->{}]",
-                    LoggerUtils.getStandardLoggerMsg("end", false) , 0);
+                    LoggerUtils.getStandardLoggerMsg(logger, "archiveList", "end", false) , 0);
             return 0;
         }
 
         boardList.forEach(b -> b.setIsArchived(true));
 
         logger.info("{} - [RESULT: updatedRow->{}]",
-                LoggerUtils.getStandardLoggerMsg("end", false), updatedRow);
+                LoggerUtils.getStandardLoggerMsg(logger, "archiveList", "end", false), updatedRow);
         return updatedRow;
     }
 
@@ -208,26 +392,24 @@ public class BoardServiceImpl implements BoardService {
     @Override
     public BoardModel restoreEl(Long id, boolean withTasks) {
         logger.info("{} - [PARAMS: id->{} ; withTasks->{}]",
-                LoggerUtils.getStandardLoggerMsg("start", false), id, withTasks);
+                LoggerUtils.getStandardLoggerMsg(logger, "restoreEl", "start", false), id, withTasks);
 
+        repo.insertOutboxEvents(List.of(id), true, OutboxEventType.RESTORED);
         int updatedRow = repo.restoreByIds(List.of(id));
 
         checkUpdatedRow(updatedRow, id, true);
+        countCache.invalidate(RESOURCE_NAME);
+        modelCache.invalidate(RESOURCE_NAME, id);
 
-        if (withTasks) {
-            List<TaskModel> taskList = taskService.getList(id, true);
-
-            if (!taskList.isEmpty()) {
-                List<Long> taskIdList = taskList.stream().map(TaskModel::getId).toList();
-                taskService.restoreList(taskIdList);
-            }
-        }
+        if (withTasks) taskService.restoreListByBoardIds(List.of(id));
+        eventService.publish(BoardEventType.BOARD_RESTORED, id, List.of());
 
         Board board = repo.findById(id).orElseThrow(() -> new IllegalArgumentException("Board" + id + "non trovata dopo l'update"));
-        BoardModel boardModel = mapper.toModelWithCascade(board);
+        BoardModel boardModel = toModelWithActiveTasks(board);
 
         logger.info("{} - [RESULT: boardModel->{}]",
-                LoggerUtils.getStandardLoggerMsg("end", false), boardModel);
+                LoggerUtils.getStandardLoggerMsg(logger, "restoreEl", "end", false),
+                LogPayloadUtils.payload(boardModel));
         return boardModel;
     }
 
@@ -235,35 +417,32 @@ public class BoardServiceImpl implements BoardService {
     @Override
     public int restoreList(List<Long> idList, boolean withTasks) {
         logger.info("{} - [PARAMS: idList->{} ; withTasks->{}]",
-                LoggerUtils.getStandardLoggerMsg("start", false), idList, withTasks);
+                LoggerUtils.getStandardLoggerMsg(logger, "restoreList", "start", false),
+                LogPayloadUtils.summary(idList), withTasks);
 
         if (idList == null || idList.isEmpty()) {
             logger.info("{} - [RESULT: updatedRow->{}]",
-                    LoggerUtils.getStandardLoggerMsg("end", false) , 0);
+                    LoggerUtils.getStandardLoggerMsg(logger, "restoreList", "end", false) , 0);
             return 0;
         }
 
+        List<Long> changedIdList = findChangedIdList(idList, true);
+        repo.insertOutboxEvents(idList, true, OutboxEventType.RESTORED);
         int updatedRow = repo.restoreByIds(idList);
+        countCache.invalidate(RESOURCE_NAME);
+        modelCache.invalidate(RESOURCE_NAME, idList);
 
         if (!isUpdatedRow(updatedRow, idList)){
             logger.info("{} - [RESULT: updatedRow->{}]",
-                    LoggerUtils.getStandardLoggerMsg("end", false) , 0);
+                    LoggerUtils.getStandardLoggerMsg(logger, "restoreList", "end", false) , 0);
             return 0;
         }
 
-        if (withTasks) {
-            List<Long> taskIdList = idList.stream()
-                    .flatMap(boardId -> taskService.getList(boardId, true).stream())
-                    .map(TaskModel::getId)
-                    .toList();
-
-            if (!taskIdList.isEmpty()) {
-                taskService.restoreList(taskIdList);
-            }
-        }
+        if (withTasks) taskService.restoreListByBoardIds(idList);
+        publishChanged(BoardEventType.BOARD_RESTORED, changedIdList);
 
         logger.info("{} - [RESULT: updatedRow->{}]",
-                LoggerUtils.getStandardLoggerMsg("end", false), updatedRow);
+                LoggerUtils.getStandardLoggerMsg(logger, "restoreList", "end", false), updatedRow);
         return updatedRow;
     }
 
@@ -271,39 +450,25 @@ public class BoardServiceImpl implements BoardService {
     @Override
     public int restoreList(boolean withTasks) {
         logger.info("{} - [PARAMS: withTasks->{}]",
-                LoggerUtils.getStandardLoggerMsg("start", false), withTasks);
+                LoggerUtils.getStandardLoggerMsg(logger, "restoreList", "start", false), withTasks);
 
+        repo.insertOutboxEventsByState(true, OutboxEventType.RESTORED);
         int updatedRow = repo.restoreAllArchived();
+        countCache.invalidate(RESOURCE_NAME);
+        modelCache.invalidateAll(RESOURCE_NAME);
+        eventService.publishResync();
 
         if (!isUpdatedRow(updatedRow)){
             logger.info("{} - [RESULT: updatedRow->{}]",
-                    LoggerUtils.getStandardLoggerMsg("end", false) , 0);
+                    LoggerUtils.getStandardLoggerMsg(logger, "restoreList", "end", false) , 0);
             return 0;
         }
 
-        List<Board> boardList = repo.findAllByIsArchivedFalse();
-
-        if (boardList.isEmpty()){
-            logger.info("{} - [RESULT: updatedRow->{}]",
-                    LoggerUtils.getStandardLoggerMsg("end", false) , 0);
-            return 0;
-        }
-
-        if (withTasks) {
-            List<Long> taskIdList = boardList.stream()
-                    .flatMap(b -> taskService.getList(b.getId(), true).stream())
-                    .map(TaskModel::getId)
-                    .toList();
-
-            if (!taskIdList.isEmpty()) {
-                taskService.restoreList(taskIdList);
-            }
-        }
-
-        boardList.forEach(b -> b.setIsArchived(false));
+        // un solo update per le task di tutte le board attive, senza caricare board né task
+        if (withTasks) taskService.restoreListOfActiveBoards();
 
         logger.info("{} - [RESULT: updatedRow->{}]",
-                LoggerUtils.getStandardLoggerMsg("end", false), updatedRow);
+                LoggerUtils.getStandardLoggerMsg(logger, "restoreList", "end", false), updatedRow);
         return updatedRow;
     }
 
@@ -311,14 +476,24 @@ public class BoardServiceImpl implements BoardService {
     @Override
     public int delete(Long id) {
         logger.info("{} - [PARAMS: id->{}]",
-                LoggerUtils.getStandardLoggerMsg("start", false), id);
+                LoggerUtils.getStandardLoggerMsg(logger, "delete", "start", false), id);
 
 
+        repo.insertTombstonesIfArchived(List.of(id));
+        repo.insertOutboxEvents(List.of(id), true, OutboxEventType.DELETED);
+        taskCountRepo.deleteOfArchivedBoards(List.of(id));
+        defaultNameService.releaseOfArchivedBoards(List.of(id));
         int updatedRow = repo.deleteByIdsIfArchived(List.of(id));
         checkUpdatedRow(updatedRow, id, true);
+        defaultNameService.dropOfDeletedBoards(List.of(id));
+        // la cancellazione di una board si porta dietro le sue task
+        countCache.invalidate(RESOURCE_NAME);
+        countCache.invalidate(TASK_RESOURCE_NAME, List.of(id));
+        modelCache.invalidateAll();
+        eventService.publish(BoardEventType.BOARD_DELETED, id, List.of());
 
         logger.info("{} - [RESULT: updatedRow->{}]",
-                LoggerUtils.getStandardLoggerMsg("end", false), updatedRow);
+                LoggerUtils.getStandardLoggerMsg(logger, "delete", "end", false), updatedRow);
         return updatedRow;
     }
 
@@ -326,30 +501,122 @@ public class BoardServiceImpl implements BoardService {
     @Override
     public int deleteList(List<Long> idList) {
         logger.info("{} - [PARAMS: idList->{}]",
-                LoggerUtils.getStandardLoggerMsg("start", false), idList);
+                LoggerUtils.getStandardLoggerMsg(logger, "deleteList", "start", false),
+                LogPayloadUtils.summary(idList));
 
+        repo.insertTombstonesIfArchived(idList);
+        repo.insertOutboxEvents(idList, true, OutboxEventType.DELETED);
+        taskCountRepo.deleteOfArchivedBoards(idList);
+        defaultNameService.releaseOfArchivedBoards(idList);
         int updatedRow = repo.deleteByIdsIfArchived(idList);
+        defaultNameService.dropOfDeletedBoards(idList);
+        countCache.invalidate(RESOURCE_NAME);
+        countCache.invalidate(TASK_RESOURCE_NAME, idList);
+        modelCache.invalidateAll();
+        publishDeleted(idList);
         if (!isUpdatedRow(updatedRow, idList)) return 0;
 
         logger.info("{} - [RESULT: updatedRow->{}]",
-                LoggerUtils.getStandardLoggerMsg("end", false), updatedRow);
+                LoggerUtils.getStandardLoggerMsg(logger, "deleteList", "end", false), updatedRow);
         return updatedRow;
     }
 
     @Transactional
     @Override
     public int clear() {
-        logger.info(LoggerUtils.getStandardLoggerMsg("start", false));
+        logger.info(LoggerUtils.getStandardLoggerMsg(logger, "clear", "start", false));
 
+        repo.insertTombstonesOfArchived();
+        repo.insertOutboxEventsByState(true, OutboxEventType.DELETED);
+        taskCountRepo.deleteOfAllArchivedBoards();
+        defaultNameService.releaseOfAllArchivedBoards();
         int updatedRow = repo.deleteAllByIsArchivedTrue();
+        defaultNameService.dropOfAllDeletedBoards();
+        countCache.invalidateAll();
+        modelCache.invalidateAll();
+        publishDeleted(eventService.getSubscribedBoardIds());
 
         if (!isUpdatedRow(updatedRow)) return 0;
 
         logger.info("{} - [RESULT: updatedRow->{}]",
-                LoggerUtils.getStandardLoggerMsg("end", false), updatedRow);
+                LoggerUtils.getStandardLoggerMsg(logger, "clear", "end", false), updatedRow);
         return updatedRow;
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public List<BoardTaskCountModel> getTaskCountList(List<Long> idList) {
+        logger.info("{} - [PARAMS: idList->{}]",
+                LoggerUtils.getStandardLoggerMsg(logger, "getTaskCountList", "start", false),
+                LogPayloadUtils.summary(idList));
+
+        List<BoardTaskCountModel> taskCountModelList = List.copyOf(findTaskCounts(idList).values());
+
+        logger.info("{} - [RESULT: taskCountModelList size->{}]",
+                LoggerUtils.getStandardLoggerMsg(logger, "getTaskCountList", "end", false), taskCountModelList.size());
+        return taskCountModelList;
+    }
+
+    /// Rete di sicurezza per i contatori: righe mancanti create, conteggi divergenti ricalcolati sulla tabella task
+    @Scheduled(cron = "${app.board-task-count.reconcile-cron:0 30 3 * * *}")
+    @Transactional
+    @Override
+    public int reconcileTaskCounts() {
+        logger.info(LoggerUtils.getStandardLoggerMsg(logger, "reconcileTaskCounts", "start", false));
+
+        int insertedRow = 0;
+        for (TaskStatus status : TaskStatus.values()) {
+            insertedRow += taskCountRepo.insertMissingOfAllBoards(status, false);
+            insertedRow += taskCountRepo.insertMissingOfAllBoards(status, true);
+        }
+        int updatedRow = taskCountRepo.reconcile();
+        // i conteggi corretti entrano nel dettaglio delle board
+        if (insertedRow + updatedRow > 0) modelCache.invalidateAll(RESOURCE_NAME);
+
+        logger.info("{} - [RESULT: insertedRow->{} ; updatedRow->{}]",
+                LoggerUtils.getStandardLoggerMsg(logger, "reconcileTaskCounts", "end", false), insertedRow, updatedRow);
+        return insertedRow + updatedRow;
+    }
+
+    /// Dettaglio board: le task attive arrivano da una query su (board_id, is_archived) invece che dalla collezione lazy,
+    /// che caricherebbe anche le archiviate; i conteggi per status dai contatori materializzati
+    private BoardModel toModelWithActiveTasks(Board board) {
+        BoardModel boardModel = mapper.toModelWithCascade(board, taskService.getList(board.getId(), false));
+        boardModel.setTaskCountModel(findTaskCounts(List.of(board.getId())).get(board.getId()));
+
+        return boardModel;
+    }
+
+    /// Contatori per board nell'ordine degli id richiesti; le board senza righe (inesistenti) restano fuori
+    private Map<Long, BoardTaskCountModel> findTaskCounts(List<Long> idList) {
+        Map<Long, BoardTaskCountModel> taskCountModelById = new LinkedHashMap<>();
+        if (idList == null || idList.isEmpty()) return taskCountModelById;
+
+        Map<Long, List<BoardTaskCount>> rowListByBoardId = new HashMap<>();
+        for (BoardTaskCount row : taskCountRepo.findByBoardIds(idList)) {
+            rowListByBoardId.computeIfAbsent(row.getBoardId(), boardId -> new ArrayList<>()).add(row);
+        }
+
+        for (Long id : idList) {
+            List<BoardTaskCount> rowList = rowListByBoardId.get(id);
+            if (rowList == null || taskCountModelById.containsKey(id)) continue;
+
+            BoardTaskCountModel taskCountModel = new BoardTaskCountModel(id);
+            rowList.forEach(row -> taskCountModel.put(row.getStatus(), row.isArchived(), row.getTaskCount()));
+            taskCountModelById.put(id, taskCountModel);
+        }
+
+        return taskCountModelById;
+    }
+
+    /// Una insert-select per combinazione (status, archiviata): numero di statement fisso anche per le create massive
+    private void insertTaskCounts(List<Long> idList) {
+        for (TaskStatus status : TaskStatus.values()) {
+            taskCountRepo.insertMissing(idList, status, false);
+            taskCountRepo.insertMissing(idList, status, true);
+        }
+    }
+
     private Board getBoard(Long id, boolean isArchived) {
         Board board = repo.findById(id).orElseThrow(() -> new NotFoundException(RESOURCE_NAME, id));
 
@@ -360,6 +627,33 @@ public class BoardServiceImpl implements BoardService {
         return board;
     }
 
+    /// Board che cambiano davvero stato, lette solo se qualcuno ascolta: null = nessuna query
+    private List<Long> findChangedIdList(List<Long> idList, boolean isArchived) {
+        if (!eventService.hasSubscribers()) return null;
+
+        return repo.findIdsByState(idList, isArchived);
+    }
+
+    /// null = board non lette: un RESYNC nello storico fa ricaricare chi riprende lo stream da prima di qui
+    private void publishChanged(BoardEventType type, List<Long> changedIdList) {
+        if (changedIdList == null) eventService.publishResync();
+        else changedIdList.forEach(id -> eventService.publish(type, id, List.of()));
+    }
+
+    /// Si cancellano solo le board archiviate: l'evento va alle board ascoltate che non esistono più
+    private void publishDeleted(Collection<Long> idList) {
+        if (idList == null || !eventService.hasSubscribers()) return;
+
+        Set<Long> subscribedIdSet = eventService.getSubscribedBoardIds();
+        List<Long> subscribedIdList = idList.stream().filter(subscribedIdSet::contains).toList();
+        if (subscribedIdList.isEmpty()) return;
+
+        Set<Long> existingIdSet = new HashSet<>(repo.findExistingIds(subscribedIdList));
+        for (Long id : subscribedIdList) {
+            if (!existingIdSet.contains(id)) eventService.publish(BoardEventType.BOARD_DELETED, id, List.of());
+        }
+    }
+
     private void checkUpdatedRow(int updatedRow, Long id, boolean isArchived) {
         if (updatedRow == 0) {
             if (!repo.existsById(id)) throw new NotFoundException(RESOURCE_NAME, id);
@@ -370,10 +664,10 @@ public class BoardServiceImpl implements BoardService {
 
     private boolean isUpdatedRow(int updated, List<Long> idList) {
         logger.info("{} - [INFO: updated->{} ; idList size->{}]",
-                LoggerUtils.getStandardLoggerMsg("mid", false), updated, idList.size());
+                LoggerUtils.getStandardLoggerMsg(logger, "isUpdatedRow", "mid", false), updated, idList.size());
 
         if (updated == 0) {
-            logger.info(LoggerUtils.getStandardLoggerMsg("end", false));
+            logger.info(LoggerUtils.getStandardLoggerMsg(logger, "isUpdatedRow", "end", false));
             return false;
         }
 
@@ -382,47 +676,13 @@ public class BoardServiceImpl implements BoardService {
 
     private boolean isUpdatedRow(int updated) {
         logger.info("{} - [INFO: updated->{}]",
-                LoggerUtils.getStandardLoggerMsg("mid", false), updated);
+                LoggerUtils.getStandardLoggerMsg(logger, "isUpdatedRow", "mid", false), updated);
 
         if (updated == 0) {
-            logger.info(LoggerUtils.getStandardLoggerMsg("end", false));
+            logger.info(LoggerUtils.getStandardLoggerMsg(logger, "isUpdatedRow", "end", false));
             return false;
         }
 
         return true;
     }
-
-    private String getNextDefaultName(){
-        String prefix ="New Board";
-        List<String> names = repo.findNamesByPrefix(prefix);
-        Set<Integer> usedBoardsIdSet = new HashSet<>();
-        String base = prefix.toLowerCase(Locale.ROOT);
-
-        for(String n : names){
-            if(n==null) continue;
-            String defaultName = n.trim().toLowerCase(Locale.ROOT);
-
-            if(defaultName.equals(base)){
-                usedBoardsIdSet.add(1);
-            }else if(defaultName.startsWith(base + " ")){
-                String tail = defaultName.substring(base.length()).trim();
-
-                try{
-                    int counter = Integer.parseInt(tail);
-
-                    if(counter>=2){
-                        usedBoardsIdSet.add(counter);
-                    }
-                }catch (NumberFormatException ignore){}
-            }
-        }
-
-        int elNum = 1;
-
-        while(usedBoardsIdSet.contains(elNum)){
-            elNum++;
-        }
-
-        return (elNum == 1) ? prefix : (prefix + " " + elNum);
-    }
 }
@@ -1,5 +1,10 @@
 package com.example.task_board_be.service.entity.impl;
 
+import com.example.task_board_be.cache.CountCache;
+import com.example.task_board_be.cache.ModelCache;
+import com.example.task_board_be.enums.BoardEventType;
+import com.example.task_board_be.enums.DefaultNameScope;
+import com.example.task_board_be.enums.OutboxEventType;
 import com.example.task_board_be.enums.task.TaskIcon;
 import com.example.task_board_be.enums.task.TaskStatus;
 import com.example.task_board_be.exception.custom.NotFoundException;
@@ -10,20 +15,43 @@ import com.example.task_board_be.pojo.entity.Board;
 import com.example.task_board_be.pojo.entity.Task;
 import com.example.task_board_be.pojo.model.BoardModel;
 import com.example.task_board_be.pojo.model.TaskModel;
+import com.example.task_board_be.pojo.projection.EntityVersion;
+import com.example.task_board_be.pojo.projection.LockedTask;
+import com.example.task_board_be.pojo.projection.TaskCount;
+import com.example.task_board_be.pojo.projection.TaskView;
 import com.example.task_board_be.repo.entity.BoardRepository;
+import com.example.task_board_be.repo.entity.BoardTaskCountRepository;
 import com.example.task_board_be.repo.entity.TaskRepository;
+import com.example.task_board_be.repo.search.TextSearchEngine;
 import com.example.task_board_be.service.entity.TaskService;
+import com.example.task_board_be.service.event.BoardEventService;
+import com.example.task_board_be.service.naming.DefaultNameService;
+import com.example.task_board_be.utils.DefaultNameUtils;
+import com.example.task_board_be.utils.LogPayloadUtils;
 import com.example.task_board_be.utils.LoggerUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.*;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Iterator;
+import java.util.TreeMap;
 
 import static com.example.task_board_be.repo.spec.TaskSpecifications.filterTasks;
 import static com.example.task_board_be.repo.spec.TaskSpecifications.filterTasksOfBoard;
@@ -35,57 +63,136 @@ public class TaskServiceImpl implements TaskService {
     private final BoardMapper boardMapper;
 
     private final BoardRepository boardRepo;
+    private final CountCache countCache;
+    private final ModelCache modelCache;
+    private final TextSearchEngine searchEngine;
+    private final BoardTaskCountRepository taskCountRepo;
+    private final DefaultNameService defaultNameService;
+    private final BoardEventService eventService;
 
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
 
     private final String RESOURCE_NAME = "task";
+    private final String BOARD_RESOURCE_NAME = "board";
+    private final String DEFAULT_NAME_PREFIX = "New Task";
 
     @Autowired
-    public TaskServiceImpl(TaskRepository repo, TaskMapper mapper, BoardMapper boardMapper, BoardRepository boardRepo) {
+    public TaskServiceImpl(TaskRepository repo, TaskMapper mapper, BoardMapper boardMapper, BoardRepository boardRepo,
+                           CountCache countCache, ModelCache modelCache, TextSearchEngine searchEngine,
+                           BoardTaskCountRepository taskCountRepo, DefaultNameService defaultNameService,
+                           BoardEventService eventService) {
         this.repo = repo;
         this.mapper = mapper;
         this.boardMapper = boardMapper;
         this.boardRepo = boardRepo;
+        this.countCache = countCache;
+        this.modelCache = modelCache;
+        this.searchEngine = searchEngine;
+        this.taskCountRepo = taskCountRepo;
+        this.defaultNameService = defaultNameService;
+        this.eventService = eventService;
     }
 
     @Transactional(readOnly = true)
     @Override
-    public Page<TaskModel> getPage(String filterStr, boolean isArchived, Pageable p) {
+    public Page<TaskView> getPage(String filterStr, boolean isArchived, Pageable p) {
         logger.info("{} - [PARAMS: filterStr->{} , isArchived->{} ; p->{}]",
-                LoggerUtils.getStandardLoggerMsg("start", false), filterStr, isArchived, p);
+                LoggerUtils.getStandardLoggerMsg(logger, "getPage", "start", false), filterStr, isArchived, p);
 
-        Page<TaskModel> taskModelPage = repo.findAll(filterTasks(filterStr, isArchived), p).map(mapper::toModel);
+        Page<TaskView> taskViewPage = findPage(filterTasks(searchEngine.matches(filterStr), isArchived), filterStr, null, isArchived, p);
 
         logger.info("{} - [RESULT: pageSize->{} ; pageTotalElements->{}]",
-                LoggerUtils.getStandardLoggerMsg("end", false),
-                taskModelPage.getNumberOfElements(), taskModelPage.getTotalElements());
-        return taskModelPage;
+                LoggerUtils.getStandardLoggerMsg(logger, "getPage", "end", false),
+                taskViewPage.getNumberOfElements(), taskViewPage.getTotalElements());
+        return taskViewPage;
     }
 
     @Transactional(readOnly = true)
     @Override
-    public Page<TaskModel> getPage(String filterStr, Long boardId, boolean isArchived, Pageable p) {
+    public Page<TaskView> getPage(String filterStr, Long boardId, boolean isArchived, Pageable p) {
         logger.info("{} - [PARAMS: filterStr->{} ; boardId ->{} ; isArchived->{} ; p->{}]",
-                LoggerUtils.getStandardLoggerMsg("start", false), filterStr, boardId, isArchived, p);
+                LoggerUtils.getStandardLoggerMsg(logger, "getPage", "start", false), filterStr, boardId, isArchived, p);
 
-        Page<TaskModel> taskModelPage = repo.findAll(filterTasksOfBoard(boardId, filterStr, isArchived), p).map(mapper::toModel);
+        Page<TaskView> taskViewPage = findPage(filterTasksOfBoard(boardId, searchEngine.matches(filterStr), isArchived), filterStr, boardId, isArchived, p);
 
         logger.info("{} - [RESULT: pageSize->{} ; pageTotalElements->{}]",
-                LoggerUtils.getStandardLoggerMsg("end", false),
-                taskModelPage.getNumberOfElements(), taskModelPage.getTotalElements());
-        return taskModelPage;
+                LoggerUtils.getStandardLoggerMsg(logger, "getPage", "end", false),
+                taskViewPage.getNumberOfElements(), taskViewPage.getTotalElements());
+        return taskViewPage;
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public Slice<TaskView> getSlice(String filterStr, boolean isArchived, Pageable p) {
+        logger.info("{} - [PARAMS: filterStr->{} , isArchived->{} ; p->{}]",
+                LoggerUtils.getStandardLoggerMsg(logger, "getSlice", "start", false), filterStr, isArchived, p);
+
+        Slice<TaskView> taskViewSlice = repo.findViewSlice(filterTasks(searchEngine.matches(filterStr), isArchived),
+                searchEngine.rank(filterStr), p);
+
+        logger.info("{} - [RESULT: sliceSize->{} ; hasNext->{}]",
+                LoggerUtils.getStandardLoggerMsg(logger, "getSlice", "end", false),
+                taskViewSlice.getNumberOfElements(), taskViewSlice.hasNext());
+        return taskViewSlice;
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public Slice<TaskView> getSlice(String filterStr, Long boardId, boolean isArchived, Pageable p) {
+        logger.info("{} - [PARAMS: filterStr->{} ; boardId ->{} ; isArchived->{} ; p->{}]",
+                LoggerUtils.getStandardLoggerMsg(logger, "getSlice", "start", false),
+                filterStr, boardId, isArchived, p);
+
+        Slice<TaskView> taskViewSlice = repo.findViewSlice(filterTasksOfBoard(boardId, searchEngine.matches(filterStr), isArchived),
+                searchEngine.rank(filterStr), p);
+
+        logger.info("{} - [RESULT: sliceSize->{} ; hasNext->{}]",
+                LoggerUtils.getStandardLoggerMsg(logger, "getSlice", "end", false),
+                taskViewSlice.getNumberOfElements(), taskViewSlice.hasNext());
+        return taskViewSlice;
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public Window<TaskView> getWindow(String filterStr, boolean isArchived, KeysetScrollPosition position, int size) {
+        logger.info("{} - [PARAMS: filterStr->{} , isArchived->{} ; position->{} ; size->{}]",
+                LoggerUtils.getStandardLoggerMsg(logger, "getWindow", "start", false),
+                filterStr, isArchived, position, size);
+
+        Window<TaskView> taskViewWindow = repo.findViewWindow(filterTasks(searchEngine.matches(filterStr), isArchived), position, size);
+
+        logger.info("{} - [RESULT: windowSize->{} ; hasNext->{}]",
+                LoggerUtils.getStandardLoggerMsg(logger, "getWindow", "end", false),
+                taskViewWindow.size(), taskViewWindow.hasNext());
+        return taskViewWindow;
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public Window<TaskView> getWindow(String filterStr, Long boardId, boolean isArchived, KeysetScrollPosition position, int size) {
+        logger.info("{} - [PARAMS: filterStr->{} ; boardId ->{} ; isArchived->{} ; position->{} ; size->{}]",
+                LoggerUtils.getStandardLoggerMsg(logger, "getWindow", "start", false),
+                filterStr, boardId, isArchived, position, size);
+
+        Window<TaskView> taskViewWindow = repo.findViewWindow(filterTasksOfBoard(boardId, searchEngine.matches(filterStr), isArchived), position, size);
+
+        logger.info("{} - [RESULT: windowSize->{} ; hasNext->{}]",
+                LoggerUtils.getStandardLoggerMsg(logger, "getWindow", "end", false),
+                taskViewWindow.size(), taskViewWindow.hasNext());
+        return taskViewWindow;
     }
 
     @Transactional(readOnly = true)
     @Override
     public List<TaskModel> getList(boolean isArchived) {
         logger.info("{} - [PARAMS: isArchived->{}]",
-                LoggerUtils.getStandardLoggerMsg("start", false), isArchived);
+                LoggerUtils.getStandardLoggerMsg(logger, "getList", "start", false), isArchived);
 
         List<TaskModel> taskModelList = mapper.toModelList(repo.findAll(filterTasks(null, isArchived)));
 
         logger.info("{} - [RESULT: taskModelList -> {}]",
-                LoggerUtils.getStandardLoggerMsg("end", false), taskModelList);
+                LoggerUtils.getStandardLoggerMsg(logger, "getList", "end", false),
+                LogPayloadUtils.summary(taskModelList));
         return taskModelList;
     }
 
@@ -93,25 +200,39 @@ public class TaskServiceImpl implements TaskService {
     @Override
     public List<TaskModel> getList(Long boardId, boolean isArchived) {
         logger.info("{} - [PARAMS: boardId->{} ; isArchived ->{}]",
-                LoggerUtils.getStandardLoggerMsg("start", false), boardId, isArchived);
+                LoggerUtils.getStandardLoggerMsg(logger, "getList", "start", false), boardId, isArchived);
 
         List<TaskModel> taskModelList = mapper.toModelList(repo.findAll(filterTasksOfBoard(boardId, null, isArchived)));
 
         logger.info("{} - [RESULT: taskModelList -> {}]",
-                LoggerUtils.getStandardLoggerMsg("end", false), taskModelList);
+                LoggerUtils.getStandardLoggerMsg(logger, "getList", "end", false),
+                LogPayloadUtils.summary(taskModelList));
         return taskModelList;
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public Optional<EntityVersion> getVersion(Long id, boolean isArchived) {
+        logger.info("{} - [PARAMS: id->{} , isArchived -> {}]",
+                LoggerUtils.getStandardLoggerMsg(logger, "getVersion", "start", false), id, isArchived);
+
+        Optional<EntityVersion> version = repo.findVersion(id, isArchived);
+
+        logger.info("{} - [RESULT: version -> {}]",
+                LoggerUtils.getStandardLoggerMsg(logger, "getVersion", "end", false), version);
+        return version;
+    }
+
     @Transactional(readOnly = true)
     @Override
     public TaskModel getEl(Long id, boolean isArchived) {
         logger.info("{} - [PARAMS: id->{} , isArchived -> {}]",
-                LoggerUtils.getStandardLoggerMsg("start", false), id, isArchived);
+                LoggerUtils.getStandardLoggerMsg(logger, "getEl", "start", false), id, isArchived);
 
-        TaskModel taskModel = mapper.toModel(getTask(id, isArchived));
+        TaskModel taskModel = modelCache.get(RESOURCE_NAME, id, isArchived, () -> mapper.toModel(getTask(id, isArchived)));
 
         logger.info("{} - [RESULT: taskModel -> {}]",
-                LoggerUtils.getStandardLoggerMsg("end", false), taskModel);
+                LoggerUtils.getStandardLoggerMsg(logger, "getEl", "end", false), LogPayloadUtils.payload(taskModel));
         return taskModel;
     }
 
@@ -119,48 +240,132 @@ public class TaskServiceImpl implements TaskService {
     @Override
     public TaskModel create(TaskModel taskModel) {
         logger.info("{} - [PARAMS: taskModel->{}]",
-                LoggerUtils.getStandardLoggerMsg("start", false), taskModel);
+                LoggerUtils.getStandardLoggerMsg(logger, "create", "start", false), LogPayloadUtils.payload(taskModel));
 
         Long boardId = Optional.ofNullable(taskModel.getBoardModel())
                 .map(BoardModel::getId)
                 .orElseThrow(() -> new IllegalArgumentException("Board id è obbligatorio"));
 
-        Board board = boardRepo.findById(boardId)
-                .orElseThrow(() -> new NotFoundException("board", boardId));
-
         Task task = mapper.toEntity(taskModel);
+        boolean isDefaultName = StringUtils.isBlank(task.getName());
+        if (!isDefaultName) task.setDefaultNameIndex(DefaultNameUtils.parseIndex(DEFAULT_NAME_PREFIX, task.getName()));
+
+        // con un indice di default la riga della board fa da lock: create e rinomine concorrenti non si incrociano
+        boolean hasDefaultName = isDefaultName || task.getDefaultNameIndex() != null;
+        Board board = (hasDefaultName ? boardRepo.findByIdForUpdate(boardId) : boardRepo.findById(boardId))
+                .orElseThrow(() -> new NotFoundException("board", boardId));
 
         task.setBoard(board);
 
-        if (StringUtils.isBlank(task.getName())) {
-            task.setName(getNextDefaultTaskName(boardId));
+        if (isDefaultName) {
+            int defaultNameIndex = defaultNameService.allocate(DefaultNameScope.TASK, boardId);
+            task.setName(DefaultNameUtils.format(DEFAULT_NAME_PREFIX, defaultNameIndex));
+            task.setDefaultNameIndex(defaultNameIndex);
         }
 
         if (task.getStatus() == null) task.setStatus(TaskStatus.NONE);
         if (task.getIcon() == null) task.setIcon(TaskIcon.NONE);
 
         task = repo.save(task);
+        repo.insertOutboxEvents(List.of(task.getId()), false, OutboxEventType.CREATED);
+        moveTaskCounts(List.of(new LockedTask(task.getId(), boardId, task.getStatus())), null, false);
+        countCache.invalidate(RESOURCE_NAME, List.of(boardId));
+        // il dettaglio della board include le sue task attive
+        modelCache.invalidate(BOARD_RESOURCE_NAME, boardId);
+        eventService.publish(BoardEventType.TASK_CREATED, boardId, List.of(task.getId()));
 
         taskModel = mapper.toModel(task);
         BoardModel boardModel = boardMapper.toModel(board);
         taskModel.setBoardModel(boardModel);
 
         logger.info("{} - [RESULT: taskModel -> {}]",
-                LoggerUtils.getStandardLoggerMsg("end", false), taskModel);
+                LoggerUtils.getStandardLoggerMsg(logger, "create", "end", false), LogPayloadUtils.payload(taskModel));
         return taskModel;
     }
 
+    @Transactional
+    @Override
+    public List<TaskModel> createList(List<TaskModel> taskModelList) {
+        logger.info("{} - [PARAMS: taskModelList size->{}]",
+                LoggerUtils.getStandardLoggerMsg(logger, "createList", "start", false), taskModelList.size());
+
+        if (taskModelList.isEmpty()) {
+            logger.info("{} - [RESULT: taskModelList size->{}]",
+                    LoggerUtils.getStandardLoggerMsg(logger, "createList", "end", false), 0);
+            return List.of();
+        }
+
+        List<Task> taskList = new ArrayList<>(taskModelList.size());
+        // board in ordine di id: create massive concorrenti prendono i lock nello stesso ordine
+        Map<Long, List<Task>> taskListByBoardId = new TreeMap<>();
+
+        for (TaskModel taskModel : taskModelList) {
+            Long boardId = Optional.ofNullable(taskModel.getBoardModel())
+                    .map(BoardModel::getId)
+                    .orElseThrow(() -> new IllegalArgumentException("Board id è obbligatorio"));
+
+            Task task = mapper.toEntity(taskModel);
+
+            if (task.getStatus() == null) task.setStatus(TaskStatus.NONE);
+            if (task.getIcon() == null) task.setIcon(TaskIcon.NONE);
+
+            taskList.add(task);
+            taskListByBoardId.computeIfAbsent(boardId, id -> new ArrayList<>()).add(task);
+        }
+
+        Map<Long, BoardModel> boardModelById = new HashMap<>();
+
+        taskListByBoardId.forEach((boardId, boardTaskList) -> {
+            Board board = assignBoardAndDefaultNames(boardId, boardTaskList);
+            boardModelById.put(boardId, boardMapper.toModel(board));
+        });
+
+        taskList = repo.insertAll(taskList);
+        List<Long> idList = taskList.stream().map(Task::getId).toList();
+        repo.insertOutboxEvents(idList, false, OutboxEventType.CREATED);
+        moveTaskCounts(taskList.stream().map(task -> new LockedTask(task.getId(), task.getBoard().getId(), task.getStatus()))
+                .toList(), null, false);
+        countCache.invalidate(RESOURCE_NAME, taskListByBoardId.keySet());
+        modelCache.invalidate(BOARD_RESOURCE_NAME, taskListByBoardId.keySet());
+        taskListByBoardId.forEach((boardId, boardTaskList) -> eventService.publish(BoardEventType.TASK_CREATED, boardId,
+                boardTaskList.stream().map(Task::getId).toList()));
+
+        List<TaskModel> result = new ArrayList<>(taskList.size());
+
+        for (int i = 0; i < taskList.size(); i++) {
+            TaskModel created = mapper.toModel(taskList.get(i));
+            created.setBoardModel(boardModelById.get(taskModelList.get(i).getBoardModel().getId()));
+            result.add(created);
+        }
+
+        logger.info("{} - [RESULT: taskModelList size->{}]",
+                LoggerUtils.getStandardLoggerMsg(logger, "createList", "end", false), result.size());
+        return result;
+    }
+
     @Transactional
     @Override
     public TaskModel update(TaskModel taskModel) {
         logger.info("{} - [PARAMS: taskModel->{}]",
-                LoggerUtils.getStandardLoggerMsg("start", false), taskModel);
+                LoggerUtils.getStandardLoggerMsg(logger, "update", "start", false), LogPayloadUtils.payload(taskModel));
 
         Long id = taskModel.getId();
-        Task task = getTask(id, false);
+        // riga bloccata: update concorrenti della stessa task non leggono entrambi lo stesso status di partenza
+        Task task = getTaskForUpdate(id);
+        TaskStatus previousStatus = task.getStatus();
 
         if (!StringUtils.isBlank(taskModel.getName())) {
+            Integer defaultNameIndex = DefaultNameUtils.parseIndex(DEFAULT_NAME_PREFIX, taskModel.getName());
+
+            // stesso lock della create: una rinomina in "New Task N" non si incrocia con un'allocazione di N
+            if (!Objects.equals(task.getDefaultNameIndex(), defaultNameIndex)) {
+                Long boardId = task.getBoard().getId();
+                boardRepo.findByIdForUpdate(boardId);
+                defaultNameService.release(DefaultNameScope.TASK, boardId, task.getDefaultNameIndex());
+            }
+
             task.setName(taskModel.getName());
+            task.setDefaultNameIndex(defaultNameIndex);
         }
 
         task.setDescription(taskModel.getDescription());
@@ -168,11 +373,23 @@ public class TaskServiceImpl implements TaskService {
         task.setIcon(taskModel.getIcon());
 
         repo.save(task);
+        if (previousStatus != task.getStatus()) {
+            // -1 e +1 in ordine di status come moveTaskCounts: update opposti sulla stessa board non si incrociano
+            Map<TaskStatus, Long> deltaByStatus = new EnumMap<>(TaskStatus.class);
+            if (previousStatus != null) deltaByStatus.merge(previousStatus, -1L, Long::sum);
+            if (task.getStatus() != null) deltaByStatus.merge(task.getStatus(), 1L, Long::sum);
+            deltaByStatus.forEach((status, delta) -> taskCountRepo.addByKey(task.getBoard().getId(), status, false, delta));
+        }
+        repo.insertOutboxEvents(List.of(id), false, OutboxEventType.UPDATED);
+        countCache.invalidate(RESOURCE_NAME, List.of(task.getBoard().getId()));
+        modelCache.invalidate(RESOURCE_NAME, id);
+        modelCache.invalidate(BOARD_RESOURCE_NAME, task.getBoard().getId());
+        eventService.publish(BoardEventType.TASK_UPDATED, task.getBoard().getId(), List.of(id));
 
         taskModel = mapper.toModel(task);
 
         logger.info("{} - [RESULT: taskModel -> {}]",
-                LoggerUtils.getStandardLoggerMsg("end", false), taskModel);
+                LoggerUtils.getStandardLoggerMsg(logger, "update", "end", false), LogPayloadUtils.payload(taskModel));
         return taskModel;
     }
 
@@ -200,17 +417,75 @@ public class TaskServiceImpl implements TaskService {
         return toggleStateList(idList, true);
     }
 
+    @Transactional
+    @Override
+    public int restoreListByBoardIds(List<Long> boardIdList) {
+        logger.info("{} - [PARAMS: boardIdList->{}]",
+                LoggerUtils.getStandardLoggerMsg(logger, "restoreListByBoardIds", "start", false),
+                LogPayloadUtils.summary(boardIdList));
+
+        if (boardIdList == null || boardIdList.isEmpty()) {
+            logger.info("{} - [RESULT: updatedRow->{}]",
+                    LoggerUtils.getStandardLoggerMsg(logger, "restoreListByBoardIds", "end", false), 0);
+            return 0;
+        }
+
+        // board bloccate: conteggio, outbox e update vedono le stesse task, senza caricarne gli id
+        boardRepo.lockIdsForUpdate(boardIdList);
+        moveGroupedTaskCounts(repo.countArchivedByBoardIds(boardIdList), true, false);
+        repo.insertOutboxEventsOfArchivedByBoardIds(boardIdList, OutboxEventType.RESTORED);
+        int updatedRow = repo.restoreByBoardIds(boardIdList);
+        countCache.invalidate(RESOURCE_NAME, boardIdList);
+        modelCache.invalidateAll(RESOURCE_NAME);
+        modelCache.invalidate(BOARD_RESOURCE_NAME, boardIdList);
+        boardIdList.forEach(boardId -> eventService.publish(BoardEventType.TASK_RESTORED, boardId, List.of()));
+
+        logger.info("{} - [RESULT: updatedRow->{}]",
+                LoggerUtils.getStandardLoggerMsg(logger, "restoreListByBoardIds", "end", false), updatedRow);
+        return updatedRow;
+    }
+
+    @Transactional
+    @Override
+    public int restoreListOfActiveBoards() {
+        logger.info(LoggerUtils.getStandardLoggerMsg(logger, "restoreListOfActiveBoards", "start", false));
+
+        boardRepo.lockActiveIdsForUpdate();
+        moveGroupedTaskCounts(repo.countArchivedOfActiveBoards(), true, false);
+        repo.insertOutboxEventsOfArchivedOfActiveBoards(OutboxEventType.RESTORED);
+        int updatedRow = repo.restoreOfActiveBoards();
+        countCache.invalidate(RESOURCE_NAME);
+        modelCache.invalidateAll(RESOURCE_NAME);
+        modelCache.invalidateAll(BOARD_RESOURCE_NAME);
+        eventService.publishResync();
+
+        logger.info("{} - [RESULT: updatedRow->{}]",
+                LoggerUtils.getStandardLoggerMsg(logger, "restoreListOfActiveBoards", "end", false), updatedRow);
+        return updatedRow;
+    }
+
     @Transactional
     @Override
     public int delete(Long id) {
         logger.info("{} - [PARAMS: id->{}]",
-                LoggerUtils.getStandardLoggerMsg("start", false), id);
-
-        int updated = repo.deleteByIdsIfArchived(List.of(id));
+                LoggerUtils.getStandardLoggerMsg(logger, "delete", "start", false), id);
+
+        List<LockedTask> lockedList = lockTasks(List.of(id), true);
+        int updated = 0;
+        if (!lockedList.isEmpty()) {
+            repo.insertTombstonesIfArchived(List.of(id));
+            repo.insertOutboxEvents(List.of(id), true, OutboxEventType.DELETED);
+            moveTaskCounts(lockedList, true, null);
+            updated = repo.deleteByIdsIfArchived(List.of(id));
+        }
         checkUpdatedRow(updated, id, true);
+        countCache.invalidate(RESOURCE_NAME, groupByBoard(lockedList).keySet());
+        // solo task archiviate: il dettaglio board (task attive) non cambia
+        modelCache.invalidate(RESOURCE_NAME, id);
+        eventService.publish(BoardEventType.TASK_DELETED, groupByBoard(lockedList));
 
         logger.info("{} - [RESULT: updatedRow->{}]",
-                LoggerUtils.getStandardLoggerMsg("end", false), updated);
+                LoggerUtils.getStandardLoggerMsg(logger, "delete", "end", false), updated);
         return updated;
     }
 
@@ -218,63 +493,102 @@ public class TaskServiceImpl implements TaskService {
     @Override
     public int deleteList(List<Long> idList) {
         logger.info("{} - [PARAMS: idList->{}]",
-                LoggerUtils.getStandardLoggerMsg("start", false), idList);
+                LoggerUtils.getStandardLoggerMsg(logger, "deleteList", "start", false),
+                LogPayloadUtils.summary(idList));
 
         if (idList == null || idList.isEmpty()) return 0;
 
-        int updated = repo.deleteByIdsIfArchived(idList);
+        // task bloccate prima della cancellazione, con lo stesso filtro: da qui in poi si lavora solo su queste
+        List<LockedTask> lockedList = lockTasks(idList, true);
+        if (lockedList.isEmpty()) return 0;
+
+        List<Long> lockedIdList = toIdList(lockedList);
+        repo.insertTombstonesIfArchived(lockedIdList);
+        repo.insertOutboxEvents(lockedIdList, true, OutboxEventType.DELETED);
+        moveTaskCounts(lockedList, true, null);
+        int updated = repo.deleteByIdsIfArchived(lockedIdList);
+        countCache.invalidate(RESOURCE_NAME, groupByBoard(lockedList).keySet());
+        modelCache.invalidate(RESOURCE_NAME, lockedIdList);
         if (!isUpdatedRow(updated, idList)) return 0;
+        eventService.publish(BoardEventType.TASK_DELETED, groupByBoard(lockedList));
 
         logger.info("{} - [RESULT: updatedRow->{}]",
-                LoggerUtils.getStandardLoggerMsg("end", false), updated);
+                LoggerUtils.getStandardLoggerMsg(logger, "deleteList", "end", false), updated);
         return updated;
     }
 
+    @Transactional
     @Override
     public TaskModel toggleStateEl(Long id, boolean isArchived) {
         logger.info("{} - [PARAMS: id->{} ; isArchived->{}]",
-                LoggerUtils.getStandardLoggerMsg("start", false), id, isArchived);
+                LoggerUtils.getStandardLoggerMsg(logger, "toggleStateEl", "start", false), id, isArchived);
 
-        int updatedRow = isArchived ? repo.restoreByIds(List.of(id)) : repo.archiveByIds(List.of(id));
+        List<LockedTask> lockedList = lockTasks(List.of(id), isArchived);
+        int updatedRow = lockedList.isEmpty() ? 0 : toggleLocked(lockedList, isArchived);
 
         checkUpdatedRow(updatedRow, id, isArchived);
+        countCache.invalidate(RESOURCE_NAME, groupByBoard(lockedList).keySet());
 
         Task task = repo.findById(id)
                 .orElseThrow(() -> new IllegalStateException(
                         "Task " + id + " non trovata dopo l'update"));
 
+        modelCache.invalidate(RESOURCE_NAME, id);
+        modelCache.invalidate(BOARD_RESOURCE_NAME, task.getBoard().getId());
+        eventService.publish(isArchived ? BoardEventType.TASK_RESTORED : BoardEventType.TASK_ARCHIVED,
+                task.getBoard().getId(), List.of(id));
+
         TaskModel taskModel = mapper.toModel(task);
 
         logger.info("{} - [RESULT: taskModel->{}]",
-                LoggerUtils.getStandardLoggerMsg("end", false), taskModel);
+                LoggerUtils.getStandardLoggerMsg(logger, "toggleStateEl", "end", false),
+                LogPayloadUtils.payload(taskModel));
         return taskModel;
     }
 
+    @Transactional
     @Override
     public int toggleStateList(List<Long> idList, boolean isArchived) {
         logger.info("{} - [PARAMS: idList->{} ; isArchived->{}]",
-                LoggerUtils.getStandardLoggerMsg("start", false), idList, isArchived);
+                LoggerUtils.getStandardLoggerMsg(logger, "toggleStateList", "start", false),
+                LogPayloadUtils.summary(idList), isArchived);
 
         if (idList.isEmpty()) {
             logger.info("{} - [RESULT: updatedRow->{}]",
-                    LoggerUtils.getStandardLoggerMsg("end", false), 0);
+                    LoggerUtils.getStandardLoggerMsg(logger, "toggleStateList", "end", false), 0);
             return 0;
         }
 
-        int updatedRow = isArchived ? repo.restoreByIds(idList) : repo.archiveByIds(idList);
+        // come per il delete: solo le task nello stato di partenza, bloccate prima dell'update
+        List<LockedTask> lockedList = lockTasks(idList, isArchived);
+        int updatedRow = lockedList.isEmpty() ? 0 : toggleLocked(lockedList, isArchived);
 
         if (!isUpdatedRow(updatedRow, idList)) {
             logger.info("{} - [RESULT: updatedRow->{}]",
-                    LoggerUtils.getStandardLoggerMsg("end", false), 0);
+                    LoggerUtils.getStandardLoggerMsg(logger, "toggleStateList", "end", false), 0);
             return 0;
         }
 
+        Map<Long, List<Long>> idListByBoardId = groupByBoard(lockedList);
+        countCache.invalidate(RESOURCE_NAME, idListByBoardId.keySet());
+        modelCache.invalidate(RESOURCE_NAME, toIdList(lockedList));
+        modelCache.invalidate(BOARD_RESOURCE_NAME, idListByBoardId.keySet());
+        eventService.publish(isArchived ? BoardEventType.TASK_RESTORED : BoardEventType.TASK_ARCHIVED, idListByBoardId);
+
         logger.info("{} - [RESULT: updatedRow->{}])",
-                LoggerUtils.getStandardLoggerMsg("end", false), updatedRow);
+                LoggerUtils.getStandardLoggerMsg(logger, "toggleStateList", "end", false), updatedRow);
 
         return updatedRow;
     }
 
+    /// Contenuto via slice (nessun count implicito), totale calcolato solo se non deducibile dalla pagina e letto dalla cache
+    private Page<TaskView> findPage(Specification<Task> spec, String filterStr, Long boardId, boolean isArchived, Pageable p) {
+        List<TaskView> content = repo.findViewSlice(spec, searchEngine.rank(filterStr), p).getContent();
+
+        return PageableExecutionUtils.getPage(content, p,
+                () -> countCache.getOrCount(RESOURCE_NAME, filterStr, boardId, isArchived, () -> repo.count(spec)));
+    }
+
     private Task getTask(Long id, boolean isArchived) {
         Task task = repo.findById(id).orElseThrow(() -> new NotFoundException(RESOURCE_NAME, id));
 
@@ -285,6 +599,75 @@ public class TaskServiceImpl implements TaskService {
         return task;
     }
 
+    private Task getTaskForUpdate(Long id) {
+        Task task = repo.findByIdForUpdate(id).orElseThrow(() -> new NotFoundException(RESOURCE_NAME, id));
+
+        if (task.isArchived()) {
+            throw new StateMismatchException(RESOURCE_NAME, id, false);
+        }
+
+        return task;
+    }
+
+    /// Outbox, contatori, nomi di default e update sulle sole task bloccate: sotto READ COMMITTED ogni statement
+    /// rilegge lo stato, e un filtro sugli id richiesti prenderebbe anche le task entrate nello stato dopo il lock
+    private int toggleLocked(List<LockedTask> lockedList, boolean isArchived) {
+        List<Long> lockedIdList = toIdList(lockedList);
+
+        repo.insertOutboxEvents(lockedIdList, isArchived, isArchived ? OutboxEventType.RESTORED : OutboxEventType.ARCHIVED);
+        moveTaskCounts(lockedList, isArchived, !isArchived);
+        if (!isArchived) defaultNameService.releaseOfActiveTasks(lockedIdList);
+        return isArchived ? repo.restoreByIds(lockedIdList) : repo.archiveByIds(lockedIdList);
+    }
+
+    /// Prima le board in condivisione, poi le task: stesso ordine delle cascate, che bloccano le board in esclusiva
+    private List<LockedTask> lockTasks(List<Long> idList, boolean isArchived) {
+        boardRepo.lockIdsOfTasksForShare(idList);
+        return repo.findForUpdate(idList, isArchived);
+    }
+
+    private List<Long> toIdList(List<LockedTask> lockedList) {
+        return lockedList.stream().map(LockedTask::taskId).toList();
+    }
+
+    /// Id delle task bloccate raggruppati per board, per gli eventi delle operazioni massive
+    private Map<Long, List<Long>> groupByBoard(List<LockedTask> lockedList) {
+        Map<Long, List<Long>> idListByBoardId = new HashMap<>();
+        for (LockedTask locked : lockedList) {
+            idListByBoardId.computeIfAbsent(locked.boardId(), boardId -> new ArrayList<>()).add(locked.taskId());
+        }
+        return idListByBoardId;
+    }
+
+    /// Sposta i contatori delle task da fromArchived a toArchived (null = nessuno: insert o delete)
+    private void moveTaskCounts(List<LockedTask> lockedList, Boolean fromArchived, Boolean toArchived) {
+        moveGroupedTaskCounts(lockedList.stream()
+                .filter(locked -> locked.status() != null)
+                .map(locked -> new TaskCount(locked.boardId(), locked.status(), 1))
+                .toList(), fromArchived, toArchived);
+    }
+
+    /// Come moveTaskCounts per task già raggruppate, con una update per chiave e delta non nullo. Sempre in ordine
+    /// (board, status, archiviata): transazioni concorrenti sulla stessa board bloccano le righe dei contatori nello
+    /// stesso ordine. Le task senza status non si contano
+    private void moveGroupedTaskCounts(List<TaskCount> countList, Boolean fromArchived, Boolean toArchived) {
+        Map<Long, Map<TaskStatus, long[]>> deltaByBoardId = new TreeMap<>();
+
+        for (TaskCount count : countList) {
+            if (count.status() == null) continue;
+
+            long[] delta = deltaByBoardId.computeIfAbsent(count.boardId(), boardId -> new EnumMap<>(TaskStatus.class))
+                    .computeIfAbsent(count.status(), status -> new long[2]);
+            if (fromArchived != null) delta[fromArchived ? 1 : 0] -= count.taskCount();
+            if (toArchived != null) delta[toArchived ? 1 : 0] += count.taskCount();
+        }
+
+        deltaByBoardId.forEach((boardId, deltaByStatus) -> deltaByStatus.forEach((status, delta) -> {
+            if (delta[0] != 0) taskCountRepo.addByKey(boardId, status, false, delta[0]);
+            if (delta[1] != 0) taskCountRepo.addByKey(boardId, status, true, delta[1]);
+        }));
+    }
+
     private void checkUpdatedRow(int updatedRow, Long id, boolean isArchived) {
         if (updatedRow == 0) {
             if (!repo.existsById(id)) throw new NotFoundException(RESOURCE_NAME, id);
@@ -295,42 +678,46 @@ public class TaskServiceImpl implements TaskService {
 
     private boolean isUpdatedRow(int updated, List<Long> idList) {
         logger.info("{} - [INFO: updated->{} ; idList size->{}]",
-                LoggerUtils.getStandardLoggerMsg("mid", false), updated, idList.size());
+                LoggerUtils.getStandardLoggerMsg(logger, "isUpdatedRow", "mid", false), updated, idList.size());
 
         if (updated == 0) {
-            logger.info(LoggerUtils.getStandardLoggerMsg("end", false));
+            logger.info(LoggerUtils.getStandardLoggerMsg(logger, "isUpdatedRow", "end", false));
             return false;
         }
 
         return true;
     }
 
-    private String getNextDefaultTaskName(Long boardId) {
-        String prefix = "New Task";
-        List<String> names = repo.findNamesByPrefixForBoard(boardId, prefix);
+    /// Stessa allocazione dei nomi di default della create singola, con un'allocazione a blocchi per board
+    private Board assignBoardAndDefaultNames(Long boardId, List<Task> boardTaskList) {
+        List<Task> unnamedTaskList = new ArrayList<>();
+
+        for (Task task : boardTaskList) {
+            if (StringUtils.isBlank(task.getName())) unnamedTaskList.add(task);
+            else task.setDefaultNameIndex(DefaultNameUtils.parseIndex(DEFAULT_NAME_PREFIX, task.getName()));
+        }
+
+        boolean hasDefaultName = !unnamedTaskList.isEmpty()
+                                 || boardTaskList.stream().map(Task::getDefaultNameIndex).anyMatch(Objects::nonNull);
+        Board board = (hasDefaultName ? boardRepo.findByIdForUpdate(boardId) : boardRepo.findById(boardId))
+                .orElseThrow(() -> new NotFoundException("board", boardId));
 
-        Set<Integer> used = new HashSet<>();
-        String base = prefix.toLowerCase(Locale.ROOT);
+        boardTaskList.forEach(task -> task.setBoard(board));
 
-        for (String n : names) {
-            if (n == null) continue;
-            String def = n.trim().toLowerCase(Locale.ROOT);
+        if (!unnamedTaskList.isEmpty()) {
+            List<Integer> reservedIndexList = boardTaskList.stream()
+                    .map(Task::getDefaultNameIndex).filter(Objects::nonNull).toList();
+            Iterator<Integer> indexes = defaultNameService
+                    .allocateRange(DefaultNameScope.TASK, boardId, unnamedTaskList.size(), reservedIndexList).iterator();
 
-            if (def.equals(base)) {
-                used.add(1);
-            } else if (def.startsWith(base + " ")) {
-                String tail = def.substring(base.length()).trim();
-                try {
-                    int counter = Integer.parseInt(tail);
-                    if (counter >= 2) used.add(counter);
-                } catch (NumberFormatException ignore) {
-                }
+            for (Task task : unnamedTaskList) {
+                int defaultNameIndex = indexes.next();
+                task.setName(DefaultNameUtils.format(DEFAULT_NAME_PREFIX, defaultNameIndex));
+                task.setDefaultNameIndex(defaultNameIndex);
             }
         }
 
-        int num = 1;
-        while (used.contains(num)) num++;
-        return (num == 1) ? prefix : (prefix + " " + num);
+        return board;
     }
 
 }
@@ -0,0 +1,33 @@
+package com.example.task_board_be.service.event;
+
+import com.example.task_board_be.enums.BoardEventType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+/// Eventi di board e task pubblicati dai service e consegnati dopo il commit agli stream SSE delle board
+public interface BoardEventService {
+    SseEmitter subscribe(Long boardId, Long lastEventId);
+
+    void publish(BoardEventType type, Long boardId, Collection<Long> taskIdList);
+
+    void publish(BoardEventType type, Map<Long, ? extends Collection<Long>> taskIdListByBoardId);
+
+    /// RESYNC a tutti gli stream aperti
+    void publishResync();
+
+    /// Permette ai service di saltare le query servite solo a instradare gli eventi
+    boolean hasSubscribers();
+
+    Set<Long> getSubscribedBoardIds();
+
+    int getSubscriberCount();
+
+    /// Keep-alive degli stream inattivi, restituisce il numero di stream raggiunti
+    int sendHeartbeat();
+
+    /// Chiude gli stream di client che non leggono, restituisce il numero di stream chiusi
+    int closeStalledSubscribers();
+}
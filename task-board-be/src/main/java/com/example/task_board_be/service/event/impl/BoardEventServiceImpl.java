@@ -0,0 +1,375 @@
+package com.example.task_board_be.service.event.impl;
+
+import com.example.task_board_be.enums.BoardEventType;
+import com.example.task_board_be.pojo.resource.BoardEventResource;
+import com.example.task_board_be.service.event.BoardEventService;
+import com.example.task_board_be.utils.LoggerUtils;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/// Hub degli stream SSE delle board. Uno stream inattivo è solo un SseEmitter (richiesta async, nessun thread)
+/// più una coda vuota: gli eventi vengono accodati per sottoscrittore con un limite fisso e scritti dal pool di
+/// dispatch, così un client lento non rallenta né chi pubblica né gli altri stream.
+/// La scrittura è bloccante: un client che non legge tiene occupato il thread del proprio stream, quindi il pool
+/// cresce oltre i dispatch-threads fissi invece di mettere in coda gli altri stream, e uno stream con una scrittura
+/// ferma da più di send-timeout viene chiuso (niente altri eventi, emitter completato quando la scrittura ritorna).
+/// Con la coda piena lo stream viene chiuso: EventSource si riconnette con Last-Event-ID e riparte dallo storico
+@Service
+public class BoardEventServiceImpl implements BoardEventService {
+    /// Segnaposto in coda per il commento di keep-alive
+    private static final BoardEventResource HEARTBEAT = new BoardEventResource();
+
+    private final Map<Long, Set<Subscriber>> subscriberSetByBoardId = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final ExecutorService dispatcher;
+    private final int bufferSize;
+    private final Duration timeout;
+    private final long sendTimeoutNanos;
+
+    /// Storico circolare per la ripresa da Last-Event-ID; id assegnati e accodati sotto lo stesso lock
+    private final Object historyLock = new Object();
+    private final BoardEventResource[] history;
+    private long lastEventId;
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    @Autowired
+    public BoardEventServiceImpl(@Value("${app.events.buffer-size:256}") int bufferSize,
+                                 @Value("${app.events.history-size:4096}") int historySize,
+                                 @Value("${app.events.timeout:30m}") Duration timeout,
+                                 @Value("${app.events.dispatch-threads:2}") int dispatchThreads,
+                                 @Value("${app.events.send-timeout:10s}") Duration sendTimeout) {
+        this.bufferSize = bufferSize;
+        this.timeout = timeout;
+        this.sendTimeoutNanos = sendTimeout.toNanos();
+        this.history = new BoardEventResource[historySize];
+        // al più un drain per stream: i thread oltre i fissi servono solo mentre ci sono scritture in corso
+        this.dispatcher = new ThreadPoolExecutor(dispatchThreads, Integer.MAX_VALUE, 60, TimeUnit.SECONDS,
+                new SynchronousQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "board-events");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public SseEmitter subscribe(Long boardId, Long lastEventId) {
+        logger.info("{} - [PARAMS: boardId->{} ; lastEventId->{}]",
+                LoggerUtils.getStandardLoggerMsg(logger, "subscribe", "start", false), boardId, lastEventId);
+
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscriber subscriber = new Subscriber(boardId, emitter);
+
+        emitter.onCompletion(() -> unregister(subscriber));
+        emitter.onTimeout(() -> unregister(subscriber));
+        emitter.onError(ex -> unregister(subscriber));
+
+        // registrazione e replay atomici rispetto alla pubblicazione: nessun evento perso o duplicato
+        synchronized (historyLock) {
+            subscriberSetByBoardId.computeIfAbsent(boardId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+            subscriberCount.incrementAndGet();
+
+            if (lastEventId != null) replay(subscriber, lastEventId);
+        }
+
+        logger.info("{} - [RESULT: subscriberCount->{}]",
+                LoggerUtils.getStandardLoggerMsg(logger, "subscribe", "end", false), subscriberCount.get());
+        return emitter;
+    }
+
+    @Override
+    public void publish(BoardEventType type, Long boardId, Collection<Long> taskIdList) {
+        List<Long> idList = (taskIdList == null) ? List.of() : List.copyOf(taskIdList);
+        afterCommit(() -> append(type, boardId, idList));
+    }
+
+    @Override
+    public void publish(BoardEventType type, Map<Long, ? extends Collection<Long>> taskIdListByBoardId) {
+        taskIdListByBoardId.forEach((boardId, taskIdList) -> publish(type, boardId, taskIdList));
+    }
+
+    @Override
+    public void publishResync() {
+        afterCommit(() -> append(BoardEventType.RESYNC, null, List.of()));
+    }
+
+    @Override
+    public boolean hasSubscribers() {
+        return subscriberCount.get() > 0;
+    }
+
+    @Override
+    public Set<Long> getSubscribedBoardIds() {
+        return Set.copyOf(subscriberSetByBoardId.keySet());
+    }
+
+    @Override
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    /// Commento SSE periodico: tiene aperte le connessioni attraverso i proxy e fa emergere i client spariti
+    @Scheduled(fixedDelayString = "${app.events.heartbeat:30s}")
+    @Override
+    public int sendHeartbeat() {
+        int sent = 0;
+
+        for (Set<Subscriber> subscriberSet : subscriberSetByBoardId.values()) {
+            for (Subscriber subscriber : subscriberSet) {
+                if (subscriber.offerHeartbeat()) sent++;
+            }
+        }
+        return sent;
+    }
+
+    /// Chiude gli stream con una scrittura ferma da più di send-timeout: client che non leggono più
+    @Scheduled(fixedDelayString = "${app.events.stall-check:5s}")
+    @Override
+    public int closeStalledSubscribers() {
+        long now = System.nanoTime();
+        int closed = 0;
+
+        for (Set<Subscriber> subscriberSet : subscriberSetByBoardId.values()) {
+            for (Subscriber subscriber : subscriberSet) {
+                if (!subscriber.closeIfStalled(now)) continue;
+
+                closed++;
+                logger.warn("{} - [boardId->{} ; scrittura ferma, stream chiuso]",
+                        LoggerUtils.getStandardLoggerMsg(logger, "closeStalledSubscribers", "progress", true),
+                        subscriber.boardId);
+                unregister(subscriber);
+            }
+        }
+        return closed;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        dispatcher.shutdown();
+        subscriberSetByBoardId.values().forEach(set -> set.forEach(s -> s.emitter.complete()));
+
+        try {
+            dispatcher.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /// Senza transazione (o fuori da un service transazionale) l'evento parte subito
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private void append(BoardEventType type, Long boardId, List<Long> taskIdList) {
+        synchronized (historyLock) {
+            BoardEventResource event = new BoardEventResource(++lastEventId, type, boardId, taskIdList);
+            history[(int) (event.getEventId() % history.length)] = event;
+
+            if (boardId == null) {
+                subscriberSetByBoardId.values().forEach(set -> set.forEach(s -> s.offer(event)));
+                return;
+            }
+
+            Set<Subscriber> subscriberSet = subscriberSetByBoardId.get(boardId);
+            if (subscriberSet != null) subscriberSet.forEach(s -> s.offer(event));
+        }
+    }
+
+    /// Da chiamare con historyLock. Un id fuori dallo storico (troppo vecchio, o di prima di un riavvio) diventa RESYNC,
+    /// così come un arretrato più lungo del buffer: accodato chiuderebbe lo stream e il client si riconnetterebbe
+    /// con lo stesso Last-Event-ID all'infinito
+    private void replay(Subscriber subscriber, long fromEventId) {
+        long oldestEventId = Math.max(1, lastEventId - history.length + 1);
+        BoardEventResource resync = new BoardEventResource(lastEventId, BoardEventType.RESYNC, subscriber.boardId, List.of());
+
+        if (fromEventId > lastEventId || fromEventId < oldestEventId - 1) {
+            subscriber.offer(resync);
+            return;
+        }
+
+        List<BoardEventResource> eventList = new ArrayList<>();
+        for (long id = fromEventId + 1; id <= lastEventId; id++) {
+            BoardEventResource event = history[(int) (id % history.length)];
+
+            if (event.getBoardId() != null && !event.getBoardId().equals(subscriber.boardId)) continue;
+
+            if (eventList.size() == bufferSize) {
+                subscriber.offer(resync);
+                return;
+            }
+            eventList.add(event);
+        }
+
+        eventList.forEach(subscriber::offer);
+    }
+
+    private void unregister(Subscriber subscriber) {
+        if (!subscriber.markUnregistered()) return;
+
+        subscriberCount.decrementAndGet();
+        subscriberSetByBoardId.computeIfPresent(subscriber.boardId, (id, set) -> {
+            set.remove(subscriber);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    private final class Subscriber {
+        private final Long boardId;
+        private final SseEmitter emitter;
+        private final ArrayDeque<BoardEventResource> queue = new ArrayDeque<>();
+        private boolean isScheduled;
+        private boolean isClosed;
+        private boolean isUnregistered;
+        private boolean isStalled;
+        /// Inizio della scrittura in corso, 0 se il drain non sta scrivendo
+        private volatile long sendStartedAt;
+
+        private Subscriber(Long boardId, SseEmitter emitter) {
+            this.boardId = boardId;
+            this.emitter = emitter;
+        }
+
+        private void offer(BoardEventResource event) {
+            boolean isOverflow;
+
+            synchronized (this) {
+                if (isClosed) return;
+
+                isOverflow = queue.size() >= bufferSize;
+
+                if (!isOverflow) {
+                    queue.add(event);
+                    if (isScheduled) return;
+                    isScheduled = true;
+                } else {
+                    // client troppo indietro: chiusura, si riconnetterà riprendendo dallo storico
+                    queue.clear();
+                    isClosed = true;
+                }
+            }
+
+            if (isOverflow) {
+                logger.warn("{} - [boardId->{} ; buffer pieno, stream chiuso]",
+                        LoggerUtils.getStandardLoggerMsg(logger, "offer", "progress", true), boardId);
+                unregister(this);
+                dispatcher.execute(emitter::complete);
+            } else {
+                dispatcher.execute(this::drain);
+            }
+        }
+
+        private synchronized boolean offerHeartbeat() {
+            if (isClosed || !queue.isEmpty()) return false;
+
+            offer(HEARTBEAT);
+            return true;
+        }
+
+        private void drain() {
+            while (true) {
+                BoardEventResource event;
+                boolean isStalledClose;
+                synchronized (this) {
+                    event = queue.poll();
+                    isStalledClose = event == null && isStalled;
+                    if (event == null) isScheduled = false;
+                }
+
+                if (event == null) {
+                    // chiuso per scrittura ferma mentre la scrittura era in corso: l'emitter si completa solo ora
+                    if (isStalledClose) completeQuietly();
+                    return;
+                }
+
+                sendStartedAt = System.nanoTime();
+                try {
+                    if (event == HEARTBEAT) {
+                        emitter.send(SseEmitter.event().comment("heartbeat"));
+                        continue;
+                    }
+
+                    emitter.send(SseEmitter.event()
+                            .id(Long.toString(event.getEventId()))
+                            .name(event.getType().eventName())
+                            .data(event, MediaType.APPLICATION_JSON));
+
+                    if (event.getType() == BoardEventType.BOARD_DELETED) {
+                        unregister(this);
+                        emitter.complete();
+                        return;
+                    }
+                } catch (IOException | IllegalStateException ex) {
+                    // client disconnesso o emitter già completato
+                    unregister(this);
+                    emitter.completeWithError(ex);
+                    return;
+                } finally {
+                    sendStartedAt = 0;
+                }
+            }
+        }
+
+        /// true se la scrittura in corso ha superato send-timeout: lo stream non riceve altri eventi
+        private synchronized boolean closeIfStalled(long now) {
+            long startedAt = sendStartedAt;
+            if (isClosed || startedAt == 0 || now - startedAt <= sendTimeoutNanos) return false;
+
+            isStalled = true;
+            isClosed = true;
+            queue.clear();
+            return true;
+        }
+
+        private void completeQuietly() {
+            try {
+                emitter.complete();
+            } catch (IllegalStateException ex) {
+                // emitter già completato
+            }
+        }
+
+        /// true solo alla prima chiamata: il conteggio dei sottoscrittori scende una volta sola
+        private synchronized boolean markUnregistered() {
+            if (isUnregistered) return false;
+
+            isUnregistered = true;
+            isClosed = true;
+            queue.clear();
+            return true;
+        }
+    }
+}
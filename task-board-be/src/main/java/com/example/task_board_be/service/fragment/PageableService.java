@@ -1,8 +1,14 @@
 package com.example.task_board_be.service.fragment;
 
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
 
+/// Letture di lista: T è la proiezione di riga (record View), non il model
 public interface PageableService<T> {
     Page<T> getPage(String filterStr ,boolean isArchived , Pageable p );
+    Slice<T> getSlice(String filterStr , boolean isArchived , Pageable p);
+    Window<T> getWindow(String filterStr , boolean isArchived , KeysetScrollPosition position , int size);
 }
@@ -0,0 +1,10 @@
+package com.example.task_board_be.service.fragment;
+
+import com.example.task_board_be.pojo.projection.EntityVersion;
+
+import java.util.Optional;
+
+/// Versione leggera di un elemento per le GET condizionali (ETag / Last-Modified)
+public interface VersionedService<ID> {
+    Optional<EntityVersion> getVersion(ID id , boolean isArchived);
+}
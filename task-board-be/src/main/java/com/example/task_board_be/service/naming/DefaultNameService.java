@@ -0,0 +1,42 @@
+package com.example.task_board_be.service.naming;
+
+import com.example.task_board_be.enums.DefaultNameScope;
+
+import java.util.Collection;
+import java.util.List;
+
+/// Allocazione degli indici dei nomi di default ("New Board 3"). Tutti i metodi lavorano nella transazione
+/// del chiamante: il lock preso su uno scope resta fino al commit della create/update che scrive l'indice
+public interface DefaultNameService {
+    /// Indice libero più basso dello scope: un intervallo liberato o il contatore, verificati con una lookup
+    /// puntuale sull'indice di default_name_index
+    int allocate(DefaultNameScope scope, Long scopeId);
+
+    /// count indici per le create massive, nello stesso ordine di allocazioni singole consecutive: prima gli intervalli
+    /// liberati sotto il contatore, poi un blocco del contatore. I candidati occupati (anche da reservedIndexes, i nomi
+    /// espliciti dello stesso batch) sono scartati con una lookup sui soli candidati
+    List<Integer> allocateRange(DefaultNameScope scope, Long scopeId, int count, Collection<Integer> reservedIndexes);
+
+    /// Solo lock: scritture di un indice esplicito ("New Board 7")
+    void lock(DefaultNameScope scope, Long scopeId);
+
+    /// Il contatore riparte oltre index, se non c'è già
+    void advance(DefaultNameScope scope, Long scopeId, int index);
+
+    /// Indice uscito dallo scope per una rinomina, riassegnabile dalle create successive
+    void release(DefaultNameScope scope, Long scopeId, Integer index);
+
+    /// Prima della delete delle board archiviate indicate
+    void releaseOfArchivedBoards(Collection<Long> boardIdList);
+
+    /// Prima della delete di tutte le board archiviate
+    void releaseOfAllArchivedBoards();
+
+    /// Prima dell'archiviazione delle task indicate
+    void releaseOfActiveTasks(Collection<Long> idList);
+
+    /// Dopo la delete delle board: contatori e intervalli delle loro task
+    void dropOfDeletedBoards(Collection<Long> boardIdList);
+
+    void dropOfAllDeletedBoards();
+}
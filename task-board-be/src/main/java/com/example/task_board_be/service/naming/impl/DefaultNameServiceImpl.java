@@ -0,0 +1,192 @@
+package com.example.task_board_be.service.naming.impl;
+
+import com.example.task_board_be.enums.DefaultNameScope;
+import com.example.task_board_be.pojo.entity.DefaultNameCounter;
+import com.example.task_board_be.pojo.entity.DefaultNameGap;
+import com.example.task_board_be.repo.entity.BoardRepository;
+import com.example.task_board_be.repo.entity.DefaultNameCounterRepository;
+import com.example.task_board_be.repo.entity.DefaultNameGapRepository;
+import com.example.task_board_be.repo.entity.TaskRepository;
+import com.example.task_board_be.service.naming.DefaultNameService;
+import com.example.task_board_be.utils.LoggerUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+@Service
+@Transactional(propagation = Propagation.MANDATORY)
+public class DefaultNameServiceImpl implements DefaultNameService {
+    private final DefaultNameCounterRepository counterRepo;
+    private final DefaultNameGapRepository gapRepo;
+    private final BoardRepository boardRepo;
+    private final TaskRepository taskRepo;
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    @Autowired
+    public DefaultNameServiceImpl(DefaultNameCounterRepository counterRepo, DefaultNameGapRepository gapRepo,
+                                  BoardRepository boardRepo, TaskRepository taskRepo) {
+        this.counterRepo = counterRepo;
+        this.gapRepo = gapRepo;
+        this.boardRepo = boardRepo;
+        this.taskRepo = taskRepo;
+    }
+
+    @Override
+    public int allocate(DefaultNameScope scope, Long scopeId) {
+        logger.info("{} - [PARAMS: scope->{} ; scopeId->{}]",
+                LoggerUtils.getStandardLoggerMsg(logger, "allocate", "start", false), scope, scopeId);
+
+        DefaultNameCounter counter = lockCounter(scope, scopeId);
+
+        // più di un giro solo per indici ripresi da nomi espliciti: ogni candidato scartato non torna più
+        int index;
+        do {
+            index = nextCandidate(counter);
+        } while (isTaken(scope, scopeId, index));
+
+        logger.info("{} - [RESULT: index->{}]",
+                LoggerUtils.getStandardLoggerMsg(logger, "allocate", "end", false), index);
+        return index;
+    }
+
+    @Override
+    public List<Integer> allocateRange(DefaultNameScope scope, Long scopeId, int count,
+                                       Collection<Integer> reservedIndexes) {
+        logger.info("{} - [PARAMS: scope->{} ; scopeId->{} ; count->{}]",
+                LoggerUtils.getStandardLoggerMsg(logger, "allocateRange", "start", false), scope, scopeId, count);
+
+        DefaultNameCounter counter = lockCounter(scope, scopeId);
+        List<Integer> indexList = new ArrayList<>(count);
+
+        // come allocate: i candidati scartati non tornano più, quindi un altro giro solo per quelli già occupati
+        while (indexList.size() < count) {
+            Set<Integer> candidates = nextCandidates(counter, count - indexList.size());
+            candidates.removeAll(reservedIndexes);
+            if (!candidates.isEmpty()) candidates.removeAll(findTaken(scope, scopeId, candidates));
+            indexList.addAll(candidates);
+        }
+
+        logger.info("{} - [RESULT: indexList size->{}]",
+                LoggerUtils.getStandardLoggerMsg(logger, "allocateRange", "end", false), indexList.size());
+        return indexList;
+    }
+
+    @Override
+    public void lock(DefaultNameScope scope, Long scopeId) {
+        lockCounter(scope, scopeId);
+    }
+
+    @Override
+    public void advance(DefaultNameScope scope, Long scopeId, int index) {
+        DefaultNameCounter counter = lockCounter(scope, scopeId);
+        if (counter.getNextIndex() <= index) counter.setNextIndex(index + 1);
+    }
+
+    @Override
+    public void release(DefaultNameScope scope, Long scopeId, Integer index) {
+        if (index == null) return;
+
+        gapRepo.save(new DefaultNameGap(scope, scopeId, index, index));
+    }
+
+    @Override
+    public void releaseOfArchivedBoards(Collection<Long> boardIdList) {
+        gapRepo.insertOfArchivedBoards(boardIdList);
+    }
+
+    @Override
+    public void releaseOfAllArchivedBoards() {
+        gapRepo.insertOfAllArchivedBoards();
+    }
+
+    @Override
+    public void releaseOfActiveTasks(Collection<Long> idList) {
+        gapRepo.insertOfActiveTasks(idList);
+    }
+
+    @Override
+    public void dropOfDeletedBoards(Collection<Long> boardIdList) {
+        gapRepo.deleteOfDeletedBoards(boardIdList);
+        counterRepo.deleteOfDeletedBoards(boardIdList);
+    }
+
+    @Override
+    public void dropOfAllDeletedBoards() {
+        gapRepo.deleteOfAllDeletedBoards();
+        counterRepo.deleteOfAllDeletedBoards();
+    }
+
+    /// Le righe esistenti arrivano dalla migrazione (scope BOARD e board presenti) o da una create precedente.
+    /// Per le task la riga della board è già bloccata dal chiamante, quindi la prima insert non ha concorrenti
+    private DefaultNameCounter lockCounter(DefaultNameScope scope, Long scopeId) {
+        return counterRepo.findForUpdate(scope, scopeId)
+                .orElseGet(() -> counterRepo.saveAndFlush(new DefaultNameCounter(scope, scopeId, 1)));
+    }
+
+    /// Inizio dell'intervallo liberato più basso se sta sotto il contatore, altrimenti il contatore stesso
+    private int nextCandidate(DefaultNameCounter counter) {
+        List<DefaultNameGap> gapList = gapRepo.findFirst(counter.getScope(), counter.getScopeId(), Limit.of(1));
+
+        if (!gapList.isEmpty() && gapList.get(0).getStartIndex() < counter.getNextIndex()) {
+            DefaultNameGap gap = gapList.get(0);
+            int index = gap.getStartIndex();
+
+            if (index >= gap.getEndIndex()) gapRepo.delete(gap);
+            else gap.setStartIndex(index + 1);
+
+            return index;
+        }
+
+        int index = counter.getNextIndex();
+        counter.setNextIndex(index + 1);
+        return index;
+    }
+
+    /// Fino a count candidati in ordine crescente: gli intervalli liberati sotto il contatore, consumati (cancellati o
+    /// accorciati), poi il blocco [nextIndex, nextIndex + resto) del contatore
+    private Set<Integer> nextCandidates(DefaultNameCounter counter, int count) {
+        Set<Integer> candidates = new TreeSet<>();
+
+        for (DefaultNameGap gap : gapRepo.findFirst(counter.getScope(), counter.getScopeId(), Limit.of(count))) {
+            int endIndex = Math.min(gap.getEndIndex(), counter.getNextIndex() - 1);
+            if (candidates.size() >= count || gap.getStartIndex() > endIndex) break;
+
+            int index = gap.getStartIndex();
+            while (index <= endIndex && candidates.size() < count) candidates.add(index++);
+
+            if (index > gap.getEndIndex()) gapRepo.delete(gap);
+            else gap.setStartIndex(index);
+        }
+
+        int nextIndex = counter.getNextIndex();
+        while (candidates.size() < count) candidates.add(nextIndex++);
+        counter.setNextIndex(nextIndex);
+
+        return candidates;
+    }
+
+    private List<Integer> findTaken(DefaultNameScope scope, Long scopeId, Collection<Integer> indexes) {
+        return switch (scope) {
+            case BOARD -> boardRepo.findDefaultNameIndexesIn(indexes);
+            case TASK -> taskRepo.findDefaultNameIndexesForBoardIn(scopeId, indexes);
+        };
+    }
+
+    private boolean isTaken(DefaultNameScope scope, Long scopeId, int index) {
+        return switch (scope) {
+            case BOARD -> boardRepo.existsByDefaultNameIndex(index);
+            case TASK -> taskRepo.existsByDefaultNameIndexForBoard(scopeId, index);
+        };
+    }
+}
@@ -0,0 +1,5 @@
+package com.example.task_board_be.service.outbox;
+
+public interface OutboxRelayService {
+    int relay();
+}
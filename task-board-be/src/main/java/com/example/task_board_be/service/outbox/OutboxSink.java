@@ -0,0 +1,13 @@
+package com.example.task_board_be.service.outbox;
+
+import com.example.task_board_be.pojo.entity.OutboxEvent;
+
+import java.io.IOException;
+import java.util.List;
+
+/// Destinazione degli eventi dell'outbox (broker, indice di ricerca, file). Chiamato dentro la transazione del relay:
+/// se lancia, il batch resta nell'outbox e viene ritentato, quindi la consegna è at-least-once e il sink deve
+/// tollerare duplicati (id dell'evento come chiave)
+public interface OutboxSink {
+    void send(List<OutboxEvent> eventList) throws IOException;
+}
@@ -0,0 +1,62 @@
+package com.example.task_board_be.service.outbox.impl;
+
+import com.example.task_board_be.pojo.entity.OutboxEvent;
+import com.example.task_board_be.service.outbox.OutboxSink;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/// Sink per l'esecuzione locale: un evento JSON per riga in coda al file. Il batch è scritto con una sola write
+/// e reso persistente (force) prima che il relay cancelli le righe dall'outbox
+public class FileOutboxSink implements OutboxSink {
+    private final Path path;
+    private final ObjectMapper objectMapper;
+
+    public FileOutboxSink(Path path, ObjectMapper objectMapper) {
+        this.path = path;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void send(List<OutboxEvent> eventList) throws IOException {
+        if (eventList.isEmpty()) return;
+
+        StringBuilder sb = new StringBuilder(eventList.size() * 96);
+        for (OutboxEvent event : eventList) {
+            sb.append(objectMapper.writeValueAsString(toLine(event))).append('\n');
+        }
+
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) Files.createDirectories(parent);
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(sb.toString().getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) channel.write(buffer);
+            channel.force(false);
+        }
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    private Map<String, Object> toLine(OutboxEvent event) {
+        Map<String, Object> line = new LinkedHashMap<>();
+        line.put("id", event.getId());
+        line.put("entityName", event.getEntityName());
+        line.put("entityId", event.getEntityId());
+        line.put("type", event.getType());
+        line.put("createdAt", event.getCreatedAt());
+        return line;
+    }
+}
@@ -0,0 +1,189 @@
+package com.example.task_board_be.service.outbox.impl;
+
+import com.example.task_board_be.pojo.entity.OutboxEvent;
+import com.example.task_board_be.pojo.entity.OutboxRelayState;
+import com.example.task_board_be.repo.entity.OutboxEventRepository;
+import com.example.task_board_be.repo.entity.OutboxRelayStateRepository;
+import com.example.task_board_be.service.outbox.OutboxRelayService;
+import com.example.task_board_be.service.outbox.OutboxSink;
+import com.example.task_board_be.utils.DatabaseUtils;
+import com.example.task_board_be.utils.LoggerUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/// Relay dell'outbox: legge un batch in ordine di id, lo consegna al sink e cancella le righe, tutto nella stessa
+/// transazione. Un errore del sink fa rollback e il batch viene ritentato al giro successivo.
+/// L'ordine è garantito da due vincoli: un solo relay attivo (lock advisory su PostgreSQL, altrove un'istanza sola)
+/// e nessun id consegnato oltre un buco ancora aperto. Un id mancante dopo l'ultimo consegnato può appartenere a
+/// una transazione non ancora committata: il batch si ferma lì finché il buco non risulta definitivo (rollback).
+/// Su PostgreSQL lo è quando sono terminate tutte le transazioni aperte al momento in cui è stato visto, senza
+/// timeout. Altrove non c'è modo di saperlo e il buco viene saltato dopo gapTimeout: le righe che lo riempiono
+/// più tardi hanno id già superato e vengono consegnate in testa al batch successivo, fuori ordine ma non perse
+@Service
+public class OutboxRelayServiceImpl implements OutboxRelayService {
+    /// Chiave del lock advisory del relay
+    static final long RELAY_LOCK_KEY = 0x6f7574626f78L;
+
+    private final OutboxEventRepository repo;
+    private final OutboxRelayStateRepository stateRepo;
+    private final OutboxSink sink;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean isPostgres;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final Duration gapTimeout;
+    private final boolean enabled;
+
+    // buco aperto più vecchio: primo id mancante, quando è stato visto e xmax della snapshot di allora
+    private long gapEventId = -1;
+    private long gapSeenAt;
+    private long gapXmax;
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    @Autowired
+    public OutboxRelayServiceImpl(OutboxEventRepository repo, OutboxRelayStateRepository stateRepo,
+                                  ObjectProvider<OutboxSink> sinkProvider, PlatformTransactionManager transactionManager,
+                                  DataSource dataSource,
+                                  @Value("${app.outbox.relay.batch-size:500}") int batchSize,
+                                  @Value("${app.outbox.relay.max-batches-per-run:100}") int maxBatchesPerRun,
+                                  @Value("${app.outbox.relay.gap-timeout:5s}") Duration gapTimeout,
+                                  @Value("${app.outbox.relay.enabled:true}") boolean enabled) {
+        this(repo, stateRepo, sinkProvider.getIfAvailable(), transactionManager, isPostgres(dataSource),
+                batchSize, maxBatchesPerRun, gapTimeout, enabled);
+    }
+
+    OutboxRelayServiceImpl(OutboxEventRepository repo, OutboxRelayStateRepository stateRepo, OutboxSink sink,
+                           PlatformTransactionManager transactionManager, boolean isPostgres,
+                           int batchSize, int maxBatchesPerRun, Duration gapTimeout, boolean enabled) {
+        this.repo = repo;
+        this.stateRepo = stateRepo;
+        this.sink = sink;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.isPostgres = isPostgres;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.gapTimeout = gapTimeout;
+        this.enabled = enabled && sink != null;
+
+        if (enabled && sink == null) {
+            logger.warn("Nessun OutboxSink configurato (profilo local per il file JSON lines): relay disattivato, " +
+                        "gli eventi restano in outbox_event");
+        }
+    }
+
+    /// Svuota l'outbox finché trova batch pieni, fino a maxBatchesPerRun: il resto al giro successivo
+    @Scheduled(fixedDelayString = "${app.outbox.relay.interval:1s}")
+    @Override
+    public int relay() {
+        if (!enabled) return 0;
+
+        int relayed = 0;
+
+        for (int i = 0; i < maxBatchesPerRun; i++) {
+            Integer sent = transactionTemplate.execute(status -> relayBatch());
+            relayed += (sent == null) ? 0 : sent;
+
+            if (sent == null || sent < batchSize) break;
+        }
+
+        if (relayed > 0) {
+            logger.info("{} - [RESULT: relayed->{}]",
+                    LoggerUtils.getStandardLoggerMsg(logger, "relay", "end", false), relayed);
+        }
+        return relayed;
+    }
+
+    private int relayBatch() {
+        // un'altra istanza sta consegnando: ci riprova al giro successivo
+        if (isPostgres && !repo.tryRelayLock(RELAY_LOCK_KEY)) return 0;
+
+        OutboxRelayState state = stateRepo.findById(OutboxRelayState.ID).orElse(null);
+        if (state == null) {
+            // primo avvio senza la riga della migrazione (H2): si parte dal primo evento presente
+            Long minId = repo.findMinId();
+            if (minId == null) return 0;
+            state = new OutboxRelayState(minId - 1);
+        }
+
+        List<OutboxEvent> eventList = new ArrayList<>();
+        if (!isPostgres) eventList.addAll(repo.findLateUpTo(state.getLastEventId(), Limit.of(batchSize)));
+
+        List<OutboxEvent> newEventList = (eventList.size() < batchSize)
+                ? contiguousPrefix(repo.findBatchAfter(state.getLastEventId(), Limit.of(batchSize - eventList.size())),
+                        state.getLastEventId())
+                : List.of();
+        eventList.addAll(newEventList);
+        if (eventList.isEmpty()) return 0;
+
+        try {
+            sink.send(eventList);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+
+        repo.deleteByIds(eventList.stream().map(OutboxEvent::getId).toList());
+        if (!newEventList.isEmpty()) {
+            state.setLastEventId(newEventList.get(newEventList.size() - 1).getId());
+            stateRepo.save(state);
+        }
+        return eventList.size();
+    }
+
+    /// Eventi consegnabili senza scavalcare un buco aperto; i buchi definitivi vengono saltati
+    private List<OutboxEvent> contiguousPrefix(List<OutboxEvent> batch, long lastEventId) {
+        List<OutboxEvent> eventList = new ArrayList<>(batch.size());
+        long expectedId = lastEventId + 1;
+
+        for (OutboxEvent event : batch) {
+            if (event.getId() != expectedId && !isGapClosed(expectedId)) {
+                logger.debug("{} - [INFO: buco aperto da id->{} ; trattenuti da id->{}]",
+                        LoggerUtils.getStandardLoggerMsg(logger, "contiguousPrefix", "mid", false),
+                        expectedId, event.getId());
+                break;
+            }
+
+            eventList.add(event);
+            expectedId = event.getId() + 1;
+        }
+
+        return eventList;
+    }
+
+    /// Gli id mancanti sono stati assegnati prima che il buco fosse visto: chi li tiene era già aperto allora.
+    /// Su PostgreSQL si aspetta la fine di quelle transazioni, per quanto lunghe; altrove vale solo gapTimeout
+    private boolean isGapClosed(long missingId) {
+        if (missingId != gapEventId) {
+            gapEventId = missingId;
+            gapSeenAt = System.nanoTime();
+            if (isPostgres) gapXmax = repo.findSnapshotXmax();
+        }
+
+        if (isPostgres) return repo.findSnapshotXmin() >= gapXmax;
+        return System.nanoTime() - gapSeenAt >= gapTimeout.toNanos();
+    }
+
+    private static boolean isPostgres(DataSource dataSource) {
+        try {
+            return DatabaseUtils.isPostgres(dataSource);
+        } catch (MetaDataAccessException ex) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.task_board_be.service.sync;
+
+import com.example.task_board_be.pojo.model.SyncModel;
+import com.example.task_board_be.pojo.model.SyncPosition;
+
+public interface SyncService {
+    SyncModel getChanges(SyncPosition position, int size);
+    int purgeTombstones();
+}
@@ -0,0 +1,175 @@
+package com.example.task_board_be.service.sync.impl;
+
+import com.example.task_board_be.exception.custom.SyncExpiredException;
+import com.example.task_board_be.pojo.entity.Board;
+import com.example.task_board_be.pojo.entity.Task;
+import com.example.task_board_be.pojo.entity.Tombstone;
+import com.example.task_board_be.pojo.model.SyncModel;
+import com.example.task_board_be.pojo.model.SyncPosition;
+import com.example.task_board_be.pojo.projection.BoardChange;
+import com.example.task_board_be.pojo.projection.BoardView;
+import com.example.task_board_be.pojo.projection.TaskChange;
+import com.example.task_board_be.pojo.projection.TaskView;
+import com.example.task_board_be.repo.entity.BoardRepository;
+import com.example.task_board_be.repo.entity.TaskRepository;
+import com.example.task_board_be.repo.entity.TombstoneRepository;
+import com.example.task_board_be.service.sync.SyncService;
+import com.example.task_board_be.utils.LoggerUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+/// Sync delta: ogni query parte dall'indice su updated_at (o deleted_at), il costo segue il volume dei cambiamenti.
+/// La finestra di overlap ripete le righe a cavallo del watermark: updatedAt viene sia dal clock della JVM
+/// (@UpdateTimestamp) sia da quello del database (update massivi) e una transazione può committare dopo la lettura
+/// con un timestamp precedente. I client applicano i cambiamenti in modo idempotente.
+/// La risposta è a pagine: gli elenchi si leggono in ordine con un cursore (updatedAt, id), o (deletedAt, entityId)
+/// per le cancellazioni, e un limite unico per pagina, fino all'until fissato dalla prima pagina.
+@Service
+public class SyncServiceImpl implements SyncService {
+    // ordine in cui gli elenchi riempiono le pagine
+    private static final int PHASE_BOARDS = 0;
+    private static final int PHASE_ARCHIVED_BOARDS = 1;
+    private static final int PHASE_DELETED_BOARDS = 2;
+    private static final int PHASE_TASKS = 3;
+    private static final int PHASE_ARCHIVED_TASKS = 4;
+    private static final int PHASE_DELETED_TASKS = 5;
+
+    private final BoardRepository boardRepo;
+    private final TaskRepository taskRepo;
+    private final TombstoneRepository tombstoneRepo;
+    private final Duration overlap;
+    private final Duration tombstoneRetention;
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    @Autowired
+    public SyncServiceImpl(BoardRepository boardRepo, TaskRepository taskRepo, TombstoneRepository tombstoneRepo,
+                           @Value("${app.sync.overlap:5s}") Duration overlap,
+                           @Value("${app.sync.tombstone-retention:30d}") Duration tombstoneRetention) {
+        this.boardRepo = boardRepo;
+        this.taskRepo = taskRepo;
+        this.tombstoneRepo = tombstoneRepo;
+        this.overlap = overlap;
+        this.tombstoneRetention = tombstoneRetention;
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public SyncModel getChanges(SyncPosition position, int size) {
+        logger.info("{} - [PARAMS: position->{} ; size->{}]",
+                LoggerUtils.getStandardLoggerMsg(logger, "getChanges", "start", false), position, size);
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime oldestTracked = now.minus(tombstoneRetention);
+        // le cancellazioni più vecchie sono già state eliminate: il client deve ricaricare tutto
+        if (position.since().isBefore(oldestTracked)) throw new SyncExpiredException(position.since(), oldestTracked);
+
+        // until viene fissato alla prima pagina: le pagine successive leggono la stessa finestra, le righe cambiate
+        // nel frattempo arrivano alla sincronizzazione seguente
+        LocalDateTime until = position.isStart() ? now : position.until();
+        Page page = new Page(position, position.since().minus(overlap), until, size);
+
+        List<BoardView> boardViewList = page.read(PHASE_BOARDS,
+                (afterTime, afterId, limit) -> boardRepo.findChangesAfter(afterTime, afterId, until, false, limit),
+                BoardChange::updatedAt, BoardChange::id).stream().map(BoardChange::toView).toList();
+        List<BoardView> archivedBoardViewList = page.read(PHASE_ARCHIVED_BOARDS,
+                (afterTime, afterId, limit) -> boardRepo.findChangesAfter(afterTime, afterId, until, true, limit),
+                BoardChange::updatedAt, BoardChange::id).stream().map(BoardChange::toView).toList();
+        List<Long> deletedBoardIdList = page.read(PHASE_DELETED_BOARDS,
+                (afterTime, afterId, limit) -> tombstoneRepo.findDeletedAfter(Board.class.getSimpleName(), afterTime,
+                        afterId, until, limit),
+                Tombstone::getDeletedAt, Tombstone::getEntityId).stream().map(Tombstone::getEntityId).toList();
+        List<TaskView> taskViewList = page.read(PHASE_TASKS,
+                (afterTime, afterId, limit) -> taskRepo.findChangesAfter(afterTime, afterId, until, false, limit),
+                TaskChange::updatedAt, TaskChange::id).stream().map(TaskChange::toView).toList();
+        List<TaskView> archivedTaskViewList = page.read(PHASE_ARCHIVED_TASKS,
+                (afterTime, afterId, limit) -> taskRepo.findChangesAfter(afterTime, afterId, until, true, limit),
+                TaskChange::updatedAt, TaskChange::id).stream().map(TaskChange::toView).toList();
+        List<Long> deletedTaskIdList = page.read(PHASE_DELETED_TASKS,
+                (afterTime, afterId, limit) -> tombstoneRepo.findDeletedAfter(Task.class.getSimpleName(), afterTime,
+                        afterId, until, limit),
+                Tombstone::getDeletedAt, Tombstone::getEntityId).stream().map(Tombstone::getEntityId).toList();
+
+        SyncModel syncModel = new SyncModel(boardViewList, archivedBoardViewList, deletedBoardIdList,
+                taskViewList, archivedTaskViewList, deletedTaskIdList, until, page.nextPosition);
+
+        logger.info("{} - [RESULT: syncModel -> {}]",
+                LoggerUtils.getStandardLoggerMsg(logger, "getChanges", "end", false), syncModel);
+        return syncModel;
+    }
+
+    @Scheduled(cron = "${app.sync.tombstone-purge-cron:0 0 3 * * *}")
+    @Transactional
+    @Override
+    public int purgeTombstones() {
+        logger.info(LoggerUtils.getStandardLoggerMsg(logger, "purgeTombstones", "start", false));
+
+        int deleted = tombstoneRepo.deleteDeletedBefore(LocalDateTime.now().minus(tombstoneRetention));
+
+        logger.info("{} - [RESULT: deleted->{}]",
+                LoggerUtils.getStandardLoggerMsg(logger, "purgeTombstones", "end", false), deleted);
+        return deleted;
+    }
+    /// Query keyset di un elenco: righe dopo (afterTime, afterId) fino a until, al massimo limit
+    @FunctionalInterface
+    private interface ChangeQuery<T> {
+        List<T> find(LocalDateTime afterTime, Long afterId, Limit limit);
+    }
+
+    /// Stato di una pagina: gli elenchi si leggono in ordine di fase finché restano posti, la prima fase che non ci
+    /// sta per intero fissa la posizione da cui riparte la pagina seguente
+    private static final class Page {
+        private final SyncPosition position;
+        private final LocalDateTime from;
+        private final LocalDateTime until;
+        private int remaining;
+        private SyncPosition nextPosition;
+
+        private Page(SyncPosition position, LocalDateTime from, LocalDateTime until, int size) {
+            this.position = position;
+            this.from = from;
+            this.until = until;
+            this.remaining = size;
+        }
+
+        private <T> List<T> read(int phase, ChangeQuery<T> query, Function<T, LocalDateTime> timeOf,
+                                 Function<T, Long> idOf) {
+            // fase già consegnata dalle pagine precedenti, o pagina già chiusa da una fase prima
+            if (phase < position.phase() || nextPosition != null) return List.of();
+
+            if (remaining == 0) {
+                nextPosition = new SyncPosition(position.since(), until, phase, null, null);
+                return List.of();
+            }
+
+            boolean isResumed = phase == position.phase() && position.afterTime() != null;
+            // a inizio fase Long.MAX_VALUE esclude le righe con updatedAt uguale a from, come updatedAt > from
+            LocalDateTime afterTime = isResumed ? position.afterTime() : from;
+            Long afterId = isResumed ? position.afterId() : Long.MAX_VALUE;
+
+            // una riga in più dice se la fase continua oltre la pagina senza una count
+            List<T> rowList = query.find(afterTime, afterId, Limit.of(remaining + 1));
+            if (rowList.size() <= remaining) {
+                remaining -= rowList.size();
+                return rowList;
+            }
+
+            List<T> pageRowList = rowList.subList(0, remaining);
+            T last = pageRowList.get(pageRowList.size() - 1);
+            nextPosition = new SyncPosition(position.since(), until, phase, timeOf.apply(last), idOf.apply(last));
+            remaining = 0;
+            return pageRowList;
+        }
+    }
+}
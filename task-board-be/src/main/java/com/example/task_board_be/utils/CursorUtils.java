@@ -0,0 +1,56 @@
+package com.example.task_board_be.utils;
+
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class CursorUtils {
+    public static final String CREATED_AT = "createdAt";
+    public static final String ID = "id";
+
+    /// Ordinamento fisso della modalità cursore: id fa da tie-breaker per righe con lo stesso createdAt
+    public static final Sort KEYSET_SORT = Sort.by(Sort.Direction.DESC, CREATED_AT)
+            .and(Sort.by(Sort.Direction.DESC, ID));
+
+    private static final String SEPARATOR = "|";
+
+    private CursorUtils() {
+    }
+
+    /// Cursore vuoto o assente = prima pagina
+    public static KeysetScrollPosition decode(String cursor) {
+        if (StringUtils.isBlank(cursor)) return ScrollPosition.keyset();
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+            int separatorIndex = raw.indexOf(SEPARATOR);
+
+            if (separatorIndex < 0) throw new IllegalArgumentException("Invalid cursor: " + cursor);
+
+            Map<String, Object> keys = new LinkedHashMap<>();
+            keys.put(CREATED_AT, LocalDateTime.parse(raw.substring(0, separatorIndex)));
+            keys.put(ID, Long.parseLong(raw.substring(separatorIndex + 1)));
+
+            return ScrollPosition.forward(keys);
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+    }
+
+    public static String encode(ScrollPosition position) {
+        if (!(position instanceof KeysetScrollPosition keyset) || keyset.isInitial()) return null;
+
+        Map<String, Object> keys = keyset.getKeys();
+        String raw = keys.get(CREATED_AT) + SEPARATOR + keys.get(ID);
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
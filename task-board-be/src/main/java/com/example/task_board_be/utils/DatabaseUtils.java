@@ -0,0 +1,17 @@
+package com.example.task_board_be.utils;
+
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+
+public class DatabaseUtils {
+    private DatabaseUtils() {
+    }
+
+    public static boolean isPostgres(DataSource dataSource) throws MetaDataAccessException {
+        String product = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+        return "PostgreSQL".equals(product);
+    }
+}
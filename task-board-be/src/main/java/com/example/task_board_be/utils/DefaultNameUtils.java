@@ -0,0 +1,33 @@
+package com.example.task_board_be.utils;
+
+import java.util.Locale;
+
+public class DefaultNameUtils {
+    private DefaultNameUtils() {
+    }
+
+    /// Restituisce l'indice occupato da un nome di default ("New Board" -> 1, "New Board 3" -> 3),
+    /// null se il nome non segue il pattern del prefisso
+    public static Integer parseIndex(String prefix, String name) {
+        if (name == null) return null;
+
+        String defaultName = name.trim().toLowerCase(Locale.ROOT);
+        String base = prefix.toLowerCase(Locale.ROOT);
+
+        if (defaultName.equals(base)) return 1;
+        if (!defaultName.startsWith(base + " ")) return null;
+
+        String tail = defaultName.substring(base.length()).trim();
+
+        try {
+            int counter = Integer.parseInt(tail);
+            return (counter >= 2) ? counter : null;
+        } catch (NumberFormatException ignore) {
+            return null;
+        }
+    }
+
+    public static String format(String prefix, int index) {
+        return (index == 1) ? prefix : (prefix + " " + index);
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.task_board_be.utils;
+
+import java.util.Map;
+
+/// Ricerca di una costante enum per nome o alias, senza distinzione di maiuscole, ignorando gli spazi ai bordi
+/// e trattando ' ', '-' e '_' come equivalenti ("in progress" = "IN-PROGRESS" = "in_progress").
+/// La tabella è costruita una volta (indirizzamento aperto): find non alloca e non lancia eccezioni
+public final class EnumLookup<E extends Enum<E>> {
+    private final String[] keyArr;
+    private final Object[] valueArr;
+    private final int mask;
+    private final E fallback;
+
+    public EnumLookup(Class<E> type, E fallback, Map<String, E> aliasMap) {
+        int entries = type.getEnumConstants().length + aliasMap.size();
+        int capacity = Integer.highestOneBit(Math.max(entries, 1) * 4 - 1) << 1;
+
+        this.keyArr = new String[capacity];
+        this.valueArr = new Object[capacity];
+        this.mask = capacity - 1;
+        this.fallback = fallback;
+
+        for (E constant : type.getEnumConstants()) put(constant.name(), constant);
+        aliasMap.forEach(this::put);
+    }
+
+    /// Costante corrispondente, fallback se raw è null, vuoto o sconosciuto
+    public E find(String raw) {
+        E value = findOrNull(raw);
+        return value == null ? fallback : value;
+    }
+
+    @SuppressWarnings("unchecked")
+    public E findOrNull(String raw) {
+        if (raw == null) return null;
+
+        int start = 0;
+        int end = raw.length();
+        while (start < end && Character.isWhitespace(raw.charAt(start))) start++;
+        while (end > start && Character.isWhitespace(raw.charAt(end - 1))) end--;
+        if (start == end) return null;
+
+        for (int slot = hash(raw, start, end) & mask; keyArr[slot] != null; slot = (slot + 1) & mask) {
+            if (matches(keyArr[slot], raw, start, end)) return (E) valueArr[slot];
+        }
+        return null;
+    }
+
+    private void put(String key, E value) {
+        String trimmed = key.trim();
+        int slot = hash(trimmed, 0, trimmed.length()) & mask;
+
+        while (keyArr[slot] != null) {
+            if (matches(keyArr[slot], trimmed, 0, trimmed.length())) {
+                throw new IllegalArgumentException("Duplicate enum key: " + key);
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        keyArr[slot] = trimmed;
+        valueArr[slot] = value;
+    }
+
+    private static boolean matches(String key, String raw, int start, int end) {
+        if (key.length() != end - start) return false;
+
+        for (int i = 0; i < key.length(); i++) {
+            if (fold(key.charAt(i)) != fold(raw.charAt(start + i))) return false;
+        }
+        return true;
+    }
+
+    private static int hash(String raw, int start, int end) {
+        int h = 0;
+        for (int i = start; i < end; i++) h = 31 * h + fold(raw.charAt(i));
+        return h ^ (h >>> 16);
+    }
+
+    private static char fold(char c) {
+        if (c >= 'A' && c <= 'Z') return (char) (c + ('a' - 'A'));
+        if (c == ' ' || c == '-') return '_';
+        return (c < 128) ? c : Character.toLowerCase(c);
+    }
+}
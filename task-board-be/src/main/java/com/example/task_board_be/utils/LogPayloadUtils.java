@@ -0,0 +1,258 @@
+package com.example.task_board_be.utils;
+
+import com.example.task_board_be.pojo.entity.BaseEntity;
+import com.example.task_board_be.pojo.model.BaseModel;
+import com.example.task_board_be.pojo.projection.BoardView;
+import com.example.task_board_be.pojo.projection.TaskView;
+import com.example.task_board_be.pojo.request.IdsRequest;
+import com.example.task_board_be.pojo.resource.BoardResource;
+import com.example.task_board_be.pojo.resource.TaskResource;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalAmount;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/// Argomenti di log per payload potenzialmente grandi. Il testo viene prodotto solo se il livello è attivo
+/// (toString chiamato dal logger) ed è sempre limitato: le collezioni diventano "size + primi id", i singoli
+/// oggetti il solo id. Il dettaglio completo solo per le richieste campionate, vedi PayloadLogSamplingInterceptor:
+/// anche in quel caso il rendering si ferma a MAX_CHARS, senza passare dal toString degli oggetti
+public final class LogPayloadUtils {
+    public static final String SAMPLED_ATTRIBUTE = LogPayloadUtils.class.getName() + ".sampled";
+
+    static final int MAX_ITEMS = 10;
+    static final int MAX_CHARS = 2000;
+    static final String TRUNCATED = "...(truncated)";
+
+    private static final int MAX_DEPTH = 3;
+    private static final String PROJECT_PACKAGE = "com.example.task_board_be.";
+
+    // campi da visitare per classe, dalla sottoclasse alla superclasse
+    private static final ClassValue<List<Field>> FIELD_LIST = new ClassValue<>() {
+        @Override
+        protected List<Field> computeValue(Class<?> type) {
+            List<Field> fieldList = new ArrayList<>();
+
+            for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+                for (Field field : c.getDeclaredFields()) {
+                    if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()) continue;
+                    if (field.trySetAccessible()) fieldList.add(field);
+                }
+            }
+
+            return List.copyOf(fieldList);
+        }
+    };
+
+    private LogPayloadUtils() {
+    }
+
+    public static Object summary(Collection<?> collection) {
+        return new CollectionSummary(collection, isSampled());
+    }
+
+    public static Object payload(Object value) {
+        return new PayloadSummary(value, isSampled());
+    }
+
+    /// Campionamento deciso per richiesta; fuori da una richiesta HTTP (scheduler, test) mai verboso
+    static boolean isSampled() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+
+        return attributes != null
+                && attributes.getAttribute(SAMPLED_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) == Boolean.TRUE;
+    }
+
+    private static Object idOf(Object value) {
+        if (value instanceof Number) return value;
+        if (value instanceof BaseModel model) return model.getId();
+        if (value instanceof BaseEntity entity) return entity.getId();
+        if (value instanceof BoardView view) return view.id();
+        if (value instanceof TaskView view) return view.id();
+        if (value instanceof BoardResource resource) return resource.getId();
+        if (value instanceof TaskResource resource) return resource.getId();
+        return null;
+    }
+
+    private static boolean isScalar(Object value) {
+        return value instanceof Number || value instanceof Boolean || value instanceof Character
+                || value instanceof Enum<?> || value instanceof TemporalAccessor || value instanceof TemporalAmount
+                || value instanceof UUID;
+    }
+
+    /// Testo con budget di MAX_CHARS: superato il limite le append vengono scartate e la visita si interrompe,
+    /// così il costo resta proporzionale al budget e non alla dimensione del payload. Se non verboso le collezioni
+    /// annidate diventano anche qui "size + primi id"
+    private static final class BoundedText {
+        private final StringBuilder sb = new StringBuilder(128);
+        private final boolean isVerbose;
+        private boolean isFull;
+
+        BoundedText(boolean isVerbose) {
+            this.isVerbose = isVerbose;
+        }
+
+        BoundedText append(CharSequence text) {
+            if (isFull) return this;
+
+            int remaining = MAX_CHARS - sb.length();
+            if (text.length() <= remaining) {
+                sb.append(text);
+            } else {
+                sb.append(text, 0, remaining);
+                isFull = true;
+            }
+
+            return this;
+        }
+
+        BoundedText append(Object value) {
+            return append(String.valueOf(value));
+        }
+
+        void appendItems(Collection<?> collection, int depth) {
+            append("size=").append(collection.size()).append(isVerbose ? " ; items=[" : " ; ids=[");
+
+            Iterator<?> it = collection.iterator();
+            for (int i = 0; i < MAX_ITEMS && it.hasNext() && !isFull; i++) {
+                if (i > 0) append(", ");
+
+                Object item = it.next();
+
+                if (isVerbose) {
+                    appendValue(item, depth + 1);
+                } else {
+                    Object id = idOf(item);
+                    append(id != null ? id : "?");
+                }
+            }
+
+            append(it.hasNext() ? ", ...]" : "]");
+        }
+
+        /// Visita limitata: stringhe tagliate sul budget, collezioni ridotte a size + primi elementi, pojo del
+        /// progetto per campi fino a MAX_DEPTH, entity col solo id (niente lazy loading), altri oggetti col nome
+        void appendValue(Object value, int depth) {
+            if (isFull) return;
+
+            if (value == null) {
+                append("null");
+            } else if (value instanceof CharSequence text) {
+                append("'").append(text).append("'");
+            } else if (isScalar(value)) {
+                append(value);
+            } else if (value instanceof Collection<?> collection) {
+                appendItems(collection, depth);
+            } else if (value instanceof Map<?, ?> map) {
+                appendEntries(map, depth);
+            } else if (value.getClass().isArray()) {
+                appendArray(value, depth);
+            } else if (value instanceof BaseEntity || depth >= MAX_DEPTH) {
+                Object id = idOf(value);
+                append(value.getClass().getSimpleName()).append(id != null ? "{id=" + id + "}" : "{...}");
+            } else if (value.getClass().getName().startsWith(PROJECT_PACKAGE)) {
+                appendFields(value, depth);
+            } else {
+                append(value.getClass().getSimpleName());
+            }
+        }
+
+        private void appendEntries(Map<?, ?> map, int depth) {
+            append("size=").append(map.size()).append(" ; items={");
+
+            Iterator<? extends Map.Entry<?, ?>> it = map.entrySet().iterator();
+            for (int i = 0; i < MAX_ITEMS && it.hasNext() && !isFull; i++) {
+                if (i > 0) append(", ");
+
+                Map.Entry<?, ?> entry = it.next();
+                appendValue(entry.getKey(), depth + 1);
+                append("=");
+                appendValue(entry.getValue(), depth + 1);
+            }
+
+            append(it.hasNext() ? ", ...}" : "}");
+        }
+
+        private void appendArray(Object array, int depth) {
+            int length = Array.getLength(array);
+            append("size=").append(length).append(" ; items=[");
+
+            for (int i = 0; i < MAX_ITEMS && i < length && !isFull; i++) {
+                if (i > 0) append(", ");
+                appendValue(Array.get(array, i), depth + 1);
+            }
+
+            append(length > MAX_ITEMS ? ", ...]" : "]");
+        }
+
+        private void appendFields(Object value, int depth) {
+            append(value.getClass().getSimpleName()).append("{");
+
+            List<Field> fieldList = FIELD_LIST.get(value.getClass());
+            for (int i = 0; i < fieldList.size() && !isFull; i++) {
+                if (i > 0) append(", ");
+
+                Field field = fieldList.get(i);
+                append(field.getName()).append("=");
+
+                try {
+                    appendValue(field.get(value), depth + 1);
+                } catch (IllegalAccessException e) {
+                    append("?");
+                }
+            }
+
+            append("}");
+        }
+
+        @Override
+        public String toString() {
+            return isFull ? sb + TRUNCATED : sb.toString();
+        }
+    }
+
+    private record CollectionSummary(Collection<?> collection, boolean isSampled) {
+        @Override
+        public String toString() {
+            if (collection == null) return "null";
+
+            BoundedText text = new BoundedText(isSampled);
+            text.appendItems(collection, 0);
+            return text.toString();
+        }
+    }
+
+    private record PayloadSummary(Object value, boolean isSampled) {
+        @Override
+        public String toString() {
+            if (value == null) return "null";
+
+            BoundedText text = new BoundedText(isSampled);
+            Object id = idOf(value);
+
+            if (isSampled) {
+                text.appendValue(value, 0);
+            } else if (value instanceof IdsRequest request && request.getIdList() != null) {
+                text.append(value.getClass().getSimpleName()).append("{");
+                text.appendItems(request.getIdList(), 0);
+                text.append("}");
+            } else if (id != null) {
+                text.append(value.getClass().getSimpleName()).append("{id=").append(id).append("}");
+            } else {
+                // oggetti senza id (risorse bulk, slice): stessa visita limitata, con le collezioni ridotte agli id
+                text.appendValue(value, 0);
+            }
+
+            return text.toString();
+        }
+    }
+}
@@ -1,31 +1,60 @@
 package com.example.task_board_be.utils;
 
+import org.slf4j.Logger;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 public class LoggerUtils {
+    /// Tag per call site, indicizzati per nome del logger e metodo: le stringhe vengono costruite una sola volta
+    private static final Map<String, Map<String, CallSiteTags>> TAG_CACHE = new ConcurrentHashMap<>();
+
     private LoggerUtils() {
     }
 
-    /// Helper function to extract the current method name from the stack trace
-    private static String _getCurrentInfoName() {
-        // 0 = _getCurrentInfoName
-        // 1 = getLoggerMsg
-        // 2 = metodo del chiamante (es. createBoard nel controller)
-        StackTraceElement element = new Exception().getStackTrace()[2];
+    /// Il chiamante passa il proprio logger e il nome del metodo: se il livello è disattivato si esce senza altro lavoro,
+    /// altrimenti il tag "[Classe] - [metodo]" arriva dalla cache, senza leggere lo stack
+    public static String getStandardLoggerMsg(Logger logger, String methodName, String loggerPosition,
+                                              boolean isExceptionLogger) {
+        if (!(isExceptionLogger ? logger.isWarnEnabled() : logger.isInfoEnabled())) return "";
 
-        String fullClassName = element.getClassName();
-        String simpleClassName = fullClassName.substring(fullClassName.lastIndexOf(".") + 1);
-        String methodName = element.getMethodName();
+        Map<String, CallSiteTags> tagsByMethod = TAG_CACHE.get(logger.getName());
+        if (tagsByMethod == null) {
+            tagsByMethod = TAG_CACHE.computeIfAbsent(logger.getName(), name -> new ConcurrentHashMap<>());
+        }
 
-        return "[" + simpleClassName + "] - [" + methodName + "]";
+        CallSiteTags tags = tagsByMethod.get(methodName);
+        if (tags == null) {
+            tags = tagsByMethod.computeIfAbsent(methodName, name -> new CallSiteTags(logger.getName(), name));
+        }
+
+        return tags.get(loggerPosition, isExceptionLogger);
     }
 
-    public static String getStandardLoggerMsg(String loggerPosition, boolean isExceptionLogger) {
-        String loggerMsg = (isExceptionLogger) ? _getCurrentInfoName() + " - [EXCEPTION]" : _getCurrentInfoName();
+    /// Messaggi già concatenati di un call site: START, END, PROGRESS e senza suffisso, normali ed eccezione
+    private static final class CallSiteTags {
+        private static final String[] SUFFIXES = {" - [START]", " - [END]", " - [PROGRESS]", ""};
+
+        private final String[] messages = new String[SUFFIXES.length * 2];
+
+        private CallSiteTags(String loggerName, String methodName) {
+            String simpleClassName = loggerName.substring(loggerName.lastIndexOf(".") + 1);
+            String tag = "[" + simpleClassName + "] - [" + methodName + "]";
+
+            for (int i = 0; i < SUFFIXES.length; i++) {
+                messages[i] = tag + SUFFIXES[i];
+                messages[SUFFIXES.length + i] = tag + " - [EXCEPTION]" + SUFFIXES[i];
+            }
+        }
+
+        private String get(String loggerPosition, boolean isExceptionLogger) {
+            int offset = isExceptionLogger ? SUFFIXES.length : 0;
+
+            if ("START".equalsIgnoreCase(loggerPosition)) return messages[offset];
+            if ("END".equalsIgnoreCase(loggerPosition)) return messages[offset + 1];
+            if ("PROGRESS".equalsIgnoreCase(loggerPosition)) return messages[offset + 2];
 
-        return switch (loggerPosition.toUpperCase()) {
-            case "START" -> loggerMsg + " - [START]";
-            case "END" -> loggerMsg + " - [END]";
-            case "PROGRESS" -> loggerMsg + " - [PROGRESS]";
-            default -> loggerMsg;
-        };
+            return messages[offset + 3];
+        }
     }
 }
@@ -0,0 +1,69 @@
+package com.example.task_board_be.utils;
+
+import com.example.task_board_be.pojo.model.SyncPosition;
+import org.apache.commons.lang3.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+public class SyncTokenUtils {
+    /// Prefisso dei token di continuazione di una sync a pagine, i token senza prefisso sono watermark semplici
+    private static final String POSITION_VERSION = "v1";
+    private static final String SEPARATOR = "|";
+
+    private SyncTokenUtils() {
+    }
+
+    /// since accetta un timestamp ISO (prima sincronizzazione), il token di fine sincronizzazione o quello di
+    /// continuazione di una pagina
+    public static SyncPosition decode(String since) {
+        if (StringUtils.isBlank(since)) throw new IllegalArgumentException("Missing since");
+
+        String raw = since.trim();
+        try {
+            return SyncPosition.start(LocalDateTime.parse(raw));
+        } catch (DateTimeParseException ignored) {
+            // non è un timestamp: si prova come token
+        }
+
+        try {
+            String token = new String(Base64.getUrlDecoder().decode(raw), StandardCharsets.UTF_8);
+            if (!token.startsWith(POSITION_VERSION + SEPARATOR)) return SyncPosition.start(LocalDateTime.parse(token));
+
+            String[] parts = token.split("\\" + SEPARATOR, -1);
+            if (parts.length != 6) throw new IllegalArgumentException("Invalid since: " + since);
+
+            boolean isPhaseStart = parts[4].isEmpty();
+            return new SyncPosition(
+                    LocalDateTime.parse(parts[1]),
+                    LocalDateTime.parse(parts[2]),
+                    Integer.parseInt(parts[3]),
+                    isPhaseStart ? null : LocalDateTime.parse(parts[4]),
+                    isPhaseStart ? null : Long.parseLong(parts[5]));
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new IllegalArgumentException("Invalid since: " + since);
+        }
+    }
+
+    public static String encode(LocalDateTime watermark) {
+        return toBase64(watermark.toString());
+    }
+
+    public static String encode(SyncPosition position) {
+        String raw = String.join(SEPARATOR,
+                POSITION_VERSION,
+                position.since().toString(),
+                position.until().toString(),
+                String.valueOf(position.phase()),
+                position.afterTime() == null ? "" : position.afterTime().toString(),
+                position.afterId() == null ? "" : position.afterId().toString());
+
+        return toBase64(raw);
+    }
+
+    private static String toBase64(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,38 @@
+-- Schema di partenza, idempotente: su un database creato da ddl-auto=update (con baseline-on-migrate)
+-- le istruzioni trovano già tabelle e sequenze e aggiungono solo ciò che manca
+
+create sequence if not exists board_seq start with 1 increment by 50;
+create sequence if not exists task_seq start with 1 increment by 50;
+
+create table if not exists board (
+    id                 bigint       not null primary key,
+    name               varchar(255),
+    description        varchar(255),
+    default_name_index integer,
+    is_archived        boolean      not null default false,
+    created_at         timestamp(6),
+    updated_at         timestamp(6)
+);
+
+create table if not exists task (
+    id                 bigint       not null primary key,
+    name               varchar(255),
+    description        varchar(255),
+    default_name_index integer,
+    status             varchar(255),
+    icon               varchar(255),
+    board_id           bigint references board (id),
+    is_archived        boolean      not null default false,
+    created_at         timestamp(6),
+    updated_at         timestamp(6)
+);
+
+create table if not exists tombstone (
+    entity_name varchar(255) not null,
+    entity_id   bigint       not null,
+    deleted_at  timestamp(6) not null,
+    primary key (entity_name, entity_id)
+);
+
+alter table board add column if not exists default_name_index integer;
+alter table task add column if not exists default_name_index integer;
@@ -0,0 +1,25 @@
+-- Indici sulle query effettivamente emesse dai repository; i nomi sono verificati all'avvio da SchemaIndexCheck
+
+-- liste paginate e finestre keyset (createdAt DESC, id DESC), filtrate per archiviazione
+create index if not exists idx_board_archived_created on board (is_archived, created_at desc, id desc);
+create index if not exists idx_task_archived_created on task (is_archived, created_at desc, id desc);
+
+-- task di una board: liste, dettaglio board (task attive), probe di versione, restoreByBoardIds.
+-- Copre anche la foreign key board_id, che PostgreSQL non indicizza da solo
+create index if not exists idx_task_board_archived_created on task (board_id, is_archived, created_at desc, id desc);
+
+-- restore/clear globali (is_archived = true): di solito una piccola parte delle righe
+create index if not exists idx_board_archived_only on board (id) where is_archived = true;
+create index if not exists idx_task_archived_only on task (board_id) where is_archived = true;
+
+-- allocazione dei nomi di default: solo le righe con indice, per le task solo quelle attive
+drop index if exists idx_board_default_name_index;
+create index idx_board_default_name_index on board (default_name_index) where default_name_index is not null;
+drop index if exists idx_task_board_default_name_index;
+create index idx_task_board_default_name_index on task (board_id, default_name_index)
+    where is_archived = false and default_name_index is not null;
+
+-- sync delta
+create index if not exists idx_board_updated_at on board (updated_at);
+create index if not exists idx_task_updated_at on task (updated_at);
+create index if not exists idx_tombstone_deleted_at on tombstone (deleted_at);
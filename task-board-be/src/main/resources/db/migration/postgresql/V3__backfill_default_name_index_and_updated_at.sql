@@ -0,0 +1,23 @@
+-- Righe create prima di default_name_index: stesso parsing di DefaultNameUtils.parseIndex
+-- ("New Board" -> 1, "New Board 3" -> 3, contatori < 2 ignorati)
+update board
+set default_name_index = case
+        when lower(trim(name)) = 'new board' then 1
+        else substring(lower(trim(name)) from '^new board +([0-9]{1,9})$')::integer
+    end
+where default_name_index is null
+  and (lower(trim(name)) = 'new board'
+       or substring(lower(trim(name)) from '^new board +([0-9]{1,9})$')::integer >= 2);
+
+update task
+set default_name_index = case
+        when lower(trim(name)) = 'new task' then 1
+        else substring(lower(trim(name)) from '^new task +([0-9]{1,9})$')::integer
+    end
+where default_name_index is null
+  and (lower(trim(name)) = 'new task'
+       or substring(lower(trim(name)) from '^new task +([0-9]{1,9})$')::integer >= 2);
+
+-- la sync delta filtra updated_at > :since senza coalesce, per restare sull'indice
+update board set updated_at = created_at where updated_at is null;
+update task set updated_at = created_at where updated_at is null;
@@ -0,0 +1,9 @@
+-- Tabelle popolate quando gli id erano IDENTITY: la sequenza riparte dopo max(id).
+-- Con optimizer pooled il prossimo blocco parte da last_value + 1
+select setval('board_seq', m.max_id)
+from (select max(id) as max_id from board) m
+where m.max_id > (select last_value from board_seq);
+
+select setval('task_seq', m.max_id)
+from (select max(id) as max_id from task) m
+where m.max_id > (select last_value from task_seq);
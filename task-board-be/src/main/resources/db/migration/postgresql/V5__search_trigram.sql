@@ -0,0 +1,13 @@
+-- Ricerca di TrigramSearchEngine: like '%x%' su task_board_search_doc(name, description) servito da GIN trigram
+create extension if not exists pg_trgm;
+
+-- immutable: l'indice su espressione richiede che la funzione dipenda solo dagli argomenti
+create or replace function task_board_search_doc(name text, description text)
+    returns text
+    language sql
+    immutable
+    parallel safe
+as $$ select lower(coalesce(name, '') || ' ' || coalesce(description, '')) $$;
+
+create index if not exists idx_board_search_trgm on board using gin (task_board_search_doc(name, description) gin_trgm_ops);
+create index if not exists idx_task_search_trgm on task using gin (task_board_search_doc(name, description) gin_trgm_ops);
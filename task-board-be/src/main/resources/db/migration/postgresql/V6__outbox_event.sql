@@ -0,0 +1,9 @@
+-- Outbox del change log: righe scritte nella transazione delle modifiche a board e task,
+-- lette dal relay in ordine di id (chiave primaria) e cancellate dopo l'invio al sink
+create table if not exists outbox_event (
+    id          bigint       generated by default as identity primary key,
+    entity_name varchar(255) not null,
+    entity_id   bigint       not null,
+    event_type  varchar(255) not null,
+    created_at  timestamp(6) not null
+);
@@ -0,0 +1,19 @@
+-- Contatori materializzati delle task per board, stato e archiviazione: una riga per combinazione,
+-- creata con la board e aggiornata in modo incrementale nella transazione di ogni modifica alle task
+create table if not exists board_task_count (
+    board_id    bigint       not null references board (id),
+    status      varchar(255) not null,
+    is_archived boolean      not null,
+    task_count  bigint       not null default 0,
+    primary key (board_id, status, is_archived)
+);
+
+-- righe per le board esistenti con il conteggio attuale (task senza status escluse, come negli update incrementali)
+insert into board_task_count (board_id, status, is_archived, task_count)
+select b.id, s.status, a.is_archived, count(t.id)
+from board b
+cross join (values ('NONE'), ('TODO'), ('IN_PROGRESS'), ('DONE'), ('BLOCKED'), ('CANCELED')) as s (status)
+cross join (values (false), (true)) as a (is_archived)
+left join task t on t.board_id = b.id and t.status = s.status and t.is_archived = a.is_archived
+group by b.id, s.status, a.is_archived
+on conflict do nothing;
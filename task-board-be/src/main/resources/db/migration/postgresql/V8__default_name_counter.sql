@@ -0,0 +1,51 @@
+-- Allocazione dei nomi di default senza scansioni: per ogni scope (tutte le board, task attive di una board)
+-- un contatore bloccato in scrittura da chi alloca e gli intervalli liberi sotto il contatore
+create table if not exists default_name_counter (
+    scope      varchar(255) not null,
+    scope_id   bigint       not null,
+    next_index integer      not null,
+    primary key (scope, scope_id)
+);
+
+create table if not exists default_name_gap (
+    id          bigint       generated by default as identity primary key,
+    scope       varchar(255) not null,
+    scope_id    bigint       not null,
+    start_index integer      not null,
+    end_index   integer      not null
+);
+
+create index if not exists idx_default_name_gap_scope_start on default_name_gap (scope, scope_id, start_index);
+
+-- contatori oltre l'indice più alto occupato (scope BOARD con scope_id 0, una riga per board per le task)
+insert into default_name_counter (scope, scope_id, next_index)
+select 'BOARD', 0, coalesce(max(default_name_index), 0) + 1
+from board
+on conflict do nothing;
+
+insert into default_name_counter (scope, scope_id, next_index)
+select 'TASK', b.id, coalesce(max(t.default_name_index), 0) + 1
+from board b
+left join task t on t.board_id = b.id and t.is_archived = false
+group by b.id
+on conflict do nothing;
+
+-- un intervallo per ogni buco tra due indici occupati consecutivi (e prima del primo): una riga per buco,
+-- non per indice, anche con nomi scritti a mano come "New Board 999999"
+insert into default_name_gap (scope, scope_id, start_index, end_index)
+select 'BOARD', 0, r.prev_index + 1, r.default_name_index - 1
+from (select d.default_name_index,
+             coalesce(lag(d.default_name_index) over (order by d.default_name_index), 0) as prev_index
+      from (select distinct default_name_index from board where default_name_index is not null) d) r
+where r.default_name_index - r.prev_index > 1;
+
+insert into default_name_gap (scope, scope_id, start_index, end_index)
+select 'TASK', r.board_id, r.prev_index + 1, r.default_name_index - 1
+from (select d.board_id,
+             d.default_name_index,
+             coalesce(lag(d.default_name_index) over (partition by d.board_id order by d.default_name_index), 0) as prev_index
+      from (select distinct board_id, default_name_index
+            from task
+            where is_archived = false
+              and default_name_index is not null) d) r
+where r.default_name_index - r.prev_index > 1;
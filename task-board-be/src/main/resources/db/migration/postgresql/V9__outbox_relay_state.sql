@@ -0,0 +1,13 @@
+-- Ultimo id consegnato dal relay dell'outbox: le righe inviate vengono cancellate, quindi il punto di ripresa
+-- (e con esso i buchi ancora aperti negli id) non si può ricavare dalla tabella outbox_event
+create table if not exists outbox_relay_state (
+    id            integer not null primary key,
+    last_event_id bigint  not null
+);
+
+-- con eventi in attesa si riparte dal primo, altrimenti dall'ultimo valore emesso dalla identity
+insert into outbox_relay_state (id, last_event_id)
+select 1, coalesce((select min(id) - 1 from outbox_event),
+                   (select case when is_called then last_value else last_value - 1 end
+                    from outbox_event_id_seq))
+on conflict do nothing;
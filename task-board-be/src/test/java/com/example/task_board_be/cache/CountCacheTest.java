@@ -0,0 +1,124 @@
+package com.example.task_board_be.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CountCacheTest {
+
+    @Test
+    void testGetOrCount_cachesWithinTtl_andNormalizesFilter() {
+        CountCache cache = new CountCache(Duration.ofMinutes(1), 100);
+        AtomicInteger calls = new AtomicInteger();
+
+        assertEquals(5, cache.getOrCount("task", " Foo ", 1L, false, () -> { calls.incrementAndGet(); return 5; }));
+        assertEquals(5, cache.getOrCount("task", "foo", 1L, false, () -> { calls.incrementAndGet(); return 9; }));
+
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void testGetOrCount_differentKeys_countSeparately() {
+        CountCache cache = new CountCache(Duration.ofMinutes(1), 100);
+
+        assertEquals(1, cache.getOrCount("task", null, 1L, false, () -> 1));
+        assertEquals(2, cache.getOrCount("task", null, 2L, false, () -> 2));
+        assertEquals(3, cache.getOrCount("task", null, 1L, true, () -> 3));
+        assertEquals(4, cache.getOrCount("board", null, 1L, false, () -> 4));
+    }
+
+    @Test
+    void testGetOrCount_zeroTtl_disablesCache() {
+        CountCache cache = new CountCache(Duration.ZERO, 100);
+        AtomicInteger calls = new AtomicInteger();
+
+        cache.getOrCount("board", null, null, false, calls::incrementAndGet);
+        cache.getOrCount("board", null, null, false, calls::incrementAndGet);
+
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void testInvalidate_evictsOnlyResource() {
+        CountCache cache = new CountCache(Duration.ofMinutes(1), 100);
+        cache.getOrCount("board", null, null, false, () -> 1);
+        cache.getOrCount("task", null, null, false, () -> 1);
+
+        cache.invalidate("board");
+
+        assertEquals(2, cache.getOrCount("board", null, null, false, () -> 2));
+        assertEquals(1, cache.getOrCount("task", null, null, false, () -> 2));
+    }
+
+    @Test
+    void testInvalidateAll_evictsEverything() {
+        CountCache cache = new CountCache(Duration.ofMinutes(1), 100);
+        cache.getOrCount("board", null, null, false, () -> 1);
+        cache.getOrCount("task", null, null, false, () -> 1);
+
+        cache.invalidateAll();
+
+        assertEquals(2, cache.getOrCount("board", null, null, false, () -> 2));
+        assertEquals(2, cache.getOrCount("task", null, null, false, () -> 2));
+    }
+
+    @Test
+    void testGetOrCount_writeDuringCount_resultNotCached() {
+        CountCache cache = new CountCache(Duration.ofMinutes(1), 100);
+
+        long stale = cache.getOrCount("task", null, null, false, () -> {
+            cache.invalidate("task");
+            return 1;
+        });
+
+        assertEquals(1, stale);
+        assertEquals(2, cache.getOrCount("task", null, null, false, () -> 2));
+    }
+
+    @Test
+    void testInvalidateBoards_evictsThoseBoardsAndUnfilteredLists() {
+        CountCache cache = new CountCache(Duration.ofMinutes(1), 100);
+        cache.getOrCount("task", null, 1L, false, () -> 1);
+        cache.getOrCount("task", "foo", 1L, true, () -> 1);
+        cache.getOrCount("task", null, 2L, false, () -> 1);
+        cache.getOrCount("task", null, null, false, () -> 1);
+        cache.getOrCount("board", null, null, false, () -> 1);
+
+        cache.invalidate("task", List.of(1L));
+
+        assertEquals(2, cache.getOrCount("task", null, 1L, false, () -> 2));
+        assertEquals(2, cache.getOrCount("task", "foo", 1L, true, () -> 2));
+        assertEquals(2, cache.getOrCount("task", null, null, false, () -> 2));
+        assertEquals(1, cache.getOrCount("task", null, 2L, false, () -> 2));
+        assertEquals(1, cache.getOrCount("board", null, null, false, () -> 2));
+    }
+
+    @Test
+    void testGetOrCount_boardWriteDuringCount_resultNotCached() {
+        CountCache cache = new CountCache(Duration.ofMinutes(1), 100);
+
+        long stale = cache.getOrCount("task", null, 1L, false, () -> {
+            cache.invalidate("task", List.of(1L));
+            return 1;
+        });
+
+        assertEquals(1, stale);
+        assertEquals(2, cache.getOrCount("task", null, 1L, false, () -> 2));
+    }
+
+    @Test
+    void testGetOrCount_maxSizeReached_startsOver() {
+        CountCache cache = new CountCache(Duration.ofMinutes(1), 2);
+        cache.getOrCount("task", null, 1L, false, () -> 1);
+        cache.getOrCount("task", null, 2L, false, () -> 1);
+
+        cache.getOrCount("task", null, 3L, false, () -> 1);
+
+        assertEquals(2, cache.getOrCount("task", null, 1L, false, () -> 2));
+        assertEquals(1, cache.getOrCount("task", null, 3L, false, () -> 2));
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.task_board_be.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LocalModelCacheTest {
+
+    @Test
+    void testGet_cachesByIdAndState_andCountsHitsAndMisses() {
+        LocalModelCache cache = new LocalModelCache(Duration.ofMinutes(1), 100);
+        AtomicInteger loads = new AtomicInteger();
+
+        assertEquals("a", cache.get("board", 1L, false, () -> { loads.incrementAndGet(); return "a"; }));
+        assertEquals("a", cache.get("board", 1L, false, () -> { loads.incrementAndGet(); return "b"; }));
+        assertEquals("c", cache.get("board", 1L, true, () -> { loads.incrementAndGet(); return "c"; }));
+
+        assertEquals(2, loads.get());
+
+        ModelCache.Stats stats = cache.stats("board");
+        assertEquals(1, stats.hits());
+        assertEquals(2, stats.misses());
+        assertEquals(2, stats.size());
+        assertEquals(1 / 3.0, stats.hitRate(), 1e-9);
+    }
+
+    @Test
+    void testGet_zeroTtl_disablesCache() {
+        LocalModelCache cache = new LocalModelCache(Duration.ZERO, 100);
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get("task", 1L, false, loads::incrementAndGet);
+        cache.get("task", 1L, false, loads::incrementAndGet);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void testGet_overMaxSize_evictsLeastRecentlyUsed() {
+        LocalModelCache cache = new LocalModelCache(Duration.ofMinutes(1), 2);
+        cache.get("task", 1L, false, () -> 1);
+        cache.get("task", 2L, false, () -> 2);
+        cache.get("task", 1L, false, () -> -1);
+        cache.get("task", 3L, false, () -> 3);
+
+        assertEquals(1, (int) cache.get("task", 1L, false, () -> -1));
+        assertEquals(20, (int) cache.get("task", 2L, false, () -> 20));
+        assertTrue(cache.stats("task").evictions() >= 1);
+    }
+
+    @Test
+    void testInvalidate_evictsBothStatesOfIdOnlyForResource() {
+        LocalModelCache cache = new LocalModelCache(Duration.ofMinutes(1), 100);
+        cache.get("board", 1L, false, () -> 1);
+        cache.get("board", 1L, true, () -> 1);
+        cache.get("board", 2L, false, () -> 1);
+        cache.get("task", 1L, false, () -> 1);
+
+        cache.invalidate("board", 1L);
+
+        assertEquals(2, (int) cache.get("board", 1L, false, () -> 2));
+        assertEquals(2, (int) cache.get("board", 1L, true, () -> 2));
+        assertEquals(1, (int) cache.get("board", 2L, false, () -> 2));
+        assertEquals(1, (int) cache.get("task", 1L, false, () -> 2));
+    }
+
+    @Test
+    void testInvalidateAll_byResourceAndGlobal() {
+        LocalModelCache cache = new LocalModelCache(Duration.ofMinutes(1), 100);
+        cache.get("board", 1L, false, () -> 1);
+        cache.get("task", 1L, false, () -> 1);
+
+        cache.invalidateAll("board");
+
+        assertEquals(2, (int) cache.get("board", 1L, false, () -> 2));
+        assertEquals(1, (int) cache.get("task", 1L, false, () -> 2));
+
+        cache.invalidateAll();
+
+        assertEquals(0, cache.stats("board").size());
+        assertEquals(0, cache.stats("task").size());
+    }
+
+    @Test
+    void testGet_invalidateDuringLoad_resultNotCached() {
+        LocalModelCache cache = new LocalModelCache(Duration.ofMinutes(1), 100);
+
+        int stale = cache.get("task", 1L, false, () -> {
+            cache.invalidate("task", List.of(1L));
+            return 1;
+        });
+
+        assertEquals(1, stale);
+        assertEquals(2, (int) cache.get("task", 1L, false, () -> 2));
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.task_board_be.configuration;
+
+import com.example.task_board_be.exception.custom.OverloadedException;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrencyLimitInterceptorTest {
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @Test
+    void testPreHandle_afterCompletion_releasesPermit() {
+        ConcurrencyLimitInterceptor interceptor = new ConcurrencyLimitInterceptor(1, Duration.ofMillis(10));
+        MockHttpServletRequest first = new MockHttpServletRequest();
+
+        assertTrue(interceptor.preHandle(first, response, null));
+        assertEquals(1, interceptor.inFlight());
+
+        interceptor.afterCompletion(first, response, null, null);
+        assertEquals(0, interceptor.inFlight());
+
+        assertTrue(interceptor.preHandle(new MockHttpServletRequest(), response, null));
+    }
+
+    @Test
+    void testPreHandle_queueTimeout_throwsOverloaded() {
+        ConcurrencyLimitInterceptor interceptor = new ConcurrencyLimitInterceptor(1, Duration.ofMillis(20));
+        interceptor.preHandle(new MockHttpServletRequest(), response, null);
+
+        OverloadedException ex = assertThrows(OverloadedException.class,
+                () -> interceptor.preHandle(new MockHttpServletRequest(), response, null));
+        assertEquals(Duration.ofMillis(20), ex.getRetryAfter());
+        assertEquals(1, interceptor.inFlight());
+    }
+
+    @Test
+    void testAfterConcurrentHandlingStarted_releasesOnce() {
+        ConcurrencyLimitInterceptor interceptor = new ConcurrencyLimitInterceptor(1, Duration.ofMillis(10));
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        interceptor.preHandle(request, response, null);
+
+        interceptor.afterConcurrentHandlingStarted(request, response, null);
+        interceptor.afterCompletion(request, response, null, null);
+
+        assertEquals(0, interceptor.inFlight());
+    }
+
+    @Test
+    void testPreHandle_disabled_neverBlocks() {
+        ConcurrencyLimitInterceptor interceptor = new ConcurrencyLimitInterceptor(0, Duration.ofMillis(10));
+
+        for (int i = 0; i < 5; i++) {
+            assertTrue(interceptor.preHandle(new MockHttpServletRequest(), response, null));
+        }
+    }
+
+    /// Molti chiamanti su pochi permessi: in esecuzione mai più del limite, gli altri attendono e passano tutti
+    @Test
+    void testPreHandle_concurrentCallers_boundedInFlight() throws Exception {
+        int permits = 4;
+        ConcurrencyLimitInterceptor interceptor = new ConcurrencyLimitInterceptor(permits, Duration.ofSeconds(10));
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        try {
+            List<Future<?>> futureList = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                futureList.add(executor.submit(() -> {
+                    MockHttpServletRequest request = new MockHttpServletRequest();
+                    interceptor.preHandle(request, response, null);
+                    try {
+                        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                        TimeUnit.MILLISECONDS.sleep(1);
+                        running.decrementAndGet();
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        interceptor.afterCompletion(request, response, null, null);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futureList) future.get(30, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertTrue(maxRunning.get() <= permits, "max in flight " + maxRunning.get());
+        assertEquals(0, interceptor.inFlight());
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.task_board_be.configuration;
+
+import com.example.task_board_be.utils.LogPayloadUtils;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PayloadLogSamplingInterceptorTest {
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @SuppressWarnings("unused")
+    public void first() {
+    }
+
+    @SuppressWarnings("unused")
+    public void second() {
+    }
+
+    private HandlerMethod handler(String name) throws NoSuchMethodException {
+        return new HandlerMethod(this, name);
+    }
+
+    private boolean isSampled(PayloadLogSamplingInterceptor interceptor, HandlerMethod handler) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        assertTrue(interceptor.preHandle(request, response, handler));
+        return request.getAttribute(LogPayloadUtils.SAMPLED_ATTRIBUTE) == Boolean.TRUE;
+    }
+
+    @Test
+    void testPreHandle_samplesFirstThenEveryNthPerEndpoint() throws Exception {
+        PayloadLogSamplingInterceptor interceptor = new PayloadLogSamplingInterceptor(3);
+        HandlerMethod first = handler("first");
+        HandlerMethod second = handler("second");
+
+        assertTrue(isSampled(interceptor, first));
+        assertFalse(isSampled(interceptor, first));
+        // contatore separato per endpoint
+        assertTrue(isSampled(interceptor, second));
+        assertFalse(isSampled(interceptor, first));
+        assertTrue(isSampled(interceptor, first));
+    }
+
+    @Test
+    void testPreHandle_disabled_neverSamples() throws Exception {
+        PayloadLogSamplingInterceptor interceptor = new PayloadLogSamplingInterceptor(0);
+
+        assertFalse(isSampled(interceptor, handler("first")));
+        assertFalse(isSampled(interceptor, handler("first")));
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.task_board_be.configuration;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SchemaIndexCheckTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void testFindMissingIndexes_allPresent() {
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class)))
+                .thenReturn(new ArrayList<>(SchemaIndexCheck.EXPECTED_INDEX_LIST));
+
+        assertTrue(new SchemaIndexCheck(jdbcTemplate, true).findMissingIndexes().isEmpty());
+    }
+
+    @Test
+    void testFindMissingIndexes_reportsOnlyAbsent() {
+        List<String> presentList = new ArrayList<>(SchemaIndexCheck.EXPECTED_INDEX_LIST);
+        presentList.remove("idx_task_board_archived_created");
+        presentList.remove("idx_task_search_trgm");
+        presentList.add("board_pkey");
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class))).thenReturn(presentList);
+
+        assertEquals(List.of("idx_task_board_archived_created", "idx_task_search_trgm"),
+                new SchemaIndexCheck(jdbcTemplate, true).findMissingIndexes());
+    }
+
+    @Test
+    void testAfterSingletonsInstantiated_disabled_noQuery() {
+        new SchemaIndexCheck(jdbcTemplate, false).afterSingletonsInstantiated();
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    /// Ogni indice verificato all'avvio deve essere creato da una migrazione PostgreSQL
+    @Test
+    void testExpectedIndexes_createdByMigrations() throws IOException {
+        Resource[] resourceArr = new PathMatchingResourcePatternResolver()
+                .getResources("classpath:db/migration/postgresql/*.sql");
+        assertTrue(resourceArr.length > 0, "PostgreSQL migrations should be on the classpath");
+
+        StringBuilder sql = new StringBuilder();
+        for (Resource resource : resourceArr) {
+            sql.append(resource.getContentAsString(StandardCharsets.UTF_8)).append('\n');
+        }
+
+        for (String index : SchemaIndexCheck.EXPECTED_INDEX_LIST) {
+            Pattern create = Pattern.compile("create index (if not exists )?" + index + " on ");
+            assertTrue(create.matcher(sql).find(), "No migration creates " + index);
+        }
+    }
+}
@@ -7,6 +7,7 @@ import com.example.task_board_be.mapping.mapper.BoardMapper;
 import com.example.task_board_be.pojo.model.BoardModel;
 import com.example.task_board_be.pojo.resource.BoardResource;
 import com.example.task_board_be.service.entity.BoardService;
+import com.example.task_board_be.service.event.BoardEventService;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -39,17 +40,19 @@ class BoardsControllerMvcTest {
     private BoardAssembler assembler;
     @MockitoBean
     private BoardService service;
+    @MockitoBean
+    private BoardEventService eventService;
 
     @Test
     void testGetBoardPage_ok_minimal() throws Exception {
         var page = new org.springframework.data.domain.PageImpl<>(
-                java.util.List.of(new com.example.task_board_be.pojo.model.BoardModel()),
+                java.util.List.of(new com.example.task_board_be.pojo.projection.BoardView(1L, "Board", null, java.time.LocalDateTime.now())),
                 org.springframework.data.domain.PageRequest.of(0, 20),
                 1
         );
         org.mockito.Mockito.when(service.getPage(org.mockito.ArgumentMatchers.isNull(), org.mockito.ArgumentMatchers.eq(false), org.mockito.ArgumentMatchers.any(org.springframework.data.domain.Pageable.class)))
                 .thenReturn(page);
-        org.mockito.Mockito.when(mapper.toResource(org.mockito.ArgumentMatchers.any())).thenReturn(new com.example.task_board_be.pojo.resource.BoardResource());
+        org.mockito.Mockito.when(mapper.toResource(org.mockito.ArgumentMatchers.any(com.example.task_board_be.pojo.projection.BoardView.class))).thenReturn(new com.example.task_board_be.pojo.resource.BoardResource());
 
         mvc.perform(get("/boards?isArchived=false"))
                 .andExpect(status().isOk())
@@ -58,13 +61,60 @@ class BoardsControllerMvcTest {
                 .andExpect(jsonPath("$.content").isArray());
     }
 
+    @Test
+    void testGetBoardCursorPage_ok_firstPage() throws Exception {
+        var position = org.springframework.data.domain.ScrollPosition.forward(java.util.Map.of(
+                "createdAt", java.time.LocalDateTime.of(2025, 1, 1, 10, 0), "id", 3L));
+        var window = org.springframework.data.domain.Window.from(
+                java.util.List.of(new com.example.task_board_be.pojo.projection.BoardView(1L, "Board", null, java.time.LocalDateTime.now())), i -> position, true);
+        org.mockito.Mockito.when(service.getWindow(org.mockito.ArgumentMatchers.isNull(), org.mockito.ArgumentMatchers.eq(false),
+                        org.mockito.ArgumentMatchers.argThat(org.springframework.data.domain.ScrollPosition::isInitial), org.mockito.ArgumentMatchers.eq(20)))
+                .thenReturn(window);
+        org.mockito.Mockito.when(mapper.toResource(org.mockito.ArgumentMatchers.any(com.example.task_board_be.pojo.projection.BoardView.class))).thenReturn(new com.example.task_board_be.pojo.resource.BoardResource());
+
+        mvc.perform(get("/boards?cursor="))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/json"))
+                .andExpect(jsonPath("$.content").isArray())
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.nextCursor").value(com.example.task_board_be.utils.CursorUtils.encode(position)))
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+    }
+
+    @Test
+    void testGetBoardCursorPage_400_onInvalidCursor() throws Exception {
+        mvc.perform(get("/boards?cursor=@@@"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testGetBoardSlice_ok_withoutTotal() throws Exception {
+        var slice = new org.springframework.data.domain.SliceImpl<>(
+                java.util.List.of(new com.example.task_board_be.pojo.projection.BoardView(1L, "Board", null, java.time.LocalDateTime.now())),
+                org.springframework.data.domain.PageRequest.of(1, 1), true);
+        org.mockito.Mockito.when(service.getSlice(org.mockito.ArgumentMatchers.isNull(), org.mockito.ArgumentMatchers.eq(false),
+                        org.mockito.ArgumentMatchers.any(org.springframework.data.domain.Pageable.class)))
+                .thenReturn(slice);
+        org.mockito.Mockito.when(mapper.toResource(org.mockito.ArgumentMatchers.any(com.example.task_board_be.pojo.projection.BoardView.class))).thenReturn(new com.example.task_board_be.pojo.resource.BoardResource());
+
+        mvc.perform(get("/boards?withTotal=false&page=1&size=1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content").isArray())
+                .andExpect(jsonPath("$.number").value(1))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+
+        org.mockito.Mockito.verify(service, org.mockito.Mockito.never())
+                .getPage(org.mockito.ArgumentMatchers.any(), org.mockito.ArgumentMatchers.anyBoolean(), org.mockito.ArgumentMatchers.any());
+    }
+
     @Test
     void testUpdateBoard_ok_minimal() throws Exception {
         org.mockito.Mockito.when(assembler.assembleModel(org.mockito.ArgumentMatchers.any(), org.mockito.ArgumentMatchers.eq(42L)))
                 .thenReturn(new com.example.task_board_be.pojo.model.BoardModel());
         org.mockito.Mockito.when(service.update(org.mockito.ArgumentMatchers.any()))
                 .thenReturn(new com.example.task_board_be.pojo.model.BoardModel());
-        org.mockito.Mockito.when(mapper.toResource(org.mockito.ArgumentMatchers.any()))
+        org.mockito.Mockito.when(mapper.toResource(org.mockito.ArgumentMatchers.any(com.example.task_board_be.pojo.model.BoardModel.class)))
                 .thenReturn(new com.example.task_board_be.pojo.resource.BoardResource());
 
         mvc.perform(put("/boards/42")
@@ -80,7 +130,7 @@ class BoardsControllerMvcTest {
         when(service.create(any())).thenReturn(new BoardModel());
         BoardResource resource = org.mockito.Mockito.mock(BoardResource.class);
         when(resource.getId()).thenReturn(55L);
-        when(mapper.toResource(any())).thenReturn(resource);
+        when(mapper.toResource(any(BoardModel.class))).thenReturn(resource);
 
         mvc.perform(post("/boards")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -90,6 +140,31 @@ class BoardsControllerMvcTest {
                 .andExpect(content().contentType("application/json"));
     }
 
+    @Test
+    void testCreateBoardList_created201() throws Exception {
+        when(service.createList(any())).thenReturn(java.util.List.of(new BoardModel(), new BoardModel()));
+        when(mapper.toResourceList(any())).thenReturn(java.util.List.of(new BoardResource(), new BoardResource()));
+
+        mvc.perform(post("/boards/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"name\":\"Alpha\"},{}]"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.length()").value(2));
+    }
+
+    @Test
+    void testCreateBoardList_400_onEmptyOrInvalidItem() throws Exception {
+        mvc.perform(post("/boards/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isBadRequest());
+
+        mvc.perform(post("/boards/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"description\":\"" + "x".repeat(300) + "\"}]"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void testCreateBoard_400_onValidation() throws Exception {
         String longDesc = "x".repeat(300);
@@ -103,13 +178,52 @@ class BoardsControllerMvcTest {
     @Test
     void testGetBoard_ok_http() throws Exception {
         when(service.getEl(1L, false)).thenReturn(new BoardModel());
-        when(mapper.toResource(any())).thenReturn(new BoardResource());
+        when(mapper.toResource(any(BoardModel.class))).thenReturn(new BoardResource());
 
         mvc.perform(get("/boards/1?isArchived=false"))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType("application/json"));
     }
 
+    @Test
+    void testGetBoard_notModified_weakIfNoneMatch() throws Exception {
+        var version = new com.example.task_board_be.pojo.projection.EntityVersion(
+                java.time.LocalDateTime.of(2025, 1, 1, 10, 0), java.time.LocalDateTime.of(2025, 1, 2, 10, 0), 3L);
+        when(service.getVersion(1L, false)).thenReturn(java.util.Optional.of(version));
+
+        mvc.perform(get("/boards/1").header("If-None-Match", "W/" + version.eTag()))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", version.eTag()));
+
+        org.mockito.Mockito.verify(service, org.mockito.Mockito.never()).getEl(1L, false);
+    }
+
+    @Test
+    void testGetBoard_childChange_newETag() throws Exception {
+        var before = new com.example.task_board_be.pojo.projection.EntityVersion(
+                java.time.LocalDateTime.of(2025, 1, 1, 10, 0), java.time.LocalDateTime.of(2025, 1, 2, 10, 0), 3L);
+        var after = new com.example.task_board_be.pojo.projection.EntityVersion(
+                java.time.LocalDateTime.of(2025, 1, 1, 10, 0), java.time.LocalDateTime.of(2025, 1, 2, 10, 0), 2L);
+        when(service.getVersion(1L, false)).thenReturn(java.util.Optional.of(after));
+        when(service.getEl(1L, false)).thenReturn(new BoardModel());
+        when(mapper.toResource(any(BoardModel.class))).thenReturn(new BoardResource());
+
+        mvc.perform(get("/boards/1").header("If-None-Match", before.eTag()))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", after.eTag()));
+    }
+
+    @Test
+    void testGetBoard_notModified_ifModifiedSince() throws Exception {
+        var version = new com.example.task_board_be.pojo.projection.EntityVersion(java.time.LocalDateTime.of(2025, 1, 1, 10, 0));
+        when(service.getVersion(1L, false)).thenReturn(java.util.Optional.of(version));
+        var headers = new org.springframework.http.HttpHeaders();
+        headers.setIfModifiedSince(version.lastModified());
+
+        mvc.perform(get("/boards/1").headers(headers))
+                .andExpect(status().isNotModified());
+    }
+
     @Test
     void testTypeMismatch_400_onQueryParam() throws Exception {
         mvc.perform(get("/boards/1?isArchived=abc"))
@@ -119,7 +233,7 @@ class BoardsControllerMvcTest {
     @Test
     void testArchiveBoard_ok_http() throws Exception {
         when(service.archiveEl(5L)).thenReturn(new BoardModel());
-        when(mapper.toResource(any())).thenReturn(new BoardResource());
+        when(mapper.toResource(any(BoardModel.class))).thenReturn(new BoardResource());
 
         mvc.perform(delete("/boards/archive/5"))
                 .andExpect(status().isOk())
@@ -156,7 +270,7 @@ class BoardsControllerMvcTest {
     @Test
     void testRestoreBoard_ok_http_defaultTrue() throws Exception {
         when(service.restoreEl(7L, true)).thenReturn(new BoardModel());
-        when(mapper.toResource(any())).thenReturn(new BoardResource());
+        when(mapper.toResource(any(BoardModel.class))).thenReturn(new BoardResource());
 
         mvc.perform(put("/boards/restore/7"))
                 .andExpect(status().isOk())
@@ -218,6 +332,55 @@ class BoardsControllerMvcTest {
                 .andExpect(content().contentType("application/json"));
     }
 
+    @Test
+    void testStreamBoardEvents_asyncStarted_withLastEventId() throws Exception {
+        var version = new com.example.task_board_be.pojo.projection.EntityVersion(java.time.LocalDateTime.of(2025, 1, 1, 10, 0));
+        when(service.getVersion(1L, false)).thenReturn(java.util.Optional.of(version));
+        when(eventService.subscribe(1L, 42L)).thenReturn(new org.springframework.web.servlet.mvc.method.annotation.SseEmitter());
+
+        mvc.perform(get("/boards/1/events")
+                        .accept(MediaType.TEXT_EVENT_STREAM)
+                        .header("Last-Event-ID", "42"))
+                .andExpect(request().asyncStarted());
+    }
+
+    @Test
+    void testStreamBoardEvents_404_onMissingBoard() throws Exception {
+        when(service.getVersion(99L, false)).thenReturn(java.util.Optional.empty());
+        when(service.getVersion(99L, true)).thenReturn(java.util.Optional.empty());
+
+        mvc.perform(get("/boards/99/events").accept(MediaType.TEXT_EVENT_STREAM, MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotFound());
+
+        org.mockito.Mockito.verifyNoInteractions(eventService);
+    }
+
+    @Test
+    void testGetBoardTaskCountList_ok_distinctIds() throws Exception {
+        var taskCountModel = new com.example.task_board_be.pojo.model.BoardTaskCountModel(2L);
+        taskCountModel.put(com.example.task_board_be.enums.task.TaskStatus.TODO, false, 12);
+        when(service.getTaskCountList(java.util.List.of(2L, 1L))).thenReturn(java.util.List.of(taskCountModel));
+        when(mapper.toTaskCountResourceList(java.util.List.of(taskCountModel))).thenReturn(java.util.List.of(
+                new com.example.task_board_be.pojo.resource.BoardTaskCountResource(2L, taskCountModel.getTaskCountMap(),
+                        taskCountModel.getArchivedTaskCountMap())));
+
+        mvc.perform(get("/boards/task-counts").param("idList", "2,1,2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].boardId").value(2))
+                .andExpect(jsonPath("$[0].taskCountMap.TODO").value(12))
+                .andExpect(jsonPath("$[0].archivedTaskCountMap.DONE").value(0));
+    }
+
+    @Test
+    void testGetBoardTaskCountList_400_onMissingOrInvalidIds() throws Exception {
+        mvc.perform(get("/boards/task-counts"))
+                .andExpect(status().isBadRequest());
+        mvc.perform(get("/boards/task-counts").param("idList", "0"))
+                .andExpect(status().isBadRequest());
+
+        org.mockito.Mockito.verifyNoInteractions(service);
+    }
+
     @Test
     void testNoHandlerFound_404() throws Exception {
         mvc.perform(get("/boards/not/existing/path"))
@@ -0,0 +1,120 @@
+package com.example.task_board_be.controller.mvc;
+
+import com.example.task_board_be.controller.SyncController;
+import com.example.task_board_be.exception.GlobalExceptionHandler;
+import com.example.task_board_be.exception.custom.SyncExpiredException;
+import com.example.task_board_be.mapping.mapper.BoardMapper;
+import com.example.task_board_be.mapping.mapper.TaskMapper;
+import com.example.task_board_be.pojo.model.SyncModel;
+import com.example.task_board_be.pojo.model.SyncPosition;
+import com.example.task_board_be.pojo.projection.TaskView;
+import com.example.task_board_be.pojo.resource.TaskResource;
+import com.example.task_board_be.service.sync.SyncService;
+import com.example.task_board_be.utils.SyncTokenUtils;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = SyncController.class)
+@Import(GlobalExceptionHandler.class)
+@TestPropertySource(properties = {
+        "spring.mvc.throw-exception-if-no-handler-found=true",
+        "spring.web.resources.add-mappings=false"
+})
+class SyncControllerMvcTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @MockitoBean
+    private SyncService service;
+    @MockitoBean
+    private BoardMapper boardMapper;
+    @MockitoBean
+    private TaskMapper taskMapper;
+
+    @Test
+    void testGetChanges_tokenRoundTrip() throws Exception {
+        LocalDateTime since = LocalDateTime.of(2025, 8, 22, 11, 45);
+        LocalDateTime watermark = LocalDateTime.of(2025, 8, 22, 12, 0);
+        TaskView taskView = new TaskView(2L, "Task", null, null, null, 1L, since);
+        TaskResource taskResource = new TaskResource();
+        taskResource.setId(2L);
+        when(service.getChanges(SyncPosition.start(since), 500)).thenReturn(new SyncModel(
+                List.of(), List.of(), List.of(3L), List.of(taskView), List.of(), List.of(4L), watermark, null));
+        when(taskMapper.toResource(any(TaskView.class))).thenReturn(taskResource);
+
+        mvc.perform(get("/sync").param("since", SyncTokenUtils.encode(since)))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/json"))
+                .andExpect(jsonPath("$.taskList[0].id").value(2))
+                .andExpect(jsonPath("$.deletedBoardIdList[0]").value(3))
+                .andExpect(jsonPath("$.deletedTaskIdList[0]").value(4))
+                .andExpect(jsonPath("$.boardList").isEmpty())
+                .andExpect(jsonPath("$.hasMore").value(false))
+                .andExpect(jsonPath("$.nextToken").value(SyncTokenUtils.encode(watermark)));
+    }
+
+    @Test
+    void testGetChanges_hasMore_nextTokenContinuesPage() throws Exception {
+        LocalDateTime since = LocalDateTime.of(2025, 8, 22, 11, 45);
+        LocalDateTime watermark = LocalDateTime.of(2025, 8, 22, 12, 0);
+        SyncPosition next = new SyncPosition(since, watermark, 3, since.plusMinutes(1), 9L);
+        when(service.getChanges(SyncPosition.start(since), 2)).thenReturn(new SyncModel(
+                List.of(), List.of(), List.of(3L, 4L), List.of(), List.of(), List.of(), watermark, next));
+        when(service.getChanges(next, 2)).thenReturn(new SyncModel(
+                List.of(), List.of(), List.of(), List.of(), List.of(), List.of(), watermark, null));
+
+        String nextToken = SyncTokenUtils.encode(next);
+        mvc.perform(get("/sync").param("since", "2025-08-22T11:45:00").param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hasMore").value(true))
+                .andExpect(jsonPath("$.nextToken").value(nextToken));
+
+        mvc.perform(get("/sync").param("since", nextToken).param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hasMore").value(false))
+                .andExpect(jsonPath("$.nextToken").value(SyncTokenUtils.encode(watermark)));
+    }
+
+    @Test
+    void testGetChanges_sizeOutOfRange_400() throws Exception {
+        mvc.perform(get("/sync").param("since", "2025-08-22T11:45:00").param("size", "0"))
+                .andExpect(status().isBadRequest());
+        mvc.perform(get("/sync").param("since", "2025-08-22T11:45:00").param("size", "2001"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(service);
+    }
+
+    @Test
+    void testGetChanges_invalidSince_400() throws Exception {
+        mvc.perform(get("/sync").param("since", "yesterday"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(service);
+    }
+
+    @Test
+    void testGetChanges_expiredWatermark_410() throws Exception {
+        LocalDateTime since = LocalDateTime.of(2020, 1, 1, 0, 0);
+        when(service.getChanges(SyncPosition.start(since), 500)).thenThrow(new SyncExpiredException(since, LocalDateTime.of(2025, 1, 1, 0, 0)));
+
+        mvc.perform(get("/sync").param("since", "2020-01-01T00:00:00"))
+                .andExpect(status().isGone())
+                .andExpect(jsonPath("$.status").value(410));
+    }
+}
@@ -7,18 +7,38 @@ import com.example.task_board_be.exception.custom.StateMismatchException;
 import com.example.task_board_be.mapping.assembler.TaskAssembler;
 import com.example.task_board_be.mapping.mapper.TaskMapper;
 import com.example.task_board_be.pojo.model.TaskModel;
+import com.example.task_board_be.pojo.projection.EntityVersion;
+import com.example.task_board_be.pojo.projection.TaskView;
+import com.example.task_board_be.pojo.request.CreateTaskRequest;
+import com.example.task_board_be.pojo.resource.BulkCreateResource;
 import com.example.task_board_be.pojo.resource.TaskResource;
 import com.example.task_board_be.service.entity.TaskService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Window;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -46,13 +66,162 @@ class TasksControllerMvcTest {
     @Test
     void testGetTask_ok_http() throws Exception {
         when(service.getEl(1L, false)).thenReturn(new TaskModel());
-        when(mapper.toResource(any())).thenReturn(new TaskResource());
+        when(mapper.toResource(any(TaskModel.class))).thenReturn(new TaskResource());
 
         mvc.perform(get("/tasks/1?isArchived=false"))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType("application/json"));
     }
 
+    @Test
+    void testGetTask_etagHeader_thenNotModified() throws Exception {
+        EntityVersion version = new EntityVersion(LocalDateTime.of(2025, 1, 1, 10, 0));
+        when(service.getVersion(1L, false)).thenReturn(Optional.of(version));
+        when(service.getEl(1L, false)).thenReturn(new TaskModel());
+        when(mapper.toResource(any(TaskModel.class))).thenReturn(new TaskResource());
+
+        mvc.perform(get("/tasks/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", version.eTag()))
+                .andExpect(header().exists("Last-Modified"));
+
+        mvc.perform(get("/tasks/1").header("If-None-Match", version.eTag()))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        verify(service, times(1)).getEl(1L, false);
+    }
+
+    @Test
+    void testGetTaskCursorPage_lastPage_noNextCursor() throws Exception {
+        when(service.getWindow(any(), eq(7L), eq(false), any(), eq(5)))
+                .thenReturn(Window.from(List.of(new TaskView(1L, "Task", null, null, null, 1L, LocalDateTime.now())), i -> ScrollPosition.keyset(), false));
+        when(mapper.toResource(any(TaskView.class))).thenReturn(new TaskResource());
+
+        mvc.perform(get("/tasks?boardId=7&cursor=&size=5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size").value(1))
+                .andExpect(jsonPath("$.hasNext").value(false))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void testGetTaskSlice_withoutTotal() throws Exception {
+        when(service.getSlice(any(), eq(7L), eq(false), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(new TaskView(1L, "Task", null, null, null, 1L, LocalDateTime.now())), PageRequest.of(0, 5), false));
+        when(mapper.toResource(any(TaskView.class))).thenReturn(new TaskResource());
+
+        mvc.perform(get("/tasks?boardId=7&withTotal=false&size=5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size").value(1))
+                .andExpect(jsonPath("$.number").value(0))
+                .andExpect(jsonPath("$.hasNext").value(false))
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+    }
+
+    @Test
+    void testCreateTaskList_jsonArray_validatesPerItem() throws Exception {
+        when(assembler.assembleModel(any(CreateTaskRequest.class))).thenReturn(new TaskModel());
+        when(service.createList(anyList())).thenAnswer(inv -> inv.getArgument(0));
+
+        mvc.perform(post("/tasks/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"name\":\"A\",\"boardId\":1},{\"name\":\"B\"},{\"boardId\":\"x\"},{\"boardId\":2}]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.operation").value("CREATE_LIST"))
+                .andExpect(jsonPath("$.updatedRow").value(2))
+                .andExpect(jsonPath("$.failed").value(2))
+                .andExpect(jsonPath("$.errorList[0].index").value(1))
+                .andExpect(jsonPath("$.errorList[0].message").value(org.hamcrest.Matchers.startsWith("boardId:")))
+                .andExpect(jsonPath("$.errorList[1].index").value(2));
+
+        verify(service).createList(argThat(list -> list.size() == 2));
+    }
+
+    @Test
+    void testCreateTaskList_ndjson_ok() throws Exception {
+        when(assembler.assembleModel(any(CreateTaskRequest.class))).thenReturn(new TaskModel());
+        when(service.createList(anyList())).thenAnswer(inv -> inv.getArgument(0));
+
+        mvc.perform(post("/tasks/bulk")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("{\"name\":\"A\",\"boardId\":1}\n{\"name\":\"B\",\"boardId\":1}\n{\"boardId\":3}\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updatedRow").value(3))
+                .andExpect(jsonPath("$.failed").value(0));
+    }
+
+    @Test
+    void testCreateTaskList_chunkFails_fallsBackPerItem() throws Exception {
+        TaskModel ok = new TaskModel();
+        TaskModel missingBoard = new TaskModel();
+        when(assembler.assembleModel(any(CreateTaskRequest.class))).thenReturn(ok, missingBoard);
+        when(service.createList(anyList())).thenThrow(new NotFoundException("board", 9L));
+        when(service.create(ok)).thenReturn(ok);
+        when(service.create(missingBoard)).thenThrow(new NotFoundException("board", 9L));
+
+        mvc.perform(post("/tasks/bulk")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("{\"boardId\":1}\n{\"boardId\":9}\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updatedRow").value(1))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.errorList[0].index").value(1));
+    }
+
+    @Test
+    void testCreateTaskList_systemicFailure_noPerItemRetry() throws Exception {
+        when(assembler.assembleModel(any(CreateTaskRequest.class))).thenReturn(new TaskModel());
+        when(service.createList(anyList())).thenThrow(new CannotCreateTransactionException("connessione persa"));
+
+        mvc.perform(post("/tasks/bulk")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("{\"boardId\":1}\n{\"boardId\":2}\n"))
+                .andExpect(status().isInternalServerError());
+
+        verify(service, never()).create(any(TaskModel.class));
+    }
+
+    @Test
+    void testCreateTaskList_manyInvalidLines_errorListCapped() throws Exception {
+        String body = "{\"name\":\"A\"}\n".repeat(BulkCreateResource.MAX_ERROR_LIST_SIZE + 50);
+
+        mvc.perform(post("/tasks/bulk")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.failed").value(BulkCreateResource.MAX_ERROR_LIST_SIZE + 50))
+                .andExpect(jsonPath("$.errorList.length()").value(BulkCreateResource.MAX_ERROR_LIST_SIZE));
+    }
+
+    @Test
+    void testCreateTaskList_overMaxSize_stopsReading() throws Exception {
+        when(assembler.assembleModel(any(CreateTaskRequest.class))).thenReturn(new TaskModel());
+        when(service.createList(anyList())).thenAnswer(inv -> inv.getArgument(0));
+
+        mvc.perform(post("/tasks/bulk")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("{\"boardId\":1}\n".repeat(10005)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updatedRow").value(10000))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.errorList[0].index").value(10000));
+    }
+
+    @Test
+    void testCreateTaskList_malformedJson_stopsAndReports() throws Exception {
+        when(assembler.assembleModel(any(CreateTaskRequest.class))).thenReturn(new TaskModel());
+        when(service.createList(anyList())).thenAnswer(inv -> inv.getArgument(0));
+
+        mvc.perform(post("/tasks/bulk")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("{\"boardId\":1}\n{\"boardId\":\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updatedRow").value(1))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.errorList[0].index").value(1));
+    }
+
     @Test
     void testGetTask_notFound_maps404() throws Exception {
         when(service.getEl(123L, false)).thenThrow(new NotFoundException("Task", 123L));
@@ -63,11 +232,11 @@ class TasksControllerMvcTest {
     }
 
     @Test
-    void testArchiveTask_stateMismatch_maps500() throws Exception {
+    void testArchiveTask_stateMismatch_maps409() throws Exception {
         when(service.archiveEl(5L)).thenThrow(new StateMismatchException("Task", 5L, true));
 
         mvc.perform(delete("/tasks/archive/5"))
-                .andExpect(status().isInternalServerError())
+                .andExpect(status().isConflict())
                 .andExpect(content().contentType("application/json"));
     }
 
@@ -107,7 +276,7 @@ class TasksControllerMvcTest {
     @Test
     void testGetTaskPage_ok_http() throws Exception {
         var page = new org.springframework.data.domain.PageImpl<>(
-                java.util.List.of(new com.example.task_board_be.pojo.model.TaskModel()),
+                java.util.List.of(new com.example.task_board_be.pojo.projection.TaskView(1L, "Task", null, null, null, 1L, java.time.LocalDateTime.now())),
                 org.springframework.data.domain.PageRequest.of(0, 20),
                 1
         );
@@ -117,7 +286,7 @@ class TasksControllerMvcTest {
                 org.mockito.ArgumentMatchers.eq(false),
                 org.mockito.ArgumentMatchers.any(org.springframework.data.domain.Pageable.class)
         )).thenReturn(page);
-        org.mockito.Mockito.when(mapper.toResource(org.mockito.ArgumentMatchers.any()))
+        org.mockito.Mockito.when(mapper.toResource(org.mockito.ArgumentMatchers.any(com.example.task_board_be.pojo.projection.TaskView.class)))
                 .thenReturn(new com.example.task_board_be.pojo.resource.TaskResource());
 
         mvc.perform(get("/tasks?boardId=77&isArchived=false"))
@@ -139,7 +308,7 @@ class TasksControllerMvcTest {
         resource.setId(99L);
         org.mockito.Mockito.when(service.create(org.mockito.ArgumentMatchers.any()))
                 .thenReturn(new com.example.task_board_be.pojo.model.TaskModel());
-        org.mockito.Mockito.when(mapper.toResource(org.mockito.ArgumentMatchers.any()))
+        org.mockito.Mockito.when(mapper.toResource(org.mockito.ArgumentMatchers.any(com.example.task_board_be.pojo.model.TaskModel.class)))
                 .thenReturn(resource);
 
         mvc.perform(post("/tasks")
@@ -154,7 +323,7 @@ class TasksControllerMvcTest {
     void testUpdateTask_ok_http() throws Exception {
         org.mockito.Mockito.when(service.update(org.mockito.ArgumentMatchers.any()))
                 .thenReturn(new com.example.task_board_be.pojo.model.TaskModel());
-        org.mockito.Mockito.when(mapper.toResource(org.mockito.ArgumentMatchers.any()))
+        org.mockito.Mockito.when(mapper.toResource(org.mockito.ArgumentMatchers.any(com.example.task_board_be.pojo.model.TaskModel.class)))
                 .thenReturn(new com.example.task_board_be.pojo.resource.TaskResource());
 
         mvc.perform(put("/tasks/42")
@@ -168,7 +337,7 @@ class TasksControllerMvcTest {
     void testRestoreTask_ok_http() throws Exception {
         org.mockito.Mockito.when(service.restoreEl(5L))
                 .thenReturn(new com.example.task_board_be.pojo.model.TaskModel());
-        org.mockito.Mockito.when(mapper.toResource(org.mockito.ArgumentMatchers.any()))
+        org.mockito.Mockito.when(mapper.toResource(org.mockito.ArgumentMatchers.any(com.example.task_board_be.pojo.model.TaskModel.class)))
                 .thenReturn(new com.example.task_board_be.pojo.resource.TaskResource());
 
         mvc.perform(put("/tasks/restore/5"))
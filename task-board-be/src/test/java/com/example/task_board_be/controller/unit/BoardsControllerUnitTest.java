@@ -6,13 +6,18 @@ import com.example.task_board_be.exception.custom.NotFoundException;
 import com.example.task_board_be.mapping.assembler.BoardAssembler;
 import com.example.task_board_be.mapping.mapper.BoardMapper;
 import com.example.task_board_be.pojo.model.BoardModel;
+import com.example.task_board_be.pojo.model.BoardTaskCountModel;
+import com.example.task_board_be.pojo.projection.BoardView;
+import com.example.task_board_be.pojo.projection.EntityVersion;
 import com.example.task_board_be.pojo.request.CreateBoardRequest;
 import com.example.task_board_be.pojo.request.IdsRequest;
 import com.example.task_board_be.pojo.request.UpdateBoardRequest;
 import com.example.task_board_be.pojo.resource.BoardResource;
+import com.example.task_board_be.pojo.resource.BoardTaskCountResource;
 import com.example.task_board_be.pojo.resource.BulkResource;
 import com.example.task_board_be.pojo.resource.CascadeBulkResource;
 import com.example.task_board_be.service.entity.BoardService;
+import com.example.task_board_be.service.event.BoardEventService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -20,11 +25,16 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.*;
 import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.net.URI;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.eq;
@@ -41,10 +51,12 @@ class BoardsControllerUnitTest {
     private BoardAssembler assembler;
     @Mock
     private BoardService service;
+    @Mock
+    private BoardEventService eventService;
 
     @Test
-    void getBoardPage_mapsModelsToResources() {
-        var m = org.mockito.Mockito.mock(com.example.task_board_be.pojo.model.BoardModel.class);
+    void getBoardPage_mapsViewsToResources() {
+        var m = org.mockito.Mockito.mock(com.example.task_board_be.pojo.projection.BoardView.class);
         var r = org.mockito.Mockito.mock(com.example.task_board_be.pojo.resource.BoardResource.class);
         var p = org.springframework.data.domain.PageRequest.of(0, 20, org.springframework.data.domain.Sort.by("createdAt").descending());
         var page = new org.springframework.data.domain.PageImpl<>(java.util.List.of(m), p, 1);
@@ -77,10 +89,10 @@ class BoardsControllerUnitTest {
 
     @Test
     void testGetBoardPage_ok() {
-        BoardModel m = mock(BoardModel.class);
+        BoardView m = mock(BoardView.class);
         BoardResource r = mock(BoardResource.class);
         Pageable p = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt"));
-        Page<BoardModel> page = new PageImpl<>(List.of(m), p, 1);
+        Page<BoardView> page = new PageImpl<>(List.of(m), p, 1);
 
         when(service.getPage(null, false, p)).thenReturn(page);
         when(mapper.toResource(m)).thenReturn(r);
@@ -99,16 +111,82 @@ class BoardsControllerUnitTest {
         when(service.getEl(10L, false)).thenReturn(m);
         when(mapper.toResource(m)).thenReturn(r);
 
-        var resp = controller.getBoard(10L, false);
+        var resp = controller.getBoard(10L, false, new ServletWebRequest(new MockHttpServletRequest("GET", "/boards/10")));
 
         assertEquals(200, resp.getStatusCodeValue());
         assertSame(r, resp.getBody());
     }
 
+    @Test
+    void testGetBoard_notModified_skipsLoad() {
+        EntityVersion version = new EntityVersion(LocalDateTime.of(2025, 1, 1, 10, 0));
+        when(service.getVersion(10L, false)).thenReturn(Optional.of(version));
+        MockHttpServletRequest req = new MockHttpServletRequest("GET", "/boards/10");
+        req.addHeader("If-None-Match", version.eTag());
+
+        var resp = controller.getBoard(10L, false, new ServletWebRequest(req));
+
+        assertEquals(304, resp.getStatusCode().value());
+        assertNull(resp.getBody());
+        verify(service, never()).getEl(anyLong(), anyBoolean());
+        verifyNoInteractions(mapper);
+    }
+
+    @Test
+    void testGetBoard_staleETag_loads() {
+        EntityVersion version = new EntityVersion(LocalDateTime.of(2025, 1, 1, 10, 0));
+        BoardModel model = mock(BoardModel.class);
+        BoardResource res = mock(BoardResource.class);
+        when(service.getVersion(10L, false)).thenReturn(Optional.of(version));
+        when(service.getEl(10L, false)).thenReturn(model);
+        when(mapper.toResource(model)).thenReturn(res);
+        MockHttpServletRequest req = new MockHttpServletRequest("GET", "/boards/10");
+        req.addHeader("If-None-Match", "\"stale\"");
+        MockHttpServletResponse servletResp = new MockHttpServletResponse();
+
+        var resp = controller.getBoard(10L, false, new ServletWebRequest(req, servletResp));
+
+        assertEquals(200, resp.getStatusCode().value());
+        assertSame(res, resp.getBody());
+        assertEquals(version.eTag(), servletResp.getHeader("ETag"));
+    }
+
     @Test
     void testGetBoard_notFound_bubbles() {
         when(service.getEl(999L, false)).thenThrow(new NotFoundException("Board", 999L));
-        assertThrows(NotFoundException.class, () -> controller.getBoard(999L, false));
+        assertThrows(NotFoundException.class, () -> controller.getBoard(999L, false, new ServletWebRequest(new MockHttpServletRequest("GET", "/boards/999"))));
+    }
+
+    @Test
+    void testStreamBoardEvents_archivedBoard_subscribes() {
+        SseEmitter emitter = new SseEmitter();
+        when(service.getVersion(10L, false)).thenReturn(Optional.empty());
+        when(service.getVersion(10L, true)).thenReturn(Optional.of(new EntityVersion(LocalDateTime.of(2025, 1, 1, 10, 0))));
+        when(eventService.subscribe(10L, null)).thenReturn(emitter);
+
+        assertSame(emitter, controller.streamBoardEvents(10L, null));
+    }
+
+    @Test
+    void testStreamBoardEvents_notFound() {
+        when(service.getVersion(999L, false)).thenReturn(Optional.empty());
+        when(service.getVersion(999L, true)).thenReturn(Optional.empty());
+
+        assertThrows(NotFoundException.class, () -> controller.streamBoardEvents(999L, 5L));
+        verifyNoInteractions(eventService);
+    }
+
+    @Test
+    void testGetBoardTaskCountList_ok() {
+        List<BoardTaskCountModel> modelList = List.of(new BoardTaskCountModel(3L));
+        List<BoardTaskCountResource> resourceList = List.of(new BoardTaskCountResource());
+        when(service.getTaskCountList(List.of(3L, 4L))).thenReturn(modelList);
+        when(mapper.toTaskCountResourceList(modelList)).thenReturn(resourceList);
+
+        var resp = controller.getBoardTaskCountList(List.of(3L, 4L, 3L));
+
+        assertEquals(200, resp.getStatusCode().value());
+        assertSame(resourceList, resp.getBody());
     }
 
     @Test
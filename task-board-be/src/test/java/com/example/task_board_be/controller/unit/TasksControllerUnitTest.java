@@ -7,6 +7,8 @@ import com.example.task_board_be.exception.custom.StateMismatchException;
 import com.example.task_board_be.mapping.assembler.TaskAssembler;
 import com.example.task_board_be.mapping.mapper.TaskMapper;
 import com.example.task_board_be.pojo.model.TaskModel;
+import com.example.task_board_be.pojo.projection.EntityVersion;
+import com.example.task_board_be.pojo.projection.TaskView;
 import com.example.task_board_be.pojo.request.CreateTaskRequest;
 import com.example.task_board_be.pojo.request.IdsRequest;
 import com.example.task_board_be.pojo.request.UpdateTaskRequest;
@@ -20,11 +22,15 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.*;
 import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.net.URI;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -46,10 +52,10 @@ class TasksControllerUnitTest {
 
     @Test
     void testGetTaskPage_ok() {
-        TaskModel model = mock(TaskModel.class);
+        TaskView model = mock(TaskView.class);
         TaskResource res = mock(TaskResource.class);
         Pageable pageable = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt"));
-        Page<TaskModel> page = new PageImpl<>(List.of(model), pageable, 1);
+        Page<TaskView> page = new PageImpl<>(List.of(model), pageable, 1);
 
         when(service.getPage(null, 1L, false, pageable)).thenReturn(page);
         when(mapper.toResource(model)).thenReturn(res);
@@ -68,16 +74,50 @@ class TasksControllerUnitTest {
         when(service.getEl(10L, false)).thenReturn(model);
         when(mapper.toResource(model)).thenReturn(res);
 
-        var resp = controller.getTask(10L, false);
+        var resp = controller.getTask(10L, false, new ServletWebRequest(new MockHttpServletRequest("GET", "/tasks/10")));
 
         assertEquals(200, resp.getStatusCodeValue());
         assertSame(res, resp.getBody());
     }
 
+    @Test
+    void testGetTask_notModified_skipsLoad() {
+        EntityVersion version = new EntityVersion(LocalDateTime.of(2025, 1, 1, 10, 0));
+        when(service.getVersion(10L, false)).thenReturn(Optional.of(version));
+        MockHttpServletRequest req = new MockHttpServletRequest("GET", "/tasks/10");
+        req.addHeader("If-None-Match", version.eTag());
+
+        var resp = controller.getTask(10L, false, new ServletWebRequest(req));
+
+        assertEquals(304, resp.getStatusCode().value());
+        assertNull(resp.getBody());
+        verify(service, never()).getEl(anyLong(), anyBoolean());
+        verifyNoInteractions(mapper);
+    }
+
+    @Test
+    void testGetTask_staleETag_loads() {
+        EntityVersion version = new EntityVersion(LocalDateTime.of(2025, 1, 1, 10, 0));
+        TaskModel model = mock(TaskModel.class);
+        TaskResource res = mock(TaskResource.class);
+        when(service.getVersion(10L, false)).thenReturn(Optional.of(version));
+        when(service.getEl(10L, false)).thenReturn(model);
+        when(mapper.toResource(model)).thenReturn(res);
+        MockHttpServletRequest req = new MockHttpServletRequest("GET", "/tasks/10");
+        req.addHeader("If-None-Match", "\"stale\"");
+        MockHttpServletResponse servletResp = new MockHttpServletResponse();
+
+        var resp = controller.getTask(10L, false, new ServletWebRequest(req, servletResp));
+
+        assertEquals(200, resp.getStatusCode().value());
+        assertSame(res, resp.getBody());
+        assertEquals(version.eTag(), servletResp.getHeader("ETag"));
+    }
+
     @Test
     void testGetTask_notFound_bubbles() {
         when(service.getEl(999L, false)).thenThrow(new NotFoundException("Task", 999L));
-        assertThrows(NotFoundException.class, () -> controller.getTask(999L, false));
+        assertThrows(NotFoundException.class, () -> controller.getTask(999L, false, new ServletWebRequest(new MockHttpServletRequest("GET", "/tasks/999"))));
     }
 
     @Test
@@ -209,10 +249,10 @@ class TasksControllerUnitTest {
 
     @Test
     void testGetTaskPage_withFilter_ok() {
-        TaskModel model = mock(TaskModel.class);
+        TaskView model = mock(TaskView.class);
         TaskResource res = mock(TaskResource.class);
         Pageable pageable = PageRequest.of(1, 10, Sort.by(Sort.Direction.DESC, "createdAt"));
-        Page<TaskModel> page = new PageImpl<>(List.of(model), pageable, 11); // totale 11
+        Page<TaskView> page = new PageImpl<>(List.of(model), pageable, 11); // totale 11
 
         when(service.getPage("alpha", 2L, true, pageable)).thenReturn(page);
         when(mapper.toResource(model)).thenReturn(res);
@@ -1,6 +1,9 @@
 package com.example.task_board_be.exception;
 
 import com.example.task_board_be.exception.custom.NotFoundException;
+import com.example.task_board_be.exception.custom.OverloadedException;
+import com.example.task_board_be.exception.custom.StateMismatchException;
+import com.example.task_board_be.exception.custom.SyncExpiredException;
 import com.example.task_board_be.pojo.resource.ErrorResource;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolation;
@@ -22,6 +25,8 @@ import org.springframework.web.method.annotation.MethodArgumentTypeMismatchExcep
 import org.springframework.web.servlet.NoHandlerFoundException;
 
 import java.lang.reflect.Method;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -48,6 +53,41 @@ class GlobalExceptionHandlerTest {
         assertTrue(resp.getBody().getMessage().contains("board not found: id=1"));
     }
 
+    @Test
+    void testHandleStateMismatch_returns409() {
+        HttpServletRequest req = mockReq("DELETE", "/tasks/archive/5");
+        ResponseEntity<ErrorResource> resp = handler.handleStateMismatch(new StateMismatchException("task", 5L, false), req);
+        assertEquals(409, resp.getStatusCode().value());
+        assertEquals(409, resp.getBody().getStatus());
+        assertEquals("The 'task' with id 5 is not active", resp.getBody().getMessage());
+    }
+
+    @Test
+    void testDomainExceptions_noStackTrace() {
+        assertEquals(0, new NotFoundException("board", 1L).getStackTrace().length);
+        assertEquals(0, new StateMismatchException("board", 1L, true).getStackTrace().length);
+        assertEquals(0, new OverloadedException(Duration.ofSeconds(1)).getStackTrace().length);
+    }
+
+    @Test
+    void testHandleSyncExpired_returns410() {
+        HttpServletRequest req = mockReq("GET", "/sync");
+        SyncExpiredException ex = new SyncExpiredException(LocalDateTime.of(2020, 1, 1, 0, 0), LocalDateTime.of(2025, 1, 1, 0, 0));
+        ResponseEntity<ErrorResource> resp = handler.handleSyncExpired(ex, req);
+        assertEquals(410, resp.getStatusCode().value());
+        assertEquals(410, resp.getBody().getStatus());
+        assertTrue(resp.getBody().getMessage().contains("full resync required"));
+    }
+
+    @Test
+    void testHandleOverloaded_returns503WithRetryAfter() {
+        HttpServletRequest req = mockReq("GET", "/tasks");
+        ResponseEntity<ErrorResource> resp = handler.handleOverloaded(new OverloadedException(Duration.ofMillis(500)), req);
+        assertEquals(503, resp.getStatusCode().value());
+        assertEquals(503, resp.getBody().getStatus());
+        assertEquals("1", resp.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+    }
+
     @Test
     void testHandleBadRequest_returns400() {
         HttpServletRequest req = mockReq("POST", "/boards");
@@ -44,6 +44,20 @@ class TaskAssemblerTest {
         assertEquals(TaskIcon.BUG, out.getIcon());
     }
 
+    @Test
+    void testAssembleCreate_parsesAliases() {
+        CreateTaskRequest req = new CreateTaskRequest();
+        req.setName("Task C");
+        req.setDescription("x");
+        req.setStatus("In Progress");
+        req.setIcon("Docs");
+
+        TaskModel out = assembler.assembleModel(req);
+
+        assertEquals(TaskStatus.IN_PROGRESS, out.getStatus());
+        assertEquals(TaskIcon.DOCUMENTATION, out.getIcon());
+    }
+
     @Test
     void testAssembleCreate_invalidEnumsFallbackToNone() {
         CreateTaskRequest req = new CreateTaskRequest();
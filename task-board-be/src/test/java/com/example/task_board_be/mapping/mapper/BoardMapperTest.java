@@ -4,11 +4,13 @@ import com.example.task_board_be.pojo.entity.Board;
 import com.example.task_board_be.pojo.entity.Task;
 import com.example.task_board_be.pojo.model.BoardModel;
 import com.example.task_board_be.pojo.model.TaskModel;
+import com.example.task_board_be.pojo.projection.BoardView;
 import com.example.task_board_be.pojo.resource.BoardResource;
 import com.example.task_board_be.pojo.resource.TaskResource;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.ArrayList;
 import java.util.List;
@@ -82,6 +84,19 @@ class BoardMapperTest {
         assertEquals("T", r.getTaskResourceList().get(0).getName());
     }
 
+    @Test
+    void testToResource_fromView_emptyTaskList() {
+        BoardView v = new BoardView(5L, "B", "D", LocalDateTime.now());
+
+        BoardResource r = boardMapper.toResource(v);
+
+        assertEquals(5L, r.getId());
+        assertEquals("B", r.getName());
+        assertEquals("D", r.getDescription());
+        assertNotNull(r.getTaskResourceList());
+        assertTrue(r.getTaskResourceList().isEmpty());
+    }
+
     @Test
     void testToEntityList_nullEmptyAndValues() {
         assertTrue(boardMapper.toEntityList(null).isEmpty());
@@ -157,6 +172,20 @@ void testToModelWithCascade_mapsTasksFromEntity() {
 }
 
 
+    @Test
+    void testToModelWithCascade_givenTaskList_ignoresEntityCollection() {
+        Board b = new Board(9L, "BC", "DC");
+        b.addTaskList(new ArrayList<>(List.of(new Task(1L, "archived", null, null, null))));
+        TaskModel active = new TaskModel();
+        active.setName("active");
+
+        BoardModel m = boardMapper.toModelWithCascade(b, List.of(active));
+
+        assertEquals(9L, m.getId());
+        assertEquals("BC", m.getName());
+        assertEquals(List.of(active), m.getTaskModelList());
+    }
+
     @Test
     void testToResource_taskResourceMappingFields() {
         TaskModel tm = new TaskModel();
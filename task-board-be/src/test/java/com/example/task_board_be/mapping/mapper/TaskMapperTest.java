@@ -5,9 +5,11 @@ import com.example.task_board_be.enums.task.TaskStatus;
 import com.example.task_board_be.pojo.entity.Task;
 import com.example.task_board_be.pojo.model.BoardModel;
 import com.example.task_board_be.pojo.model.TaskModel;
+import com.example.task_board_be.pojo.projection.TaskView;
 import com.example.task_board_be.pojo.resource.TaskResource;
 import org.junit.jupiter.api.Test;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -87,6 +89,20 @@ class TaskMapperTest {
         assertEquals(99L, r.getBoardId());
     }
 
+    @Test
+    void testToResource_fromView_mapsAllFields() {
+        TaskView v = new TaskView(14L, "T", "D", TaskStatus.TODO, TaskIcon.NONE, 99L, LocalDateTime.now());
+
+        TaskResource r = mapper.toResource(v);
+
+        assertEquals(14L, r.getId());
+        assertEquals("T", r.getName());
+        assertEquals("D", r.getDescription());
+        assertEquals(TaskStatus.TODO, r.getStatus());
+        assertEquals(TaskIcon.NONE, r.getIcon());
+        assertEquals(99L, r.getBoardId());
+    }
+
     @Test
     void testToEntityList_nullAndEmpty() {
         List<Task> outNull = mapper.toEntityList(null);
@@ -0,0 +1,88 @@
+package com.example.task_board_be.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.repository.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MethodMetricsInterceptorTest {
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void testInvoke_service_timerPerMethodAndOutcome() {
+        FakeService service = proxy(new FakeService(), MethodMetricsInterceptor.SERVICE_METRIC);
+
+        service.find(1L);
+        service.find(2L);
+        assertThrows(IllegalArgumentException.class, () -> service.find(-1L));
+
+        Timer success = registry.get(MethodMetricsInterceptor.SERVICE_METRIC)
+                .tags("class", "FakeService", "method", "find", "outcome", "success").timer();
+        Timer error = registry.get(MethodMetricsInterceptor.SERVICE_METRIC)
+                .tags("class", "FakeService", "method", "find", "outcome", "error").timer();
+        assertEquals(2, success.count());
+        assertEquals(1, error.count());
+    }
+
+    @Test
+    void testInvoke_repository_interfaceNameAndBulkRows() {
+        ProxyFactory springDataLike = new ProxyFactory(new FakeRepositoryImpl());
+        springDataLike.addInterface(FakeRepository.class);
+        FakeRepository repository = proxy((FakeRepository) springDataLike.getProxy(), MethodMetricsInterceptor.REPOSITORY_METRIC);
+
+        repository.archiveByIds(List.of(1L, 2L, 3L));
+        repository.archiveByIds(List.of(4L));
+        repository.findIdList();
+
+        DistributionSummary rows = registry.get(MethodMetricsInterceptor.BULK_ROWS_METRIC)
+                .tags("class", "FakeRepository", "method", "archiveByIds").summary();
+        assertEquals(2, rows.count());
+        assertEquals(4, rows.totalAmount());
+        assertEquals(3, rows.max());
+
+        assertEquals(1, registry.get(MethodMetricsInterceptor.REPOSITORY_METRIC)
+                .tags("class", "FakeRepository", "method", "findIdList").timer().count());
+        assertNull(registry.find(MethodMetricsInterceptor.BULK_ROWS_METRIC).tags("method", "findIdList").summary());
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T proxy(T target, String metricName) {
+        ProxyFactory factory = new ProxyFactory(target);
+        factory.addAdvice(new MethodMetricsInterceptor(() -> registry, metricName));
+        return (T) factory.getProxy();
+    }
+
+    public static class FakeService {
+        public Long find(Long id) {
+            if (id < 0) throw new IllegalArgumentException("negative id");
+            return id;
+        }
+    }
+
+    public interface FakeRepository extends Repository<Object, Long> {
+        @Modifying
+        int archiveByIds(Collection<Long> ids);
+
+        List<Long> findIdList();
+    }
+
+    static class FakeRepositoryImpl implements FakeRepository {
+        @Override
+        public int archiveByIds(Collection<Long> ids) {
+            return ids.size();
+        }
+
+        @Override
+        public List<Long> findIdList() {
+            return List.of();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.task_board_be.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SqlTraceEndpointTest {
+
+    @Test
+    void testReport_slowestAndMostFrequent() {
+        SqlTraceRecorder recorder = new SqlTraceRecorder(16, 1.0);
+        SqlTraceEndpoint endpoint = new SqlTraceEndpoint(recorder);
+
+        recorder.record("select * from task where id = 1", 1_000_000, 1, "TaskServiceImpl.getEl");
+        recorder.record("select * from task where id = 2", 3_000_000, 1, "TaskServiceImpl.getEl");
+        recorder.record("select * from board", 9_000_000, 500, "BoardServiceImpl.getList");
+
+        SqlTraceEndpoint.SqlTraceReport report = endpoint.report(2);
+
+        assertEquals(3, report.buffered());
+        assertEquals(2, report.slowest().size());
+        assertEquals("select * from board", report.slowest().get(0).fingerprint());
+        assertEquals(9.0, report.slowest().get(0).durationMs());
+
+        SqlTraceEndpoint.FrequentStatement top = report.mostFrequent().get(0);
+        assertEquals("select * from task where id = ?", top.fingerprint());
+        assertEquals(2, top.count());
+        assertEquals(2.0, top.meanMs());
+        assertEquals(3.0, top.maxMs());
+        assertEquals(List.of("TaskServiceImpl.getEl"), top.callerList());
+
+        endpoint.clear();
+        assertEquals(0, endpoint.report(null).buffered());
+    }
+}
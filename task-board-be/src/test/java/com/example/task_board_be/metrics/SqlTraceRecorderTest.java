@@ -0,0 +1,59 @@
+package com.example.task_board_be.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SqlTraceRecorderTest {
+
+    @Test
+    void testFingerprint_collapsesWhitespaceAndLiterals() {
+        assertEquals("select * from task t where t.name = ? and t.id > ? limit ?",
+                SqlTraceRecorder.fingerprint("select *\n  from task t where t.name = 'it''s' and t.id > 42 limit 10"));
+    }
+
+    @Test
+    void testFingerprint_keepsIdentifiersWithDigits_collapsesInList() {
+        assertEquals("select t1_0.id from task t1_0 where t1_0.id in (?, ...)",
+                SqlTraceRecorder.fingerprint("select t1_0.id from task t1_0 where t1_0.id in (?,?, ?)"));
+        assertEquals(SqlTraceRecorder.fingerprint("delete from task where id in (1, 2)"),
+                SqlTraceRecorder.fingerprint("delete from task where id in (?,?,?,?)"));
+    }
+
+    @Test
+    void testRecord_ringBufferOverwritesOldest() {
+        SqlTraceRecorder recorder = new SqlTraceRecorder(4, 1.0);
+
+        for (int i = 0; i < 6; i++) recorder.record("select " + "x".repeat(i), i, i, "caller");
+
+        List<SqlTrace> traceList = recorder.snapshot();
+        assertEquals(4, recorder.capacity());
+        assertEquals(6, recorder.recorded());
+        assertEquals(4, traceList.size());
+        assertEquals(2, traceList.get(0).durationNanos());
+        assertEquals(5, traceList.get(3).durationNanos());
+
+        recorder.clear();
+        assertTrue(recorder.snapshot().isEmpty());
+    }
+
+    @Test
+    void testCapacity_roundedToPowerOfTwo() {
+        assertEquals(8, new SqlTraceRecorder(5, 1.0).capacity());
+        assertEquals(2048, new SqlTraceRecorder(2048, 1.0).capacity());
+    }
+
+    @Test
+    void testShouldSample_boundaries() {
+        assertTrue(new SqlTraceRecorder(4, 1.0).shouldSample());
+        assertFalse(new SqlTraceRecorder(4, 0.0).shouldSample());
+    }
+
+    @Test
+    void testCaller_outsideServices_firstApplicationFrame() {
+        assertEquals("SqlTraceRecorderTest.testCaller_outsideServices_firstApplicationFrame",
+                new SqlTraceRecorder(4, 1.0).caller());
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.task_board_be.metrics;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SqlTracingDataSourceTest {
+    private SqlTraceRecorder recorder;
+    private SqlTracingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:sqltrace" + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+
+        recorder = new SqlTraceRecorder(16, 1.0);
+        dataSource = new SqlTracingDataSource(h2, recorder);
+
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("create table item(id bigint primary key, name varchar(20))");
+        }
+        recorder.clear();
+    }
+
+    @Test
+    void testPreparedBatchAndQuery_recordsRowsAndFingerprint() throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            try (PreparedStatement insert = connection.prepareStatement("insert into item(id, name) values (?, ?)")) {
+                for (long id = 1; id <= 3; id++) {
+                    insert.setLong(1, id);
+                    insert.setString(2, "n" + id);
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+            }
+
+            try (PreparedStatement select = connection.prepareStatement("select id from item where id >= ?")) {
+                select.setLong(1, 2);
+                try (ResultSet rs = select.executeQuery()) {
+                    while (rs.next()) assertTrue(rs.getLong(1) >= 2);
+                }
+            }
+        }
+
+        List<SqlTrace> traceList = recorder.snapshot();
+        assertEquals(2, traceList.size());
+        assertEquals("insert into item(id, name) values (?, ...)", traceList.get(0).fingerprint());
+        assertEquals(3, traceList.get(0).rows());
+        assertEquals("select id from item where id >= ?", traceList.get(1).fingerprint());
+        assertEquals(2, traceList.get(1).rows());
+        assertEquals("SqlTracingDataSourceTest.testPreparedBatchAndQuery_recordsRowsAndFingerprint",
+                traceList.get(1).caller());
+    }
+
+    @Test
+    void testStatementUpdate_andQueryRecordedOnStatementClose() throws Exception {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.executeUpdate("insert into item(id, name) values (1, 'a')");
+            // ResultSet non chiuso esplicitamente: la traccia parte alla chiusura dello statement
+            ResultSet rs = statement.executeQuery("select * from item");
+            rs.next();
+        }
+
+        List<SqlTrace> traceList = recorder.snapshot();
+        assertEquals(2, traceList.size());
+        assertEquals("insert into item(id, name) values (?, ...)", traceList.get(0).fingerprint());
+        assertEquals(1, traceList.get(0).rows());
+        assertEquals(1, traceList.get(1).rows());
+    }
+
+    @Test
+    void testNotSampled_statementNotWrapped() throws Exception {
+        SqlTracingDataSource unsampled = new SqlTracingDataSource(dataSource.getTargetDataSource(),
+                new SqlTraceRecorder(16, 0.0));
+
+        try (Connection connection = unsampled.getConnection();
+             PreparedStatement select = connection.prepareStatement("select 1")) {
+            assertFalse(Proxy.isProxyClass(select.getClass()));
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.task_board_be.pojo.resource;
+
+import com.example.task_board_be.enums.BulkOperation;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulkCreateResourceTest {
+
+    @Test
+    void testNoArgs_defaultsToCreateList() {
+        BulkCreateResource r = new BulkCreateResource();
+
+        assertEquals(BulkOperation.CREATE_LIST, r.getOperation());
+        assertEquals(0, r.getUpdatedRow());
+        assertEquals(0, r.getFailed());
+        assertTrue(r.getErrorList().isEmpty());
+        assertNotNull(r.toString());
+    }
+
+    @Test
+    void testAddCreated_addError_accumulate() {
+        BulkCreateResource r = new BulkCreateResource();
+        r.addCreated(500);
+        r.addCreated(3);
+        r.addError(7, "boardId: obbligatorio");
+
+        assertEquals(503, r.getUpdatedRow());
+        assertEquals(1, r.getFailed());
+        assertEquals(7, r.getErrorList().get(0).getIndex());
+        assertEquals("boardId: obbligatorio", r.getErrorList().get(0).getMessage());
+    }
+
+    @Test
+    void testAddError_overCap_countsButDoesNotList() {
+        BulkCreateResource r = new BulkCreateResource();
+        for (int i = 0; i < BulkCreateResource.MAX_ERROR_LIST_SIZE + 5; i++) r.addError(i, "x");
+
+        assertEquals(BulkCreateResource.MAX_ERROR_LIST_SIZE + 5, r.getFailed());
+        assertEquals(BulkCreateResource.MAX_ERROR_LIST_SIZE, r.getErrorList().size());
+    }
+}
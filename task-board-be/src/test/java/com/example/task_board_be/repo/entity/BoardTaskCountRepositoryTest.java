@@ -0,0 +1,180 @@
+package com.example.task_board_be.repo.entity;
+
+import com.example.task_board_be.enums.task.TaskStatus;
+import com.example.task_board_be.pojo.entity.Board;
+import com.example.task_board_be.pojo.entity.BoardTaskCount;
+import com.example.task_board_be.pojo.entity.Task;
+import com.example.task_board_be.pojo.projection.LockedTask;
+import com.example.task_board_be.pojo.projection.TaskCount;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/// Contatori spostati dalle task bloccate con gli stessi filtri degli update/delete e confrontati col conteggio reale su H2
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+class BoardTaskCountRepositoryTest {
+
+    @Autowired
+    private BoardTaskCountRepository repo;
+    @Autowired
+    private BoardRepository boardRepo;
+    @Autowired
+    private TaskRepository taskRepo;
+    @Autowired
+    private EntityManager em;
+
+    @Test
+    void testInsertMissing_onlyGivenBoards_andIdempotent() {
+        Board board = boardRepo.save(new Board("Board", null));
+        Board other = boardRepo.save(new Board("Other", null));
+
+        seed(board);
+        seed(board);
+
+        assertEquals(TaskStatus.values().length * 2, repo.findByBoardIds(List.of(board.getId(), other.getId())).size());
+        assertTrue(repo.findByBoardIds(List.of(board.getId())).stream().allMatch(c -> c.getTaskCount() == 0));
+    }
+
+    @Test
+    void testAddByKey_touchesOnlyTheGivenRow() {
+        Board board = seededBoard("Board");
+        Board other = seededBoard("Other");
+
+        assertEquals(1, repo.addByKey(board.getId(), TaskStatus.TODO, false, 3));
+        assertEquals(1, repo.addByKey(board.getId(), TaskStatus.TODO, false, -1));
+
+        assertEquals(2, count(board, TaskStatus.TODO, false));
+        assertEquals(0, count(board, TaskStatus.TODO, true));
+        assertEquals(0, count(other, TaskStatus.TODO, false));
+    }
+
+    @Test
+    void testFindForUpdate_deltasMatchArchiveAndRestore() {
+        Board board = seededBoard("Board");
+        Board other = seededBoard("Other");
+        Task first = saveTask(board, TaskStatus.TODO);
+        Task second = saveTask(board, TaskStatus.TODO);
+        Task third = saveTask(other, TaskStatus.IN_PROGRESS);
+        repo.reconcile();
+
+        List<LockedTask> lockedList = taskRepo.findForUpdate(List.of(third.getId(), first.getId()), false);
+        move(lockedList, false);
+        taskRepo.archiveByIds(lockedList.stream().map(LockedTask::taskId).toList());
+
+        assertEquals(List.of(first.getId(), third.getId()), lockedList.stream().map(LockedTask::taskId).toList());
+        assertEquals(new LockedTask(third.getId(), other.getId(), TaskStatus.IN_PROGRESS), lockedList.get(1));
+        // già archiviata: non torna più, quindi nessun delta ripetuto
+        assertEquals(List.of(), taskRepo.findForUpdate(List.of(first.getId()), false));
+
+        assertEquals(1, count(board, TaskStatus.TODO, false));
+        assertEquals(1, count(board, TaskStatus.TODO, true));
+        assertEquals(1, count(other, TaskStatus.IN_PROGRESS, true));
+
+        lockedList = taskRepo.findForUpdate(List.of(third.getId(), second.getId()), true);
+        move(lockedList, true);
+        taskRepo.restoreByIds(lockedList.stream().map(LockedTask::taskId).toList());
+
+        assertEquals(1, count(other, TaskStatus.IN_PROGRESS, false));
+        assertEquals(0, repo.reconcile());
+    }
+
+    @Test
+    void testCountArchived_matchCascadeRestores() {
+        Board active = seededBoard("Active");
+        Board archivedBoard = seededBoard("Archived");
+        Task first = saveTask(active, TaskStatus.DONE);
+        Task second = saveTask(active, TaskStatus.DONE);
+        Task third = saveTask(archivedBoard, TaskStatus.BLOCKED);
+        taskRepo.archiveByIds(List.of(first.getId(), second.getId(), third.getId()));
+        boardRepo.archiveByIds(List.of(archivedBoard.getId()));
+        repo.reconcile();
+
+        List<TaskCount> countList = taskRepo.countArchivedOfActiveBoards();
+        moveGrouped(countList, true);
+
+        assertEquals(List.of(new TaskCount(active.getId(), TaskStatus.DONE, 2)), countList);
+        assertEquals(2, taskRepo.restoreOfActiveBoards());
+        assertEquals(2, count(active, TaskStatus.DONE, false));
+        assertEquals(0, count(active, TaskStatus.DONE, true));
+        assertEquals(1, count(archivedBoard, TaskStatus.BLOCKED, true));
+
+        countList = taskRepo.countArchivedByBoardIds(List.of(archivedBoard.getId()));
+        moveGrouped(countList, true);
+
+        assertEquals(1, taskRepo.restoreByBoardIds(List.of(archivedBoard.getId())));
+        assertEquals(1, count(archivedBoard, TaskStatus.BLOCKED, false));
+        assertEquals(0, repo.reconcile());
+    }
+
+    @Test
+    void testDeleteOfArchivedBoards_sameFilterAsBoardDelete() {
+        Board active = seededBoard("Active");
+        Board archived = seededBoard("Archived");
+        boardRepo.archiveByIds(List.of(archived.getId()));
+
+        assertEquals(TaskStatus.values().length * 2, repo.deleteOfArchivedBoards(List.of(active.getId(), archived.getId())));
+        assertEquals(List.of(active.getId()),
+                repo.findByBoardIds(List.of(active.getId(), archived.getId())).stream()
+                        .map(BoardTaskCount::getBoardId).distinct().toList());
+        assertEquals(0, repo.deleteOfAllArchivedBoards());
+    }
+
+    @Test
+    void testReconcile_fixesOnlyDriftedRows() {
+        Board board = seededBoard("Board");
+        saveTask(board, TaskStatus.TODO);
+        saveTask(board, TaskStatus.TODO);
+        em.flush();
+
+        assertEquals(1, repo.reconcile());
+        assertEquals(2, count(board, TaskStatus.TODO, false));
+        assertEquals(0, repo.reconcile());
+    }
+
+    private Board seededBoard(String name) {
+        Board board = boardRepo.save(new Board(name, null));
+        seed(board);
+        return board;
+    }
+
+    private void seed(Board board) {
+        for (TaskStatus status : TaskStatus.values()) {
+            repo.insertMissing(List.of(board.getId()), status, false);
+            repo.insertMissing(List.of(board.getId()), status, true);
+        }
+    }
+
+    /// Come il service: -1 nello stato di partenza e +1 nell'altro per ogni task bloccata
+    private void move(List<LockedTask> lockedList, boolean isArchived) {
+        for (LockedTask locked : lockedList) {
+            repo.addByKey(locked.boardId(), locked.status(), isArchived, -1);
+            repo.addByKey(locked.boardId(), locked.status(), !isArchived, 1);
+        }
+    }
+
+    private void moveGrouped(List<TaskCount> countList, boolean isArchived) {
+        for (TaskCount count : countList) {
+            repo.addByKey(count.boardId(), count.status(), isArchived, -count.taskCount());
+            repo.addByKey(count.boardId(), count.status(), !isArchived, count.taskCount());
+        }
+    }
+
+    private Task saveTask(Board board, TaskStatus status) {
+        Task task = new Task("Task", null, status, null);
+        task.setBoard(board);
+        return taskRepo.save(task);
+    }
+
+    private long count(Board board, TaskStatus status, boolean isArchived) {
+        em.flush();
+        em.clear();
+        return repo.findById(new BoardTaskCount.Key(board.getId(), status, isArchived))
+                .map(BoardTaskCount::getTaskCount)
+                .orElseThrow();
+    }
+}
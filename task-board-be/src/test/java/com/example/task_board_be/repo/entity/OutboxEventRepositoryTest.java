@@ -0,0 +1,113 @@
+package com.example.task_board_be.repo.entity;
+
+import com.example.task_board_be.enums.OutboxEventType;
+import com.example.task_board_be.pojo.entity.Board;
+import com.example.task_board_be.pojo.entity.OutboxEvent;
+import com.example.task_board_be.pojo.entity.Task;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/// Eventi dell'outbox scritti in insert-select con lo stesso filtro degli update/delete massivi, letti in ordine di id su H2
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+class OutboxEventRepositoryTest {
+
+    @Autowired
+    private OutboxEventRepository repo;
+    @Autowired
+    private BoardRepository boardRepo;
+    @Autowired
+    private TaskRepository taskRepo;
+    @Autowired
+    private EntityManager em;
+
+    @Test
+    void testInsertOutboxEvents_onlyRowsInStartingState() {
+        Board board = boardRepo.save(new Board("Board", null));
+        Task archived = saveTask(board, "Archived");
+        Task active = saveTask(board, "Active");
+        em.flush();
+        taskRepo.archiveByIds(List.of(archived.getId()));
+
+        List<Long> idList = List.of(archived.getId(), active.getId());
+        int inserted = taskRepo.insertOutboxEvents(idList, false, OutboxEventType.ARCHIVED);
+        int updated = taskRepo.archiveByIds(idList);
+
+        assertEquals(1, inserted);
+        assertEquals(updated, inserted);
+        OutboxEvent event = repo.findBatchAfter(0L, Limit.of(10)).get(0);
+        assertEquals("Task", event.getEntityName());
+        assertEquals(active.getId(), event.getEntityId());
+        assertEquals(OutboxEventType.ARCHIVED, event.getType());
+        assertNotNull(event.getCreatedAt());
+    }
+
+    @Test
+    void testInsertOutboxEvents_seesEntitiesSavedInTheSameTransaction() {
+        Board board = boardRepo.save(new Board("Board", null));
+
+        assertEquals(1, boardRepo.insertOutboxEvents(List.of(board.getId()), false, OutboxEventType.CREATED));
+        assertEquals(List.of(board.getId()),
+                repo.findBatchAfter(0L, Limit.of(10)).stream().map(OutboxEvent::getEntityId).toList());
+    }
+
+    @Test
+    void testInsertOutboxEventsByState_matchesBulkUpdate() {
+        boardRepo.save(new Board("First", null));
+        boardRepo.save(new Board("Second", null));
+        Board archived = boardRepo.save(new Board("Archived", null));
+        em.flush();
+        boardRepo.archiveByIds(List.of(archived.getId()));
+
+        int inserted = boardRepo.insertOutboxEventsByState(false, OutboxEventType.ARCHIVED);
+        int updated = boardRepo.archiveAllActive();
+
+        assertEquals(2, inserted);
+        assertEquals(updated, inserted);
+    }
+
+    @Test
+    void testFindBatchAfter_orderedByIdAndLimited_thenDeleted() {
+        Board board = boardRepo.save(new Board("Board", null));
+        List<Long> taskIdList = List.of(saveTask(board, "A").getId(), saveTask(board, "B").getId(), saveTask(board, "C").getId());
+        taskRepo.insertOutboxEvents(taskIdList, false, OutboxEventType.CREATED);
+        taskRepo.insertOutboxEvents(taskIdList.subList(0, 1), false, OutboxEventType.UPDATED);
+
+        List<OutboxEvent> batch = repo.findBatchAfter(0L, Limit.of(3));
+
+        assertEquals(3, batch.size());
+        assertTrue(batch.get(0).getId() < batch.get(1).getId() && batch.get(1).getId() < batch.get(2).getId());
+        assertEquals(3, repo.deleteByIds(batch.stream().map(OutboxEvent::getId).toList()));
+
+        List<OutboxEvent> rest = repo.findBatchAfter(0L, Limit.of(3));
+        assertEquals(1, rest.size());
+        assertEquals(OutboxEventType.UPDATED, rest.get(0).getType());
+        assertEquals(rest.get(0).getId(), repo.findMinId());
+        assertEquals(List.of(), repo.findBatchAfter(rest.get(0).getId(), Limit.of(3)));
+    }
+
+    @Test
+    void testFindLateUpTo_onlyRowsAtOrBelowWatermark() {
+        Board board = boardRepo.save(new Board("Board", null));
+        List<Long> taskIdList = List.of(saveTask(board, "A").getId(), saveTask(board, "B").getId(), saveTask(board, "C").getId());
+        taskRepo.insertOutboxEvents(taskIdList, false, OutboxEventType.CREATED);
+        List<Long> eventIdList = repo.findBatchAfter(0L, Limit.of(3)).stream().map(OutboxEvent::getId).toList();
+
+        List<OutboxEvent> late = repo.findLateUpTo(eventIdList.get(1), Limit.of(10));
+
+        assertEquals(eventIdList.subList(0, 2), late.stream().map(OutboxEvent::getId).toList());
+        assertEquals(List.of(), repo.findLateUpTo(eventIdList.get(0) - 1, Limit.of(10)));
+    }
+
+    private Task saveTask(Board board, String name) {
+        Task task = new Task(name, null, null, null);
+        task.setBoard(board);
+        return taskRepo.save(task);
+    }
+}
@@ -0,0 +1,242 @@
+package com.example.task_board_be.repo.entity;
+
+import com.example.task_board_be.pojo.entity.Board;
+import com.example.task_board_be.pojo.entity.Task;
+import com.example.task_board_be.pojo.projection.EntityVersion;
+import com.example.task_board_be.pojo.projection.TaskView;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.example.task_board_be.repo.spec.TaskSpecifications.filterTasksOfBoard;
+import static org.junit.jupiter.api.Assertions.*;
+
+/// Restore a cascata su H2: numero di statement e tempi al crescere delle board,
+/// confrontati con il vecchio giro per board (lista task archiviate + restore per id);
+/// liste e probe di versione in proiezione senza entità caricate
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class TaskRepositoryTest {
+    private static final int TASKS_PER_BOARD = 3;
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    @Autowired
+    private BoardRepository boardRepo;
+    @Autowired
+    private TaskRepository repo;
+    @Autowired
+    private EntityManager em;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 100, 500})
+    void testRestoreByBoardIds_constantStatementCount(int boardCount) {
+        List<Long> boardIdList = seedArchivedBoards(boardCount);
+
+        statistics.clear();
+        long start = System.nanoTime();
+
+        boardRepo.restoreByIds(boardIdList);
+        int restoredTasks = repo.restoreByBoardIds(boardIdList);
+
+        long setBasedMicros = (System.nanoTime() - start) / 1_000;
+        long setBasedStatements = statistics.getPrepareStatementCount();
+
+        assertEquals(boardCount * TASKS_PER_BOARD, restoredTasks);
+        assertEquals(2, setBasedStatements);
+
+        boardRepo.archiveByIds(boardIdList);
+        repo.archiveAllActive();
+
+        statistics.clear();
+        start = System.nanoTime();
+
+        boardRepo.restoreByIds(boardIdList);
+        List<Long> taskIdList = boardIdList.stream()
+                .flatMap(boardId -> repo.findAll(filterTasksOfBoard(boardId, null, true)).stream())
+                .map(Task::getId)
+                .toList();
+        repo.restoreByIds(taskIdList);
+
+        long perBoardMicros = (System.nanoTime() - start) / 1_000;
+        long perBoardStatements = statistics.getPrepareStatementCount();
+
+        assertEquals(boardCount + 2, perBoardStatements);
+
+        logger.info("boards->{} ; set-based->{} statements / {}us ; per-board->{} statements / {}us",
+                boardCount, setBasedStatements, setBasedMicros, perBoardStatements, perBoardMicros);
+    }
+
+    @Test
+    void testRestoreOfActiveBoards_skipsTasksOfArchivedBoards() {
+        List<Long> boardIdList = seedArchivedBoards(2);
+        boardRepo.restoreByIds(List.of(boardIdList.get(0)));
+
+        statistics.clear();
+        int restoredTasks = repo.restoreOfActiveBoards();
+
+        assertEquals(TASKS_PER_BOARD, restoredTasks);
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(TASKS_PER_BOARD, repo.findAll(filterTasksOfBoard(boardIdList.get(1), null, true)).size());
+    }
+
+    @Test
+    void testInsertAll_batchesInsertsAndPoolsIds() {
+        Board board = boardRepo.save(new Board("Board", null));
+        em.flush();
+
+        List<Task> taskList = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            Task task = new Task("Task " + i, null, null, null);
+            task.setBoard(board);
+            taskList.add(task);
+        }
+
+        statistics.clear();
+        repo.insertAll(taskList);
+
+        assertEquals(120, statistics.getEntityInsertCount());
+        // 3 batch da 50/50/20 + 3 nextval sulla sequenza (blocchi da 50 id)
+        assertTrue(statistics.getPrepareStatementCount() <= 6,
+                "statements->" + statistics.getPrepareStatementCount());
+        assertTrue(taskList.stream().allMatch(task -> task.getId() != null));
+        assertFalse(em.contains(taskList.get(0)));
+        assertEquals(120, repo.count(filterTasksOfBoard(board.getId(), null, false)));
+    }
+
+    @Test
+    void testFindViewSlice_noEntityHydration() {
+        Board board = seedBoard(25);
+
+        statistics.clear();
+        Pageable p = PageRequest.of(1, 10, Sort.by(Sort.Direction.DESC, "createdAt"));
+        Slice<TaskView> viewSlice = repo.findViewSlice(filterTasksOfBoard(board.getId(), null, false), p);
+
+        assertEquals(10, viewSlice.getNumberOfElements());
+        assertTrue(viewSlice.hasNext());
+        assertEquals(board.getId(), viewSlice.getContent().get(0).boardId());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(1, statistics.getPrepareStatementCount());
+
+        statistics.clear();
+        repo.findBy(filterTasksOfBoard(board.getId(), null, false), q -> q.slice(p));
+
+        logger.info("page of 10 -> entity slice loads {} entities, view slice loads 0",
+                statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void testFindViewWindow_keysetWalksAllRows() {
+        Board board = seedBoard(25);
+        Specification<Task> spec = filterTasksOfBoard(board.getId(), null, false);
+
+        statistics.clear();
+        List<Long> idList = new ArrayList<>();
+        Window<TaskView> viewWindow = repo.findViewWindow(spec, ScrollPosition.keyset(), 10);
+        viewWindow.forEach(view -> idList.add(view.id()));
+
+        while (viewWindow.hasNext()) {
+            KeysetScrollPosition next = (KeysetScrollPosition) viewWindow.positionAt(viewWindow.size() - 1);
+            viewWindow = repo.findViewWindow(spec, next, 10);
+            viewWindow.forEach(view -> idList.add(view.id()));
+        }
+
+        assertEquals(25, idList.size());
+        assertEquals(25, idList.stream().distinct().count());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void testFindVersion_tracksActiveTasksWithoutHydration() {
+        Board board = seedBoard(3);
+        Long taskId = repo.findAll(filterTasksOfBoard(board.getId(), null, false)).get(0).getId();
+        em.clear();
+
+        statistics.clear();
+        EntityVersion before = boardRepo.findVersion(board.getId(), false).orElseThrow();
+        EntityVersion taskBefore = repo.findVersion(taskId, false).orElseThrow();
+
+        assertEquals(3L, before.childCount());
+        assertNotNull(before.childUpdatedAt());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(2, statistics.getPrepareStatementCount());
+
+        // l'update massivo non passa da @UpdateTimestamp: updatedAt deve cambiare comunque
+        repo.archiveByIds(List.of(taskId));
+        em.clear();
+
+        EntityVersion after = boardRepo.findVersion(board.getId(), false).orElseThrow();
+        EntityVersion taskAfter = repo.findVersion(taskId, true).orElseThrow();
+
+        assertEquals(2L, after.childCount());
+        assertNotEquals(before.eTag(), after.eTag());
+        assertFalse(taskAfter.updatedAt().isBefore(taskBefore.updatedAt()));
+        assertTrue(repo.findVersion(taskId, false).isEmpty());
+        assertTrue(boardRepo.findVersion(board.getId(), true).isEmpty());
+    }
+
+    private Board seedBoard(int taskCount) {
+        Board board = boardRepo.save(new Board("Board", null));
+
+        for (int i = 0; i < taskCount; i++) {
+            Task task = new Task("Task " + i, null, null, null);
+            task.setBoard(board);
+            repo.save(task);
+        }
+
+        em.flush();
+        em.clear();
+
+        return board;
+    }
+
+    private List<Long> seedArchivedBoards(int boardCount) {
+        List<Long> boardIdList = new ArrayList<>();
+
+        for (int i = 0; i < boardCount; i++) {
+            Board board = boardRepo.save(new Board("Board " + i, null));
+
+            for (int j = 0; j < TASKS_PER_BOARD; j++) {
+                Task task = new Task("Task " + j, null, null, null);
+                task.setBoard(board);
+                repo.save(task);
+            }
+
+            boardIdList.add(board.getId());
+        }
+
+        em.flush();
+        boardRepo.archiveAllActive();
+        repo.archiveAllActive();
+
+        return boardIdList;
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.task_board_be.repo.entity;
+
+import com.example.task_board_be.pojo.entity.Board;
+import com.example.task_board_be.pojo.entity.Task;
+import com.example.task_board_be.pojo.entity.Tombstone;
+import com.example.task_board_be.pojo.projection.TaskChange;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/// Tombstone scritte in insert-select prima dei delete massivi e righe cambiate per la sync delta su H2
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+class TombstoneRepositoryTest {
+
+    @Autowired
+    private TombstoneRepository repo;
+    @Autowired
+    private BoardRepository boardRepo;
+    @Autowired
+    private TaskRepository taskRepo;
+    @Autowired
+    private EntityManager em;
+
+    @Test
+    void testInsertTombstonesIfArchived_onlyArchivedRows() {
+        Board board = boardRepo.save(new Board("Board", null));
+        Task archived = saveTask(board, "Archived");
+        Task active = saveTask(board, "Active");
+        em.flush();
+        taskRepo.archiveByIds(List.of(archived.getId()));
+
+        LocalDateTime before = LocalDateTime.now().minusMinutes(1);
+        List<Long> idList = List.of(archived.getId(), active.getId());
+        int inserted = taskRepo.insertTombstonesIfArchived(idList);
+        int deleted = taskRepo.deleteByIdsIfArchived(idList);
+
+        assertEquals(1, inserted);
+        assertEquals(1, deleted);
+        assertEquals(List.of(archived.getId()), deletedIds("Task", before));
+        assertTrue(deletedIds("Board", before).isEmpty());
+    }
+
+    @Test
+    void testInsertTombstonesOfArchived_matchesDeleteAll() {
+        Board first = boardRepo.save(new Board("First", null));
+        Board second = boardRepo.save(new Board("Second", null));
+        boardRepo.save(new Board("Active", null));
+        em.flush();
+        boardRepo.archiveByIds(List.of(first.getId(), second.getId()));
+
+        LocalDateTime before = LocalDateTime.now().minusMinutes(1);
+        int inserted = boardRepo.insertTombstonesOfArchived();
+        int deleted = boardRepo.deleteAllByIsArchivedTrue();
+
+        assertEquals(deleted, inserted);
+        assertEquals(List.of(first.getId(), second.getId()).stream().sorted().toList(),
+                deletedIds("Board", before).stream().sorted().toList());
+    }
+
+    @Test
+    void testDeleteDeletedBefore_keepsRecentTombstones() {
+        LocalDateTime now = LocalDateTime.now();
+        repo.save(new Tombstone("Task", 1L, now.minusDays(40)));
+        repo.save(new Tombstone("Task", 2L, now.minusDays(1)));
+        em.flush();
+
+        assertEquals(1, repo.deleteDeletedBefore(now.minusDays(30)));
+        assertEquals(List.of(2L), deletedIds("Task", now.minusDays(60)));
+    }
+
+    @Test
+    void testFindChangesAfter_splitsByArchiveState() {
+        Board board = boardRepo.save(new Board("Board", null));
+        Task old = saveTask(board, "Old");
+        em.flush();
+        em.createQuery("update Task t set t.updatedAt = :old where t.id = :id")
+                .setParameter("old", LocalDateTime.now().minusDays(1))
+                .setParameter("id", old.getId())
+                .executeUpdate();
+
+        LocalDateTime since = LocalDateTime.now().minusMinutes(1);
+        LocalDateTime until = LocalDateTime.now().plusMinutes(1);
+        Task changed = saveTask(board, "Changed");
+        Task archived = saveTask(board, "Archived");
+        em.flush();
+        taskRepo.archiveByIds(List.of(archived.getId()));
+
+        List<TaskChange> activeList = taskRepo.findChangesAfter(since, Long.MAX_VALUE, until, false, Limit.unlimited());
+        List<TaskChange> archivedList = taskRepo.findChangesAfter(since, Long.MAX_VALUE, until, true, Limit.unlimited());
+
+        assertEquals(List.of(changed.getId()), activeList.stream().map(TaskChange::id).toList());
+        assertEquals(board.getId(), activeList.get(0).boardId());
+        assertEquals(List.of(archived.getId()), archivedList.stream().map(TaskChange::id).toList());
+        assertEquals(1, boardRepo.findChangesAfter(since, Long.MAX_VALUE, until, false, Limit.unlimited()).size());
+        assertTrue(taskRepo.findChangesAfter(since, Long.MAX_VALUE, since, false, Limit.unlimited()).isEmpty());
+    }
+
+    @Test
+    void testFindChangesAfter_keysetResumesOnSameTimestamp() {
+        Board board = boardRepo.save(new Board("Board", null));
+        List<Long> idList = List.of(saveTask(board, "A").getId(), saveTask(board, "B").getId(),
+                saveTask(board, "C").getId());
+        em.flush();
+        LocalDateTime changedAt = LocalDateTime.now().withNano(0);
+        em.createQuery("update Task t set t.updatedAt = :changedAt")
+                .setParameter("changedAt", changedAt)
+                .executeUpdate();
+
+        LocalDateTime since = changedAt.minusMinutes(1);
+        LocalDateTime until = changedAt.plusMinutes(1);
+        List<TaskChange> firstPage = taskRepo.findChangesAfter(since, Long.MAX_VALUE, until, false, Limit.of(2));
+        TaskChange last = firstPage.get(firstPage.size() - 1);
+        List<TaskChange> secondPage = taskRepo.findChangesAfter(last.updatedAt(), last.id(), until, false, Limit.of(2));
+
+        assertEquals(idList.subList(0, 2), firstPage.stream().map(TaskChange::id).toList());
+        assertEquals(idList.subList(2, 3), secondPage.stream().map(TaskChange::id).toList());
+    }
+
+    @Test
+    void testFindDeletedAfter_keysetAndUntil() {
+        LocalDateTime deletedAt = LocalDateTime.now().withNano(0);
+        repo.save(new Tombstone("Task", 1L, deletedAt));
+        repo.save(new Tombstone("Task", 2L, deletedAt));
+        repo.save(new Tombstone("Task", 3L, deletedAt.plusMinutes(5)));
+        em.flush();
+
+        List<Tombstone> page = repo.findDeletedAfter("Task", deletedAt, 1L, deletedAt.plusMinutes(1), Limit.of(10));
+
+        assertEquals(List.of(2L), page.stream().map(Tombstone::getEntityId).toList());
+    }
+
+    private List<Long> deletedIds(String entityName, LocalDateTime since) {
+        return repo.findDeletedAfter(entityName, since, Long.MAX_VALUE, LocalDateTime.now().plusMinutes(1), Limit.unlimited())
+                .stream().map(Tombstone::getEntityId).toList();
+    }
+
+    private Task saveTask(Board board, String name) {
+        Task task = new Task(name, null, null, null);
+        task.setBoard(board);
+        return taskRepo.save(task);
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.task_board_be.repo.search;
+
+import com.example.task_board_be.pojo.entity.Board;
+import com.example.task_board_be.pojo.projection.BoardView;
+import com.example.task_board_be.repo.entity.BoardRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+
+import static com.example.task_board_be.repo.spec.BoardSpecifications.filterBoards;
+import static org.junit.jupiter.api.Assertions.*;
+
+/// Motore di fallback su H2: match su name o description e ordinamento per rilevanza attraverso findViewSlice
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+class LikeSearchEngineTest {
+    private final TextSearchEngine engine = new LikeSearchEngine();
+
+    @Autowired
+    private BoardRepository boardRepo;
+    @Autowired
+    private EntityManager em;
+
+    @Test
+    void testBlank_returnsNull() {
+        assertNull(engine.matches(null));
+        assertNull(engine.matches("  "));
+        assertNull(engine.rank(""));
+    }
+
+    @Test
+    void testSearch_matchesDescriptionAndRanksByName() {
+        boardRepo.save(new Board("Project alpha", null));
+        boardRepo.save(new Board("Groceries", "buy ALPHA bits"));
+        boardRepo.save(new Board("alphabet soup", null));
+        boardRepo.save(new Board("Alpha", null));
+        boardRepo.save(new Board("Beta", "nothing to see"));
+        em.flush();
+
+        List<String> nameList = search(" Alpha ");
+
+        assertEquals(List.of("Alpha", "alphabet soup", "Project alpha", "Groceries"), nameList);
+    }
+
+    @Test
+    void testSearch_wildcardsAreLiteral() {
+        boardRepo.save(new Board("50% off", null));
+        boardRepo.save(new Board("500 items", null));
+        boardRepo.save(new Board("a_b", null));
+        boardRepo.save(new Board("axb", null));
+        em.flush();
+
+        assertEquals(List.of("50% off"), search("50%"));
+        assertEquals(List.of("a_b"), search("a_b"));
+    }
+
+    private List<String> search(String searchText) {
+        Pageable p = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt"));
+        return boardRepo.findViewSlice(filterBoards(engine.matches(searchText), false), engine.rank(searchText), p)
+                .map(BoardView::name)
+                .getContent();
+    }
+}
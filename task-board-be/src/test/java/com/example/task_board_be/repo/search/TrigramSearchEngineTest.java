@@ -0,0 +1,58 @@
+package com.example.task_board_be.repo.search;
+
+import com.example.task_board_be.pojo.entity.Task;
+import jakarta.persistence.criteria.*;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.domain.Specification;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class TrigramSearchEngineTest {
+    private final TextSearchEngine engine = new TrigramSearchEngine();
+
+    @Test
+    void testBlank_returnsNull() {
+        assertNull(engine.matches(null));
+        assertNull(engine.rank("   "));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testMatches_likeOnIndexedSearchDoc() {
+        Root<Task> root = mock(Root.class);
+        CriteriaQuery<?> cq = mock(CriteriaQuery.class);
+        CriteriaBuilder cb = mock(CriteriaBuilder.class);
+        Expression<String> searchDoc = mock(Expression.class);
+        Predicate likePred = mock(Predicate.class);
+
+        when(cb.function(eq("task_board_search_doc"), eq(String.class), any(), any())).thenReturn(searchDoc);
+        when(cb.like(searchDoc, "%50\\% off%", '\\')).thenReturn(likePred);
+
+        Specification<Task> spec = engine.matches(" 50% OFF ");
+
+        assertSame(likePred, spec.toPredicate(root, cq, cb));
+        verify(root).get("name");
+        verify(root).get("description");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testRank_wordSimilarity() {
+        Root<Task> root = mock(Root.class);
+        CriteriaBuilder cb = mock(CriteriaBuilder.class);
+        Expression<String> searchDoc = mock(Expression.class);
+        Expression<String> literal = mock(Expression.class);
+        Expression<Double> similarity = mock(Expression.class);
+
+        when(cb.function(eq("task_board_search_doc"), eq(String.class), any(), any())).thenReturn(searchDoc);
+        when(cb.literal("todo")).thenReturn(literal);
+        when(cb.function("word_similarity", Double.class, literal, searchDoc)).thenReturn(similarity);
+
+        SearchRank<Task> rank = engine.rank("ToDo");
+
+        assertSame(similarity, rank.toExpression(root, cb));
+    }
+}
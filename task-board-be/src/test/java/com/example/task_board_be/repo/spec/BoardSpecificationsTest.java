@@ -29,62 +29,43 @@ class BoardSpecificationsTest {
     }
 
     @Test
-    void testNameContainsIgnoreCase_blank_returnsNull() {
-        assertNull(BoardSpecifications.nameContainsIgnoreCase(null));
-        assertNull(BoardSpecifications.nameContainsIgnoreCase("   "));
-    }
-
-    @Test
-    void testNameContainsIgnoreCase_buildsLowerLike() {
+    void testFilterBoards_combinesSpecs() {
         Root<Board> root = mock(Root.class);
         CriteriaQuery<?> cq = mock(CriteriaQuery.class);
         CriteriaBuilder cb = mock(CriteriaBuilder.class);
 
-        Path<String> namePath = mock(Path.class);
-        @SuppressWarnings("unchecked")
-        Expression<String> lowerExpr = (Expression<String>) mock(Expression.class);
+        Path<Object> archivedPath = mock(Path.class);
+        Predicate archivedPred = mock(Predicate.class);
+
         Predicate likePred = mock(Predicate.class);
+        Predicate combined = mock(Predicate.class);
+        Specification<Board> textMatch = (r, q, c) -> likePred;
+
+        when(root.get("isArchived")).thenReturn(archivedPath);
+        when(cb.equal(archivedPath, false)).thenReturn(archivedPred);
 
-        // root.get(..) ritorna un Path<?>: castiamo a (Path) per soddisfare il compilatore
-        when(root.get("name")).thenReturn((Path) namePath);
-        when(cb.lower(namePath)).thenReturn(lowerExpr);
-        when(cb.like(lowerExpr, "%foo%")).thenReturn(likePred);
+        when(cb.and(archivedPred, likePred)).thenReturn(combined);
 
-        Specification<Board> spec = BoardSpecifications.nameContainsIgnoreCase(" Foo ");
+        Specification<Board> spec = BoardSpecifications.filterBoards(textMatch, false);
         Predicate out = spec.toPredicate(root, cq, cb);
 
-        assertSame(likePred, out);
-        verify(cb).like(lowerExpr, "%foo%");
+        assertSame(combined, out);
+        verify(cb).and(archivedPred, likePred);
     }
 
     @Test
-    void testFilterBoards_combinesSpecs() {
+    void testFilterBoards_nullTextMatch_onlyArchived() {
         Root<Board> root = mock(Root.class);
         CriteriaQuery<?> cq = mock(CriteriaQuery.class);
         CriteriaBuilder cb = mock(CriteriaBuilder.class);
-
         Path<Object> archivedPath = mock(Path.class);
         Predicate archivedPred = mock(Predicate.class);
 
-        Path<String> namePath = mock(Path.class);
-        @SuppressWarnings("unchecked")
-        Expression<String> lowerExpr = (Expression<String>) mock(Expression.class);
-        Predicate likePred = mock(Predicate.class);
-        Predicate combined = mock(Predicate.class);
-
         when(root.get("isArchived")).thenReturn(archivedPath);
-        when(cb.equal(archivedPath, false)).thenReturn(archivedPred);
+        when(cb.equal(archivedPath, true)).thenReturn(archivedPred);
 
-        when(root.get("name")).thenReturn((Path) namePath);
-        when(cb.lower(namePath)).thenReturn(lowerExpr);
-        when(cb.like(lowerExpr, "%bar%")).thenReturn(likePred);
+        Predicate out = BoardSpecifications.filterBoards(null, true).toPredicate(root, cq, cb);
 
-        when(cb.and(archivedPred, likePred)).thenReturn(combined);
-
-        Specification<Board> spec = BoardSpecifications.filterBoards("bar", false);
-        Predicate out = spec.toPredicate(root, cq, cb);
-
-        assertSame(combined, out);
-        verify(cb).and(archivedPred, likePred);
+        assertSame(archivedPred, out);
     }
 }
@@ -60,34 +60,6 @@ class TaskSpecificationsTest {
         verify(cb).equal(idPath, 1L);
     }
 
-    @Test
-    void testNameContainsIgnoreCase_blank_returnsNull() {
-        assertNull(TaskSpecifications.nameContainsIgnoreCase(null));
-        assertNull(TaskSpecifications.nameContainsIgnoreCase("  "));
-    }
-
-    @Test
-    void testNameContainsIgnoreCase_buildsLike() {
-        Root<Task> root = mock(Root.class);
-        CriteriaQuery<?> cq = mock(CriteriaQuery.class);
-        CriteriaBuilder cb = mock(CriteriaBuilder.class);
-
-        Path<String> namePath = mock(Path.class);
-        @SuppressWarnings("unchecked")
-        Expression<String> lowerExpr = (Expression<String>) mock(Expression.class);
-        Predicate likePred = mock(Predicate.class);
-
-        when(root.get("name")).thenReturn((Path) namePath);
-        when(cb.lower(namePath)).thenReturn(lowerExpr);
-        when(cb.like(lowerExpr, "%todo%")).thenReturn(likePred);
-
-        Specification<Task> spec = TaskSpecifications.nameContainsIgnoreCase(" ToDo ");
-        Predicate out = spec.toPredicate(root, cq, cb);
-
-        assertSame(likePred, out);
-        verify(cb).like(lowerExpr, "%todo%");
-    }
-
     @Test
     void testFilterTasksOfBoard_combinesAll() {
         Root<Task> root = mock(Root.class);
@@ -101,10 +73,8 @@ class TaskSpecificationsTest {
         Path<Object> idPath = mock(Path.class);
         Predicate p2 = mock(Predicate.class);
 
-        Path<String> namePath = mock(Path.class);
-        @SuppressWarnings("unchecked")
-        Expression<String> lowerExpr = (Expression<String>) mock(Expression.class);
         Predicate p3 = mock(Predicate.class);
+        Specification<Task> textMatch = (r, q, c) -> p3;
 
         Predicate combined = mock(Predicate.class);
 
@@ -115,15 +85,11 @@ class TaskSpecificationsTest {
         when(boardPath.get("id")).thenReturn(idPath);
         when(cb.equal(idPath, 10L)).thenReturn(p2);
 
-        when(root.get("name")).thenReturn((Path) namePath);
-        when(cb.lower(namePath)).thenReturn(lowerExpr);
-        when(cb.like(lowerExpr, "%foo%")).thenReturn(p3);
-
         // 👇 intercetta entrambe le firme possibili
         when(cb.and(any(Predicate[].class))).thenReturn(combined);
         when(cb.and(any(Predicate.class), any(Predicate.class))).thenReturn(combined);
 
-        Specification<Task> spec = TaskSpecifications.filterTasksOfBoard(10L, " Foo ", true);
+        Specification<Task> spec = TaskSpecifications.filterTasksOfBoard(10L, textMatch, true);
         Predicate out = spec.toPredicate(root, cq, cb);
 
         assertSame(combined, out); // ora out è sempre il nostro combined
@@ -131,7 +97,6 @@ class TaskSpecificationsTest {
         // opzionale: verifica che i predicate di base siano stati costruiti
         verify(cb).equal(archivedPath, true);
         verify(cb).equal(idPath, 10L);
-        verify(cb).like(lowerExpr, "%foo%");
     }
 
 }
\ No newline at end of file
@@ -1,26 +1,44 @@
 package com.example.task_board_be.service.entity.impl;
 
+import com.example.task_board_be.cache.CountCache;
+import com.example.task_board_be.cache.ModelCache;
+import com.example.task_board_be.enums.BoardEventType;
+import com.example.task_board_be.enums.DefaultNameScope;
+import com.example.task_board_be.enums.OutboxEventType;
+import com.example.task_board_be.enums.task.TaskStatus;
 import com.example.task_board_be.exception.custom.NotFoundException;
 import com.example.task_board_be.exception.custom.StateMismatchException;
 import com.example.task_board_be.mapping.mapper.BoardMapper;
 import com.example.task_board_be.pojo.entity.Board;
+import com.example.task_board_be.pojo.entity.BoardTaskCount;
 import com.example.task_board_be.pojo.model.BoardModel;
+import com.example.task_board_be.pojo.model.BoardTaskCountModel;
 import com.example.task_board_be.pojo.model.TaskModel;
+import com.example.task_board_be.pojo.projection.BoardView;
+import com.example.task_board_be.pojo.projection.EntityVersion;
 import com.example.task_board_be.repo.entity.BoardRepository;
+import com.example.task_board_be.repo.entity.BoardTaskCountRepository;
+import com.example.task_board_be.repo.search.SearchRank;
+import com.example.task_board_be.repo.search.TextSearchEngine;
 import com.example.task_board_be.service.entity.TaskService;
 import com.example.task_board_be.service.entity.impl.BoardServiceImpl;
+import com.example.task_board_be.service.event.BoardEventService;
+import com.example.task_board_be.service.naming.DefaultNameService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentMatchers;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.*;
 import org.springframework.data.jpa.domain.Specification;
 
-import java.util.Arrays;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -35,6 +53,18 @@ class BoardServiceImplTest {
     private BoardMapper mapper;
     @Mock
     private TaskService taskService;
+    @Mock
+    private CountCache countCache;
+    @Mock
+    private TextSearchEngine searchEngine;
+    @Mock
+    private ModelCache modelCache;
+    @Mock
+    private BoardTaskCountRepository taskCountRepo;
+    @Mock
+    private DefaultNameService defaultNameService;
+    @Mock
+    private BoardEventService eventService;
 
     @InjectMocks
     private BoardServiceImpl service;
@@ -42,18 +72,76 @@ class BoardServiceImplTest {
     @Test
     void testGetPage_ok() {
         Pageable p = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt"));
-        Board b = mock(Board.class);
-        BoardModel m = mock(BoardModel.class);
+        BoardView v = new BoardView(1L, "Board", null, LocalDateTime.now());
 
-        when(repo.findAll(ArgumentMatchers.<Specification<Board>>any(), any(Pageable.class)))
-                .thenReturn(new PageImpl<>(List.of(b), p, 1));
-        when(mapper.toModel(b)).thenReturn(m);
+        when(repo.findViewSlice(ArgumentMatchers.<Specification<Board>>any(), ArgumentMatchers.<SearchRank<Board>>any(), eq(p)))
+                .thenReturn(new SliceImpl<>(List.of(v), p, false));
 
-        Page<BoardModel> page = service.getPage("foo", false, p);
+        Page<BoardView> page = service.getPage("foo", false, p);
 
         assertEquals(1, page.getNumberOfElements());
-        verify(repo).findAll(ArgumentMatchers.<Specification<Board>>any(), eq(p));
-        verify(mapper).toModel(b);
+        assertEquals(1, page.getTotalElements());
+        assertSame(v, page.getContent().get(0));
+        verifyNoInteractions(countCache, mapper);
+    }
+
+    @Test
+    void testGetPage_fullPage_usesCountCache() {
+        Pageable p = PageRequest.of(0, 1);
+        BoardView v = new BoardView(1L, "Board", null, LocalDateTime.now());
+
+        when(repo.findViewSlice(ArgumentMatchers.<Specification<Board>>any(), ArgumentMatchers.<SearchRank<Board>>any(), eq(p)))
+                .thenReturn(new SliceImpl<>(List.of(v), p, true));
+        when(countCache.getOrCount(eq("board"), eq("foo"), isNull(), eq(false), any())).thenReturn(7L);
+
+        Page<BoardView> page = service.getPage("foo", false, p);
+
+        assertEquals(7, page.getTotalElements());
+    }
+
+    @Test
+    void testGetSlice_search_forwardsEngineRank() {
+        Pageable p = PageRequest.of(0, 10);
+        SearchRank<Board> rank = (root, cb) -> null;
+        doReturn(rank).when(searchEngine).rank("foo");
+
+        when(repo.findViewSlice(ArgumentMatchers.<Specification<Board>>any(), eq(rank), eq(p)))
+                .thenReturn(new SliceImpl<>(List.of(), p, false));
+
+        service.getSlice("foo", false, p);
+
+        verify(searchEngine).matches("foo");
+        verify(repo).findViewSlice(ArgumentMatchers.<Specification<Board>>any(), eq(rank), eq(p));
+    }
+
+    @Test
+    void testGetSlice_ok() {
+        Pageable p = PageRequest.of(2, 1);
+        BoardView v = new BoardView(1L, "Board", null, LocalDateTime.now());
+
+        when(repo.findViewSlice(ArgumentMatchers.<Specification<Board>>any(), ArgumentMatchers.<SearchRank<Board>>any(), eq(p)))
+                .thenReturn(new SliceImpl<>(List.of(v), p, false));
+
+        Slice<BoardView> slice = service.getSlice(null, false, p);
+
+        assertFalse(slice.hasNext());
+        assertEquals(2, slice.getNumber());
+        verifyNoInteractions(countCache);
+    }
+
+    @Test
+    void testGetWindow_ok() {
+        BoardView v = new BoardView(1L, "Board", null, LocalDateTime.now());
+        KeysetScrollPosition position = ScrollPosition.keyset();
+
+        when(repo.findViewWindow(ArgumentMatchers.<Specification<Board>>any(), eq(position), eq(20)))
+                .thenReturn(Window.from(List.of(v), i -> ScrollPosition.keyset(), false));
+
+        Window<BoardView> window = service.getWindow(null, false, position, 20);
+
+        assertEquals(1, window.size());
+        assertFalse(window.hasNext());
+        verifyNoInteractions(mapper);
     }
 
     @Test
@@ -87,26 +175,48 @@ class BoardServiceImplTest {
 
     @Test
     void testGetEl_ok_active() {
+        passThroughModelCache();
         Board b = mock(Board.class);
         when(b.isArchived()).thenReturn(false);
+        when(b.getId()).thenReturn(10L);
         when(repo.findById(10L)).thenReturn(Optional.of(b));
 
-        BoardModel m = mock(BoardModel.class);
-        when(mapper.toModelWithCascade(b)).thenReturn(m);
+        List<TaskModel> activeTaskList = List.of(new TaskModel());
+        when(taskService.getList(10L, false)).thenReturn(activeTaskList);
+
+        BoardModel m = new BoardModel();
+        when(mapper.toModelWithCascade(b, activeTaskList)).thenReturn(m);
+        when(taskCountRepo.findByBoardIds(List.of(10L)))
+                .thenReturn(List.of(new BoardTaskCount(10L, TaskStatus.TODO, false, 12)));
 
         BoardModel out = service.getEl(10L, false);
 
         assertSame(m, out);
+        assertEquals(12L, out.getTaskCountModel().getTaskCountMap().get(TaskStatus.TODO));
+        verify(b, never()).getTaskList();
+        verify(modelCache).get(eq("board"), eq(10L), eq(false), any());
+    }
+
+    @Test
+    void testGetVersion_probeOnly() {
+        EntityVersion version = new EntityVersion(LocalDateTime.of(2025, 1, 1, 10, 0));
+        when(repo.findVersion(10L, false)).thenReturn(Optional.of(version));
+
+        assertEquals(Optional.of(version), service.getVersion(10L, false));
+        verify(repo, never()).findById(anyLong());
+        verifyNoInteractions(mapper, modelCache);
     }
 
     @Test
     void testGetEl_notFound_throws() {
+        passThroughModelCache();
         when(repo.findById(999L)).thenReturn(Optional.empty());
         assertThrows(NotFoundException.class, () -> service.getEl(999L, false));
     }
 
     @Test
     void testGetEl_stateMismatch_throws() {
+        passThroughModelCache();
         Board b = mock(Board.class);
         when(b.isArchived()).thenReturn(true);
         when(repo.findById(5L)).thenReturn(Optional.of(b));
@@ -123,12 +233,53 @@ class BoardServiceImplTest {
 
         when(mapper.toEntity(in)).thenReturn(ent);
         when(repo.save(ent)).thenReturn(saved);
+        when(saved.getId()).thenReturn(5L);
         when(mapper.toModel(saved)).thenReturn(outM);
 
         BoardModel res = service.create(in);
 
         assertSame(outM, res);
         verify(repo).save(ent);
+        // una riga per status e stato di archiviazione, a zero
+        verify(taskCountRepo, times(TaskStatus.values().length)).insertMissing(eq(List.of(5L)), any(TaskStatus.class), eq(false));
+        verify(taskCountRepo, times(TaskStatus.values().length)).insertMissing(eq(List.of(5L)), any(TaskStatus.class), eq(true));
+    }
+
+    @Test
+    void testGetTaskCountList_groupsRowsByBoard_inRequestOrder() {
+        when(taskCountRepo.findByBoardIds(List.of(2L, 1L, 3L))).thenReturn(List.of(
+                new BoardTaskCount(1L, TaskStatus.DONE, false, 30),
+                new BoardTaskCount(2L, TaskStatus.TODO, false, 12),
+                new BoardTaskCount(2L, TaskStatus.IN_PROGRESS, false, 4),
+                new BoardTaskCount(2L, TaskStatus.TODO, true, 2)));
+
+        List<BoardTaskCountModel> res = service.getTaskCountList(List.of(2L, 1L, 3L));
+
+        assertEquals(List.of(2L, 1L), res.stream().map(BoardTaskCountModel::getBoardId).toList());
+        assertEquals(12L, res.get(0).getTaskCountMap().get(TaskStatus.TODO));
+        assertEquals(4L, res.get(0).getTaskCountMap().get(TaskStatus.IN_PROGRESS));
+        assertEquals(0L, res.get(0).getTaskCountMap().get(TaskStatus.DONE));
+        assertEquals(2L, res.get(0).getArchivedTaskCountMap().get(TaskStatus.TODO));
+        assertEquals(30L, res.get(1).getTaskCountMap().get(TaskStatus.DONE));
+        assertEquals(TaskStatus.values().length, res.get(1).getArchivedTaskCountMap().size());
+    }
+
+    @Test
+    void testReconcileTaskCounts_insertsMissingAndFixesDrift() {
+        // manca solo la riga (BLOCKED, attive)
+        when(taskCountRepo.insertMissingOfAllBoards(any(TaskStatus.class), anyBoolean()))
+                .thenAnswer(inv -> inv.getArgument(0) == TaskStatus.BLOCKED && !inv.<Boolean>getArgument(1) ? 1 : 0);
+        when(taskCountRepo.reconcile()).thenReturn(2);
+
+        assertEquals(3, service.reconcileTaskCounts());
+        verify(taskCountRepo, times(TaskStatus.values().length)).insertMissingOfAllBoards(any(TaskStatus.class), eq(true));
+        verify(modelCache).invalidateAll("board");
+    }
+
+    @Test
+    void testReconcileTaskCounts_noDrift_keepsCache() {
+        assertEquals(0, service.reconcileTaskCounts());
+        verifyNoInteractions(modelCache);
     }
 
     @Test
@@ -144,20 +295,42 @@ class BoardServiceImplTest {
         when(repo.save(existing)).thenReturn(existing);
 
         BoardModel outM = mock(BoardModel.class);
-        when(mapper.toModelWithCascade(existing)).thenReturn(outM);
+        when(mapper.toModelWithCascade(eq(existing), anyList())).thenReturn(outM);
 
         BoardModel res = service.update(in);
 
         assertSame(outM, res);
         verify(existing).setName("New Name");
+        verify(existing).setDefaultNameIndex(null);
         verify(existing).setDescription("Desc");
         verify(repo).save(existing);
+        verify(modelCache).invalidate("board", 7L);
+    }
+
+    @Test
+    void testUpdate_renameToDefaultName_locksAndReleasesOldIndex() {
+        BoardModel in = mock(BoardModel.class);
+        when(in.getId()).thenReturn(7L);
+        when(in.getName()).thenReturn("New Board 4");
+
+        Board existing = new Board(7L, "New Board 2", null);
+        existing.setDefaultNameIndex(2);
+        when(repo.findById(7L)).thenReturn(Optional.of(existing));
+        when(repo.save(existing)).thenReturn(existing);
+        when(mapper.toModelWithCascade(eq(existing), anyList())).thenReturn(mock(BoardModel.class));
+
+        service.update(in);
+
+        assertEquals(4, existing.getDefaultNameIndex());
+        InOrder inOrder = inOrder(defaultNameService, repo);
+        inOrder.verify(defaultNameService).lock(DefaultNameScope.BOARD, 0L);
+        inOrder.verify(defaultNameService).release(DefaultNameScope.BOARD, 0L, 2);
+        inOrder.verify(repo).save(existing);
     }
 
     @Test
     void testCreate_whenNameIsBlank_setsDefaultName() {
-        when(repo.findNamesByPrefix("New Board"))
-                .thenReturn(Arrays.asList("New Board", "New Board 2"));
+        when(defaultNameService.allocate(DefaultNameScope.BOARD, 0L)).thenReturn(3);
 
         BoardModel in = mock(BoardModel.class);
         Board entity = mock(Board.class);
@@ -173,15 +346,63 @@ class BoardServiceImplTest {
 
         assertSame(out, res);
         verify(entity).setName("New Board 3");
-        verify(repo).findNamesByPrefix("New Board");
+        verify(entity).setDefaultNameIndex(3);
         verify(repo).save(entity);
     }
 
+    @Test
+    void testCreateList_empty_returnsEmpty() {
+        assertTrue(service.createList(List.of()).isEmpty());
+        verifyNoInteractions(repo);
+    }
+
+    @Test
+    void testCreateList_allocatesDefaultNameRange_andInsertsOnce() {
+        List<BoardModel> in = List.of(new BoardModel(), new BoardModel(), new BoardModel());
+        Board unnamed1 = new Board(null, null);
+        Board named = new Board("New Board 3", null);
+        Board unnamed2 = new Board("  ", null);
+        List<Board> entityList = List.of(unnamed1, named, unnamed2);
+
+        when(mapper.toEntityList(in)).thenReturn(entityList);
+        when(defaultNameService.allocateRange(DefaultNameScope.BOARD, 0L, 2, List.of(3))).thenReturn(List.of(2, 5));
+        when(repo.insertAll(entityList)).thenReturn(entityList);
+        List<BoardModel> out = List.of(mock(BoardModel.class));
+        when(mapper.toModelList(entityList)).thenReturn(out);
+
+        List<BoardModel> res = service.createList(in);
+
+        assertSame(out, res);
+        assertEquals("New Board 2", unnamed1.getName());
+        assertEquals(2, unnamed1.getDefaultNameIndex());
+        assertEquals(3, named.getDefaultNameIndex());
+        assertEquals("New Board 5", unnamed2.getName());
+        assertEquals(5, unnamed2.getDefaultNameIndex());
+        InOrder inOrder = inOrder(defaultNameService, repo);
+        inOrder.verify(defaultNameService).allocateRange(DefaultNameScope.BOARD, 0L, 2, List.of(3));
+        inOrder.verify(repo).insertAll(entityList);
+        verify(repo, never()).save(any());
+        verify(countCache).invalidate("board");
+    }
+
+    @Test
+    void testCreateList_allNamed_skipsIndexLookup() {
+        List<BoardModel> in = List.of(new BoardModel());
+        List<Board> entityList = List.of(new Board("Roadmap", null));
+
+        when(mapper.toEntityList(in)).thenReturn(entityList);
+        when(repo.insertAll(entityList)).thenReturn(entityList);
+        when(mapper.toModelList(entityList)).thenReturn(List.of(new BoardModel()));
+
+        assertEquals(1, service.createList(in).size());
+        verifyNoInteractions(defaultNameService);
+    }
+
     @Test
     void testCreate_whenNameIsNotBlank_doesNotChangeName() {
         BoardModel in = mock(BoardModel.class);
         Board entity = mock(Board.class);
-        when(entity.getName()).thenReturn("Existing");
+        when(entity.getName()).thenReturn("New Board 7");
         when(mapper.toEntity(in)).thenReturn(entity);
 
         Board saved = mock(Board.class);
@@ -193,7 +414,9 @@ class BoardServiceImplTest {
 
         assertSame(out, res);
         verify(entity, never()).setName(anyString());
-        verify(repo, never()).findNamesByPrefix(anyString());
+        verify(entity).setDefaultNameIndex(7);
+        verify(defaultNameService).lock(DefaultNameScope.BOARD, 0L);
+        verify(defaultNameService, never()).allocate(any(), any());
         verify(repo).save(entity);
     }
 
@@ -211,7 +434,7 @@ class BoardServiceImplTest {
         when(repo.save(existing)).thenReturn(existing);
 
         BoardModel outM = mock(BoardModel.class);
-        when(mapper.toModelWithCascade(existing)).thenReturn(outM);
+        when(mapper.toModelWithCascade(eq(existing), anyList())).thenReturn(outM);
 
         BoardModel res = service.update(in);
 
@@ -226,12 +449,13 @@ class BoardServiceImplTest {
         Board after = mock(Board.class);
         when(repo.findById(5L)).thenReturn(Optional.of(after));
         BoardModel outM = mock(BoardModel.class);
-        when(mapper.toModelWithCascade(after)).thenReturn(outM);
+        when(mapper.toModelWithCascade(eq(after), anyList())).thenReturn(outM);
 
         BoardModel res = service.archiveEl(5L);
 
         assertSame(outM, res);
         verify(repo).archiveByIds(List.of(5L));
+        verify(eventService).publish(BoardEventType.BOARD_ARCHIVED, 5L, List.of());
     }
 
     @Test
@@ -278,6 +502,32 @@ class BoardServiceImplTest {
         assertEquals(2, res);
     }
 
+    @Test
+    void testArchiveList_withSubscribers_publishesOnlyArchivedBoards() {
+        when(eventService.hasSubscribers()).thenReturn(true);
+        when(repo.findIdsByState(List.of(3L, 4L), false)).thenReturn(List.of(4L));
+        when(repo.archiveByIds(List.of(3L, 4L))).thenReturn(1);
+
+        service.archiveList(List.of(3L, 4L));
+
+        InOrder inOrder = inOrder(repo);
+        inOrder.verify(repo).findIdsByState(List.of(3L, 4L), false);
+        inOrder.verify(repo).archiveByIds(List.of(3L, 4L));
+        verify(eventService).publish(BoardEventType.BOARD_ARCHIVED, 4L, List.of());
+        verify(eventService, never()).publish(eq(BoardEventType.BOARD_ARCHIVED), eq(3L), anyCollection());
+    }
+
+    @Test
+    void testArchiveList_zeroUpdated_publishesNothing() {
+        when(eventService.hasSubscribers()).thenReturn(true);
+        when(repo.findIdsByState(List.of(3L), false)).thenReturn(List.of());
+
+        service.archiveList(List.of(3L));
+
+        verify(eventService, never()).publish(any(BoardEventType.class), anyLong(), anyCollection());
+        verify(eventService, never()).publishResync();
+    }
+
     @Test
     void testArchiveAll_zeroUpdated_returnsZero() {
         when(repo.archiveAllActive()).thenReturn(0);
@@ -303,6 +553,9 @@ class BoardServiceImplTest {
         int res = service.archiveList();
 
         assertEquals(3, res);
+        InOrder inOrder = inOrder(repo);
+        inOrder.verify(repo).insertOutboxEventsByState(false, OutboxEventType.ARCHIVED);
+        inOrder.verify(repo).archiveAllActive();
         verify(b1).setIsArchived(true);
         verify(b2).setIsArchived(true);
     }
@@ -313,45 +566,26 @@ class BoardServiceImplTest {
         Board after = mock(Board.class);
         when(repo.findById(9L)).thenReturn(Optional.of(after));
         BoardModel outM = mock(BoardModel.class);
-        when(mapper.toModelWithCascade(after)).thenReturn(outM);
+        when(mapper.toModelWithCascade(eq(after), anyList())).thenReturn(outM);
 
         BoardModel res = service.restoreEl(9L, false);
 
         assertSame(outM, res);
-        verify(taskService, never()).getList(anyLong(), anyBoolean());
-        verify(taskService, never()).restoreList(anyList());
-    }
-
-    @Test
-    void testRestoreEl_ok_withTasksTrue_emptyTaskList() {
-        when(repo.restoreByIds(List.of(10L))).thenReturn(1);
-        when(taskService.getList(10L, true)).thenReturn(List.of());
-        Board after = mock(Board.class);
-        when(repo.findById(10L)).thenReturn(Optional.of(after));
-        when(mapper.toModelWithCascade(after)).thenReturn(mock(BoardModel.class));
-
-        BoardModel res = service.restoreEl(10L, true);
-
-        assertNotNull(res);
-        verify(taskService).getList(10L, true);
-        verify(taskService, never()).restoreList(anyList());
+        verify(taskService, never()).restoreListByBoardIds(anyList());
     }
 
     @Test
-    void testRestoreEl_ok_withTasksTrue_withTasksRestored() {
+    void testRestoreEl_ok_withTasksTrue_restoresTasksByBoard() {
         when(repo.restoreByIds(List.of(11L))).thenReturn(1);
-        TaskModel tm1 = mock(TaskModel.class);
-        when(tm1.getId()).thenReturn(101L);
-        TaskModel tm2 = mock(TaskModel.class);
-        when(tm2.getId()).thenReturn(102L);
-        when(taskService.getList(11L, true)).thenReturn(List.of(tm1, tm2));
         Board after = mock(Board.class);
         when(repo.findById(11L)).thenReturn(Optional.of(after));
-        when(mapper.toModelWithCascade(after)).thenReturn(mock(BoardModel.class));
+        when(mapper.toModelWithCascade(eq(after), anyList())).thenReturn(mock(BoardModel.class));
 
-        service.restoreEl(11L, true);
+        BoardModel res = service.restoreEl(11L, true);
 
-        verify(taskService).restoreList(List.of(101L, 102L));
+        assertNotNull(res);
+        verify(taskService).restoreListByBoardIds(List.of(11L));
+        verify(taskService, never()).getList(anyLong(), eq(true));
     }
 
     @Test
@@ -398,37 +632,18 @@ class BoardServiceImplTest {
         int res = service.restoreList(List.of(3L, 4L), false);
 
         assertEquals(2, res);
-        verify(taskService, never()).getList(anyLong(), anyBoolean());
-        verify(taskService, never()).restoreList(anyList());
+        verify(taskService, never()).restoreListByBoardIds(anyList());
     }
 
     @Test
-    void testRestoreList_ids_withTasksTrue_aggregatesAndRestores() {
+    void testRestoreList_ids_withTasksTrue_restoresTasksInOneCall() {
         when(repo.restoreByIds(List.of(5L, 6L))).thenReturn(2);
 
-        TaskModel t1 = mock(TaskModel.class);
-        when(t1.getId()).thenReturn(201L);
-        TaskModel t2 = mock(TaskModel.class);
-        when(t2.getId()).thenReturn(202L);
-        when(taskService.getList(5L, true)).thenReturn(List.of(t1));
-        when(taskService.getList(6L, true)).thenReturn(List.of(t2));
-
         int res = service.restoreList(List.of(5L, 6L), true);
 
         assertEquals(2, res);
-        verify(taskService).restoreList(List.of(201L, 202L));
-    }
-
-    @Test
-    void testRestoreList_ids_withTasksTrue_emptyTaskList() {
-        when(repo.restoreByIds(List.of(10L, 20L))).thenReturn(2);
-
-        when(taskService.getList(anyLong(), eq(true))).thenReturn(List.of());
-
-        int result = service.restoreList(List.of(10L, 20L), true);
-
-        assertEquals(2, result);
-        verify(taskService, times(2)).getList(anyLong(), eq(true));
+        verify(taskService).restoreListByBoardIds(List.of(5L, 6L));
+        verify(taskService, never()).getList(anyLong(), anyBoolean());
         verify(taskService, never()).restoreList(anyList());
     }
 
@@ -441,74 +656,26 @@ class BoardServiceImplTest {
     }
 
     @Test
-    void testRestoreAll_afterUpdate_noBoards_returnsZero() {
-        when(repo.restoreAllArchived()).thenReturn(3);
-        when(repo.findAllByIsArchivedFalse()).thenReturn(List.of());
-
-        int res = service.restoreList(true);
-
-        assertEquals(0, res);
-    }
-
-    @Test
-    void testRestoreAll_withTasksFalse_setsFlagAndReturns() {
+    void testRestoreAll_withTasksFalse_returnsUpdated() {
         when(repo.restoreAllArchived()).thenReturn(4);
 
-        Board b1 = mock(Board.class);
-        Board b2 = mock(Board.class);
-        when(repo.findAllByIsArchivedFalse()).thenReturn(List.of(b1, b2));
-
         int res = service.restoreList(false);
 
         assertEquals(4, res);
-        verify(b1).setIsArchived(false);
-        verify(b2).setIsArchived(false);
-        verify(taskService, never()).restoreList(anyList());
+        verify(repo, never()).findAllByIsArchivedFalse();
+        verify(taskService, never()).restoreListOfActiveBoards();
     }
 
     @Test
-    void testRestoreAll_withTasksTrue_restoresTasks() {
+    void testRestoreAll_withTasksTrue_restoresTasksOfActiveBoards() {
         when(repo.restoreAllArchived()).thenReturn(2);
-        Board b1 = mock(Board.class);
-        when(b1.getId()).thenReturn(30L);
-        Board b2 = mock(Board.class);
-        when(b2.getId()).thenReturn(31L);
-        when(repo.findAllByIsArchivedFalse()).thenReturn(List.of(b1, b2));
-
-        TaskModel t1 = mock(TaskModel.class);
-        when(t1.getId()).thenReturn(301L);
-        TaskModel t2 = mock(TaskModel.class);
-        when(t2.getId()).thenReturn(302L);
-        when(taskService.getList(30L, true)).thenReturn(List.of(t1));
-        when(taskService.getList(31L, true)).thenReturn(List.of(t2));
 
         int res = service.restoreList(true);
 
         assertEquals(2, res);
-        verify(taskService).restoreList(List.of(301L, 302L));
-        verify(b1).setIsArchived(false);
-        verify(b2).setIsArchived(false);
-    }
-
-    @Test
-    void testRestoreList_all_withTasksTrue_emptyTaskList() {
-        when(repo.restoreAllArchived()).thenReturn(2);
-
-        Board b1 = mock(Board.class);
-        Board b2 = mock(Board.class);
-        when(b1.getId()).thenReturn(1L);
-        when(b2.getId()).thenReturn(2L);
-        when(repo.findAllByIsArchivedFalse()).thenReturn(List.of(b1, b2));
-
-        when(taskService.getList(anyLong(), eq(true))).thenReturn(List.of());
-
-        int result = service.restoreList(true);
-
-        assertEquals(2, result);
-        verify(taskService, times(2)).getList(anyLong(), eq(true));
-        verify(taskService, never()).restoreList(anyList());
-        verify(b1).setIsArchived(false);
-        verify(b2).setIsArchived(false);
+        verify(taskService).restoreListOfActiveBoards();
+        verify(repo, never()).findAllByIsArchivedFalse();
+        verify(taskService, never()).getList(anyLong(), anyBoolean());
     }
 
 
@@ -519,7 +686,17 @@ class BoardServiceImplTest {
         int count = service.delete(9L);
 
         assertEquals(1, count);
-        verify(repo).deleteByIdsIfArchived(List.of(9L));
+        InOrder inOrder = inOrder(repo, taskCountRepo, defaultNameService);
+        inOrder.verify(repo).insertTombstonesIfArchived(List.of(9L));
+        inOrder.verify(taskCountRepo).deleteOfArchivedBoards(List.of(9L));
+        inOrder.verify(defaultNameService).releaseOfArchivedBoards(List.of(9L));
+        inOrder.verify(repo).deleteByIdsIfArchived(List.of(9L));
+        inOrder.verify(defaultNameService).dropOfDeletedBoards(List.of(9L));
+        // le task della board spariscono con lei
+        verify(modelCache).invalidateAll();
+        verify(countCache).invalidate("board");
+        verify(countCache).invalidate("task", List.of(9L));
+        verify(countCache, never()).invalidateAll();
     }
 
     @Test
@@ -556,6 +733,20 @@ class BoardServiceImplTest {
         assertEquals(0, count);
     }
 
+    @Test
+    void testDeleteList_publishesOnlyForSubscribedAndDeleted() {
+        when(repo.deleteByIdsIfArchived(List.of(1L, 2L, 3L))).thenReturn(1);
+        when(eventService.hasSubscribers()).thenReturn(true);
+        when(eventService.getSubscribedBoardIds()).thenReturn(Set.of(1L, 2L));
+        when(repo.findExistingIds(List.of(1L, 2L))).thenReturn(List.of(2L));
+
+        service.deleteList(List.of(1L, 2L, 3L));
+
+        verify(eventService).publish(BoardEventType.BOARD_DELETED, 1L, List.of());
+        verify(eventService, never()).publish(eq(BoardEventType.BOARD_DELETED), eq(2L), anyCollection());
+        verify(repo, never()).existsById(anyLong());
+    }
+
     @Test
     void testClear_ok_returnsCount() {
         when(repo.deleteAllByIsArchivedTrue()).thenReturn(6);
@@ -563,6 +754,13 @@ class BoardServiceImplTest {
         int count = service.clear();
 
         assertEquals(6, count);
+        InOrder inOrder = inOrder(repo, taskCountRepo, defaultNameService);
+        inOrder.verify(repo).insertTombstonesOfArchived();
+        inOrder.verify(repo).insertOutboxEventsByState(true, OutboxEventType.DELETED);
+        inOrder.verify(taskCountRepo).deleteOfAllArchivedBoards();
+        inOrder.verify(defaultNameService).releaseOfAllArchivedBoards();
+        inOrder.verify(repo).deleteAllByIsArchivedTrue();
+        inOrder.verify(defaultNameService).dropOfAllDeletedBoards();
     }
 
     @Test
@@ -575,39 +773,12 @@ class BoardServiceImplTest {
     }
 
     @Test
-    void testCreate_generatesNextDefaultName_withForAndWhileLoops() {
-        List<String> existingNames = Arrays.asList(
-                "New Board",
-                "New Board 2",
-                "New Board 3",
-                "new board abc",
-                null,
-                "Random Name"
-        );
-        when(repo.findNamesByPrefix("New Board")).thenReturn(existingNames);
-
-        BoardModel modelIn = mock(BoardModel.class);
-        Board entityIn = mock(Board.class);
-        when(entityIn.getName()).thenReturn("   ");
-        when(mapper.toEntity(modelIn)).thenReturn(entityIn);
-
-        Board saved = mock(Board.class);
-        when(repo.save(any(Board.class))).thenReturn(saved);
-        when(mapper.toModel(saved)).thenReturn(mock(BoardModel.class));
-
-        service.create(modelIn);
-
-        verify(entityIn).setName("New Board 4");
-    }
-
-    @Test
-    void testCreate_defaultName_coversCounterGte2Branch() {
-        List<String> existing = Arrays.asList("New Board", "New Board 1", "New Board 2", "Other");
-        when(repo.findNamesByPrefix("New Board")).thenReturn(existing);
+    void testCreate_defaultName_firstIndex_usesBaseName() {
+        when(defaultNameService.allocate(DefaultNameScope.BOARD, 0L)).thenReturn(1);
 
         BoardModel in = mock(BoardModel.class);
         Board entity = mock(Board.class);
-        when(entity.getName()).thenReturn("   ");
+        when(entity.getName()).thenReturn(null);
         when(mapper.toEntity(in)).thenReturn(entity);
 
         Board saved = mock(Board.class);
@@ -616,7 +787,13 @@ class BoardServiceImplTest {
 
         service.create(in);
 
-        verify(entity).setName("New Board 3");
+        verify(entity).setName("New Board");
+        verify(entity).setDefaultNameIndex(1);
     }
 
+
+    private void passThroughModelCache() {
+        when(modelCache.get(anyString(), anyLong(), anyBoolean(), any()))
+                .thenAnswer(inv -> inv.<Supplier<?>>getArgument(3).get());
+    }
 }
@@ -1,5 +1,10 @@
 package com.example.task_board_be.service.entity.impl;
 
+import com.example.task_board_be.cache.CountCache;
+import com.example.task_board_be.cache.ModelCache;
+import com.example.task_board_be.enums.BoardEventType;
+import com.example.task_board_be.enums.DefaultNameScope;
+import com.example.task_board_be.enums.OutboxEventType;
 import com.example.task_board_be.enums.task.TaskIcon;
 import com.example.task_board_be.enums.task.TaskStatus;
 import com.example.task_board_be.exception.custom.NotFoundException;
@@ -10,21 +15,35 @@ import com.example.task_board_be.pojo.entity.Board;
 import com.example.task_board_be.pojo.entity.Task;
 import com.example.task_board_be.pojo.model.BoardModel;
 import com.example.task_board_be.pojo.model.TaskModel;
+import com.example.task_board_be.pojo.projection.EntityVersion;
+import com.example.task_board_be.pojo.projection.LockedTask;
+import com.example.task_board_be.pojo.projection.TaskCount;
+import com.example.task_board_be.pojo.projection.TaskView;
 import com.example.task_board_be.repo.entity.BoardRepository;
+import com.example.task_board_be.repo.entity.BoardTaskCountRepository;
 import com.example.task_board_be.repo.entity.TaskRepository;
+import com.example.task_board_be.repo.search.SearchRank;
+import com.example.task_board_be.repo.search.TextSearchEngine;
 import com.example.task_board_be.service.entity.impl.TaskServiceImpl;
+import com.example.task_board_be.service.event.BoardEventService;
+import com.example.task_board_be.service.naming.DefaultNameService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentMatchers;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.*;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -41,6 +60,18 @@ class TaskServiceImplTest {
     private BoardMapper boardMapper;
     @Mock
     private BoardRepository boardRepo;
+    @Mock
+    private CountCache countCache;
+    @Mock
+    private TextSearchEngine searchEngine;
+    @Mock
+    private ModelCache modelCache;
+    @Mock
+    private BoardTaskCountRepository taskCountRepo;
+    @Mock
+    private DefaultNameService defaultNameService;
+    @Mock
+    private BoardEventService eventService;
 
     @InjectMocks
     private TaskServiceImpl service;
@@ -48,35 +79,79 @@ class TaskServiceImplTest {
     @Test
     void testGetPage_ok() {
         Pageable p = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt"));
-        Task t = mock(Task.class);
-        TaskModel m = mock(TaskModel.class);
+        TaskView v = taskView(1L);
 
-        when(repo.findAll(ArgumentMatchers.<Specification<Task>>any(), any(Pageable.class)))
-                .thenReturn(new PageImpl<>(List.of(t), p, 1));
-        when(mapper.toModel(t)).thenReturn(m);
+        when(repo.findViewSlice(ArgumentMatchers.<Specification<Task>>any(), ArgumentMatchers.<SearchRank<Task>>any(), eq(p)))
+                .thenReturn(new SliceImpl<>(List.of(v), p, false));
 
-        Page<TaskModel> page = service.getPage("foo", false, p);
+        Page<TaskView> page = service.getPage("foo", false, p);
 
         assertEquals(1, page.getTotalElements());
-        verify(repo).findAll(ArgumentMatchers.<Specification<Task>>any(), eq(p));
-        verify(mapper).toModel(t);
+        // pagina incompleta: il totale si deduce senza count
+        verifyNoInteractions(countCache, mapper);
+        verify(repo, never()).count(ArgumentMatchers.<Specification<Task>>any());
+    }
+
+    @Test
+    void testGetPage_fullPage_usesCountCache() {
+        Pageable p = PageRequest.of(0, 1);
+        TaskView v = taskView(1L);
+
+        when(repo.findViewSlice(ArgumentMatchers.<Specification<Task>>any(), ArgumentMatchers.<SearchRank<Task>>any(), eq(p)))
+                .thenReturn(new SliceImpl<>(List.of(v), p, true));
+        when(countCache.getOrCount(eq("task"), eq("foo"), eq(99L), eq(false), any())).thenReturn(42L);
+
+        Page<TaskView> page = service.getPage("foo", 99L, false, p);
+
+        assertEquals(42, page.getTotalElements());
+        assertEquals(42, page.getTotalPages());
+    }
+
+    @Test
+    void testGetSlice_ok() {
+        Pageable p = PageRequest.of(0, 1);
+        TaskView v = taskView(1L);
+
+        when(repo.findViewSlice(ArgumentMatchers.<Specification<Task>>any(), ArgumentMatchers.<SearchRank<Task>>any(), eq(p)))
+                .thenReturn(new SliceImpl<>(List.of(v), p, true));
+
+        Slice<TaskView> slice = service.getSlice("foo", 99L, false, p);
+
+        assertTrue(slice.hasNext());
+        assertSame(v, slice.getContent().get(0));
+        verifyNoInteractions(countCache);
     }
 
     @Test
     void testGetPage_withBoard_ok() {
         Pageable p = PageRequest.of(1, 10);
-        Task t = mock(Task.class);
-        TaskModel m = mock(TaskModel.class);
+        TaskView v = taskView(1L);
 
-        when(repo.findAll(ArgumentMatchers.<Specification<Task>>any(), any(Pageable.class)))
-                .thenReturn(new PageImpl<>(List.of(t), p, 1));
-        when(mapper.toModel(t)).thenReturn(m);
+        when(repo.findViewSlice(ArgumentMatchers.<Specification<Task>>any(), ArgumentMatchers.<SearchRank<Task>>any(), eq(p)))
+                .thenReturn(new SliceImpl<>(List.of(v), p, false));
 
-        Page<TaskModel> page = service.getPage("bar", 99L, true, p);
+        Page<TaskView> page = service.getPage("bar", 99L, true, p);
 
         assertEquals(1, page.getNumberOfElements());
-        verify(repo).findAll(ArgumentMatchers.<Specification<Task>>any(), eq(p));
-        verify(mapper).toModel(t);
+        assertEquals(11, page.getTotalElements());
+    }
+
+    @Test
+    void testGetWindow_withBoard_ok() {
+        TaskView v = taskView(5L);
+        KeysetScrollPosition position = ScrollPosition.keyset();
+        ScrollPosition next = ScrollPosition.forward(Map.of("createdAt", v.createdAt(), "id", 5L));
+
+        when(repo.findViewWindow(ArgumentMatchers.<Specification<Task>>any(), eq(position), eq(1)))
+                .thenReturn(Window.from(List.of(v), i -> next, true));
+
+        Window<TaskView> window = service.getWindow("bar", 99L, false, position, 1);
+
+        assertEquals(1, window.size());
+        assertTrue(window.hasNext());
+        assertSame(v, window.getContent().get(0));
+        assertEquals(next, window.positionAt(0));
+        verifyNoInteractions(mapper);
     }
 
     @Test
@@ -109,6 +184,7 @@ class TaskServiceImplTest {
 
     @Test
     void testGetEl_ok_active() {
+        passThroughModelCache();
         Task t = mock(Task.class);
         when(t.isArchived()).thenReturn(false);
         when(repo.findById(10L)).thenReturn(Optional.of(t));
@@ -119,16 +195,29 @@ class TaskServiceImplTest {
         TaskModel out = service.getEl(10L, false);
 
         assertSame(m, out);
+        verify(modelCache).get(eq("task"), eq(10L), eq(false), any());
+    }
+
+    @Test
+    void testGetVersion_probeOnly() {
+        EntityVersion version = new EntityVersion(LocalDateTime.of(2025, 1, 1, 10, 0));
+        when(repo.findVersion(10L, false)).thenReturn(Optional.of(version));
+
+        assertEquals(Optional.of(version), service.getVersion(10L, false));
+        verify(repo, never()).findById(anyLong());
+        verifyNoInteractions(mapper, modelCache);
     }
 
     @Test
     void testGetEl_notFound_throws() {
+        passThroughModelCache();
         when(repo.findById(999L)).thenReturn(Optional.empty());
         assertThrows(NotFoundException.class, () -> service.getEl(999L, false));
     }
 
     @Test
     void testGetEl_stateMismatch_throws() {
+        passThroughModelCache();
         Task t = mock(Task.class);
         when(t.isArchived()).thenReturn(true);
         when(repo.findById(5L)).thenReturn(Optional.of(t));
@@ -144,7 +233,7 @@ class TaskServiceImplTest {
         when(input.getBoardModel()).thenReturn(bm);
 
         Board board = mock(Board.class);
-        when(boardRepo.findById(42L)).thenReturn(Optional.of(board));
+        when(boardRepo.findByIdForUpdate(42L)).thenReturn(Optional.of(board));
 
         Task entity = mock(Task.class);
         when(entity.getName()).thenReturn("  ");
@@ -152,8 +241,7 @@ class TaskServiceImplTest {
         when(entity.getIcon()).thenReturn(null);
         when(mapper.toEntity(input)).thenReturn(entity);
 
-        when(repo.findNamesByPrefixForBoard(42L, "New Task"))
-                .thenReturn(Arrays.asList("New Task", "New Task 2", "New Task 3", "New Task 5", null, "  new task  ", "New Task x"));
+        when(defaultNameService.allocate(DefaultNameScope.TASK, 42L)).thenReturn(4);
 
         Task saved = mock(Task.class);
         when(repo.save(entity)).thenReturn(saved);
@@ -168,6 +256,7 @@ class TaskServiceImplTest {
 
         assertSame(out, res);
         verify(entity).setName("New Task 4");
+        verify(entity).setDefaultNameIndex(4);
         verify(entity).setStatus(TaskStatus.NONE);
         verify(entity).setIcon(TaskIcon.NONE);
         verify(repo).save(entity);
@@ -187,11 +276,14 @@ class TaskServiceImplTest {
 
         Task entity = mock(Task.class);
         when(entity.getName()).thenReturn("Given");
+        when(entity.getDefaultNameIndex()).thenReturn(null);
         when(entity.getStatus()).thenReturn(TaskStatus.DONE);
         when(entity.getIcon()).thenReturn(TaskIcon.BUG);
         when(mapper.toEntity(input)).thenReturn(entity);
 
         Task saved = mock(Task.class);
+        when(saved.getId()).thenReturn(70L);
+        when(saved.getStatus()).thenReturn(TaskStatus.TODO);
         when(repo.save(entity)).thenReturn(saved);
 
         TaskModel out = mock(TaskModel.class);
@@ -204,9 +296,16 @@ class TaskServiceImplTest {
 
         assertSame(out, res);
         verify(entity, never()).setName(anyString());
+        verify(entity).setDefaultNameIndex(null);
+        verify(boardRepo, never()).findByIdForUpdate(anyLong());
+        verifyNoInteractions(defaultNameService);
         verify(entity, never()).setStatus(TaskStatus.NONE);
         verify(entity, never()).setIcon(TaskIcon.NONE);
         verify(repo).save(entity);
+        verify(modelCache).invalidate("board", 7L);
+        InOrder inOrder = inOrder(repo, taskCountRepo);
+        inOrder.verify(repo).save(entity);
+        inOrder.verify(taskCountRepo).addByKey(7L, TaskStatus.TODO, false, 1);
     }
 
     @Test
@@ -217,7 +316,7 @@ class TaskServiceImplTest {
         when(in.getBoardModel()).thenReturn(bm);
 
         Board board = mock(Board.class);
-        when(boardRepo.findById(100L)).thenReturn(Optional.of(board));
+        when(boardRepo.findByIdForUpdate(100L)).thenReturn(Optional.of(board));
 
         Task entity = mock(Task.class);
         when(entity.getName()).thenReturn(" ");
@@ -225,7 +324,7 @@ class TaskServiceImplTest {
         when(entity.getIcon()).thenReturn(null);
         when(mapper.toEntity(in)).thenReturn(entity);
 
-        when(repo.findNamesByPrefixForBoard(100L, "New Task")).thenReturn(List.of());
+        when(defaultNameService.allocate(DefaultNameScope.TASK, 100L)).thenReturn(1);
 
         Task saved = mock(Task.class);
         when(repo.save(entity)).thenReturn(saved);
@@ -239,83 +338,113 @@ class TaskServiceImplTest {
 
         assertSame(out, res);
         verify(entity).setName("New Task");
+        verify(entity).setDefaultNameIndex(1);
+        InOrder inOrder = inOrder(boardRepo, defaultNameService);
+        inOrder.verify(boardRepo).findByIdForUpdate(100L);
+        inOrder.verify(defaultNameService).allocate(DefaultNameScope.TASK, 100L);
         verify(entity).setStatus(TaskStatus.NONE);
         verify(entity).setIcon(TaskIcon.NONE);
         verify(out).setBoardModel(mappedBoard);
     }
 
     @Test
-    void testCreate_blankName_namesCoverAllBranches_generatesMissingIndex() {
+    void testCreate_blankName_usesAllocatedIndex() {
         TaskModel in = mock(TaskModel.class);
         BoardModel bm = new BoardModel();
-        bm.setId(42L);
+        bm.setId(77L);
         when(in.getBoardModel()).thenReturn(bm);
 
         Board board = mock(Board.class);
-        when(boardRepo.findById(42L)).thenReturn(Optional.of(board));
+        when(boardRepo.findByIdForUpdate(77L)).thenReturn(Optional.of(board));
 
         Task entity = mock(Task.class);
-        when(entity.getName()).thenReturn("   ");
+        when(entity.getName()).thenReturn("");
         when(entity.getStatus()).thenReturn(null);
         when(entity.getIcon()).thenReturn(null);
         when(mapper.toEntity(in)).thenReturn(entity);
 
-        when(repo.findNamesByPrefixForBoard(42L, "New Task"))
-                .thenReturn(Arrays.asList(
-                        null,
-                        "New Task",
-                        "  new task  ",
-                        "New Task 2",
-                        "New Task 3",
-                        "New Task x",
-                        "New Task 5"
-                ));
+        when(defaultNameService.allocate(DefaultNameScope.TASK, 77L)).thenReturn(2);
 
         Task saved = mock(Task.class);
         when(repo.save(entity)).thenReturn(saved);
 
         TaskModel out = mock(TaskModel.class);
         when(mapper.toModel(saved)).thenReturn(out);
-        BoardModel mappedBoard = mock(BoardModel.class);
-        when(boardMapper.toModel(board)).thenReturn(mappedBoard);
 
         TaskModel res = service.create(in);
 
         assertSame(out, res);
-        verify(entity).setName("New Task 4");
-        verify(entity).setStatus(TaskStatus.NONE);
-        verify(entity).setIcon(TaskIcon.NONE);
-        verify(out).setBoardModel(mappedBoard);
+        verify(entity).setName("New Task 2");
     }
 
     @Test
-    void testCreate_blankName_namesOnlyBaseTriggersWhileOnce() {
-        TaskModel in = mock(TaskModel.class);
+    void testCreateList_groupsByBoard_locksOnlyForDefaultNames() {
+        BoardModel bm1 = new BoardModel();
+        bm1.setId(1L);
+        BoardModel bm2 = new BoardModel();
+        bm2.setId(2L);
+        TaskModel in1 = new TaskModel();
+        in1.setBoardModel(bm1);
+        TaskModel in2 = new TaskModel();
+        in2.setBoardModel(bm2);
+        TaskModel in3 = new TaskModel();
+        in3.setBoardModel(bm1);
+
+        Task unnamed1 = new Task(null, null, null, null);
+        Task named = new Task("Deploy", null, TaskStatus.TODO, null);
+        Task unnamed2 = new Task("", null, null, null);
+        when(mapper.toEntity(in1)).thenReturn(unnamed1);
+        when(mapper.toEntity(in2)).thenReturn(named);
+        when(mapper.toEntity(in3)).thenReturn(unnamed2);
+
+        Board board1 = new Board(1L, "B1", null);
+        Board board2 = new Board(2L, "B2", null);
+        when(boardRepo.findByIdForUpdate(1L)).thenReturn(Optional.of(board1));
+        when(boardRepo.findById(2L)).thenReturn(Optional.of(board2));
+        when(defaultNameService.allocateRange(DefaultNameScope.TASK, 1L, 2, List.of())).thenReturn(List.of(2, 3));
+        when(boardMapper.toModel(board1)).thenReturn(bm1);
+        when(boardMapper.toModel(board2)).thenReturn(bm2);
+        when(repo.insertAll(anyList())).thenAnswer(inv -> inv.getArgument(0));
+        when(mapper.toModel(any(Task.class))).thenAnswer(inv -> new TaskModel());
+
+        List<TaskModel> res = service.createList(List.of(in1, in2, in3));
+
+        assertEquals(3, res.size());
+        assertSame(bm1, res.get(0).getBoardModel());
+        assertSame(bm2, res.get(1).getBoardModel());
+        assertEquals("New Task 2", unnamed1.getName());
+        assertEquals("New Task 3", unnamed2.getName());
+        assertSame(board1, unnamed2.getBoard());
+        assertEquals("Deploy", named.getName());
+        assertEquals(TaskStatus.TODO, named.getStatus());
+        assertEquals(TaskIcon.NONE, named.getIcon());
+        verify(boardRepo, never()).findByIdForUpdate(2L);
+        verify(defaultNameService, never()).allocateRange(eq(DefaultNameScope.TASK), eq(2L), anyInt(), anyCollection());
+        verify(repo).insertAll(List.of(unnamed1, named, unnamed2));
+        verify(repo, never()).save(any());
+        verify(countCache).invalidate("task", Set.of(1L, 2L));
+        // contatori dalle task inserite, una update per (board, status)
+        verify(taskCountRepo).addByKey(1L, TaskStatus.NONE, false, 2);
+        verify(taskCountRepo).addByKey(2L, TaskStatus.TODO, false, 1);
+        verifyNoMoreInteractions(taskCountRepo);
+    }
+
+    @Test
+    void testCreateList_missingBoard_throwsNotFound() {
         BoardModel bm = new BoardModel();
-        bm.setId(77L);
-        when(in.getBoardModel()).thenReturn(bm);
-
-        Board board = mock(Board.class);
-        when(boardRepo.findById(77L)).thenReturn(Optional.of(board));
-
-        Task entity = mock(Task.class);
-        when(entity.getName()).thenReturn("");
-        when(entity.getStatus()).thenReturn(null);
-        when(entity.getIcon()).thenReturn(null);
-        when(mapper.toEntity(in)).thenReturn(entity);
-
-        when(repo.findNamesByPrefixForBoard(77L, "New Task")).thenReturn(List.of("New Task"));
-
-        Task saved = mock(Task.class);
-        when(repo.save(entity)).thenReturn(saved);
+        bm.setId(9L);
+        TaskModel in = new TaskModel();
+        in.setBoardModel(bm);
+        when(mapper.toEntity(in)).thenReturn(new Task("T", null, null, null));
+        when(boardRepo.findById(9L)).thenReturn(Optional.empty());
 
-        TaskModel out = mock(TaskModel.class);
-        when(mapper.toModel(saved)).thenReturn(out);
-
-        TaskModel res = service.create(in);
+        assertThrows(NotFoundException.class, () -> service.createList(List.of(in)));
+        verify(repo, never()).insertAll(anyList());
+    }
 
-        assertSame(out, res);
-        verify(entity).setName("New Task 2");
+    @Test
+    void testCreateList_missingBoardId_throwsIllegalArgument() {
+        assertThrows(IllegalArgumentException.class, () -> service.createList(List.of(new TaskModel())));
     }
 
     @Test
@@ -329,7 +458,9 @@ class TaskServiceImplTest {
 
         Task existing = mock(Task.class);
         when(existing.isArchived()).thenReturn(false);
-        when(repo.findById(15L)).thenReturn(Optional.of(existing));
+        when(existing.getBoard()).thenReturn(boardWithId(3L));
+        when(existing.getStatus()).thenReturn(TaskStatus.TODO, TaskStatus.IN_PROGRESS);
+        when(repo.findByIdForUpdate(15L)).thenReturn(Optional.of(existing));
 
         TaskModel out = mock(TaskModel.class);
         when(mapper.toModel(existing)).thenReturn(out);
@@ -338,10 +469,60 @@ class TaskServiceImplTest {
 
         assertSame(out, res);
         verify(existing).setName("N");
+        verify(existing).setDefaultNameIndex(null);
         verify(existing).setDescription("D");
         verify(existing).setStatus(TaskStatus.IN_PROGRESS);
         verify(existing).setIcon(TaskIcon.FEATURE);
         verify(repo).save(existing);
+        verify(repo).insertOutboxEvents(List.of(15L), false, OutboxEventType.UPDATED);
+        verify(eventService).publish(BoardEventType.TASK_UPDATED, 3L, List.of(15L));
+        // status cambiato: task bloccata prima di leggerlo, poi -1 e +1 in ordine di status
+        InOrder inOrder = inOrder(repo, taskCountRepo);
+        inOrder.verify(repo).findByIdForUpdate(15L);
+        inOrder.verify(repo).save(existing);
+        inOrder.verify(taskCountRepo).addByKey(3L, TaskStatus.TODO, false, -1);
+        inOrder.verify(taskCountRepo).addByKey(3L, TaskStatus.IN_PROGRESS, false, 1);
+        verify(repo, never()).findById(anyLong());
+    }
+
+    @Test
+    void testUpdate_sameStatus_leavesCountersAlone() {
+        TaskModel in = mock(TaskModel.class);
+        when(in.getId()).thenReturn(17L);
+        when(in.getName()).thenReturn("N");
+        when(in.getStatus()).thenReturn(TaskStatus.DONE);
+
+        Task existing = new Task(17L, "Old", null, TaskStatus.DONE, TaskIcon.NONE);
+        existing.setBoard(boardWithId(3L));
+        when(repo.findByIdForUpdate(17L)).thenReturn(Optional.of(existing));
+
+        service.update(in);
+
+        verify(repo).save(existing);
+        verifyNoInteractions(taskCountRepo);
+        verifyNoInteractions(defaultNameService);
+        verify(boardRepo, never()).findByIdForUpdate(anyLong());
+    }
+
+    @Test
+    void testUpdate_renameToDefaultName_locksBoardAndReleasesOldIndex() {
+        TaskModel in = mock(TaskModel.class);
+        when(in.getId()).thenReturn(18L);
+        when(in.getName()).thenReturn("New Task 5");
+        when(in.getStatus()).thenReturn(TaskStatus.DONE);
+
+        Task existing = new Task(18L, "New Task 2", null, TaskStatus.DONE, TaskIcon.NONE);
+        existing.setDefaultNameIndex(2);
+        existing.setBoard(boardWithId(3L));
+        when(repo.findByIdForUpdate(18L)).thenReturn(Optional.of(existing));
+
+        service.update(in);
+
+        assertEquals(5, existing.getDefaultNameIndex());
+        InOrder inOrder = inOrder(boardRepo, defaultNameService, repo);
+        inOrder.verify(boardRepo).findByIdForUpdate(3L);
+        inOrder.verify(defaultNameService).release(DefaultNameScope.TASK, 3L, 2);
+        inOrder.verify(repo).save(existing);
     }
 
     @Test
@@ -355,7 +536,8 @@ class TaskServiceImplTest {
 
         Task existing = mock(Task.class);
         when(existing.isArchived()).thenReturn(false);
-        when(repo.findById(16L)).thenReturn(Optional.of(existing));
+        when(existing.getBoard()).thenReturn(boardWithId(3L));
+        when(repo.findByIdForUpdate(16L)).thenReturn(Optional.of(existing));
 
         TaskModel out = mock(TaskModel.class);
         when(mapper.toModel(existing)).thenReturn(out);
@@ -372,8 +554,10 @@ class TaskServiceImplTest {
 
     @Test
     void testArchiveEl_wrapper_ok() {
+        lock(false, 5L);
         when(repo.archiveByIds(List.of(5L))).thenReturn(1);
         Task after = mock(Task.class);
+        when(after.getBoard()).thenReturn(boardWithId(3L));
         when(repo.findById(5L)).thenReturn(Optional.of(after));
         TaskModel out = mock(TaskModel.class);
         when(mapper.toModel(after)).thenReturn(out);
@@ -386,8 +570,10 @@ class TaskServiceImplTest {
 
     @Test
     void testRestoreEl_wrapper_ok() {
+        lock(true, 6L);
         when(repo.restoreByIds(List.of(6L))).thenReturn(1);
         Task after = mock(Task.class);
+        when(after.getBoard()).thenReturn(boardWithId(3L));
         when(repo.findById(6L)).thenReturn(Optional.of(after));
         TaskModel out = mock(TaskModel.class);
         when(mapper.toModel(after)).thenReturn(out);
@@ -400,6 +586,7 @@ class TaskServiceImplTest {
 
     @Test
     void testArchiveList_wrapper_ok() {
+        lock(false, 1L, 2L);
         when(repo.archiveByIds(List.of(1L, 2L))).thenReturn(2);
         int res = service.archiveList(List.of(1L, 2L));
         assertEquals(2, res);
@@ -413,6 +600,7 @@ class TaskServiceImplTest {
 
     @Test
     void testRestoreList_wrapper_ok() {
+        lock(true, 3L, 4L);
         when(repo.restoreByIds(List.of(3L, 4L))).thenReturn(2);
         int res = service.restoreList(List.of(3L, 4L));
         assertEquals(2, res);
@@ -424,10 +612,72 @@ class TaskServiceImplTest {
         assertEquals(0, res);
     }
 
+    @Test
+    void testRestoreListByBoardIds_ok() {
+        when(repo.countArchivedByBoardIds(List.of(1L, 2L))).thenReturn(List.of(
+                new TaskCount(2L, TaskStatus.TODO, 1), new TaskCount(1L, TaskStatus.DONE, 2)));
+        when(repo.restoreByBoardIds(List.of(1L, 2L))).thenReturn(3);
+
+        int res = service.restoreListByBoardIds(List.of(1L, 2L));
+
+        assertEquals(3, res);
+        InOrder inOrder = inOrder(boardRepo, repo, taskCountRepo);
+        inOrder.verify(boardRepo).lockIdsForUpdate(List.of(1L, 2L));
+        inOrder.verify(repo).countArchivedByBoardIds(List.of(1L, 2L));
+        inOrder.verify(taskCountRepo).addByKey(1L, TaskStatus.DONE, false, 2);
+        inOrder.verify(taskCountRepo).addByKey(1L, TaskStatus.DONE, true, -2);
+        inOrder.verify(taskCountRepo).addByKey(2L, TaskStatus.TODO, false, 1);
+        inOrder.verify(taskCountRepo).addByKey(2L, TaskStatus.TODO, true, -1);
+        inOrder.verify(repo).insertOutboxEventsOfArchivedByBoardIds(List.of(1L, 2L), OutboxEventType.RESTORED);
+        inOrder.verify(repo).restoreByBoardIds(List.of(1L, 2L));
+        verify(repo, never()).restoreByIds(anyCollection());
+        verify(countCache).invalidate("task", List.of(1L, 2L));
+        verify(countCache, never()).invalidate("task");
+        verify(modelCache).invalidateAll("task");
+        verify(modelCache).invalidate("board", List.of(1L, 2L));
+    }
+
+    @Test
+    void testRestoreListByBoardIds_empty_returnsZero() {
+        assertEquals(0, service.restoreListByBoardIds(List.of()));
+        verify(repo, never()).restoreByBoardIds(anyCollection());
+        verifyNoInteractions(boardRepo);
+    }
+
+    @Test
+    void testRestoreListOfActiveBoards_ok() {
+        when(repo.countArchivedOfActiveBoards()).thenReturn(List.of(new TaskCount(1L, TaskStatus.BLOCKED, 1)));
+        when(repo.restoreOfActiveBoards()).thenReturn(1);
+
+        assertEquals(1, service.restoreListOfActiveBoards());
+        InOrder inOrder = inOrder(boardRepo, repo, taskCountRepo);
+        inOrder.verify(boardRepo).lockActiveIdsForUpdate();
+        inOrder.verify(repo).countArchivedOfActiveBoards();
+        inOrder.verify(taskCountRepo).addByKey(1L, TaskStatus.BLOCKED, false, 1);
+        inOrder.verify(taskCountRepo).addByKey(1L, TaskStatus.BLOCKED, true, -1);
+        inOrder.verify(repo).insertOutboxEventsOfArchivedOfActiveBoards(OutboxEventType.RESTORED);
+        inOrder.verify(repo).restoreOfActiveBoards();
+        verify(countCache).invalidate("task");
+    }
+
+    @Test
+    void testToggleStateList_locksBoardsSharedBeforeTasks() {
+        lock(false, 3L, 4L);
+        when(repo.archiveByIds(List.of(3L, 4L))).thenReturn(2);
+
+        assertEquals(2, service.toggleStateList(List.of(3L, 4L), false));
+        InOrder inOrder = inOrder(boardRepo, repo);
+        inOrder.verify(boardRepo).lockIdsOfTasksForShare(List.of(3L, 4L));
+        inOrder.verify(repo).findForUpdate(List.of(3L, 4L), false);
+        inOrder.verify(repo).archiveByIds(List.of(3L, 4L));
+    }
+
     @Test
     void testToggleStateEl_archive_ok() {
+        when(repo.findForUpdate(List.of(5L), false)).thenReturn(List.of(new LockedTask(5L, 3L, TaskStatus.TODO)));
         when(repo.archiveByIds(List.of(5L))).thenReturn(1);
         Task after = mock(Task.class);
+        when(after.getBoard()).thenReturn(boardWithId(3L));
         when(repo.findById(5L)).thenReturn(Optional.of(after));
         TaskModel out = mock(TaskModel.class);
         when(mapper.toModel(after)).thenReturn(out);
@@ -435,13 +685,23 @@ class TaskServiceImplTest {
         TaskModel res = service.toggleStateEl(5L, false);
 
         assertSame(out, res);
-        verify(repo).archiveByIds(List.of(5L));
+        InOrder inOrder = inOrder(repo, taskCountRepo, defaultNameService);
+        inOrder.verify(repo).findForUpdate(List.of(5L), false);
+        inOrder.verify(repo).insertOutboxEvents(List.of(5L), false, OutboxEventType.ARCHIVED);
+        inOrder.verify(taskCountRepo).addByKey(3L, TaskStatus.TODO, false, -1);
+        inOrder.verify(taskCountRepo).addByKey(3L, TaskStatus.TODO, true, 1);
+        inOrder.verify(defaultNameService).releaseOfActiveTasks(List.of(5L));
+        inOrder.verify(repo).archiveByIds(List.of(5L));
+        verify(modelCache).invalidate("task", 5L);
+        verify(modelCache).invalidate("board", 3L);
     }
 
     @Test
     void testToggleStateEl_restore_ok() {
+        lock(true, 6L);
         when(repo.restoreByIds(List.of(6L))).thenReturn(1);
         Task after = mock(Task.class);
+        when(after.getBoard()).thenReturn(boardWithId(3L));
         when(repo.findById(6L)).thenReturn(Optional.of(after));
         TaskModel out = mock(TaskModel.class);
         when(mapper.toModel(after)).thenReturn(out);
@@ -450,19 +710,20 @@ class TaskServiceImplTest {
 
         assertSame(out, res);
         verify(repo).restoreByIds(List.of(6L));
+        verifyNoInteractions(defaultNameService);
     }
 
     @Test
-    void testToggleStateEl_archive_zeroUpdated_notFound_throws() {
-        when(repo.archiveByIds(List.of(50L))).thenReturn(0);
+    void testToggleStateEl_archive_notLocked_notFound_throws() {
         when(repo.existsById(50L)).thenReturn(false);
 
         assertThrows(NotFoundException.class, () -> service.toggleStateEl(50L, false));
+        verify(repo, never()).archiveByIds(anyCollection());
+        verifyNoInteractions(taskCountRepo);
     }
 
     @Test
-    void testToggleStateEl_archive_zeroUpdated_stateMismatch_throws() {
-        when(repo.archiveByIds(List.of(51L))).thenReturn(0);
+    void testToggleStateEl_archive_notLocked_stateMismatch_throws() {
         when(repo.existsById(51L)).thenReturn(true);
 
         assertThrows(StateMismatchException.class, () -> service.toggleStateEl(51L, false));
@@ -470,6 +731,7 @@ class TaskServiceImplTest {
 
     @Test
     void testToggleStateEl_afterUpdate_entityMissing_illegalState() {
+        lock(true, 70L);
         when(repo.restoreByIds(List.of(70L))).thenReturn(1);
         when(repo.findById(70L)).thenReturn(Optional.empty());
 
@@ -484,74 +746,134 @@ class TaskServiceImplTest {
     }
 
     @Test
-    void testToggleStateList_archive_zeroUpdated_returnsZero() {
-        when(repo.archiveByIds(List.of(1L, 2L))).thenReturn(0);
-
+    void testToggleStateList_archive_noneLocked_returnsZero() {
         int res = service.toggleStateList(List.of(1L, 2L), false);
 
         assertEquals(0, res);
+        verify(repo, never()).archiveByIds(anyCollection());
+        verify(repo, never()).insertOutboxEvents(anyCollection(), anyBoolean(), any());
     }
 
     @Test
     void testToggleStateList_restore_ok_returnsUpdated() {
+        when(repo.findForUpdate(List.of(3L, 4L), true)).thenReturn(List.of(
+                new LockedTask(3L, 1L, TaskStatus.TODO), new LockedTask(4L, 1L, TaskStatus.NONE)));
         when(repo.restoreByIds(List.of(3L, 4L))).thenReturn(2);
 
         int res = service.toggleStateList(List.of(3L, 4L), true);
 
         assertEquals(2, res);
+        // stessa board: chiavi in ordine di status, poi attiva prima di archiviata
+        InOrder inOrder = inOrder(repo, taskCountRepo);
+        inOrder.verify(repo).findForUpdate(List.of(3L, 4L), true);
+        inOrder.verify(taskCountRepo).addByKey(1L, TaskStatus.NONE, false, 1);
+        inOrder.verify(taskCountRepo).addByKey(1L, TaskStatus.NONE, true, -1);
+        inOrder.verify(taskCountRepo).addByKey(1L, TaskStatus.TODO, false, 1);
+        inOrder.verify(taskCountRepo).addByKey(1L, TaskStatus.TODO, true, -1);
+        inOrder.verify(repo).restoreByIds(List.of(3L, 4L));
     }
 
     @Test
     void testToggleStateList_archive_ok_returnsUpdated() {
+        lock(false, 9L, 10L);
         when(repo.archiveByIds(List.of(9L, 10L))).thenReturn(2);
 
         int res = service.toggleStateList(List.of(9L, 10L), false);
+        verify(modelCache).invalidate("task", List.of(9L, 10L));
+        verify(modelCache).invalidate("board", Set.of(3L));
+        verify(modelCache, never()).invalidateAll("board");
 
         assertEquals(2, res);
     }
 
+    @Test
+    void testToggleStateList_publishesAndCountsOnlyTasksInTheStartingState() {
+        when(repo.findForUpdate(List.of(9L, 10L), false)).thenReturn(List.of(new LockedTask(9L, 30L, TaskStatus.DONE)));
+        when(repo.archiveByIds(List.of(9L))).thenReturn(1);
+
+        service.toggleStateList(List.of(9L, 10L), false);
+
+        // la 10 non è stata bloccata: outbox, nomi di default e update restano sulla sola 9
+        InOrder inOrder = inOrder(repo);
+        inOrder.verify(repo).findForUpdate(List.of(9L, 10L), false);
+        inOrder.verify(repo).insertOutboxEvents(List.of(9L), false, OutboxEventType.ARCHIVED);
+        inOrder.verify(repo).archiveByIds(List.of(9L));
+        verify(defaultNameService).releaseOfActiveTasks(List.of(9L));
+        verify(eventService).publish(BoardEventType.TASK_ARCHIVED, Map.of(30L, List.of(9L)));
+        verify(taskCountRepo).addByKey(30L, TaskStatus.DONE, false, -1);
+        verify(taskCountRepo).addByKey(30L, TaskStatus.DONE, true, 1);
+        verifyNoMoreInteractions(taskCountRepo);
+        verify(countCache).invalidate("task", Set.of(30L));
+    }
+
     @Test
     void testDelete_ok_returnsCount() {
+        when(repo.findForUpdate(List.of(9L), true)).thenReturn(List.of(new LockedTask(9L, 4L, TaskStatus.DONE)));
         when(repo.deleteByIdsIfArchived(List.of(9L))).thenReturn(1);
 
         int count = service.delete(9L);
 
         assertEquals(1, count);
-        verify(repo).deleteByIdsIfArchived(List.of(9L));
+        InOrder inOrder = inOrder(repo, taskCountRepo);
+        inOrder.verify(repo).findForUpdate(List.of(9L), true);
+        inOrder.verify(repo).insertTombstonesIfArchived(List.of(9L));
+        inOrder.verify(repo).insertOutboxEvents(List.of(9L), true, OutboxEventType.DELETED);
+        inOrder.verify(taskCountRepo).addByKey(4L, TaskStatus.DONE, true, -1);
+        inOrder.verify(repo).deleteByIdsIfArchived(List.of(9L));
+        verify(modelCache).invalidate("task", 9L);
+        verify(modelCache, never()).invalidate(eq("board"), anyLong());
     }
 
     @Test
-    void testDelete_zeroUpdated_notFound_throws() {
-        when(repo.deleteByIdsIfArchived(List.of(90L))).thenReturn(0);
+    void testDelete_notLocked_notFound_throws() {
         when(repo.existsById(90L)).thenReturn(false);
 
         assertThrows(NotFoundException.class, () -> service.delete(90L));
     }
 
     @Test
-    void testDelete_zeroUpdated_stateMismatch_throws() {
-        when(repo.deleteByIdsIfArchived(List.of(91L))).thenReturn(0);
+    void testDelete_notLocked_stateMismatch_throws() {
         when(repo.existsById(91L)).thenReturn(true);
 
         assertThrows(StateMismatchException.class, () -> service.delete(91L));
+        verify(repo, never()).insertTombstonesIfArchived(anyCollection());
+        verify(repo, never()).deleteByIdsIfArchived(anyCollection());
     }
 
     @Test
     void testDeleteList_ok_returnsCount() {
+        lock(true, 1L, 2L);
         when(repo.deleteByIdsIfArchived(List.of(1L, 2L))).thenReturn(2);
 
         int count = service.deleteList(List.of(1L, 2L));
 
         assertEquals(2, count);
+        verify(repo).insertTombstonesIfArchived(List.of(1L, 2L));
+        verify(taskCountRepo).addByKey(3L, TaskStatus.TODO, true, -2);
     }
 
     @Test
-    void testDeleteList_zeroUpdated_returnsZero() {
-        when(repo.deleteByIdsIfArchived(List.of(7L, 8L))).thenReturn(0);
+    void testDeleteList_publishesAndCountsPerBoard() {
+        when(repo.findForUpdate(List.of(1L, 2L, 3L), true)).thenReturn(List.of(new LockedTask(1L, 10L, TaskStatus.TODO),
+                new LockedTask(2L, 20L, TaskStatus.TODO), new LockedTask(3L, 10L, TaskStatus.TODO)));
+        when(repo.deleteByIdsIfArchived(List.of(1L, 2L, 3L))).thenReturn(3);
 
+        service.deleteList(List.of(1L, 2L, 3L));
+
+        verify(eventService).publish(BoardEventType.TASK_DELETED, Map.of(10L, List.of(1L, 3L), 20L, List.of(2L)));
+        verify(eventService, never()).publishResync();
+        verify(taskCountRepo).addByKey(10L, TaskStatus.TODO, true, -2);
+        verify(taskCountRepo).addByKey(20L, TaskStatus.TODO, true, -1);
+        verify(countCache).invalidate("task", Set.of(10L, 20L));
+        verify(countCache, never()).invalidate("task");
+    }
+
+    @Test
+    void testDeleteList_noneLocked_returnsZero() {
         int count = service.deleteList(List.of(7L, 8L));
 
         assertEquals(0, count);
+        verify(repo, never()).deleteByIdsIfArchived(anyCollection());
     }
 
     @Test
@@ -559,4 +881,25 @@ class TaskServiceImplTest {
         int count = service.deleteList(null);
         assertEquals(0, count);
     }
+
+    private TaskView taskView(Long id) {
+        return new TaskView(id, "Task " + id, null, TaskStatus.NONE, TaskIcon.NONE, 99L, LocalDateTime.now());
+    }
+
+    private void passThroughModelCache() {
+        when(modelCache.get(anyString(), anyLong(), anyBoolean(), any()))
+                .thenAnswer(inv -> inv.<Supplier<?>>getArgument(3).get());
+    }
+
+    /// Task bloccate da findForUpdate, tutte della board 3 in TODO
+    private void lock(boolean isArchived, Long... idList) {
+        when(repo.findForUpdate(List.of(idList), isArchived)).thenReturn(
+                Arrays.stream(idList).map(id -> new LockedTask(id, 3L, TaskStatus.TODO)).toList());
+    }
+
+    private Board boardWithId(Long id) {
+        Board board = new Board();
+        board.setId(id);
+        return board;
+    }
 }
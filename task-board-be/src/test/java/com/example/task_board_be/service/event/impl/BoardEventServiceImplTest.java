@@ -0,0 +1,226 @@
+package com.example.task_board_be.service.event.impl;
+
+import com.example.task_board_be.enums.BoardEventType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+class BoardEventServiceImplTest {
+
+    private BoardEventServiceImpl service;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        if (service != null) service.shutdown();
+    }
+
+    @Test
+    void testPublish_deliversOnlyToSubscribersOfTheBoard() throws Exception {
+        service = newService(16, 16);
+        MockHttpServletResponse stream = open(1L, null);
+
+        service.publish(BoardEventType.TASK_UPDATED, 2L, List.of(9L));
+        service.publish(BoardEventType.TASK_CREATED, 1L, List.of(5L));
+
+        String content = awaitContent(stream, "event:task-created");
+        assertTrue(content.contains("id:2\n"));
+        assertTrue(content.contains("\"taskIdList\":[5]"));
+        assertFalse(content.contains("task-updated"));
+        assertEquals(Set.of(1L), service.getSubscribedBoardIds());
+    }
+
+    @Test
+    void testPublish_byBoardMap_andResyncToEveryStream() throws Exception {
+        service = newService(16, 16);
+        MockHttpServletResponse firstStream = open(1L, null);
+        MockHttpServletResponse secondStream = open(2L, null);
+
+        service.publish(BoardEventType.TASK_DELETED, Map.of(1L, List.of(3L), 2L, List.of(4L)));
+        service.publishResync();
+
+        assertTrue(awaitContent(firstStream, "event:resync").contains("\"taskIdList\":[3]"));
+        assertTrue(awaitContent(secondStream, "event:resync").contains("\"taskIdList\":[4]"));
+        assertEquals(2, service.getSubscriberCount());
+    }
+
+    @Test
+    void testPublish_insideTransaction_waitsForCommit() throws Exception {
+        service = newService(16, 16);
+        MockHttpServletResponse stream = open(1L, null);
+        TransactionSynchronizationManager.initSynchronization();
+
+        service.publish(BoardEventType.BOARD_UPDATED, 1L, List.of());
+        service.publishResync();
+
+        List<TransactionSynchronization> synchronizationList = TransactionSynchronizationManager.getSynchronizations();
+        assertEquals(2, synchronizationList.size());
+        assertFalse(stream.getContentAsString().contains("event:"));
+
+        synchronizationList.forEach(TransactionSynchronization::afterCommit);
+
+        assertTrue(awaitContent(stream, "event:resync").contains("event:board-updated"));
+    }
+
+    @Test
+    void testSubscribe_lastEventId_replaysOnlyLaterEventsOfTheBoard() throws Exception {
+        service = newService(16, 16);
+        service.publish(BoardEventType.TASK_CREATED, 1L, List.of(1L));
+        service.publish(BoardEventType.TASK_CREATED, 2L, List.of(2L));
+        service.publish(BoardEventType.TASK_UPDATED, 1L, List.of(1L));
+        service.publish(BoardEventType.TASK_ARCHIVED, 1L, List.of(1L));
+
+        String content = awaitContent(open(1L, 1L), "event:task-archived");
+
+        assertTrue(content.contains("id:3\nevent:task-updated"));
+        assertFalse(content.contains("task-created"));
+    }
+
+    @Test
+    void testSubscribe_lastEventIdOutOfHistory_sendsResync() throws Exception {
+        service = newService(16, 2);
+        for (long id = 1; id <= 4; id++) service.publish(BoardEventType.TASK_UPDATED, 1L, List.of(id));
+
+        String content = awaitContent(open(1L, 1L), "event:resync");
+
+        assertTrue(content.contains("id:4\n"));
+        assertFalse(content.contains("task-updated"));
+    }
+
+    @Test
+    void testSubscribe_lastEventIdFromPreviousRun_sendsResync() throws Exception {
+        service = newService(16, 16);
+        service.publish(BoardEventType.TASK_UPDATED, 1L, List.of(1L));
+
+        assertTrue(awaitContent(open(1L, 500L), "event:resync").contains("id:1\n"));
+    }
+
+    @Test
+    void testBoardDeleted_closesStream() throws Exception {
+        service = newService(16, 16);
+        open(1L, null);
+
+        service.publish(BoardEventType.BOARD_DELETED, 1L, List.of());
+
+        awaitSubscriberCount(0);
+        assertFalse(service.hasSubscribers());
+        assertEquals(Set.of(), service.getSubscribedBoardIds());
+    }
+
+    @Test
+    void testBufferOverflow_closesStream() throws Exception {
+        service = newService(1, 256);
+        open(1L, null);
+
+        // la pubblicazione accoda più in fretta di quanto il dispatch riesca a scrivere
+        for (long id = 1; id <= 200; id++) service.publish(BoardEventType.TASK_UPDATED, 1L, List.of(id));
+
+        awaitSubscriberCount(0);
+    }
+
+    @Test
+    void testSubscribe_backlogLongerThanBuffer_sendsResync() throws Exception {
+        service = newService(4, 256);
+        for (long id = 1; id <= 5; id++) service.publish(BoardEventType.TASK_UPDATED, 1L, List.of(id));
+        service.publish(BoardEventType.TASK_UPDATED, 2L, List.of(6L));
+
+        String content = awaitContent(open(1L, 0L), "event:resync");
+
+        assertTrue(content.contains("id:6\n"));
+        assertFalse(content.contains("task-updated"));
+        assertEquals(1, service.getSubscriberCount());
+    }
+
+    @Test
+    void testSubscribe_backlogFillingTheBuffer_replaysEvents() throws Exception {
+        service = newService(4, 256);
+        for (long id = 1; id <= 4; id++) service.publish(BoardEventType.TASK_UPDATED, 1L, List.of(id));
+        service.publish(BoardEventType.TASK_UPDATED, 2L, List.of(5L));
+
+        String content = awaitContent(open(1L, 0L), "id:4\n");
+
+        assertFalse(content.contains("resync"));
+    }
+
+    @Test
+    void testSendHeartbeat_writesComment() throws Exception {
+        service = newService(16, 16);
+        MockHttpServletResponse stream = open(1L, null);
+
+        assertEquals(1, service.sendHeartbeat());
+
+        awaitContent(stream, ":heartbeat");
+    }
+
+    private BoardEventServiceImpl newService(int bufferSize, int historySize) {
+        return new BoardEventServiceImpl(bufferSize, historySize, Duration.ofMinutes(1), 1, Duration.ofSeconds(10));
+    }
+
+    private MockHttpServletResponse open(Long boardId, Long lastEventId) throws Exception {
+        MockMvc mvc = MockMvcBuilders.standaloneSetup(new StreamController(service)).build();
+        var builder = get("/events/{boardId}", boardId);
+        if (lastEventId != null) builder.header("Last-Event-ID", lastEventId);
+
+        return mvc.perform(builder)
+                .andExpect(request().asyncStarted())
+                .andReturn()
+                .getResponse();
+    }
+
+    private String awaitContent(MockHttpServletResponse stream, String expected) throws Exception {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        String content = stream.getContentAsString();
+
+        // un evento SSE arriva in più scritture: si attende anche la riga vuota che lo chiude
+        while (!(content.contains(expected) && content.endsWith("\n\n")) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            content = stream.getContentAsString();
+        }
+
+        assertTrue(content.contains(expected), content);
+        return content;
+    }
+
+    private void awaitSubscriberCount(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+
+        while (service.getSubscriberCount() != expected && System.nanoTime() < deadline) Thread.sleep(10);
+
+        assertEquals(expected, service.getSubscriberCount());
+    }
+
+    @RestController
+    static class StreamController {
+        private final BoardEventServiceImpl service;
+
+        StreamController(BoardEventServiceImpl service) {
+            this.service = service;
+        }
+
+        @GetMapping("/events/{boardId}")
+        SseEmitter stream(@PathVariable Long boardId,
+                          @RequestHeader(name = "Last-Event-ID", required = false) Long lastEventId) {
+            return service.subscribe(boardId, lastEventId);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.task_board_be.service.event.impl;
+
+import com.example.task_board_be.enums.BoardEventType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.http.HttpMessageConvertersAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.DispatcherServletAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.ServletWebServerFactoryAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/// Client che apre lo stream e non legge più, su Tomcat vero con buffer di socket piccoli: la scrittura bloccata
+/// non deve fermare gli altri stream e lo stream fermo viene chiuso dopo send-timeout
+@SpringBootTest(classes = BoardEventServiceSlowClientTest.StreamConfig.class,
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class BoardEventServiceSlowClientTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private BoardEventServiceImpl service;
+
+    private final List<Socket> socketList = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() throws Exception {
+        // la chiusura fa fallire la scrittura bloccata e libera il thread
+        for (Socket socket : socketList) socket.close();
+    }
+
+    @Test
+    void testNonReadingClient_doesNotBlockOtherStreams_andIsClosedAfterSendTimeout() throws Exception {
+        open(1L);
+        Socket reading = open(2L);
+        awaitSubscriberCount(2);
+
+        // eventi grandi per il client che non legge: riempiono i buffer e la scrittura resta bloccata
+        List<Long> taskIdList = LongStream.rangeClosed(1_000_000, 1_010_000).boxed().toList();
+        for (int i = 0; i < 8; i++) service.publish(BoardEventType.TASK_UPDATED, 1L, taskIdList);
+        service.publish(BoardEventType.TASK_CREATED, 2L, List.of(5L));
+
+        // con un solo thread di dispatch fisso lo stream della board 2 arriva comunque
+        assertTrue(readUntil(reading, "event:task-created"));
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        int closed = 0;
+        while (closed == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+            closed = service.closeStalledSubscribers();
+        }
+
+        assertEquals(1, closed);
+        assertEquals(1, service.getSubscriberCount());
+        assertEquals(Set.of(2L), service.getSubscribedBoardIds());
+    }
+
+    private Socket open(Long boardId) throws Exception {
+        Socket socket = new Socket();
+        socketList.add(socket);
+        socket.setReceiveBufferSize(2048);
+        socket.setSoTimeout(5000);
+        socket.connect(new InetSocketAddress("localhost", port));
+
+        OutputStream out = socket.getOutputStream();
+        out.write(("GET /events/" + boardId + " HTTP/1.1\r\nHost: localhost\r\nAccept: text/event-stream\r\n\r\n")
+                .getBytes(StandardCharsets.US_ASCII));
+        out.flush();
+        return socket;
+    }
+
+    private boolean readUntil(Socket socket, String expected) throws Exception {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.equals(expected)) return true;
+        }
+        return false;
+    }
+
+    private void awaitSubscriberCount(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+
+        while (service.getSubscriberCount() != expected && System.nanoTime() < deadline) Thread.sleep(10);
+
+        assertEquals(expected, service.getSubscriberCount());
+    }
+
+    @Configuration
+    @ImportAutoConfiguration({ServletWebServerFactoryAutoConfiguration.class, DispatcherServletAutoConfiguration.class,
+            WebMvcAutoConfiguration.class, HttpMessageConvertersAutoConfiguration.class, JacksonAutoConfiguration.class})
+    static class StreamConfig {
+
+        @Bean
+        BoardEventServiceImpl boardEventService() {
+            return new BoardEventServiceImpl(16, 64, Duration.ofMinutes(1), 1, Duration.ofMillis(200));
+        }
+
+        @Bean
+        BoardEventServiceImplTest.StreamController streamController(BoardEventServiceImpl boardEventService) {
+            return new BoardEventServiceImplTest.StreamController(boardEventService);
+        }
+
+        /// buffer di invio piccolo: pochi eventi bastano a bloccare la scrittura verso chi non legge
+        @Bean
+        WebServerFactoryCustomizer<TomcatServletWebServerFactory> smallSendBuffer() {
+            return factory -> factory.addConnectorCustomizers(connector -> connector.setProperty("socket.txBufSize", "4096"));
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.example.task_board_be.service.naming.impl;
+
+import com.example.task_board_be.enums.DefaultNameScope;
+import com.example.task_board_be.enums.task.TaskStatus;
+import com.example.task_board_be.pojo.entity.Board;
+import com.example.task_board_be.pojo.entity.DefaultNameCounter;
+import com.example.task_board_be.pojo.entity.DefaultNameGap;
+import com.example.task_board_be.pojo.entity.Task;
+import com.example.task_board_be.repo.entity.BoardRepository;
+import com.example.task_board_be.repo.entity.DefaultNameCounterRepository;
+import com.example.task_board_be.repo.entity.DefaultNameGapRepository;
+import com.example.task_board_be.repo.entity.TaskRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/// Allocazione su H2 con le query reali: contatore, intervalli liberati e verifica puntuale degli indici occupati
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@Import(DefaultNameServiceImpl.class)
+class DefaultNameServiceImplTest {
+
+    @Autowired
+    private DefaultNameServiceImpl service;
+    @Autowired
+    private DefaultNameCounterRepository counterRepo;
+    @Autowired
+    private DefaultNameGapRepository gapRepo;
+    @Autowired
+    private BoardRepository boardRepo;
+    @Autowired
+    private TaskRepository taskRepo;
+    @Autowired
+    private EntityManager em;
+
+    @Test
+    void testAllocate_createsCounter_andSkipsIndexesTakenByExplicitNames() {
+        saveBoard(2);
+
+        assertEquals(1, allocateBoard());
+        assertEquals(3, allocateBoard());
+        assertEquals(4, counterRepo.findById(new DefaultNameCounter.Key(DefaultNameScope.BOARD, 0L))
+                .map(DefaultNameCounter::getNextIndex).orElseThrow());
+    }
+
+    @Test
+    void testAllocate_reusesReleasedIndexBelowCounter_beforeCounter() {
+        Board first = saveBoard(allocateBoard());
+        Board second = saveBoard(allocateBoard());
+        saveBoard(allocateBoard());
+        boardRepo.archiveByIds(List.of(first.getId(), second.getId()));
+
+        service.releaseOfArchivedBoards(List.of(first.getId(), second.getId()));
+        boardRepo.deleteByIdsIfArchived(List.of(first.getId(), second.getId()));
+
+        assertEquals(1, allocateBoard());
+        assertEquals(2, allocateBoard());
+        assertEquals(4, allocateBoard());
+    }
+
+    @Test
+    void testAllocate_discardsReleasedIndexTakenAgain() {
+        service.lock(DefaultNameScope.BOARD, 0L);
+        service.advance(DefaultNameScope.BOARD, 0L, 5);
+        service.release(DefaultNameScope.BOARD, 0L, 3);
+        saveBoard(3);
+
+        assertEquals(6, allocateBoard());
+        assertTrue(gapRepo.findAll().isEmpty());
+    }
+
+    @Test
+    void testAllocate_walksIntervalOneIndexAtATime() {
+        service.advance(DefaultNameScope.BOARD, 0L, 10);
+        gapRepo.save(new DefaultNameGap(DefaultNameScope.BOARD, 0L, 4, 6));
+        saveBoard(5);
+
+        assertEquals(4, allocateBoard());
+        assertEquals(6, allocateBoard());
+        assertEquals(11, allocateBoard());
+    }
+
+    @Test
+    void testAllocate_taskScope_onlyActiveTasksOfTheBoard() {
+        Board board = saveBoard(null);
+        Board other = saveBoard(null);
+        Task first = saveTask(board, 1);
+        saveTask(board, 2);
+        saveTask(other, 3);
+        service.advance(DefaultNameScope.TASK, board.getId(), 2);
+
+        service.releaseOfActiveTasks(List.of(first.getId()));
+        taskRepo.archiveByIds(List.of(first.getId()));
+        // già archiviata: nessun secondo intervallo
+        service.releaseOfActiveTasks(List.of(first.getId()));
+
+        assertEquals(1, service.allocate(DefaultNameScope.TASK, board.getId()));
+        assertEquals(3, service.allocate(DefaultNameScope.TASK, board.getId()));
+        assertEquals(1, service.allocate(DefaultNameScope.TASK, other.getId()));
+    }
+
+    @Test
+    void testAllocateRange_gapsInOrder_thenCounterBlock() {
+        service.advance(DefaultNameScope.BOARD, 0L, 10);
+        gapRepo.save(new DefaultNameGap(DefaultNameScope.BOARD, 0L, 7, 7));
+        gapRepo.save(new DefaultNameGap(DefaultNameScope.BOARD, 0L, 2, 4));
+
+        assertEquals(List.of(2, 3, 4, 7, 11, 12), service.allocateRange(DefaultNameScope.BOARD, 0L, 6, List.of()));
+        assertTrue(gapRepo.findAll().isEmpty());
+        assertEquals(13, allocateBoard());
+    }
+
+    @Test
+    void testAllocateRange_partialGap_keepsRest() {
+        service.advance(DefaultNameScope.BOARD, 0L, 10);
+        gapRepo.save(new DefaultNameGap(DefaultNameScope.BOARD, 0L, 2, 5));
+
+        assertEquals(List.of(2, 3), service.allocateRange(DefaultNameScope.BOARD, 0L, 2, List.of()));
+        assertEquals(4, allocateBoard());
+        assertEquals(5, allocateBoard());
+        assertEquals(11, allocateBoard());
+    }
+
+    @Test
+    void testAllocateRange_skipsTakenAndReservedIndexes() {
+        saveBoard(2);
+
+        assertEquals(List.of(1, 4, 5), service.allocateRange(DefaultNameScope.BOARD, 0L, 3, List.of(3)));
+        assertEquals(6, allocateBoard());
+    }
+
+    @Test
+    void testAllocateRange_taskScope_onlyActiveTasksOfTheBoard() {
+        Board board = saveBoard(null);
+        Board other = saveBoard(null);
+        Task archived = saveTask(board, 1);
+        saveTask(board, 2);
+        saveTask(other, 3);
+        taskRepo.archiveByIds(List.of(archived.getId()));
+
+        assertEquals(List.of(1, 3, 4), service.allocateRange(DefaultNameScope.TASK, board.getId(), 3, List.of()));
+    }
+
+    @Test
+    void testDropOfDeletedBoards_onlyBoardsThatNoLongerExist() {
+        Board kept = saveBoard(null);
+        Board deleted = saveBoard(null);
+        service.advance(DefaultNameScope.TASK, kept.getId(), 1);
+        service.advance(DefaultNameScope.TASK, deleted.getId(), 1);
+        service.release(DefaultNameScope.TASK, deleted.getId(), 1);
+        boardRepo.archiveByIds(List.of(deleted.getId()));
+        boardRepo.deleteByIdsIfArchived(List.of(deleted.getId()));
+
+        service.dropOfDeletedBoards(List.of(kept.getId(), deleted.getId()));
+
+        assertEquals(List.of(kept.getId()), counterRepo.findAll().stream().map(DefaultNameCounter::getScopeId).toList());
+        assertTrue(gapRepo.findAll().isEmpty());
+    }
+
+    private int allocateBoard() {
+        return service.allocate(DefaultNameScope.BOARD, 0L);
+    }
+
+    private Board saveBoard(Integer defaultNameIndex) {
+        Board board = new Board("Board", null);
+        board.setDefaultNameIndex(defaultNameIndex);
+        board = boardRepo.save(board);
+        em.flush();
+        return board;
+    }
+
+    private Task saveTask(Board board, Integer defaultNameIndex) {
+        Task task = new Task("Task", null, TaskStatus.TODO, null);
+        task.setBoard(board);
+        task.setDefaultNameIndex(defaultNameIndex);
+        task = taskRepo.save(task);
+        em.flush();
+        return task;
+    }
+}
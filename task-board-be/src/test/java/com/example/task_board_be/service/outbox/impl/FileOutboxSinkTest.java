@@ -0,0 +1,64 @@
+package com.example.task_board_be.service.outbox.impl;
+
+import com.example.task_board_be.enums.OutboxEventType;
+import com.example.task_board_be.pojo.entity.OutboxEvent;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileOutboxSinkTest {
+
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    @TempDir
+    private Path dir;
+
+    @Test
+    void testSend_appendsOneJsonLinePerEvent() throws IOException {
+        Path path = dir.resolve("outbox/events.jsonl");
+        FileOutboxSink sink = new FileOutboxSink(path, objectMapper);
+
+        sink.send(List.of(event(1L, "Board", 7L, OutboxEventType.CREATED)));
+        sink.send(List.of(event(2L, "Task", 8L, OutboxEventType.ARCHIVED), event(3L, "Task", 9L, OutboxEventType.DELETED)));
+
+        List<String> lineList = Files.readAllLines(path);
+        assertEquals(3, lineList.size());
+
+        JsonNode first = objectMapper.readTree(lineList.get(0));
+        assertEquals(1L, first.get("id").asLong());
+        assertEquals("Board", first.get("entityName").asText());
+        assertEquals(7L, first.get("entityId").asLong());
+        assertEquals("CREATED", first.get("type").asText());
+        assertEquals("2025-01-01T10:00:00", first.get("createdAt").asText());
+        assertEquals("DELETED", objectMapper.readTree(lineList.get(2)).get("type").asText());
+    }
+
+    @Test
+    void testSend_emptyBatch_noFile() throws IOException {
+        Path path = dir.resolve("events.jsonl");
+
+        new FileOutboxSink(path, objectMapper).send(List.of());
+
+        assertFalse(Files.exists(path));
+    }
+
+    private OutboxEvent event(Long id, String entityName, Long entityId, OutboxEventType type) {
+        OutboxEvent event = new OutboxEvent(entityName, entityId, type, LocalDateTime.of(2025, 1, 1, 10, 0));
+        event.setId(id);
+        return event;
+    }
+}
@@ -0,0 +1,248 @@
+package com.example.task_board_be.service.outbox.impl;
+
+import com.example.task_board_be.enums.OutboxEventType;
+import com.example.task_board_be.pojo.entity.OutboxEvent;
+import com.example.task_board_be.pojo.entity.OutboxRelayState;
+import com.example.task_board_be.repo.entity.OutboxEventRepository;
+import com.example.task_board_be.repo.entity.OutboxRelayStateRepository;
+import com.example.task_board_be.service.outbox.OutboxSink;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayServiceImplTest {
+
+    @Mock
+    private OutboxEventRepository repo;
+    @Mock
+    private OutboxRelayStateRepository stateRepo;
+    @Mock
+    private OutboxSink sink;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final OutboxRelayState state = new OutboxRelayState(0);
+
+    @Test
+    void testRelay_sendsThenDeletesInOneTransactionPerBatch() throws IOException {
+        startTransactions();
+        List<OutboxEvent> fullBatch = events(1, 2);
+        List<OutboxEvent> lastBatch = events(3, 3);
+        when(repo.findBatchAfter(0L, Limit.of(2))).thenReturn(fullBatch);
+        when(repo.findBatchAfter(2L, Limit.of(2))).thenReturn(lastBatch);
+
+        int relayed = newService(2, 10, false, Duration.ofMinutes(1)).relay();
+
+        assertEquals(3, relayed);
+        assertEquals(3, state.getLastEventId());
+        InOrder inOrder = inOrder(sink, repo, stateRepo, transactionManager);
+        inOrder.verify(sink).send(fullBatch);
+        inOrder.verify(repo).deleteByIds(List.of(1L, 2L));
+        inOrder.verify(stateRepo).save(state);
+        inOrder.verify(transactionManager).commit(any());
+        inOrder.verify(sink).send(lastBatch);
+        inOrder.verify(repo).deleteByIds(List.of(3L));
+        inOrder.verify(transactionManager).commit(any());
+        verify(repo, never()).tryRelayLock(anyLong());
+    }
+
+    @Test
+    void testRelay_stopsAtMaxBatchesPerRun() throws IOException {
+        startTransactions();
+        when(repo.findBatchAfter(0L, Limit.of(2))).thenReturn(events(1, 2));
+        when(repo.findBatchAfter(2L, Limit.of(2))).thenReturn(events(3, 4));
+
+        assertEquals(4, newService(2, 2, false, Duration.ofMinutes(1)).relay());
+        verify(sink, times(2)).send(anyList());
+    }
+
+    @Test
+    void testRelay_emptyOutbox_nothingSent() throws IOException {
+        startTransactions();
+        when(repo.findBatchAfter(0L, Limit.of(500))).thenReturn(List.of());
+
+        assertEquals(0, newService(500, 10, false, Duration.ofMinutes(1)).relay());
+        verify(sink, never()).send(anyList());
+        verify(repo, never()).deleteByIds(any());
+    }
+
+    @Test
+    void testRelay_noState_startsFromFirstPendingEvent() throws IOException {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(stateRepo.findById(OutboxRelayState.ID)).thenReturn(Optional.empty());
+        when(repo.findMinId()).thenReturn(41L);
+        when(repo.findBatchAfter(40L, Limit.of(10))).thenReturn(events(41, 42));
+
+        assertEquals(2, newService(10, 10, false, Duration.ofMinutes(1)).relay());
+        verify(stateRepo).save(argThat(saved -> saved.getLastEventId() == 42));
+    }
+
+    @Test
+    void testRelay_openGap_holdsBackLaterIds() throws IOException {
+        startTransactions();
+        when(repo.findBatchAfter(0L, Limit.of(10))).thenReturn(events(1, 2, 4, 5));
+
+        assertEquals(2, newService(10, 10, false, Duration.ofMinutes(1)).relay());
+        verify(sink).send(withIds(1, 2));
+        assertEquals(2, state.getLastEventId());
+    }
+
+    @Test
+    void testRelay_gapOlderThanTimeout_isSkipped() throws IOException {
+        startTransactions();
+        when(repo.findBatchAfter(0L, Limit.of(10))).thenReturn(events(1, 2, 4, 5));
+
+        assertEquals(4, newService(10, 10, false, Duration.ZERO).relay());
+        verify(sink).send(withIds(1, 2, 4, 5));
+        assertEquals(5, state.getLastEventId());
+    }
+
+    @Test
+    void testRelay_gapFilledAfterTimeout_deliveredOnNextBatch() throws IOException {
+        startTransactions();
+        when(repo.findBatchAfter(0L, Limit.of(10))).thenReturn(events(1, 2, 4));
+        OutboxRelayServiceImpl service = newService(10, 10, false, Duration.ZERO);
+        assertEquals(3, service.relay());
+
+        // la transazione dell'id 3 committa dopo che il buco è stato saltato
+        when(repo.findLateUpTo(4L, Limit.of(10))).thenReturn(events(3));
+        when(repo.findBatchAfter(4L, Limit.of(9))).thenReturn(events(5));
+
+        assertEquals(2, service.relay());
+        verify(sink).send(withIds(3, 5));
+        verify(repo).deleteByIds(List.of(3L, 5L));
+        assertEquals(5, state.getLastEventId());
+    }
+
+    @Test
+    void testRelay_onlyLateRows_watermarkUnchanged() throws IOException {
+        startTransactions();
+        state.setLastEventId(4);
+        when(repo.findLateUpTo(4L, Limit.of(10))).thenReturn(events(3));
+        when(repo.findBatchAfter(4L, Limit.of(9))).thenReturn(List.of());
+
+        assertEquals(1, newService(10, 10, false, Duration.ZERO).relay());
+        verify(sink).send(withIds(3));
+        verify(repo).deleteByIds(List.of(3L));
+        verify(stateRepo, never()).save(any());
+        assertEquals(4, state.getLastEventId());
+    }
+
+    @Test
+    void testRelay_postgres_noTimeout_waitsForOpenTransaction() throws IOException {
+        startTransactions();
+        when(repo.tryRelayLock(OutboxRelayServiceImpl.RELAY_LOCK_KEY)).thenReturn(true);
+        when(repo.findBatchAfter(0L, Limit.of(10))).thenReturn(events(2, 3));
+        when(repo.findSnapshotXmax()).thenReturn(100L);
+        when(repo.findSnapshotXmin()).thenReturn(99L);
+
+        assertEquals(0, newService(10, 10, true, Duration.ZERO).relay());
+        verify(sink, never()).send(anyList());
+        verify(repo, never()).findLateUpTo(anyLong(), any());
+    }
+
+    @Test
+    void testRelay_postgres_gapClosedWhenOlderTransactionsEnded() throws IOException {
+        startTransactions();
+        when(repo.tryRelayLock(OutboxRelayServiceImpl.RELAY_LOCK_KEY)).thenReturn(true);
+        when(repo.findBatchAfter(0L, Limit.of(10))).thenReturn(events(2, 3));
+        when(repo.findSnapshotXmax()).thenReturn(100L);
+        when(repo.findSnapshotXmin()).thenReturn(99L, 100L);
+        OutboxRelayServiceImpl service = newService(10, 10, true, Duration.ofMinutes(1));
+
+        // transazione 99 ancora aperta: l'id 1 può ancora arrivare
+        assertEquals(0, service.relay());
+        verify(sink, never()).send(anyList());
+
+        assertEquals(2, service.relay());
+        verify(sink).send(withIds(2, 3));
+        verify(repo, times(1)).findSnapshotXmax();
+    }
+
+    @Test
+    void testRelay_postgres_lockHeldByAnotherInstance_nothingRead() throws IOException {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(repo.tryRelayLock(OutboxRelayServiceImpl.RELAY_LOCK_KEY)).thenReturn(false);
+
+        assertEquals(0, newService(10, 10, true, Duration.ofMinutes(1)).relay());
+        verify(repo, never()).findBatchAfter(anyLong(), any());
+        verifyNoInteractions(stateRepo, sink);
+    }
+
+    @Test
+    void testRelay_sinkFailure_rollsBackAndKeepsRows() throws IOException {
+        startTransactions();
+        when(repo.findBatchAfter(0L, Limit.of(2))).thenReturn(events(1, 2));
+        doThrow(new IOException("disk full")).when(sink).send(anyList());
+
+        assertThrows(UncheckedIOException.class, () -> newService(2, 10, false, Duration.ofMinutes(1)).relay());
+        verify(repo, never()).deleteByIds(any());
+        verify(stateRepo, never()).save(any());
+        verify(transactionManager).rollback(any());
+        verify(transactionManager, never()).commit(any());
+    }
+
+    @Test
+    void testRelay_disabled_noQuery() {
+        assertEquals(0, newService(2, 10, false, Duration.ofMinutes(1), false, sink).relay());
+        verifyNoInteractions(repo, stateRepo, sink, transactionManager);
+    }
+
+    @Test
+    void testRelay_withoutSink_disabled() {
+        assertEquals(0, newService(2, 10, false, Duration.ofMinutes(1), true, null).relay());
+        verifyNoInteractions(repo, stateRepo, transactionManager);
+    }
+
+    private void startTransactions() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(stateRepo.findById(OutboxRelayState.ID)).thenReturn(Optional.of(state));
+    }
+
+    private OutboxRelayServiceImpl newService(int batchSize, int maxBatchesPerRun, boolean isPostgres, Duration gapTimeout) {
+        return newService(batchSize, maxBatchesPerRun, isPostgres, gapTimeout, true, sink);
+    }
+
+    private OutboxRelayServiceImpl newService(int batchSize, int maxBatchesPerRun, boolean isPostgres, Duration gapTimeout,
+                                              boolean enabled, OutboxSink sink) {
+        return new OutboxRelayServiceImpl(repo, stateRepo, sink, transactionManager, isPostgres,
+                batchSize, maxBatchesPerRun, gapTimeout, enabled);
+    }
+
+    private static List<OutboxEvent> withIds(long... ids) {
+        List<Long> idList = LongStream.of(ids).boxed().toList();
+        return argThat(eventList -> eventList.stream().map(OutboxEvent::getId).toList().equals(idList));
+    }
+
+    private List<OutboxEvent> events(long fromId, long toId) {
+        return events(LongStream.rangeClosed(fromId, toId).toArray());
+    }
+
+    private List<OutboxEvent> events(long... ids) {
+        return LongStream.of(ids).mapToObj(id -> {
+            OutboxEvent event = new OutboxEvent("Task", id * 10, OutboxEventType.UPDATED, LocalDateTime.now());
+            event.setId(id);
+            return event;
+        }).toList();
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.task_board_be.service.sync.impl;
+
+import com.example.task_board_be.exception.custom.SyncExpiredException;
+import com.example.task_board_be.pojo.entity.Tombstone;
+import com.example.task_board_be.pojo.model.SyncModel;
+import com.example.task_board_be.pojo.model.SyncPosition;
+import com.example.task_board_be.pojo.projection.BoardChange;
+import com.example.task_board_be.pojo.projection.BoardView;
+import com.example.task_board_be.pojo.projection.TaskChange;
+import com.example.task_board_be.repo.entity.BoardRepository;
+import com.example.task_board_be.repo.entity.TaskRepository;
+import com.example.task_board_be.repo.entity.TombstoneRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SyncServiceImplTest {
+
+    @Mock
+    private BoardRepository boardRepo;
+    @Mock
+    private TaskRepository taskRepo;
+    @Mock
+    private TombstoneRepository tombstoneRepo;
+
+    private SyncServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        service = new SyncServiceImpl(boardRepo, taskRepo, tombstoneRepo, Duration.ofSeconds(5), Duration.ofDays(30));
+    }
+
+    @Test
+    void testGetChanges_firstPage_queriesFromSinceMinusOverlapUpToNow() {
+        LocalDateTime since = LocalDateTime.now().minusHours(1);
+        LocalDateTime from = since.minusSeconds(5);
+        BoardChange board = new BoardChange(1L, "Board", null, since, since);
+        TaskChange task = new TaskChange(2L, "Task", null, null, null, 1L, since, since);
+        when(boardRepo.findChangesAfter(eq(from), eq(Long.MAX_VALUE), any(), eq(false), eq(Limit.of(11))))
+                .thenReturn(List.of(board));
+        when(boardRepo.findChangesAfter(eq(from), eq(Long.MAX_VALUE), any(), eq(true), eq(Limit.of(10))))
+                .thenReturn(List.of());
+        when(tombstoneRepo.findDeletedAfter(eq("Board"), eq(from), eq(Long.MAX_VALUE), any(), eq(Limit.of(10))))
+                .thenReturn(List.of(new Tombstone("Board", 3L, since)));
+        when(taskRepo.findChangesAfter(eq(from), eq(Long.MAX_VALUE), any(), eq(false), eq(Limit.of(9))))
+                .thenReturn(List.of(task));
+        when(taskRepo.findChangesAfter(eq(from), eq(Long.MAX_VALUE), any(), eq(true), eq(Limit.of(8))))
+                .thenReturn(List.of());
+        when(tombstoneRepo.findDeletedAfter(eq("Task"), eq(from), eq(Long.MAX_VALUE), any(), eq(Limit.of(8))))
+                .thenReturn(List.of(new Tombstone("Task", 4L, since), new Tombstone("Task", 5L, since)));
+
+        LocalDateTime before = LocalDateTime.now();
+        SyncModel model = service.getChanges(SyncPosition.start(since), 10);
+
+        assertEquals(List.of(board.toView()), model.getBoardViewList());
+        assertEquals(List.of(3L), model.getDeletedBoardIdList());
+        assertEquals(List.of(task.toView()), model.getTaskViewList());
+        assertEquals(List.of(4L, 5L), model.getDeletedTaskIdList());
+        assertTrue(model.getArchivedBoardViewList().isEmpty());
+        assertTrue(model.getArchivedTaskViewList().isEmpty());
+        assertFalse(model.getWatermark().isBefore(before));
+        assertFalse(model.hasMore());
+
+        // tutte le query leggono fino allo stesso until, che diventa il watermark
+        ArgumentCaptor<LocalDateTime> untilCaptor = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(taskRepo, times(2)).findChangesAfter(any(), any(), untilCaptor.capture(), anyBoolean(), any());
+        assertTrue(untilCaptor.getAllValues().stream().allMatch(model.getWatermark()::equals));
+    }
+
+    @Test
+    void testGetChanges_phaseLongerThanPage_stopsAtLastReturnedRow() {
+        LocalDateTime since = LocalDateTime.now().minusHours(1);
+        LocalDateTime from = since.minusSeconds(5);
+        LocalDateTime changedAt = since.plusMinutes(1);
+        when(boardRepo.findChangesAfter(eq(from), eq(Long.MAX_VALUE), any(), eq(false), eq(Limit.of(3))))
+                .thenReturn(List.of(
+                        new BoardChange(1L, "A", null, since, changedAt),
+                        new BoardChange(2L, "B", null, since, changedAt),
+                        new BoardChange(3L, "C", null, since, changedAt)));
+
+        SyncModel model = service.getChanges(SyncPosition.start(since), 2);
+
+        assertEquals(List.of(1L, 2L), model.getBoardViewList().stream().map(BoardView::id).toList());
+        assertTrue(model.hasMore());
+        assertEquals(new SyncPosition(since, model.getWatermark(), 0, changedAt, 2L), model.getNextPosition());
+        assertTrue(model.getTaskViewList().isEmpty());
+        verifyNoInteractions(taskRepo, tombstoneRepo);
+    }
+
+    @Test
+    void testGetChanges_pageFilledExactly_continuesFromNextPhase() {
+        LocalDateTime since = LocalDateTime.now().minusHours(1);
+        LocalDateTime from = since.minusSeconds(5);
+        when(boardRepo.findChangesAfter(eq(from), eq(Long.MAX_VALUE), any(), eq(false), eq(Limit.of(2))))
+                .thenReturn(List.of(new BoardChange(1L, "A", null, since, since)));
+
+        SyncModel model = service.getChanges(SyncPosition.start(since), 1);
+
+        assertEquals(1, model.getBoardViewList().size());
+        assertEquals(new SyncPosition(since, model.getWatermark(), 1, null, null), model.getNextPosition());
+        verify(boardRepo, never()).findChangesAfter(any(), any(), any(), eq(true), any());
+    }
+
+    @Test
+    void testGetChanges_resumed_keepsUntilAndSkipsDeliveredPhases() {
+        LocalDateTime since = LocalDateTime.now().minusHours(1);
+        LocalDateTime from = since.minusSeconds(5);
+        LocalDateTime until = since.plusMinutes(30);
+        LocalDateTime afterTime = since.plusMinutes(10);
+        TaskChange task = new TaskChange(8L, "Task", null, null, null, 1L, since, afterTime);
+        when(taskRepo.findChangesAfter(afterTime, 7L, until, false, Limit.of(6))).thenReturn(List.of(task));
+        when(taskRepo.findChangesAfter(from, Long.MAX_VALUE, until, true, Limit.of(5))).thenReturn(List.of());
+        when(tombstoneRepo.findDeletedAfter("Task", from, Long.MAX_VALUE, until, Limit.of(5))).thenReturn(List.of());
+
+        SyncModel model = service.getChanges(new SyncPosition(since, until, 3, afterTime, 7L), 5);
+
+        assertEquals(List.of(task.toView()), model.getTaskViewList());
+        assertEquals(until, model.getWatermark());
+        assertFalse(model.hasMore());
+        verifyNoInteractions(boardRepo);
+        verify(tombstoneRepo, never()).findDeletedAfter(eq("Board"), any(), any(), any(), any());
+    }
+
+    @Test
+    void testGetChanges_olderThanRetention_throwsExpired() {
+        assertThrows(SyncExpiredException.class,
+                () -> service.getChanges(SyncPosition.start(LocalDateTime.now().minusDays(31)), 10));
+        verifyNoInteractions(boardRepo, taskRepo, tombstoneRepo);
+    }
+
+    @Test
+    void testPurgeTombstones_deletesOlderThanRetention() {
+        when(tombstoneRepo.deleteDeletedBefore(any(LocalDateTime.class))).thenReturn(7);
+
+        LocalDateTime before = LocalDateTime.now();
+        assertEquals(7, service.purgeTombstones());
+
+        ArgumentCaptor<LocalDateTime> captor = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(tombstoneRepo).deleteDeletedBefore(captor.capture());
+        assertFalse(captor.getValue().isBefore(before.minusDays(30)));
+        assertTrue(captor.getValue().isBefore(before.minusDays(29)));
+    }
+}
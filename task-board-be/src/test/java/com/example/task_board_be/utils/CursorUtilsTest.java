@@ -0,0 +1,48 @@
+package com.example.task_board_be.utils;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CursorUtilsTest {
+
+    @Test
+    void testDecode_blank_isInitial() {
+        assertTrue(CursorUtils.decode(null).isInitial());
+        assertTrue(CursorUtils.decode("").isInitial());
+        assertTrue(CursorUtils.decode("   ").isInitial());
+    }
+
+    @Test
+    void testEncodeDecode_roundTrip() {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 8, 22, 11, 45, 0, 123456000);
+        ScrollPosition position = ScrollPosition.forward(Map.of("createdAt", createdAt, "id", 42L));
+
+        String cursor = CursorUtils.encode(position);
+        KeysetScrollPosition decoded = CursorUtils.decode(cursor);
+
+        assertNotNull(cursor);
+        assertFalse(cursor.contains("|"));
+        assertEquals(createdAt, decoded.getKeys().get("createdAt"));
+        assertEquals(42L, decoded.getKeys().get("id"));
+        assertTrue(decoded.scrollsForward());
+    }
+
+    @Test
+    void testEncode_initialOrOffset_isNull() {
+        assertNull(CursorUtils.encode(ScrollPosition.keyset()));
+        assertNull(CursorUtils.encode(ScrollPosition.offset(10)));
+    }
+
+    @Test
+    void testDecode_garbage_throwsIllegalArgument() {
+        assertThrows(IllegalArgumentException.class, () -> CursorUtils.decode("not-base64-!!"));
+        assertThrows(IllegalArgumentException.class, () -> CursorUtils.decode("bm9zZXBhcmF0b3I"));
+        assertThrows(IllegalArgumentException.class, () -> CursorUtils.decode("eHx5"));
+    }
+}
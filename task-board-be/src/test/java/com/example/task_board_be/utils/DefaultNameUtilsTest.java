@@ -0,0 +1,41 @@
+package com.example.task_board_be.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DefaultNameUtilsTest {
+
+    @Test
+    void testParseIndex_baseName_isOne() {
+        assertEquals(1, DefaultNameUtils.parseIndex("New Task", "New Task"));
+        assertEquals(1, DefaultNameUtils.parseIndex("New Task", "  new task  "));
+    }
+
+    @Test
+    void testParseIndex_numberedName() {
+        assertEquals(2, DefaultNameUtils.parseIndex("New Task", "New Task 2"));
+        assertEquals(15, DefaultNameUtils.parseIndex("New Board", "NEW BOARD 15"));
+    }
+
+    @Test
+    void testParseIndex_counterBelowTwo_isNull() {
+        assertNull(DefaultNameUtils.parseIndex("New Board", "New Board 1"));
+        assertNull(DefaultNameUtils.parseIndex("New Board", "New Board 0"));
+        assertNull(DefaultNameUtils.parseIndex("New Board", "New Board -3"));
+    }
+
+    @Test
+    void testParseIndex_notMatchingPattern_isNull() {
+        assertNull(DefaultNameUtils.parseIndex("New Task", null));
+        assertNull(DefaultNameUtils.parseIndex("New Task", "New Task x"));
+        assertNull(DefaultNameUtils.parseIndex("New Task", "New Tasks"));
+        assertNull(DefaultNameUtils.parseIndex("New Task", "Random Name"));
+    }
+
+    @Test
+    void testFormat() {
+        assertEquals("New Board", DefaultNameUtils.format("New Board", 1));
+        assertEquals("New Board 4", DefaultNameUtils.format("New Board", 4));
+    }
+}
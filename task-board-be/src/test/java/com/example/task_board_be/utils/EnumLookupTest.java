@@ -0,0 +1,55 @@
+package com.example.task_board_be.utils;
+
+import com.example.task_board_be.enums.task.TaskIcon;
+import com.example.task_board_be.enums.task.TaskStatus;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EnumLookupTest {
+
+    @Test
+    void testFind_caseInsensitiveAndTrimmed() {
+        assertEquals(TaskStatus.IN_PROGRESS, TaskStatus.parseOrNone("  In_Progress "));
+        assertEquals(TaskStatus.DONE, TaskStatus.parseOrNone("done"));
+        assertEquals(TaskIcon.DOCUMENTATION, TaskIcon.parseOrNone("DOCUMENTATION"));
+    }
+
+    @Test
+    void testFind_separatorsAreEquivalent() {
+        assertEquals(TaskStatus.IN_PROGRESS, TaskStatus.parseOrNone("in progress"));
+        assertEquals(TaskStatus.IN_PROGRESS, TaskStatus.parseOrNone("IN-PROGRESS"));
+        assertEquals(TaskStatus.TODO, TaskStatus.parseOrNone("To-Do"));
+    }
+
+    @Test
+    void testFind_aliases() {
+        assertEquals(TaskStatus.CANCELED, TaskStatus.parseOrNone("Cancelled"));
+        assertEquals(TaskStatus.IN_PROGRESS, TaskStatus.parseOrNone("WIP"));
+        assertEquals(TaskIcon.DOCUMENTATION, TaskIcon.parseOrNone("docs"));
+        assertEquals(TaskIcon.MAINTENANCE, TaskIcon.parseOrNone("chore"));
+    }
+
+    @Test
+    void testFind_nullBlankOrUnknown_isFallback() {
+        assertEquals(TaskStatus.NONE, TaskStatus.parseOrNone(null));
+        assertEquals(TaskStatus.NONE, TaskStatus.parseOrNone("   "));
+        assertEquals(TaskStatus.NONE, TaskStatus.parseOrNone("NOT_A_STATUS"));
+        assertEquals(TaskIcon.NONE, TaskIcon.parseOrNone("in progress"));
+    }
+
+    @Test
+    void testFromValue_unknownStillThrowsForJackson() {
+        assertEquals(TaskStatus.BLOCKED, TaskStatus.fromValue("blocked"));
+        assertThrows(IllegalArgumentException.class, () -> TaskStatus.fromValue("nope"));
+        assertThrows(IllegalArgumentException.class, () -> TaskIcon.fromValue(null));
+    }
+
+    @Test
+    void testConstructor_duplicateKeyAfterFolding_throws() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new EnumLookup<>(TaskStatus.class, TaskStatus.NONE, Map.of("in progress", TaskStatus.DONE)));
+    }
+}
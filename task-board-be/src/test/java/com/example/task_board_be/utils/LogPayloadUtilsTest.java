@@ -0,0 +1,122 @@
+package com.example.task_board_be.utils;
+
+import com.example.task_board_be.enums.BulkOperation;
+import com.example.task_board_be.enums.task.TaskIcon;
+import com.example.task_board_be.enums.task.TaskStatus;
+import com.example.task_board_be.pojo.model.BoardModel;
+import com.example.task_board_be.pojo.model.TaskModel;
+import com.example.task_board_be.pojo.request.IdsRequest;
+import com.example.task_board_be.pojo.resource.BulkResource;
+import com.example.task_board_be.pojo.resource.SliceResource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LogPayloadUtilsTest {
+
+    private static List<TaskModel> taskModelList(int size) {
+        return LongStream.rangeClosed(1, size)
+                .mapToObj(id -> new TaskModel(id, "Task " + id, "x".repeat(100), TaskStatus.TODO, TaskIcon.BUG))
+                .toList();
+    }
+
+    private static void sampledRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(LogPayloadUtils.SAMPLED_ATTRIBUTE, Boolean.TRUE);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void testSummary_largeList_sizeAndFirstIds() {
+        String out = LogPayloadUtils.summary(taskModelList(50_000)).toString();
+
+        assertEquals("size=50000 ; ids=[1, 2, 3, 4, 5, 6, 7, 8, 9, 10, ...]", out);
+    }
+
+    @Test
+    void testSummary_shortListAndNull() {
+        assertEquals("size=2 ; ids=[7, 8]", LogPayloadUtils.summary(List.of(7L, 8L)).toString());
+        assertEquals("size=0 ; ids=[]", LogPayloadUtils.summary(List.of()).toString());
+        assertEquals("null", LogPayloadUtils.summary(null).toString());
+    }
+
+    @Test
+    void testSummary_sampledRequest_itemsInFullButBounded() {
+        sampledRequest();
+
+        String out = LogPayloadUtils.summary(taskModelList(50_000)).toString();
+
+        assertTrue(out.startsWith("size=50000 ; items=[TaskModel{"));
+        assertEquals(LogPayloadUtils.MAX_CHARS + LogPayloadUtils.TRUNCATED.length(), out.length());
+        assertTrue(out.endsWith(LogPayloadUtils.TRUNCATED));
+    }
+
+    @Test
+    void testSummary_sampledRequest_hugeItemCutWhileRendering() {
+        sampledRequest();
+        TaskModel model = new TaskModel(1L, "Task", "x".repeat(1_000_000), TaskStatus.TODO, TaskIcon.BUG);
+
+        String out = LogPayloadUtils.summary(List.of(model, model)).toString();
+
+        assertTrue(out.startsWith("size=2 ; items=[TaskModel{name='Task', description='xxx"));
+        assertEquals(LogPayloadUtils.MAX_CHARS + LogPayloadUtils.TRUNCATED.length(), out.length());
+    }
+
+    @Test
+    void testPayload_sampled_nestedListCapped() {
+        sampledRequest();
+        BoardModel board = new BoardModel();
+        board.setId(3L);
+        board.setName("Board");
+        board.setTaskModelList(taskModelList(50_000));
+
+        String out = LogPayloadUtils.payload(board).toString();
+
+        assertTrue(out.startsWith("BoardModel{name='Board', "));
+        assertTrue(out.contains("taskModelList=size=50000 ; items=[TaskModel{"));
+        assertTrue(out.length() <= LogPayloadUtils.MAX_CHARS + LogPayloadUtils.TRUNCATED.length());
+    }
+
+    @Test
+    void testPayload_notSampled_onlyId() {
+        TaskModel model = taskModelList(1).get(0);
+
+        assertEquals("TaskModel{id=1}", LogPayloadUtils.payload(model).toString());
+        assertEquals("IdsRequest{size=3 ; ids=[1, 2, 3]}",
+                LogPayloadUtils.payload(new IdsRequest(List.of(1L, 2L, 3L))).toString());
+    }
+
+    @Test
+    void testPayload_withoutId_boundedFieldsAndIds() {
+        BulkResource resource = new BulkResource(BulkOperation.DELETE_LIST, 4);
+        SliceResource<TaskModel> slice = new SliceResource<>(taskModelList(20), 0, true);
+
+        assertEquals("BulkResource{operation=DELETE_LIST, updatedRow=4}", LogPayloadUtils.payload(resource).toString());
+        assertTrue(LogPayloadUtils.payload(slice).toString()
+                .startsWith("SliceResource{content=size=20 ; ids=[1, 2, 3, 4, 5, 6, 7, 8, 9, 10, ...], size=20, "));
+        assertEquals("null", LogPayloadUtils.payload(null).toString());
+    }
+
+    @Test
+    void testPayload_sampled_allFields() {
+        sampledRequest();
+        TaskModel model = taskModelList(1).get(0);
+
+        String out = LogPayloadUtils.payload(model).toString();
+
+        assertTrue(out.startsWith("TaskModel{name='Task 1', description='" + "x".repeat(100) + "', status=TODO, icon=BUG"));
+        assertTrue(out.contains("id=1"));
+    }
+}
@@ -1,65 +1,85 @@
 package com.example.task_board_be.utils;
 
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
 import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 class LoggerUtilsTest {
 
-    private String callStart(boolean exceptionFlag) {
-        return LoggerUtils.getStandardLoggerMsg("start", exceptionFlag);
-    }
-    private String callEnd(boolean exceptionFlag) {
-        return LoggerUtils.getStandardLoggerMsg("end", exceptionFlag);
-    }
-    private String callProgress(boolean exceptionFlag) {
-        return LoggerUtils.getStandardLoggerMsg("progress", exceptionFlag);
-    }
-    private String callDefault(boolean exceptionFlag) {
-        return LoggerUtils.getStandardLoggerMsg("something-else", exceptionFlag);
+    private final Logger logger = (Logger) LoggerFactory.getLogger(LoggerUtilsTest.class);
+
+    private String call(String position, boolean exceptionFlag) {
+        return LoggerUtils.getStandardLoggerMsg(logger, "call", position, exceptionFlag);
     }
 
     @Test
     void testGetStandardLoggerMsg_start_normal() {
-        String msg = callStart(false);
-        assertTrue(msg.contains("[LoggerUtilsTest] - [callStart]"));
-        assertTrue(msg.endsWith(" - [START]"));
-        assertFalse(msg.contains("[EXCEPTION]"));
+        String msg = call("start", false);
+        assertEquals("[LoggerUtilsTest] - [call] - [START]", msg);
     }
 
     @Test
     void testGetStandardLoggerMsg_end_normal() {
-        String msg = callEnd(false);
-        assertTrue(msg.contains("[LoggerUtilsTest] - [callEnd]"));
-        assertTrue(msg.endsWith(" - [END]"));
+        assertEquals("[LoggerUtilsTest] - [call] - [END]", call("end", false));
     }
 
     @Test
     void testGetStandardLoggerMsg_progress_normal() {
-        String msg = callProgress(false);
-        assertTrue(msg.contains("[LoggerUtilsTest] - [callProgress]"));
-        assertTrue(msg.endsWith(" - [PROGRESS]"));
+        assertEquals("[LoggerUtilsTest] - [call] - [PROGRESS]", call("progress", false));
     }
 
     @Test
     void testGetStandardLoggerMsg_default_branch_noSuffix() {
-        String msg = callDefault(false);
-        assertTrue(msg.contains("[LoggerUtilsTest] - [callDefault]"));
-        assertFalse(msg.endsWith(" - [START]"));
-        assertFalse(msg.endsWith(" - [END]"));
-        assertFalse(msg.endsWith(" - [PROGRESS]"));
+        assertEquals("[LoggerUtilsTest] - [call]", call("something-else", false));
     }
 
     @Test
     void testGetStandardLoggerMsg_caseInsensitivePosition() {
-        String msg = LoggerUtils.getStandardLoggerMsg("sTaRt", false);
-        assertTrue(msg.endsWith(" - [START]"));
+        assertTrue(call("sTaRt", false).endsWith(" - [START]"));
     }
 
     @Test
     void testGetStandardLoggerMsg_exceptionFlagTrue() {
-        String msg = callStart(true);
-        assertTrue(msg.contains("[LoggerUtilsTest] - [callStart] - [EXCEPTION]"));
-        assertTrue(msg.endsWith(" - [START]"));
+        assertEquals("[LoggerUtilsTest] - [call] - [EXCEPTION] - [START]", call("start", true));
+    }
+
+    @Test
+    void testGetStandardLoggerMsg_sameCallSite_reusesTag() {
+        assertSame(call("end", false), call("end", false));
+    }
+
+    @Test
+    void testGetStandardLoggerMsg_methodsOfSameLogger_distinctTags() {
+        assertEquals("[LoggerUtilsTest] - [other] - [END]",
+                LoggerUtils.getStandardLoggerMsg(logger, "other", "end", false));
+    }
+
+    @Test
+    void testGetStandardLoggerMsg_levelOff_returnsEmpty() {
+        Level previous = logger.getLevel();
+        logger.setLevel(Level.OFF);
+
+        try {
+            assertEquals("", call("start", false));
+            assertEquals("", call("start", true));
+        } finally {
+            logger.setLevel(previous);
+        }
+    }
+
+    @Test
+    void testGetStandardLoggerMsg_warnOnly_exceptionTagStillBuilt() {
+        Level previous = logger.getLevel();
+        logger.setLevel(Level.WARN);
+
+        try {
+            assertEquals("", call("start", false));
+            assertEquals("[LoggerUtilsTest] - [call] - [EXCEPTION] - [START]", call("start", true));
+        } finally {
+            logger.setLevel(previous);
+        }
     }
 }
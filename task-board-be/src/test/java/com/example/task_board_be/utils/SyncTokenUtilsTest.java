@@ -0,0 +1,51 @@
+package com.example.task_board_be.utils;
+
+import com.example.task_board_be.pojo.model.SyncPosition;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SyncTokenUtilsTest {
+
+    @Test
+    void testDecode_isoTimestamp() {
+        SyncPosition position = SyncTokenUtils.decode("2025-08-22T11:45:00");
+
+        assertEquals(LocalDateTime.of(2025, 8, 22, 11, 45), position.since());
+        assertTrue(position.isStart());
+    }
+
+    @Test
+    void testEncodeDecode_roundTrip() {
+        LocalDateTime watermark = LocalDateTime.of(2025, 8, 22, 11, 45, 0, 123456000);
+
+        String token = SyncTokenUtils.encode(watermark);
+
+        assertFalse(token.contains(":"));
+        assertEquals(SyncPosition.start(watermark), SyncTokenUtils.decode(token));
+    }
+
+    @Test
+    void testEncodeDecode_positionRoundTrip() {
+        LocalDateTime since = LocalDateTime.of(2025, 8, 22, 11, 45);
+        LocalDateTime until = LocalDateTime.of(2025, 8, 22, 12, 0, 0, 500000000);
+        SyncPosition midPhase = new SyncPosition(since, until, 3, LocalDateTime.of(2025, 8, 22, 11, 50, 1), 42L);
+        SyncPosition phaseStart = new SyncPosition(since, until, 4, null, null);
+
+        assertEquals(midPhase, SyncTokenUtils.decode(SyncTokenUtils.encode(midPhase)));
+        assertEquals(phaseStart, SyncTokenUtils.decode(SyncTokenUtils.encode(phaseStart)));
+        assertFalse(SyncTokenUtils.decode(SyncTokenUtils.encode(phaseStart)).isStart());
+    }
+
+    @Test
+    void testDecode_blankOrGarbage_throwsIllegalArgument() {
+        assertThrows(IllegalArgumentException.class, () -> SyncTokenUtils.decode(null));
+        assertThrows(IllegalArgumentException.class, () -> SyncTokenUtils.decode("  "));
+        assertThrows(IllegalArgumentException.class, () -> SyncTokenUtils.decode("not-a-token-!!"));
+        assertThrows(IllegalArgumentException.class, () -> SyncTokenUtils.decode("eHx5"));
+        // v1 con campi mancanti
+        assertThrows(IllegalArgumentException.class, () -> SyncTokenUtils.decode("djF8MjAyNS0wOC0yMlQxMTo0NQ"));
+    }
+}